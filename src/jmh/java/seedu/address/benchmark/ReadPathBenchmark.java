@@ -0,0 +1,147 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Compares reading a large data file through {@link FileUtil}, which memory-maps it, with copying it into the heap
+ * with {@code Files.readAllBytes}, as the data files used to be read.
+ * Each benchmark runs in its own fork, and prints the peak resident set size of the fork when it finishes, where the
+ * platform reports it. Run with {@code ./gradlew jmh}, adding {@code -prof gc} to the JMH arguments to also compare
+ * the bytes allocated on the heap by each read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ReadPathBenchmark {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Path PROCESS_STATUS = Path.of("/proc/self/status");
+
+    /** The size of the data file, in megabytes. */
+    @Param({"16", "256"})
+    private int megabytes;
+
+    private Path file;
+
+    /**
+     * Writes a json file of lessons of about {@code megabytes} megabytes, so that there is a file to read.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("read-path-benchmark", ".json");
+        long targetSize = megabytes * 1024L * 1024L;
+        try (OutputStream out = Files.newOutputStream(file);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("lessons");
+            for (int i = 0; ; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("name", "Lesson " + i);
+                generator.writeStringField("subject", "Mathematics");
+                generator.writeStringField("address", "Blk " + i + " Clementi Ave 2");
+                generator.writeStringField("date", "2021-10-" + (i % 28 + 1));
+                generator.writeNumberField("hours", i % 3);
+                generator.writeEndObject();
+                if (i % 1024 == 0) {
+                    generator.flush();
+                    if (Files.size(file) >= targetSize) {
+                        break;
+                    }
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        printPeakResidentSetSize();
+    }
+
+    @Benchmark
+    public int parseFromHeapCopy() throws IOException {
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return countFields(parser);
+        }
+    }
+
+    @Benchmark
+    public int parseFromFileUtil() throws IOException {
+        try (InputStream in = FileUtil.newInputStream(file);
+             JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return countFields(parser);
+        }
+    }
+
+    @Benchmark
+    public long checksumHeapCopy() throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(file));
+        return checksum.getValue();
+    }
+
+    @Benchmark
+    public long checksumFileUtilBuffer() throws IOException {
+        CRC32 checksum = new CRC32();
+        ByteBuffer buffer = FileUtil.readToBuffer(file);
+        checksum.update(buffer);
+        return checksum.getValue();
+    }
+
+    private static int countFields(JsonParser parser) throws IOException {
+        int count = 0;
+        while (parser.nextToken() != null) {
+            if (parser.getCurrentToken() == JsonToken.FIELD_NAME) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void printPeakResidentSetSize() throws IOException {
+        if (!Files.isReadable(PROCESS_STATUS)) {
+            return;
+        }
+        List<String> status = Files.readAllLines(PROCESS_STATUS);
+        status.stream()
+                .filter(line -> line.startsWith("VmHWM:"))
+                .findFirst()
+                .ifPresent(line -> System.out.println("\nPeak resident set size: " + line.substring(6).trim()));
+    }
+}
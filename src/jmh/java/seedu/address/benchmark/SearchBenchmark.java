@@ -0,0 +1,126 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.lesson.DateTimeSlot;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonAddress;
+import seedu.address.model.lesson.LessonName;
+import seedu.address.model.lesson.LessonNameOrSubjectContainsKeywordsPredicate;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.NameOrTagsContainsKeywordsPredicate;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the keyword searches behind {@code findstudents} and {@code findlessons} as the data grows.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String[] WORDS = {
+        "alex", "bernice", "charlotte", "david", "irfan", "roy", "tan", "lim", "ng", "lee",
+        "biology", "chemistry", "physics", "history", "geography", "math", "english", "sec", "group", "tuition"
+    };
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int keywordCount;
+
+    private List<Student> students;
+    private List<Lesson> lessons;
+    private FilteredList<Student> filteredStudents;
+    private NameOrTagsContainsKeywordsPredicate studentPredicate;
+    private LessonNameOrSubjectContainsKeywordsPredicate lessonPredicate;
+
+    /**
+     * Generates {@code size} students and lessons with names drawn from a fixed vocabulary.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        lessons = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2022, 1, 3, 8, 0);
+        for (int i = 0; i < size; i++) {
+            students.add(new Student(new Name(randomWord(random) + " " + randomWord(random) + " " + i),
+                    new Phone(String.valueOf(80000000 + i)), new Email("student" + i + "@example.com"),
+                    new Address("Blk " + i + " Clementi Ave 2"), Set.of(new Tag(randomWord(random)))));
+            lessons.add(Lesson.makeTemporaryLesson(new LessonName("Sec " + random.nextInt(5) + " "
+                            + randomWord(random) + " " + i), new Subject(randomWord(random)),
+                    new LessonAddress("Blk " + i + " Ang Mo Kio Street 74"),
+                    new DateTimeSlot(start.plusHours(i), 1)));
+        }
+
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < keywordCount; i++) {
+            keywords.add(WORDS[i % WORDS.length]);
+        }
+        studentPredicate = new NameOrTagsContainsKeywordsPredicate(keywords);
+        lessonPredicate = new LessonNameOrSubjectContainsKeywordsPredicate(keywords);
+
+        ObservableList<Student> studentList = FXCollections.observableArrayList(students);
+        filteredStudents = new FilteredList<>(studentList);
+    }
+
+    private static String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    @Benchmark
+    public void studentPredicate(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(studentPredicate.test(student));
+        }
+    }
+
+    @Benchmark
+    public void lessonPredicate(Blackhole blackhole) {
+        for (Lesson lesson : lessons) {
+            blackhole.consume(lessonPredicate.test(lesson));
+        }
+    }
+
+    @Benchmark
+    public int filteredListRefresh() {
+        // a new predicate instance is needed, as FilteredList ignores a predicate it already has
+        filteredStudents.setPredicate(new NameOrTagsContainsKeywordsPredicate(
+                Arrays.asList(WORDS).subList(0, keywordCount))::test);
+        return filteredStudents.size();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonStudentBookStorage;
+import seedu.address.storage.StudentBookStorage;
+
+/**
+ * Compares loading and saving the student book as json and as gzip-compressed json as the book grows. The size of
+ * the saved file is printed when each trial finishes, to weigh the time spent compressing against the bytes that no
+ * longer have to be written to or synced from a slow disk.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final String[] TAGS = {"sec1", "sec2", "sec3", "sec4", "jc1", "jc2", "ip", "olevel", "alevel"};
+
+    @Param({"1000", "10000", "200000"})
+    private int size;
+
+    @Param({"json", "json-gzip"})
+    private String format;
+
+    private Path folder;
+    private Path file;
+    private StudentBook studentBook;
+    private StudentBookStorage storage;
+
+    /**
+     * Generates {@code size} students and saves them once, so that there is a file to load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new Student(new Name("Student " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("student" + i + "@example.com"), new Address("Blk " + i + " Clementi Ave 2"),
+                    Set.of(new Tag(TAGS[i % TAGS.length]))));
+        }
+        studentBook = new StudentBook();
+        studentBook.setStudents(students);
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        file = folder.resolve("studentbook.json");
+        storage = new JsonStudentBookStorage(file, false, format.equals("json-gzip"));
+        storage.saveStudentBook(studentBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.println("\nData file size: " + Files.size(file) / 1024 + " KiB");
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyStudentBook load() throws IOException, DataConversionException {
+        return storage.readStudentBook().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveStudentBook(studentBook);
+    }
+}
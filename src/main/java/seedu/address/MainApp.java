@@ -2,13 +2,22 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.application.HostServices;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -25,13 +34,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.StudentBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonLessonBookStorage;
-import seedu.address.storage.JsonStudentBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.LessonBookStorage;
+import seedu.address.storage.Quarantine;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
-import seedu.address.storage.StudentBookStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -43,6 +49,13 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 1, false);
 
+    public static final String DATA_LOADER_THREAD_NAME = "TeachWhat! data loader";
+
+    public static final String MESSAGE_RECOVERED_TITLE = "Some data could not be read";
+    public static final String MESSAGE_RECOVERED = "The %1$s data file is damaged. Everything that could be read "
+            + "has been loaded, but %2$d records were left out:\n%3$s\nThey have been kept in %4$s, "
+            + "and will be gone from the %1$s once it is next saved.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
     private static MainApp mainInstance;
 
@@ -52,6 +65,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** Warnings found while starting up, to be shown once the UI has started. */
+    private final List<String> startupWarnings = Collections.synchronizedList(new ArrayList<>());
+
     /**
      * Getter to pass HostServices to UI elements.
      * @return HostServices
@@ -71,9 +87,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudentBookStorage studentBookStorage = new JsonStudentBookStorage(userPrefs.getStudentBookFilePath());
-        LessonBookStorage lessonBookStorage = new JsonLessonBookStorage(userPrefs.getLessonBookFilePath());
-        storage = new StorageManager(studentBookStorage, lessonBookStorage, userPrefsStorage);
+        storage = new StorageManager(userPrefs, userPrefsStorage);
 
         initLogging(config);
 
@@ -87,11 +101,14 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s student book, lesson book
-     * and {@code userPrefs}. <br>
+     * and {@code userPrefs}, in the format chosen in {@code userPrefs}. A json book is read from its last snapshot,
+     * with the changes journaled since replayed. If only one of the books was saved by the last save before a crash,
+     * both are first rolled back to the last pair saved together. The two books are then read at the same time,
+     * the lesson book on a separate thread, leaving the lessons it does not need straight away to be loaded later. <br>
      * The data from the sample student book and lesson book will be used instead if {@code storage}'s lesson book and
-     * student book is not found,
-     * or an empty lesson book and student book will be used instead if errors occur when reading
-     * {@code storage}'s lesson book and student book.
+     * student book is not found. If a book is damaged, the records that can still be read are recovered from it,
+     * and the user is warned about the rest; an empty lesson book and student book will be used instead only if
+     * errors occur when recovering {@code storage}'s lesson book and student book too.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyStudentBook> addressBookOptional;
@@ -99,15 +116,34 @@ public class MainApp extends Application {
         ReadOnlyStudentBook initialDataAddressBook;
         ReadOnlyLessonBook initialDataLessonBook;
 
+        long startTime = System.nanoTime();
+        try {
+            storage.recoverDataFiles();
+        } catch (IOException e) {
+            logger.warning("Could not check the data files against the manifest: " + StringUtil.getDetails(e));
+        }
+        long recoveredTime = System.nanoTime();
+
+        ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, DATA_LOADER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<Optional<ReadOnlyLessonBook>> lessonBookLoad =
+                loader.submit(() -> timeLoad("lesson book", () -> readOrRecover("lesson book",
+                        storage::readLessonBookLazily, storage::recoverLessonBook)));
+        loader.shutdown();
+
         try {
-            addressBookOptional = storage.readStudentBook();
+            addressBookOptional = timeLoad("student book", () -> readOrRecover("student book",
+                    storage::readStudentBook, storage::recoverStudentBook));
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file for students not found. Will be starting with sample data.");
             }
 
             initialDataAddressBook = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
 
-            lessonBookOptional = storage.readLessonBook();
+            lessonBookOptional = awaitLoad(lessonBookLoad);
             if (!lessonBookOptional.isPresent()) {
                 logger.info("Data file for lessons not found. Will be starting with sample data.");
             }
@@ -121,9 +157,109 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty record.");
             initialDataAddressBook = new StudentBook();
             initialDataLessonBook = new LessonBook();
+        } finally {
+            // the lesson book must not still be being read when the files are committed
+            awaitTermination(loader);
+        }
+        long loadedTime = System.nanoTime();
+
+        try {
+            // the books as read are the last pair known to agree
+            storage.commitDataFiles();
+        } catch (IOException e) {
+            logger.warning("Could not record the data files in the manifest: " + StringUtil.getDetails(e));
+        }
+
+        Model initializedModel = new ModelManager(initialDataAddressBook, initialDataLessonBook, userPrefs);
+        archivePastLessons(initializedModel, userPrefs);
+        long builtTime = System.nanoTime();
+        logger.info("Data loaded in " + LatencyHistogram.formatMillis(builtTime - startTime)
+                + ": files checked in " + LatencyHistogram.formatMillis(recoveredTime - startTime)
+                + ", books read in " + LatencyHistogram.formatMillis(loadedTime - recoveredTime)
+                + ", model built in " + LatencyHistogram.formatMillis(builtTime - loadedTime));
+        return initializedModel;
+    }
+
+    /**
+     * Moves the lessons of {@code model} that ended longer ago than the user prefs allow into the archive.
+     * The move is saved along with the next change to the lesson book.
+     */
+    private static void archivePastLessons(Model model, ReadOnlyUserPrefs userPrefs) {
+        int archivedCount = model.archivePastLessons();
+        if (archivedCount > 0) {
+            logger.info("Archived " + archivedCount + " lessons that ended over "
+                    + userPrefs.getArchiveLessonsAfterDays() + " days ago");
         }
+    }
 
-        return new ModelManager(initialDataAddressBook, initialDataLessonBook, userPrefs);
+    /**
+     * Returns the book read by {@code reader}, logging how long it took to read.
+     */
+    private static <T> T timeLoad(String bookName, BookReader<T> reader) throws DataConversionException, IOException {
+        long startTime = System.nanoTime();
+        T book = reader.read();
+        logger.info("Read the " + bookName + " in " + LatencyHistogram.formatMillis(System.nanoTime() - startTime)
+                + " on " + Thread.currentThread().getName());
+        return book;
+    }
+
+    /**
+     * Returns the book read by {@code reader}, or, if it is damaged, the book recovered by {@code recovery} from the
+     * records that can still be read. The user is warned about the records left out once the UI has started.
+     */
+    private <T> T readOrRecover(String bookName, BookReader<T> reader, BookRecovery<T> recovery)
+            throws DataConversionException, IOException {
+        try {
+            return reader.read();
+        } catch (DataConversionException e) {
+            logger.warning("The " + bookName + " data file is damaged: " + StringUtil.getDetails(e)
+                    + "Recovering the records that can still be read.");
+        }
+
+        Quarantine quarantine = new Quarantine();
+        T book = recovery.recover(quarantine);
+        if (!quarantine.isEmpty()) {
+            String reasons = String.join("\n", quarantine.getReasons());
+            String keptIn = quarantine.getWrittenFiles().toString();
+            logger.warning("Recovered the " + bookName + ", leaving out " + quarantine.getRecordCount()
+                    + " records kept in " + keptIn + ":\n" + reasons);
+            startupWarnings.add(String.format(MESSAGE_RECOVERED, bookName, quarantine.getRecordCount(), reasons,
+                    keptIn));
+        }
+        return book;
+    }
+
+    /**
+     * Returns the book read by {@code load}, once it has been read.
+     *
+     * @throws DataConversionException if the book is not in the correct format.
+     * @throws IOException if the book could not be read.
+     */
+    private static <T> T awaitLoad(Future<T> load) throws DataConversionException, IOException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AssertionError("Reading a book should not throw " + cause, cause);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     private void initLogging(Config config) {
@@ -202,15 +338,37 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting StudentBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupWarnings.forEach(warning -> ui.showWarning(MESSAGE_RECOVERED_TITLE, warning));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TeachWhat! ] =============================");
+        try {
+            logic.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Reads a book from storage.
+     */
+    @FunctionalInterface
+    private interface BookReader<T> {
+        T read() throws DataConversionException, IOException;
+    }
+
+    /**
+     * Recovers a damaged book from storage, adding the records that cannot be read to the given quarantine.
+     */
+    @FunctionalInterface
+    private interface BookRecovery<T> {
+        T recover(Quarantine quarantine) throws DataConversionException, IOException;
+    }
 }
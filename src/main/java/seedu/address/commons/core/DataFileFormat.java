@@ -0,0 +1,59 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The formats that the student book and lesson book can be saved in.
+ */
+public enum DataFileFormat {
+    /** Readable json, with a journal of the changes since the file was last written. */
+    JSON("json", ".json"),
+    /** An embedded database, which only writes the records that changed, in transactions. */
+    DATABASE("database", ".db");
+
+    private final String formatName;
+    private final String fileExtension;
+
+    DataFileFormat(String formatName, String fileExtension) {
+        this.formatName = formatName;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFormatName() {
+        return formatName;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format named {@code formatName}, ignoring case, if there is one.
+     */
+    public static Optional<DataFileFormat> fromFormatName(String formatName) {
+        requireNonNull(formatName);
+        return Arrays.stream(values())
+                .filter(format -> format.formatName.equalsIgnoreCase(formatName))
+                .findFirst();
+    }
+
+    /**
+     * Returns {@code filePath} with its extension replaced by the extension of this format.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+
+    @Override
+    public String toString() {
+        return formatName;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Records how long an operation takes, in buckets whose upper bounds grow in powers of two microseconds.
+ * Percentiles are reported as the upper bound of the bucket they fall in, which keeps recording O(1)
+ * and the memory used constant no matter how many measurements are taken.
+ */
+public class LatencyHistogram {
+
+    public static final String MESSAGE_INVALID_LATENCY = "Latency cannot be negative.";
+    public static final String MESSAGE_INVALID_PERCENTILE = "Percentile must be more than 0 and at most 100.";
+
+    /** Bucket {@code i} holds latencies below 2^i microseconds; the last bucket holds everything longer. */
+    private static final int BUCKET_COUNT = 32;
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final String name;
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Creates an empty {@code LatencyHistogram} with the given {@code name}.
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a single measurement of {@code nanos} nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        checkArgument(nanos >= 0, MESSAGE_INVALID_LATENCY);
+        buckets[getBucketIndex(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded measurements in nanoseconds, or zero if there are none.
+     */
+    public synchronized long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Returns an upper bound, in nanoseconds, of the given {@code percentile} of the recorded measurements,
+     * or zero if there are none.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, MESSAGE_INVALID_PERCENTILE);
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBoundNanos(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Discards all recorded measurements.
+     */
+    public synchronized void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    private static int getBucketIndex(long nanos) {
+        long micros = nanos / NANOS_PER_MICRO;
+        int index = 64 - Long.numberOfLeadingZeros(micros); // micros < 2^index
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    private static long getBucketUpperBoundNanos(int index) {
+        return (1L << index) * NANOS_PER_MICRO;
+    }
+
+    /**
+     * Formats {@code nanos} in milliseconds for display.
+     */
+    public static String formatMillis(long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (count == 0) {
+            return name + ": no measurements";
+        }
+        return String.format("%s: count=%d, mean=%s, p50<=%s, p90<=%s, p99<=%s, max=%s", name, count,
+                formatMillis(getMeanNanos()), formatMillis(getPercentileNanos(50)),
+                formatMillis(getPercentileNanos(90)), formatMillis(getPercentileNanos(99)),
+                formatMillis(maxNanos));
+    }
+}
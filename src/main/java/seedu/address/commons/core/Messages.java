@@ -15,5 +15,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_LESSON_DISPLAYED_INDEX = "The lesson index provided is invalid.";
     public static final String MESSAGE_STUDENTS_LISTED_OVERVIEW = "%1$d students listed!";
     public static final String MESSAGE_LESSONS_LISTED_OVERVIEW = "%1$d lessons listed!";
+    public static final String MESSAGE_STUDENTS_RANKED_OVERVIEW = "%1$d most relevant students listed!";
+    public static final String MESSAGE_LESSONS_RANKED_OVERVIEW = "%1$d most relevant lessons listed!";
 
 }
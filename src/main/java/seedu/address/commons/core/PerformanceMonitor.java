@@ -0,0 +1,51 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the named {@link LatencyHistogram}s that parts of the app record their timings in,
+ * so that they can be reported together at runtime.
+ * Histograms are listed in the order they were first requested.
+ */
+public class PerformanceMonitor {
+    public static final String MESSAGE_NO_MEASUREMENTS = "No measurements have been recorded yet.";
+
+    private static final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+
+    private PerformanceMonitor() {} // prevents instantiation
+
+    /**
+     * Returns the histogram with the given {@code name}, creating it if it does not exist yet.
+     */
+    public static synchronized LatencyHistogram getHistogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Returns a summary of every histogram that has at least one measurement, one histogram per line.
+     */
+    public static synchronized String getSummary() {
+        List<LatencyHistogram> recorded = new ArrayList<>();
+        for (LatencyHistogram histogram : histograms.values()) {
+            if (histogram.getCount() > 0) {
+                recorded.add(histogram);
+            }
+        }
+
+        if (recorded.isEmpty()) {
+            return MESSAGE_NO_MEASUREMENTS;
+        }
+        return recorded.stream().map(LatencyHistogram::toString).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Discards the measurements of every histogram.
+     */
+    public static synchronized void resetAll() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the reads and saves of the data files: how long each takes, how much of a save is spent forcing the
+ * written bytes to disk, and how many bytes are written. The latencies are kept as {@link LatencyHistogram}s of the
+ * {@link PerformanceMonitor}, and the bytes as totals per book.
+ *
+ * The writes that make up a save are counted on the thread doing the save, by {@link #recordWrite}, so the file
+ * formats report what they wrote without knowing which book it belongs to. A save that takes longer than the save
+ * budget is logged as a warning, and a summary is logged at most once every {@value #LOG_INTERVAL_MINUTES} minutes.
+ */
+public class StorageMonitor {
+
+    public static final long DEFAULT_SAVE_BUDGET_MILLIS = 200;
+    public static final String MESSAGE_NO_SAVES = "No data files have been saved yet.";
+
+    private static final Logger logger = LogsCenter.getLogger(StorageMonitor.class);
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final long LOG_INTERVAL_MINUTES = 5;
+    private static final long LOG_INTERVAL_NANOS = LOG_INTERVAL_MINUTES * 60 * 1000 * NANOS_PER_MILLI;
+
+    private static final ThreadLocal<Measurement> currentSave = new ThreadLocal<>();
+    private static final Map<String, BookTotals> totals = new LinkedHashMap<>();
+    private static long saveBudgetNanos = DEFAULT_SAVE_BUDGET_MILLIS * NANOS_PER_MILLI;
+    private static long lastLoggedTime = System.nanoTime();
+
+    private StorageMonitor() {} // prevents instantiation
+
+    /**
+     * Sets how long a save may take, in milliseconds, before it is logged as a warning.
+     */
+    public static synchronized void setSaveBudgetMillis(long saveBudgetMillis) {
+        saveBudgetNanos = Math.max(0, saveBudgetMillis) * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Starts measuring a save of the book named {@code bookName} on this thread. The save is only recorded if it is
+     * marked as completed before the returned measurement is closed.
+     */
+    public static Measurement startSave(String bookName) {
+        requireNonNull(bookName);
+        Measurement measurement = new Measurement(bookName);
+        currentSave.set(measurement);
+        return measurement;
+    }
+
+    /**
+     * Counts {@code byteCount} bytes written to a data file, of which forcing to disk took {@code syncNanos}
+     * nanoseconds, towards the save being measured on this thread, if any.
+     */
+    public static void recordWrite(long byteCount, long syncNanos) {
+        Measurement measurement = currentSave.get();
+        if (measurement != null) {
+            measurement.byteCount += byteCount;
+            measurement.syncNanos += syncNanos;
+        }
+    }
+
+    /**
+     * Records a read of the book named {@code bookName} that took {@code nanos} nanoseconds.
+     */
+    public static void recordRead(String bookName, long nanos) {
+        PerformanceMonitor.getHistogram(bookName + " read").record(nanos);
+    }
+
+    private static void recordSave(Measurement measurement, long nanos) {
+        String bookName = measurement.bookName;
+        PerformanceMonitor.getHistogram(bookName + " save").record(nanos);
+        PerformanceMonitor.getHistogram(bookName + " serialise and write").record(nanos - measurement.syncNanos);
+        PerformanceMonitor.getHistogram(bookName + " fsync").record(measurement.syncNanos);
+
+        String summary;
+        synchronized (StorageMonitor.class) {
+            BookTotals bookTotals = totals.computeIfAbsent(bookName, BookTotals::new);
+            bookTotals.saveCount++;
+            bookTotals.byteCount += measurement.byteCount;
+            bookTotals.maxByteCount = Math.max(bookTotals.maxByteCount, measurement.byteCount);
+            if (nanos > saveBudgetNanos) {
+                bookTotals.overBudgetCount++;
+                logger.warning(String.format("Saving the %s took %s, over the budget of %s: %s serialising and "
+                        + "writing %s, and %s forcing it to disk", bookName.toLowerCase(),
+                        LatencyHistogram.formatMillis(nanos), LatencyHistogram.formatMillis(saveBudgetNanos),
+                        LatencyHistogram.formatMillis(nanos - measurement.syncNanos),
+                        formatBytes(measurement.byteCount), LatencyHistogram.formatMillis(measurement.syncNanos)));
+            }
+
+            long now = System.nanoTime();
+            if (now - lastLoggedTime < LOG_INTERVAL_NANOS) {
+                return;
+            }
+            lastLoggedTime = now;
+            summary = getSummary();
+        }
+        logger.info("Data file I/O since startup:\n" + summary + "\n" + PerformanceMonitor.getSummary());
+    }
+
+    /**
+     * Returns the number of saves of each book, the bytes written, and the saves over the budget, one book per line.
+     */
+    public static synchronized String getSummary() {
+        if (totals.isEmpty()) {
+            return MESSAGE_NO_SAVES;
+        }
+        return totals.values().stream().map(BookTotals::toString).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Discards the totals of every book. The latencies are discarded by {@link PerformanceMonitor#resetAll}.
+     */
+    public static synchronized void resetAll() {
+        totals.clear();
+    }
+
+    /**
+     * Formats {@code byteCount} in bytes, kilobytes or megabytes for display.
+     */
+    public static String formatBytes(long byteCount) {
+        if (byteCount < 1024) {
+            return byteCount + " B";
+        } else if (byteCount < 1024 * 1024) {
+            return String.format("%.1f KB", byteCount / 1024.0);
+        }
+        return String.format("%.1f MB", byteCount / (1024.0 * 1024));
+    }
+
+    /**
+     * A save being measured on the thread that started it.
+     */
+    public static class Measurement implements AutoCloseable {
+        private final String bookName;
+        private final long startTime = System.nanoTime();
+        private long byteCount;
+        private long syncNanos;
+        private boolean isCompleted;
+
+        private Measurement(String bookName) {
+            this.bookName = bookName;
+        }
+
+        /**
+         * Marks the save as completed, so it is recorded when this measurement is closed.
+         */
+        public void complete() {
+            isCompleted = true;
+        }
+
+        /**
+         * Stops measuring the save, and records it if it was completed.
+         */
+        @Override
+        public void close() {
+            currentSave.remove();
+            if (isCompleted) {
+                recordSave(this, System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * The totals of the saves of one book.
+     */
+    private static class BookTotals {
+        private final String bookName;
+        private long saveCount;
+        private long byteCount;
+        private long maxByteCount;
+        private long overBudgetCount;
+
+        private BookTotals(String bookName) {
+            this.bookName = bookName;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: saves=%d, written=%s, largest save=%s, over budget=%d", bookName, saveCount,
+                    formatBytes(byteCount), formatBytes(maxByteCount), overBudgetCount);
+        }
+    }
+}
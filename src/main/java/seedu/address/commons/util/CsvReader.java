@@ -0,0 +1,155 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the records of a CSV file one at a time, so a file of any size can be read without holding it in memory.
+ *
+ * Fields are separated by commas, and may be enclosed in double quotes to hold commas, line breaks, or double quotes
+ * written twice. Records end at a line break, either LF or CRLF. A byte order mark at the start of the file, which
+ * spreadsheets often write to files they save as UTF-8, is skipped.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Line %1$d: a quoted field is not closed.";
+    public static final String MESSAGE_MISPLACED_QUOTE = "Line %1$d: a quoted field is followed by more text.";
+
+    private static final int END_OF_FILE = -1;
+    private static final int NONE = -2;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    /** The character read ahead after a carriage return, or {@code NONE} if there is none. */
+    private int pushedBack = NONE;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private boolean isAtStart = true;
+
+    /**
+     * Creates a {@code CsvReader} of the records read from {@code reader}, which should be buffered.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or an empty {@code Optional} if there are no more records.
+     * Blank lines are skipped.
+     *
+     * @throws IOException if the file cannot be read, or is not valid CSV.
+     */
+    public Optional<List<String>> readRecord() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == END_OF_FILE) {
+            return Optional.empty();
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"' && field.length() == 0) {
+                c = readQuotedField(field);
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                c = read();
+                continue;
+            }
+            if (c == '\r' || c == '\n' || c == END_OF_FILE) {
+                fields.add(field.toString());
+                if (c != END_OF_FILE) {
+                    skipLineBreak(c);
+                }
+                return Optional.of(fields);
+            }
+            field.append((char) c);
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line the record last read starts on, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the rest of a quoted field, whose opening quote has been read, into {@code field}.
+     *
+     * @return the character after the closing quote.
+     */
+    private int readQuotedField(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END_OF_FILE) {
+                throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, recordLineNumber));
+            }
+            if (c == '\n') {
+                lineNumber++;
+            }
+            if (c != '"') {
+                field.append((char) c);
+                continue;
+            }
+
+            int next = read();
+            if (next == '"') {
+                field.append('"');
+                continue;
+            }
+            if (next != ',' && next != '\r' && next != '\n' && next != END_OF_FILE) {
+                throw new IOException(String.format(MESSAGE_MISPLACED_QUOTE, recordLineNumber));
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Skips the line break starting with {@code c}.
+     */
+    private void skipLineBreak(int c) throws IOException {
+        lineNumber++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushedBack = next;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (isAtStart) {
+            isAtStart = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes records to a CSV file one at a time, in the format read by {@link CsvReader}.
+ */
+public class CsvWriter implements Closeable {
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} of the records written to {@code writer}, which should be buffered.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes a record of {@code fields}, quoting the fields that need it.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(quoteIfNeeded(fields.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Returns {@code field} as it is written in a CSV file.
+     */
+    static String quoteIfNeeded(String field) {
+        boolean needsQuotes = field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + field.replace("\"", "\"\"") + '"' : field;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
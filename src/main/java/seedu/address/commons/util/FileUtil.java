@@ -1,17 +1,46 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.core.StorageMonitor;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /** Files at least this large are memory-mapped for reading, rather than copied into the heap through a buffer. */
+    public static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+    // a mapped file cannot be replaced on Windows until the mapping is garbage collected
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +101,269 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the contents of {@code file}, positioned at its start. A file of at least
+     * {@link #MAPPED_READ_THRESHOLD} bytes is memory-mapped, so that its pages are read in by the system as they are
+     * used rather than copied into the heap. Smaller files, or files that cannot be mapped, are read into a buffer.
+     *
+     * @throws IOException if the file cannot be read, or is too large to fit in a single buffer.
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to read into a buffer: " + file);
+            }
+            if (isMappedRead(size)) {
+                try {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                } catch (IOException | UnsupportedOperationException e) {
+                    // fall back to reading the file into the heap
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Returns a stream of the contents of {@code file}. Like {@link #readToBuffer}, a large file is read from
+     * a memory-mapped buffer; smaller files are read through a buffer of their own.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        if (isMappedRead(Files.size(file))) {
+            return new ByteBufferInputStream(readToBuffer(file));
+        }
+        return new BufferedInputStream(Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a stream of the contents of {@code file}, as {@link #newInputStream} does, decompressing them as they
+     * are read if the file was compressed with gzip or zlib. Whether the file is compressed is told from its first
+     * bytes, so compressed and uncompressed files can be read alike.
+     */
+    public static InputStream newDecompressingInputStream(Path file) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(newInputStream(file), 2);
+        int firstByte = in.read();
+        int secondByte = in.read();
+        if (secondByte >= 0) {
+            in.unread(secondByte);
+        }
+        if (firstByte >= 0) {
+            in.unread(firstByte);
+        }
+
+        if (firstByte == (GZIPInputStream.GZIP_MAGIC & 0xFF) && secondByte == GZIPInputStream.GZIP_MAGIC >> 8) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        if (isZlibHeader(firstByte, secondByte)) {
+            return new InflaterInputStream(in);
+        }
+        return in;
+    }
+
+    /**
+     * Returns true if the two bytes form a zlib header: the deflate method with a valid window size, and a check value
+     * making them a multiple of 31. A json file never starts this way, as it starts with a bracket or whitespace.
+     */
+    private static boolean isZlibHeader(int firstByte, int secondByte) {
+        return firstByte >= 0 && secondByte >= 0 && (firstByte & 0x0F) == Deflater.DEFLATED
+                && (firstByte >> 4) <= 7 && ((firstByte << 8) | secondByte) % 31 == 0;
+    }
+
+    private static boolean isMappedRead(long size) {
+        return CAN_MAP_FILES && size >= MAPPED_READ_THRESHOLD;
+    }
+
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet, and replaces it as a whole, as {@link #writeAtomically} does.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces {@code file} with the contents written by {@code contentWriter}, creating it and its missing parent
+     * directories if needed. The contents are written to a temporary file beside {@code file}, forced to disk,
+     * and then renamed over {@code file}, so {@code file} always holds either all of its old contents or
+     * all of its new ones, even if the app or the system stops during the write.
+     *
+     * @throws IOException if the contents cannot be written, in which case {@code file} is left as it was.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, false, contentWriter);
+    }
+
+    /**
+     * Replaces {@code file} with the contents written by {@code contentWriter}, as
+     * {@link #writeAtomically(Path, ContentWriter)} does, compressing them with gzip as they are written if
+     * {@code isCompressed} is true. Compressed files are read back by {@link #newDecompressingInputStream}.
+     *
+     * @throws IOException if the contents cannot be written, in which case {@code file} is left as it was.
+     */
+    public static void writeAtomically(Path file, boolean isCompressed, ContentWriter contentWriter)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        long byteCount;
+        long syncStartTime;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            if (isCompressed) {
+                GzipOutputStream compressedOut = new GzipOutputStream(out);
+                contentWriter.writeTo(new UnclosableOutputStream(compressedOut));
+                compressedOut.finish();
+            } else {
+                contentWriter.writeTo(new UnclosableOutputStream(out));
+            }
+            out.flush();
+            byteCount = channel.size();
+            syncStartTime = System.nanoTime();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+        StorageMonitor.recordWrite(byteCount, System.nanoTime() - syncStartTime);
+    }
+
+    /**
+     * Returns the path of the {@code index}th newest backup of {@code file}, counting from 1.
+     */
+    public static Path getBackupPath(Path file, int index) {
+        assert index > 0;
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
+    /**
+     * Keeps the current contents of {@code file}, if it exists, as its newest backup, and drops its oldest backup
+     * if there would be more than {@code backupCount} of them.
+     * Where the file system allows it, the backup is a hard link to {@code file} rather than a copy, so
+     * {@code file} must only be changed afterwards by replacing it, with {@link #writeAtomically}.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int index = backupCount - 1; index >= 1; index--) {
+            Path backup = getBackupPath(file, index);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just renamed into it, to disk.
+     * Some platforms cannot open a directory for this; there the rename is left to the file system to persist.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on this platform
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer, without copying them anywhere first.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Compresses what is written to it with gzip, favouring speed over size, as the data files are
+     * saved while the app is in use and repetitive enough to shrink well either way.
+     */
+    private static class GzipOutputStream extends GZIPOutputStream {
+        private GzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(COMPRESSION_LEVEL);
+        }
+    }
+
+    /**
+     * Passes writes through to the underlying stream, but only flushes it when closed, so that a
+     * {@code ContentWriter} closing its stream does not close the file before it is forced to disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        private UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the content lines of an iCalendar (RFC 5545) file, one property at a time, to an output stream.
+ *
+ * Each line ends with CRLF, and lines longer than 75 octets are folded onto continuation lines that start with
+ * a space, without splitting a UTF-8 character.
+ */
+public class IcsWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final byte[] LINE_BREAK = {'\r', '\n'};
+    private static final byte[] FOLD = {'\r', '\n', ' '};
+
+    private final OutputStream out;
+
+    /**
+     * Creates an {@code IcsWriter} of the lines written to {@code out}, which should be buffered.
+     */
+    public IcsWriter(OutputStream out) {
+        requireNonNull(out);
+        this.out = out;
+    }
+
+    /**
+     * Writes the property {@code name} with {@code value}, which is written as it is.
+     */
+    public void writeProperty(String name, String value) throws IOException {
+        byte[] line = (name + ":" + value).getBytes(StandardCharsets.UTF_8);
+        int lineStart = 0;
+        int maxOctets = MAX_LINE_OCTETS;
+        while (line.length - lineStart > maxOctets) {
+            int lineEnd = lineStart + maxOctets;
+            while (isContinuationByte(line[lineEnd])) {
+                lineEnd--;
+            }
+            out.write(line, lineStart, lineEnd - lineStart);
+            out.write(FOLD);
+            lineStart = lineEnd;
+            maxOctets = MAX_LINE_OCTETS - 1; // the space starting a continuation line counts towards its length
+        }
+        out.write(line, lineStart, line.length - lineStart);
+        out.write(LINE_BREAK);
+    }
+
+    /**
+     * Writes the property {@code name} with the text {@code text}, escaping the characters that have a meaning
+     * in iCalendar.
+     */
+    public void writeText(String name, String text) throws IOException {
+        writeProperty(name, escapeText(text));
+    }
+
+    /**
+     * Writes {@code len} bytes of {@code bytes}, starting from {@code off}, as they are.
+     * The bytes should be whole content lines, such as those copied from another iCalendar file.
+     */
+    public void writeRaw(byte[] bytes, int off, int len) throws IOException {
+        out.write(bytes, off, len);
+    }
+
+    /**
+     * Returns {@code text} with its backslashes, semicolons, commas and line breaks escaped.
+     */
+    public static String escapeText(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+}
@@ -3,22 +3,39 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -28,6 +45,9 @@ import seedu.address.commons.exceptions.DataConversionException;
  */
 public class JsonUtil {
 
+    public static final String MESSAGE_DAMAGED_FILE = "The file is damaged at line %1$d, column %2$d; "
+            + "nothing after that could be read.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -39,13 +59,52 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
     }
 
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, isCompact, false);
+    }
+
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is serialized, through a buffer,
+     * without first rendering the whole document in memory, and compressing it on the way if {@code isCompressed}
+     * is true. The file is replaced as a whole, as {@link FileUtil#writeAtomically} does.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact,
+                                              boolean isCompressed) throws IOException {
+        FileUtil.writeAtomically(jsonFile, isCompressed, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                getWriter(isCompact).writeValue(generator, objectToSerialize);
+            }
+        });
+    }
+
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from {@code jsonFile} as it is parsed,
+     * without first copying the whole file into memory. Large files are parsed straight from a memory-mapped buffer,
+     * and compressed files are decompressed as they are parsed.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.newDecompressingInputStream(jsonFile);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return getReader(classOfObjectToDeserialize).readValue(parser);
+        }
+    }
+
+    private static ObjectReader getReader(Class<?> classOfObjectToDeserialize) {
+        return readers.computeIfAbsent(classOfObjectToDeserialize, objectMapper::readerFor);
+    }
+
+    private static ObjectWriter getWriter(boolean isCompact) {
+        return isCompact ? compactWriter : prettyWriter;
     }
 
     /**
@@ -76,6 +135,153 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Similar to {@link #readJsonFile(Path, Class)}, but for a file of records that carries a format version, as
+     * described by {@link RecordMigrator}. A file of the current version or later is read as it is parsed; in an older
+     * file, each record is upgraded by {@code migrator} as soon as it is parsed. The file itself is left as it is.
+     * @param filePath cannot be null.
+     * @throws DataConversionException if the file format is not as expected.
+     */
+    public static <T> Optional<T> readVersionedJsonFile(Path filePath, Class<T> classOfObjectToDeserialize,
+            RecordMigrator migrator) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(migrator);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = FileUtil.newDecompressingInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(readVersionedObject(parser, classOfObjectToDeserialize, migrator));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static <T> T readVersionedObject(JsonParser parser, Class<T> classOfObjectToDeserialize,
+            RecordMigrator migrator) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return getReader(classOfObjectToDeserialize).readValue(parser);
+        }
+
+        ObjectNode root = objectMapper.createObjectNode();
+        List<String> unmigratedArrays = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            boolean isVersion = fieldName.equals(RecordMigrator.VERSION_FIELD);
+            if (isVersion && root.size() == 0 && valueToken == JsonToken.VALUE_NUMBER_INT
+                    && parser.getIntValue() >= migrator.getCurrentVersion()) {
+                // nothing to upgrade, so the rest of the file is read as it is parsed, after the version read
+                TokenBuffer header = new TokenBuffer(objectMapper, false);
+                header.writeStartObject();
+                header.writeNumberField(fieldName, parser.getIntValue());
+                return getReader(classOfObjectToDeserialize)
+                        .readValue(JsonParserSequence.createFlattened(header.asParser(), parser));
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                root.set(fieldName, parser.readValueAsTree());
+                continue;
+            }
+
+            // the version is written first, so records are only held back until it is known in edited files
+            Integer version = getVersion(root);
+            ArrayNode records = root.putArray(fieldName);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode record = parser.readValueAsTree();
+                records.add(version == null ? record : migrator.migrate(fieldName, record, version));
+            }
+            if (version == null) {
+                unmigratedArrays.add(fieldName);
+            }
+        }
+
+        Integer version = getVersion(root);
+        for (String arrayName : unmigratedArrays) {
+            ArrayNode records = (ArrayNode) root.get(arrayName);
+            for (int i = 0; i < records.size(); i++) {
+                records.set(i, migrator.migrate(arrayName, records.get(i),
+                        version == null ? RecordMigrator.UNVERSIONED : version));
+            }
+        }
+        return fromJsonTree(root, classOfObjectToDeserialize);
+    }
+
+    /**
+     * Returns the format version in {@code root}, or null if it has not been read yet.
+     */
+    private static Integer getVersion(ObjectNode root) {
+        JsonNode version = root.get(RecordMigrator.VERSION_FIELD);
+        return version != null && version.isInt() ? version.intValue() : null;
+    }
+
+    /**
+     * Returns the json object in the given file as a tree, or {@code Optional.empty()} if the file is not found,
+     * reading as much of it as can be parsed. The elements of the arrays in the object are parsed one at a time,
+     * in a single pass, so if the file is damaged part way through, every element before the damage is kept and
+     * {@code onDamage} is told where parsing stopped.
+     * @param filePath cannot be null.
+     * @throws DataConversionException if the file does not start with a json object.
+     */
+    public static Optional<ObjectNode> readDamagedJsonFile(Path filePath, Consumer<String> onDamage)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(onDamage);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ObjectNode root = objectMapper.createObjectNode();
+        try (InputStream in = FileUtil.newDecompressingInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DataConversionException(new IOException("Json file " + filePath + " is not an object"));
+            }
+            try {
+                readFields(parser, root);
+            } catch (IOException e) {
+                logger.warning("Stopped reading damaged json file " + filePath + ": " + e);
+                onDamage.accept(String.format(MESSAGE_DAMAGED_FILE, parser.getCurrentLocation().getLineNr(),
+                        parser.getCurrentLocation().getColumnNr()));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return Optional.of(root);
+    }
+
+    /**
+     * Reads the fields of the object {@code parser} is in into {@code object}, adding each element of an array
+     * to the array as soon as it is parsed.
+     */
+    private static void readFields(JsonParser parser, ObjectNode object) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                object.set(fieldName, parser.readValueAsTree());
+                continue;
+            }
+
+            ArrayNode elements = object.putArray(fieldName);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                elements.add((JsonNode) parser.readValueAsTree());
+            }
+        }
+    }
+
+    /**
+     * Converts the json {@code tree} to an instance of {@code instanceClass}.
+     */
+    public static <T> T fromJsonTree(JsonNode tree, Class<T> instanceClass) throws IOException {
+        return getReader(instanceClass).readValue(tree);
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -84,10 +290,34 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Saves the Json object to the specified file, on a single line if {@code isCompact} is true,
+     * or indented for reading otherwise.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        saveJsonFile(jsonFile, filePath, isCompact, false);
+    }
+
+    /**
+     * Saves the Json object to the specified file, as {@link #saveJsonFile(Object, Path, boolean)} does,
+     * compressed with gzip if {@code isCompressed} is true.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact, boolean isCompressed)
+            throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact, isCompressed);
     }
 
 
@@ -97,7 +327,29 @@ public class JsonUtil {
      * @return The instance of T with the specified values in the JSON string
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
-        return objectMapper.readValue(json, instanceClass);
+        return getReader(instanceClass).readValue(json);
+    }
+
+    /**
+     * Converts a given string representation of a JSON data to an instance of a generic class
+     * @param instanceClass The generic class to create an instance of
+     * @param typeParameters The classes of the type parameters of {@code instanceClass}, in order
+     * @return The instance with the specified values in the JSON string
+     */
+    public static <T> T fromJsonString(String json, Class<T> instanceClass, Class<?>... typeParameters)
+            throws IOException {
+        return objectMapper.readValue(json,
+                objectMapper.getTypeFactory().constructParametricType(instanceClass, typeParameters));
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
     }
 
     /**
@@ -107,7 +359,7 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
     }
 
     /**
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Upgrades the records of a json data file, one at a time, from the format version the file was saved in to the
+ * current one. The file holds its version in a top-level {@value #VERSION_FIELD} field and its records in top-level
+ * arrays; a file without a version is taken to be of version {@value #UNVERSIONED}.
+ *
+ * Each step upgrades a record of one array from one version to the next, in place, so a record saved in any earlier
+ * version is upgraded by the chain of steps from its version up. See {@link JsonUtil#readVersionedJsonFile}.
+ */
+public class RecordMigrator {
+
+    public static final String VERSION_FIELD = "version";
+    public static final int UNVERSIONED = 1;
+
+    private final int currentVersion;
+    private final Map<String, Map<Integer, Consumer<ObjectNode>>> steps = new HashMap<>();
+
+    /**
+     * Creates a {@code RecordMigrator} that upgrades records to {@code currentVersion}.
+     */
+    public RecordMigrator(int currentVersion) {
+        checkArgument(currentVersion >= UNVERSIONED, "The current version cannot be below " + UNVERSIONED);
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * Adds {@code step}, which upgrades a record of the array {@code arrayName} from {@code fromVersion} to the
+     * version after it, and returns this migrator.
+     */
+    public RecordMigrator addStep(String arrayName, int fromVersion, Consumer<ObjectNode> step) {
+        requireNonNull(arrayName);
+        requireNonNull(step);
+        checkArgument(fromVersion >= UNVERSIONED && fromVersion < currentVersion,
+                "A step can only upgrade a record from a version before " + currentVersion);
+        steps.computeIfAbsent(arrayName, name -> new HashMap<>()).put(fromVersion, step);
+        return this;
+    }
+
+    public int getCurrentVersion() {
+        return currentVersion;
+    }
+
+    /**
+     * Returns {@code record}, an element of the array {@code arrayName} saved in {@code version}, upgraded to the
+     * current version. A record that is not a json object is returned as it is, to be rejected when it is read.
+     */
+    public JsonNode migrate(String arrayName, JsonNode record, int version) {
+        Map<Integer, Consumer<ObjectNode>> arraySteps = steps.get(arrayName);
+        if (arraySteps == null || !record.isObject()) {
+            return record;
+        }
+        for (int fromVersion = Math.max(version, UNVERSIONED); fromVersion < currentVersion; fromVersion++) {
+            Consumer<ObjectNode> step = arraySteps.get(fromVersion);
+            if (step != null) {
+                step.accept((ObjectNode) record);
+            }
+        }
+        return record;
+    }
+}
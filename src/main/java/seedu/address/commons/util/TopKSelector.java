@@ -0,0 +1,94 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Retains the {@code k} highest-scoring items offered to it, using a bounded min-heap.
+ * Offering {@code n} items costs O(n log k) and only the retained items are ever ordered.
+ * Items with equal scores are ranked in the order they were offered.
+ */
+public class TopKSelector<T> {
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of items to retain must be positive.";
+
+    /** Orders entries from least to most relevant, so that the head of the heap is the next to be evicted. */
+    private static final Comparator<ScoredItem<?>> LEAST_RELEVANT_FIRST =
+            Comparator.<ScoredItem<?>>comparingInt(item -> item.score)
+                    .thenComparing(Comparator.<ScoredItem<?>>comparingLong(item -> item.sequence).reversed());
+
+    private final int limit;
+    private final PriorityQueue<ScoredItem<T>> heap;
+    private long offered;
+
+    /**
+     * Creates a {@code TopKSelector} that retains at most {@code limit} items.
+     */
+    public TopKSelector(int limit) {
+        checkArgument(limit > 0, MESSAGE_INVALID_LIMIT);
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(LEAST_RELEVANT_FIRST);
+    }
+
+    /**
+     * Offers {@code item} with the given relevance {@code score}.
+     * The item is retained only if it is among the {@code k} most relevant items offered so far.
+     */
+    public void offer(T item, int score) {
+        ScoredItem<T> candidate = new ScoredItem<>(item, score, offered++);
+        if (heap.size() < limit) {
+            heap.add(candidate);
+        } else if (LEAST_RELEVANT_FIRST.compare(candidate, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * Returns the retained items, from the most to the least relevant.
+     */
+    public List<T> getTopK() {
+        List<ScoredItem<T>> retained = new ArrayList<>(heap);
+        retained.sort(Collections.reverseOrder(LEAST_RELEVANT_FIRST));
+
+        List<T> items = new ArrayList<>(retained.size());
+        for (ScoredItem<T> scoredItem : retained) {
+            items.add(scoredItem.item);
+        }
+        return items;
+    }
+
+    /**
+     * Returns the zero-based rank of every retained item, keyed by identity.
+     */
+    public Map<T, Integer> getRanks() {
+        Map<T, Integer> ranks = new IdentityHashMap<>();
+        List<T> topK = getTopK();
+        for (int i = 0; i < topK.size(); i++) {
+            ranks.put(topK.get(i), i);
+        }
+        return ranks;
+    }
+
+    /**
+     * An item paired with its relevance score and the order in which it was offered.
+     */
+    private static class ScoredItem<T> {
+        private final T item;
+        private final int score;
+        private final long sequence;
+
+        ScoredItem(T item, int score, long sequence) {
+            this.item = item;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+}
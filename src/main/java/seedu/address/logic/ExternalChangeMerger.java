@@ -0,0 +1,247 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.RecurringLesson;
+import seedu.address.model.lesson.exceptions.ConflictsWithLessonsException;
+import seedu.address.model.student.Student;
+
+/**
+ * Merges the changes made to the data files by another program into the books of a model, one student or lesson
+ * at a time, so the lists shown only change where the files did.
+ *
+ * The books last saved are the base of the merge. A student or lesson that differs between the base and the file
+ * was changed outside the app: the change is applied if the app has not changed it since the base was saved, and
+ * is a conflict if the app has changed it differently, in which case the app's version is kept. Students are
+ * identified by name and phone, temporary lessons by when they start, and recurring lessons by the day and time
+ * they start. Which students are enrolled in a lesson is merged with the lesson. Archived lessons are not merged.
+ */
+class ExternalChangeMerger {
+
+    private final Model model;
+
+    ExternalChangeMerger(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Applies the changes from {@code baseStudentBook} and {@code baseLessonBook} to {@code fileStudentBook} and
+     * {@code fileLessonBook} to the books of the model.
+     */
+    Result merge(ReadOnlyStudentBook baseStudentBook, ReadOnlyStudentBook fileStudentBook,
+                 ReadOnlyLessonBook baseLessonBook, ReadOnlyLessonBook fileLessonBook) {
+        requireNonNull(baseStudentBook);
+        requireNonNull(fileStudentBook);
+        requireNonNull(baseLessonBook);
+        requireNonNull(fileLessonBook);
+        Result result = new Result();
+        // students first, since deleting a student also removes them from their lessons
+        mergeStudents(baseStudentBook.getStudentList(), fileStudentBook.getStudentList(), result);
+        mergeLessons(baseLessonBook.getLessonList(), fileLessonBook.getLessonList(), result);
+        return result;
+    }
+
+    private void mergeStudents(List<Student> base, List<Student> file, Result result) {
+        Map<Object, Student> baseStudents = byKey(base, ExternalChangeMerger::getKey);
+        Map<Object, Student> fileStudents = byKey(file, ExternalChangeMerger::getKey);
+        Map<Object, Student> modelStudents = byKey(model.getStudentBook().getStudentList(),
+                ExternalChangeMerger::getKey);
+
+        for (Object key : unionOf(baseStudents, fileStudents)) {
+            Student baseStudent = baseStudents.get(key);
+            Student fileStudent = fileStudents.get(key);
+            Student modelStudent = modelStudents.get(key);
+            if (isSameStudent(baseStudent, fileStudent) || isSameStudent(modelStudent, fileStudent)) {
+                continue;
+            }
+            if (!isSameStudent(baseStudent, modelStudent)) {
+                result.conflicts.add("student " + (modelStudent != null ? modelStudent : fileStudent).getName());
+                continue;
+            }
+
+            if (fileStudent == null) {
+                model.deleteStudent(modelStudent);
+                result.removedCount++;
+            } else if (modelStudent == null) {
+                model.addStudent(fileStudent);
+                result.addedCount++;
+            } else {
+                model.setStudent(modelStudent, withEnrolledLessonsOf(fileStudent, modelStudent));
+                result.updatedCount++;
+            }
+        }
+    }
+
+    private void mergeLessons(List<Lesson> base, List<Lesson> file, Result result) {
+        Map<Object, Lesson> baseLessons = byKey(base, ExternalChangeMerger::getKey);
+        Map<Object, Lesson> fileLessons = byKey(file, ExternalChangeMerger::getKey);
+        Map<Object, Lesson> modelLessons = byKey(model.getLessonBook().getLessonList(), ExternalChangeMerger::getKey);
+        // the students have already been merged, so the students enrolled in the file are looked up among them
+        Map<Object, Student> modelStudents = byKey(model.getStudentBook().getStudentList(),
+                ExternalChangeMerger::getKey);
+
+        for (Object key : unionOf(baseLessons, fileLessons)) {
+            Lesson baseLesson = baseLessons.get(key);
+            Lesson fileLesson = fileLessons.get(key);
+            Lesson modelLesson = modelLessons.get(key);
+            if (isSameLesson(baseLesson, fileLesson) || isSameLesson(modelLesson, fileLesson)) {
+                continue;
+            }
+            String description = "lesson " + (modelLesson != null ? modelLesson : fileLesson).getName();
+            if (!isSameLesson(baseLesson, modelLesson)) {
+                result.conflicts.add(description);
+                continue;
+            }
+
+            if (fileLesson == null) {
+                model.deleteLesson(modelLesson);
+                result.removedCount++;
+                continue;
+            }
+            Lesson lesson = withoutEnrolledStudents(fileLesson);
+            try {
+                if (modelLesson == null) {
+                    model.addLesson(lesson);
+                    result.addedCount++;
+                } else if (hasConflictingLessonExcluding(modelLesson, lesson)) {
+                    result.conflicts.add(description);
+                    continue;
+                } else {
+                    // also removes the lesson from the lessons its students are enrolled in
+                    model.deleteLesson(modelLesson);
+                    model.addLesson(lesson);
+                    result.updatedCount++;
+                }
+            } catch (ConflictsWithLessonsException e) {
+                result.conflicts.add(description);
+                continue;
+            }
+            enrolStudentsOf(fileLesson, lesson, modelStudents);
+        }
+    }
+
+    /**
+     * Returns true if {@code lesson} conflicts with a lesson of the model other than {@code replacedLesson}.
+     */
+    private boolean hasConflictingLessonExcluding(Lesson replacedLesson, Lesson lesson) {
+        return model.getLessonBook().getLessonList().stream()
+                .anyMatch(otherLesson -> otherLesson != replacedLesson && otherLesson.isConflictingWithLesson(lesson));
+    }
+
+    /**
+     * Enrols the students of the model with the identities of the students enrolled in {@code fileLesson} in
+     * {@code lesson}, as the assign command does, so that the lesson holds the model's students and is among the
+     * lessons they are enrolled in. Students the model does not have are left out.
+     */
+    private void enrolStudentsOf(Lesson fileLesson, Lesson lesson, Map<Object, Student> modelStudents) {
+        for (Student fileStudent : fileLesson.getEnrolledStudents().getStudentsList()) {
+            Student modelStudent = modelStudents.get(getKey(fileStudent));
+            if (modelStudent != null) {
+                model.updateAssignment(modelStudent, lesson);
+            }
+        }
+    }
+
+    /**
+     * Returns true if both students are missing or have the same saved fields. The lessons a student is enrolled in
+     * are not saved with the student, but with the lessons, so changes to them are merged with the lessons.
+     */
+    private static boolean isSameStudent(Student student, Student otherStudent) {
+        return Objects.equals(student, otherStudent);
+    }
+
+    /**
+     * Returns {@code fileStudent}, which is read without the lessons it is enrolled in, enrolled in the lessons of
+     * {@code modelStudent}.
+     */
+    private static Student withEnrolledLessonsOf(Student fileStudent, Student modelStudent) {
+        return new Student(fileStudent.getName(), fileStudent.getPhone(), fileStudent.getEmail(),
+                fileStudent.getAddress(), fileStudent.getTags(), modelStudent.getEnrolledLessons());
+    }
+
+    /**
+     * Returns a copy of {@code lesson}, which is read with copies of the students enrolled in it, without them.
+     */
+    private static Lesson withoutEnrolledStudents(Lesson lesson) {
+        Lesson lessonCopy = lesson.copy();
+        List.copyOf(lessonCopy.getEnrolledStudents().getStudentsList()).forEach(lessonCopy::unassignStudent);
+        return lessonCopy;
+    }
+
+    private static boolean isSameLesson(Lesson lesson, Lesson otherLesson) {
+        if (lesson == null || otherLesson == null) {
+            return lesson == otherLesson;
+        }
+        return lesson.equals(otherLesson)
+                && lesson.getEnrolledStudents().getStudentsList()
+                        .equals(otherLesson.getEnrolledStudents().getStudentsList());
+    }
+
+    private static Object getKey(Student student) {
+        return student.getIdentityKey();
+    }
+
+    private static Object getKey(Lesson lesson) {
+        if (lesson instanceof RecurringLesson) {
+            return "R " + ((RecurringLesson) lesson).getDayOfLesson() + " "
+                    + lesson.getDateTimeSlot().getDateOfLesson().toLocalTime();
+        }
+        return "T " + lesson.getDateTimeSlot().getDateOfLesson();
+    }
+
+    private static <T> Map<Object, T> byKey(List<T> items, Function<T, Object> keyOf) {
+        Map<Object, T> itemsByKey = new LinkedHashMap<>();
+        items.forEach(item -> itemsByKey.put(keyOf.apply(item), item));
+        return itemsByKey;
+    }
+
+    private static Set<Object> unionOf(Map<Object, ?> items, Map<Object, ?> otherItems) {
+        Set<Object> keys = new LinkedHashSet<>(items.keySet());
+        keys.addAll(otherItems.keySet());
+        return keys;
+    }
+
+    /**
+     * The number of students and lessons a merge added, updated and removed, and those it could not merge.
+     */
+    static class Result {
+        private int addedCount;
+        private int updatedCount;
+        private int removedCount;
+        private final List<String> conflicts = new ArrayList<>();
+
+        int getAddedCount() {
+            return addedCount;
+        }
+
+        int getUpdatedCount() {
+            return updatedCount;
+        }
+
+        int getRemovedCount() {
+            return removedCount;
+        }
+
+        List<String> getConflicts() {
+            return conflicts;
+        }
+
+        boolean isEmpty() {
+            return addedCount + updatedCount + removedCount == 0 && conflicts.isEmpty();
+        }
+    }
+}
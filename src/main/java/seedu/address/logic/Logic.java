@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +27,40 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes any data still waiting to be saved and releases the resources used to save it.
+     * @throws IOException If the data could not be saved.
+     */
+    void close() throws IOException;
+
+    /**
+     * Loads the lessons left on disk when the lesson book was read on a background thread, and then calls
+     * {@code listener} on that thread, so that they can be added by {@link #mergeDeferredLessons()}.
+     */
+    void loadDeferredLessons(Runnable listener);
+
+    /**
+     * Adds the lessons left on disk when the lesson book was read to the lesson book, loading them if needed.
+     * Commands and merges of external changes add them first if they have not been added yet.
+     */
+    void mergeDeferredLessons();
+
+    /**
+     * Starts watching the data files for changes made by other programs, calling {@code listener} on a background
+     * thread once the changed files have been read, so that they can be merged by {@link #mergeExternalChanges()}.
+     *
+     * @throws IOException If the data files cannot be watched.
+     */
+    void watchDataFiles(Runnable listener) throws IOException;
+
+    /**
+     * Merges the changes made to the data files by other programs, as last read after they changed, into the books.
+     *
+     * @return A summary of the changes merged, or an empty {@code Optional} if there are no changes to merge.
+     * @throws CommandException If the changed files cannot be read.
+     */
+    Optional<String> mergeExternalChanges() throws CommandException;
+
     /**
      * Returns the StudentBook.
      *
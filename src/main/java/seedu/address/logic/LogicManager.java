@@ -2,11 +2,17 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceMonitor;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -14,23 +20,50 @@ import seedu.address.logic.inputhistory.InputHistoryResult;
 import seedu.address.logic.inputhistory.UserInputHistory;
 import seedu.address.logic.parser.TeachWhatParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.LessonBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.lesson.DeferredLessons;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.DeltaBackups;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_EXTERNAL_CHANGES_MERGED = "The data files were changed outside TeachWhat!: "
+            + "%1$d added, %2$d updated and %3$d removed.";
+    public static final String MESSAGE_EXTERNAL_CHANGE_CONFLICT = "\nKept the changes made in TeachWhat! to %1$s, "
+            + "which were also changed outside it.";
+    public static final String MESSAGE_EXTERNAL_CHANGE_UNREADABLE = "The data files were changed outside "
+            + "TeachWhat!, but cannot be read: %1$s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
+    /** Marks a book whose contents may differ from what is on disk, whatever its version. */
+    private static final long UNSAVED_VERSION = -1;
+    /** The time taken by commands themselves, apart from saving, which is measured by the storage. */
+    private static final LatencyHistogram commandLatency = PerformanceMonitor.getHistogram("Command execution");
+
     private final Model model;
     private final Storage storage;
+    private final WriteBehindSaver saver;
     private final TeachWhatParser teachWhatParser;
     private final UserInputHistory userInputHistory;
+    private DataFileWatcher watcher;
+    /** The changes read from the data files that are yet to be merged, or null if there are none. */
+    private ExternalChanges unmergedChanges;
+    /** The failure to read the data files after they were changed, if it is yet to be reported. */
+    private Exception unreadableChangesFailure;
+
+    private long savedStudentBookVersion;
+    private long savedLessonBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -38,8 +71,14 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.saver = new WriteBehindSaver(storage);
         teachWhatParser = new TeachWhatParser();
         userInputHistory = new UserInputHistory();
+        // the books start out the same as what was read from disk
+        savedStudentBookVersion = model.getStudentBook().getVersion();
+        savedLessonBookVersion = model.getLessonBook().getVersion();
+        saver.setWrittenBooks(model.getStudentBook(), model.getLessonBook(), getDataFileFingerprint().orElse(null));
+        scheduleBackups();
     }
 
     @Override
@@ -48,16 +87,277 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = teachWhatParser.parseCommand(commandText);
+        mergeDeferredLessons();
+        long startTime = System.nanoTime();
         commandResult = command.execute(model);
+        commandLatency.record(System.nanoTime() - startTime);
+
+        // a failed background write is reported by the command after the one that queued it, which has already
+        // taken effect, so the failure is shown alongside its result rather than in place of it
+        Optional<IOException> saveFailure = saver.takeFailure();
+        if (saveFailure.isPresent()) {
+            // the books may not have been written, so they are saved again along with this command's changes
+            savedStudentBookVersion = UNSAVED_VERSION;
+            savedLessonBookVersion = UNSAVED_VERSION;
+            logger.warning(FILE_OPS_ERROR_MESSAGE + saveFailure.get());
+        }
+
+        switchDataFilesIfFormatChanged();
+        scheduleBackups();
+        saveChangedBooks();
+
+        return saveFailure.isPresent()
+                ? commandResult.withNote(FILE_OPS_ERROR_MESSAGE + saveFailure.get())
+                : commandResult;
+    }
+
+    /**
+     * Switches {@code storage} to the data files in the user prefs if their format has been changed,
+     * and marks both books as unsaved so that they are written in the new format.
+     */
+    private void switchDataFilesIfFormatChanged() {
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        if (userPrefs.getDataFileFormat() == storage.getDataFileFormat()) {
+            return;
+        }
+
+        // the books must not be switched to the new files while a write to the old ones is in progress
+        saver.awaitPendingWrites();
+        storage.setDataFiles(userPrefs);
+        savedStudentBookVersion = UNSAVED_VERSION;
+        savedLessonBookVersion = UNSAVED_VERSION;
+        if (watcher != null) {
+            try {
+                watcher.watch(getDataFilePaths());
+            } catch (IOException e) {
+                logger.warning("Cannot watch the new data files: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Backs up the books in the background as they are saved, as often as the user prefs ask for.
+     */
+    private void scheduleBackups() {
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        saver.setBackupSchedule(DeltaBackups.forDirectory(DeltaBackups.getDirectoryOf(userPrefs)),
+                userPrefs.getBackupIntervalMinutes());
+    }
+
+    /**
+     * Queues a save of each book that has changed since it was last saved, in a single write so that
+     * a command changing both books is committed as a whole.
+     */
+    private void saveChangedBooks() {
+        ReadOnlyStudentBook studentBook = model.getStudentBook();
+        ReadOnlyStudentBook changedStudentBook = null;
+        if (studentBook.getVersion() != savedStudentBookVersion) {
+            changedStudentBook = studentBook;
+            savedStudentBookVersion = studentBook.getVersion();
+        }
+
+        ReadOnlyLessonBook lessonBook = model.getLessonBook();
+        ReadOnlyLessonBook changedLessonBook = null;
+        if (lessonBook.getVersion() != savedLessonBookVersion) {
+            changedLessonBook = lessonBook;
+            savedLessonBookVersion = lessonBook.getVersion();
+        }
+
+        saver.saveBooks(changedStudentBook, changedLessonBook);
+    }
+
+    @Override
+    public void loadDeferredLessons(Runnable listener) {
+        DeferredLessons deferredLessons = model.getLessonBook().getDeferredLessons();
+        if (deferredLessons.isEmpty()) {
+            return;
+        }
+        saver.runBetweenWrites(() -> {
+            try {
+                deferredLessons.getLessons();
+            } catch (DataConversionException e) {
+                // the failure is reported when the lessons are merged, which tries to load them again
+            }
+            listener.run();
+        });
+    }
+
+    @Override
+    public void mergeDeferredLessons() {
+        try {
+            int mergedCount = model.mergeDeferredLessons();
+            if (mergedCount == 0) {
+                return;
+            }
+            logger.info("Added " + mergedCount + " lessons of past months to the lesson book");
+        } catch (DataConversionException e) {
+            logger.warning("Cannot load the lessons of past months, which are left out of the lesson book: "
+                    + e.getMessage());
+            return;
+        }
+        // the lessons archived once added are saved, while the lessons added are known to be saved as they are
+        saveChangedBooks();
+    }
+
+    @Override
+    public void watchDataFiles(Runnable listener) throws IOException {
+        if (watcher == null) {
+            watcher = new DataFileWatcher(() -> readExternalChanges(listener));
+        }
+        watcher.watch(getDataFilePaths());
+    }
+
+    /**
+     * Reads the data files if they have been changed by another program, and calls {@code onRead} once they are
+     * read, so that the changes can be merged by {@link #mergeExternalChanges()}.
+     * Changes made by the app's own saves are told apart by the fingerprint of the files and skipped without waiting.
+     * Otherwise the files are read on the writer thread of the saves, between the app's own writes to them.
+     */
+    void readExternalChanges(Runnable onRead) {
+        if (isWrittenByApp()) {
+            return;
+        }
+        saver.runBetweenWrites(() -> {
+            // the change may have been the app's own write, which was still in progress when it was seen
+            Optional<String> fingerprint = getDataFileFingerprint();
+            if (isWrittenByApp(fingerprint)) {
+                return;
+            }
 
+            ReadOnlyStudentBook baseStudentBook = saver.getWrittenStudentBook().orElse(null);
+            ReadOnlyLessonBook baseLessonBook;
+            ReadOnlyStudentBook fileStudentBook;
+            ReadOnlyLessonBook fileLessonBook;
+            try {
+                baseLessonBook = saver.getWrittenLessonBook().isPresent()
+                        ? withDeferredLessons(saver.getWrittenLessonBook().get())
+                        : null;
+                // a book whose file was removed is left as it is, and saved again
+                fileStudentBook = storage.readStudentBook().orElse(baseStudentBook);
+                fileLessonBook = storage.readLessonBook().orElse(baseLessonBook);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Cannot read the data files changed outside the app: " + e.getMessage());
+                synchronized (this) {
+                    unreadableChangesFailure = e;
+                }
+                onRead.run();
+                return;
+            }
+
+            if (fileStudentBook != null && fileLessonBook != null) {
+                // later saves are compared with what the files now hold
+                saver.setWrittenBooks(fileStudentBook, fileLessonBook, fingerprint.orElse(null));
+            }
+            synchronized (this) {
+                // changes read again before they are merged are merged from the books they were first made to
+                unmergedChanges = unmergedChanges == null
+                        ? new ExternalChanges(baseStudentBook, baseLessonBook, fileStudentBook, fileLessonBook)
+                        : unmergedChanges.withFileBooks(fileStudentBook, fileLessonBook);
+                unreadableChangesFailure = null;
+            }
+            onRead.run();
+        });
+    }
+
+    /**
+     * Returns {@code lessonBook} with its deferred lessons added to its lesson list. The lessons added are copies,
+     * as the same lessons are added to the model, where they can change.
+     */
+    private static ReadOnlyLessonBook withDeferredLessons(ReadOnlyLessonBook lessonBook)
+            throws DataConversionException {
+        DeferredLessons deferredLessons = lessonBook.getDeferredLessons();
+        if (deferredLessons.isEmpty()) {
+            return lessonBook;
+        }
+        LessonBook fullLessonBook = new LessonBook(lessonBook);
+        fullLessonBook.setDeferredLessons(new DeferredLessons());
+        fullLessonBook.addLessons(deferredLessons.getLessons().stream()
+                .map(Lesson::copy)
+                .collect(Collectors.toList()));
+        return fullLessonBook;
+    }
+
+    @Override
+    public Optional<String> mergeExternalChanges() throws CommandException {
+        ExternalChanges changes;
+        Exception failure;
+        synchronized (this) {
+            changes = unmergedChanges;
+            failure = unreadableChangesFailure;
+            unmergedChanges = null;
+            unreadableChangesFailure = null;
+        }
+        if (failure != null) {
+            throw new CommandException(String.format(MESSAGE_EXTERNAL_CHANGE_UNREADABLE, failure.getMessage()),
+                    failure);
+        }
+        if (changes == null) {
+            return Optional.empty();
+        }
+
+        // the changes are merged into the whole lesson book, as they are read from the whole of its files
+        mergeDeferredLessons();
+        // a book not written or read before is taken to be as the files were
+        ReadOnlyStudentBook baseStudentBook = Optional.ofNullable(changes.baseStudentBook)
+                .orElseGet(model::getStudentBook);
+        ReadOnlyLessonBook baseLessonBook = Optional.ofNullable(changes.baseLessonBook).orElseGet(model::getLessonBook);
+        ExternalChangeMerger.Result result = new ExternalChangeMerger(model).merge(baseStudentBook,
+                Optional.ofNullable(changes.fileStudentBook).orElse(baseStudentBook),
+                baseLessonBook, Optional.ofNullable(changes.fileLessonBook).orElse(baseLessonBook));
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // the merged books can differ from the files, such as where the app's changes were kept, so they are saved
+        saveChangedBooks();
+        String summary = String.format(MESSAGE_EXTERNAL_CHANGES_MERGED, result.getAddedCount(),
+                result.getUpdatedCount(), result.getRemovedCount());
+        if (!result.getConflicts().isEmpty()) {
+            summary += String.format(MESSAGE_EXTERNAL_CHANGE_CONFLICT, String.join(", ", result.getConflicts()));
+        }
+        logger.info(summary);
+        return Optional.of(summary);
+    }
+
+    private boolean isWrittenByApp() {
+        return isWrittenByApp(getDataFileFingerprint());
+    }
+
+    /**
+     * Returns true if the data files with {@code fingerprint} are as the app last wrote or read them.
+     */
+    private boolean isWrittenByApp(Optional<String> fingerprint) {
+        return fingerprint.isPresent() && fingerprint.equals(saver.getWrittenFingerprint());
+    }
+
+    private List<Path> getDataFilePaths() {
+        return List.of(storage.getStudentBookFilePath(), storage.getLessonBookFilePath());
+    }
+
+    /**
+     * Returns the fingerprint of the data files, or an empty {@code Optional} if they cannot be listed.
+     */
+    private Optional<String> getDataFileFingerprint() {
         try {
-            storage.saveStudentBook(model.getStudentBook());
-            storage.saveLessonBook(model.getLessonBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            return Optional.of(DataFileWatcher.fingerprintOf(getDataFilePaths()));
+        } catch (IOException e) {
+            return Optional.empty();
         }
+    }
 
-        return commandResult;
+    /**
+     * Blocks until every save queued so far has been written.
+     */
+    public void awaitPendingSaves() {
+        saver.awaitPendingWrites();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+        saver.close();
     }
 
     @Override
@@ -114,4 +414,27 @@ public class LogicManager implements Logic {
     public InputHistoryResult getNextInput() {
         return userInputHistory.getNextInput();
     }
+
+    /**
+     * The books read from the data files after they were changed by another program, and the books last written
+     * before then, which the changes are made to. A book that is not known is null.
+     */
+    private static class ExternalChanges {
+        private final ReadOnlyStudentBook baseStudentBook;
+        private final ReadOnlyLessonBook baseLessonBook;
+        private final ReadOnlyStudentBook fileStudentBook;
+        private final ReadOnlyLessonBook fileLessonBook;
+
+        ExternalChanges(ReadOnlyStudentBook baseStudentBook, ReadOnlyLessonBook baseLessonBook,
+                        ReadOnlyStudentBook fileStudentBook, ReadOnlyLessonBook fileLessonBook) {
+            this.baseStudentBook = baseStudentBook;
+            this.baseLessonBook = baseLessonBook;
+            this.fileStudentBook = fileStudentBook;
+            this.fileLessonBook = fileLessonBook;
+        }
+
+        ExternalChanges withFileBooks(ReadOnlyStudentBook fileStudentBook, ReadOnlyLessonBook fileLessonBook) {
+            return new ExternalChanges(baseStudentBook, baseLessonBook, fileStudentBook, fileLessonBook);
+        }
+    }
 }
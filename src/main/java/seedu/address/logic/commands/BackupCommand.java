@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.core.StorageMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DeltaBackups;
+
+/**
+ * Backs up the students and lessons now, or sets how often they are backed up while they change.
+ */
+public class BackupCommand extends Command {
+
+    public static final String COMMAND_WORD = "backup";
+    public static final String SHORTENED_COMMAND_WORD = "";
+    public static final String COMMAND_DESCRIPTION = "Back up the students and lessons";
+    public static final String EVERY_KEYWORD = "every";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Backs up the students and lessons, writing only "
+            + "what changed since the last backup. With " + EVERY_KEYWORD + ", backs them up at most once every "
+            + "given number of minutes while they change instead; 0 stops these backups.\n"
+            + "Parameters: [" + EVERY_KEYWORD + " MINUTES]\n"
+            + "Example: " + COMMAND_WORD + " " + EVERY_KEYWORD + " 30";
+
+    public static final String MESSAGE_SUCCESS = "Backed up the students and lessons as backup %1$d, a %2$s "
+            + "writing %3$d of them (%4$s), to %5$s";
+    public static final String MESSAGE_UNCHANGED = "Nothing has changed since the last backup.";
+    public static final String MESSAGE_SCHEDULED = "The students and lessons will be backed up at most once every "
+            + "%1$d minutes while they change, to %2$s";
+    public static final String MESSAGE_UNSCHEDULED = "The students and lessons will no longer be backed up "
+            + "as they change.";
+    public static final String MESSAGE_FAILED = "Could not back up to %1$s: %2$s";
+
+    /** The minutes between scheduled backups to set, or empty to back up now. */
+    private final Optional<Long> intervalMinutes;
+
+    /**
+     * Creates a {@code BackupCommand} to back up the books now.
+     */
+    public BackupCommand() {
+        this.intervalMinutes = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code BackupCommand} to back up the books at most once every {@code intervalMinutes} minutes
+     * while they change, or to stop doing so if it is 0.
+     */
+    public BackupCommand(long intervalMinutes) {
+        this.intervalMinutes = Optional.of(intervalMinutes);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        DeltaBackups backups = DeltaBackups.forDirectory(DeltaBackups.getDirectoryOf(model.getUserPrefs()));
+        if (intervalMinutes.isPresent()) {
+            // the backups are scheduled once the logic notices the change to the user prefs
+            UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+            userPrefs.setBackupIntervalMinutes(intervalMinutes.get());
+            model.setUserPrefs(userPrefs);
+            return new CommandResult(intervalMinutes.get() == 0
+                    ? MESSAGE_UNSCHEDULED
+                    : String.format(MESSAGE_SCHEDULED, intervalMinutes.get(), backups.getDirectory()));
+        }
+
+        Optional<DeltaBackups.Summary> summary;
+        try {
+            summary = backups.backUp(model.getStudentBook(), model.getLessonBook());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILED, backups.getDirectory(), ioe.getMessage()), ioe);
+        }
+        if (!summary.isPresent()) {
+            return new CommandResult(MESSAGE_UNCHANGED);
+        }
+        DeltaBackups.Entry entry = summary.get().getEntry();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entry.getId(), entry.isBase() ? "base" : "delta",
+                summary.get().getRecordCount(), StorageMonitor.formatBytes(summary.get().getByteCount()),
+                backups.getDirectory()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BackupCommand // instanceof handles nulls
+                && intervalMinutes.equals(((BackupCommand) other).intervalMinutes)); // state check
+    }
+}
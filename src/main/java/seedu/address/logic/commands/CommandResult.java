@@ -94,6 +94,26 @@ public class CommandResult {
         this.infoPanelType = InfoPanelTypes.NONE;
     }
 
+    /**
+     * Constructs a copy of {@code commandResult} whose feedback to the user is {@code feedbackToUser}.
+     */
+    private CommandResult(CommandResult commandResult, String feedbackToUser) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = commandResult.showHelp;
+        this.exit = commandResult.exit;
+        this.viewTab = commandResult.viewTab;
+        this.updateInfoPanel = commandResult.updateInfoPanel;
+        this.infoPanelType = commandResult.infoPanelType;
+    }
+
+    /**
+     * Returns a copy of this {@code CommandResult} with {@code note} shown on a new line after its feedback.
+     */
+    public CommandResult withNote(String note) {
+        requireNonNull(note);
+        return new CommandResult(this, feedbackToUser + "\n" + note);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Converts the data files to another format.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+    public static final String SHORTENED_COMMAND_WORD = "";
+    public static final String COMMAND_DESCRIPTION = "Convert the data files to json or database";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the students and lessons in the given "
+            + "format from now on. The format is either json, which can be read and edited by hand, "
+            + "or database, which only writes the students and lessons that changed.\n"
+            + "Parameters: FORMAT\n"
+            + "Example: " + COMMAND_WORD + " database";
+
+    public static final String MESSAGE_SUCCESS = "Data is now saved as %1$s, to %2$s and %3$s";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "Data is already saved as %1$s.";
+
+    private final DataFileFormat format;
+
+    /**
+     * Creates a {@code ConvertCommand} to convert the data files to {@code format}.
+     */
+    public ConvertCommand(DataFileFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.getUserPrefs().getDataFileFormat() == format) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, format));
+        }
+
+        // the books are written to the new files once the storage notices the change of format
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setDataFileFormat(format);
+        userPrefs.setStudentBookFilePath(format.toFilePath(userPrefs.getStudentBookFilePath()));
+        userPrefs.setLessonBookFilePath(format.toFilePath(userPrefs.getLessonBookFilePath()));
+        model.setUserPrefs(userPrefs);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format, userPrefs.getStudentBookFilePath(),
+                userPrefs.getLessonBookFilePath()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertCommand // instanceof handles nulls
+                && format == ((ConvertCommand) other).format); // state check
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.PerformanceMonitor;
+import seedu.address.commons.core.StorageMonitor;
+import seedu.address.model.Model;
+
+/**
+ * Shows the latencies recorded by the app since it was started, and the bytes written to the data files.
+ */
+public class DiagnosticsCommand extends Command {
+
+    public static final String COMMAND_WORD = "diagnostics";
+    public static final String SHORTENED_COMMAND_WORD = "";
+    public static final String COMMAND_DESCRIPTION = "Show performance diagnostics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long operations have taken "
+            + "since the app was started, and how much data has been saved.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Latencies recorded since startup:\n%1$s\n"
+            + "Data files saved since startup:\n%2$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, PerformanceMonitor.getSummary(),
+                StorageMonitor.getSummary()));
+    }
+}
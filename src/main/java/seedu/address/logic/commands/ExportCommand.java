@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.IcsLessonExporter;
+
+/**
+ * Exports the lesson schedule to an iCalendar file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String SHORTENED_COMMAND_WORD = "";
+    public static final String COMMAND_DESCRIPTION = "Export the lesson schedule to a calendar file";
+    public static final String FORMAT_ICS = "ics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the lesson schedule as an iCalendar file, "
+            + "which calendar apps can import. Exporting to the same file again only updates the lessons that "
+            + "changed since.\n"
+            + "Parameters: " + FORMAT_ICS + " FILE.ics\n"
+            + "Example: " + COMMAND_WORD + " " + FORMAT_ICS + " lessons.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d lessons to %2$s: %3$d new or changed, "
+            + "%4$d unchanged, %5$d removed.";
+    public static final String MESSAGE_CANNOT_WRITE = "Could not write %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code ExportCommand} to export the lesson schedule to the iCalendar file at {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+        try {
+            IcsLessonExporter.Summary summary = new IcsLessonExporter(filePath)
+                    .export(model.getLessonBook().getLessonList());
+            logger.info(String.format("Exported %s in %s", filePath,
+                    LatencyHistogram.formatMillis(System.nanoTime() - startTime)));
+            return new CommandResult(String.format(MESSAGE_SUCCESS,
+                    summary.getWrittenCount() + summary.getUnchangedCount(), filePath, summary.getWrittenCount(),
+                    summary.getUnchangedCount(), summary.getRemovedCount()));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE, filePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
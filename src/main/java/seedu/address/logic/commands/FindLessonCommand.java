@@ -1,14 +1,33 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ARCHIVE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULT_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.PerformanceMonitor;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.TopKSelector;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.misc.ViewTab;
 import seedu.address.model.Model;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonNameOrSubjectContainsKeywordsPredicate;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
 
 /**
- * Finds and lists all lessons in the lesson book whose name contains any of the argument keywords.
+ * Finds and lists all lessons in the lesson book whose name contains any of the argument keywords,
+ * or all lessons that start within a range of dates and times.
  * Keyword matching is case-insensitive.
  */
 public class FindLessonCommand extends Command {
@@ -20,18 +39,159 @@ public class FindLessonCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all lessons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " makeup lesson";
+            + "Parameters: [" + PREFIX_ARCHIVE + "] KEYWORD [MORE_KEYWORDS]... [" + PREFIX_RESULT_LIMIT
+            + " NUMBER_OF_RESULTS]\n"
+            + "If " + PREFIX_RESULT_LIMIT + " is given, only the most relevant lessons are shown, best match first.\n"
+            + "Alternatively, finds all lessons starting within a range of dates (inclusive).\n"
+            + "Parameters: [" + PREFIX_ARCHIVE + "] " + PREFIX_FROM_DATE + " DATE " + PREFIX_TO_DATE + " DATE "
+            + "[" + PREFIX_AFTER_TIME + " HH:mm] [" + PREFIX_BEFORE_TIME + " HH:mm]\n"
+            + "If " + PREFIX_ARCHIVE + " is given, the archived lessons that are over are searched instead.\n"
+            + "Example: " + COMMAND_WORD + " makeup lesson\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM_DATE + " 12-11-2022 " + PREFIX_TO_DATE + " 19-11-2022 "
+            + PREFIX_AFTER_TIME + " 17:00\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ARCHIVE + " chemistry";
+
+    public static final String MESSAGE_ARCHIVED_LESSONS_LISTED = "%1$d archived lessons found";
+    public static final String MESSAGE_ARCHIVED_LESSON = "%1$d. %2$s (%3$s) on %4$s at %5$s";
+    public static final String MESSAGE_MORE_ARCHIVED_LESSONS = "... and %1$d more";
+    public static final String MESSAGE_ARCHIVE_NOT_LOADED = "The archived lessons could not be loaded: %1$s";
+
+    /** The most archived lessons listed in the result of a search. */
+    public static final int MAX_ARCHIVED_LESSONS_LISTED = 50;
+
+    private static final LatencyHistogram searchLatency = PerformanceMonitor.getHistogram("Lesson search");
 
     private final LessonNameOrSubjectContainsKeywordsPredicate predicate;
+    private final LessonStartsWithinRangePredicate timeRange;
+    private final int resultLimit;
+    private final boolean isRanked;
+    private final boolean isArchiveSearch;
 
+    /**
+     * Creates a FindLessonCommand that lists every matching lesson in storage order.
+     */
     public FindLessonCommand(LessonNameOrSubjectContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindLessonCommand that lists every matching lesson in storage order,
+     * from the archived lessons if {@code isArchiveSearch} is true.
+     */
+    public FindLessonCommand(LessonNameOrSubjectContainsKeywordsPredicate predicate, boolean isArchiveSearch) {
         this.predicate = predicate;
+        this.timeRange = null;
+        this.resultLimit = 0;
+        this.isRanked = false;
+        this.isArchiveSearch = isArchiveSearch;
+    }
+
+    /**
+     * Creates a FindLessonCommand that lists every lesson starting within {@code timeRange}.
+     */
+    public FindLessonCommand(LessonStartsWithinRangePredicate timeRange) {
+        this(timeRange, false);
+    }
+
+    /**
+     * Creates a FindLessonCommand that lists every lesson starting within {@code timeRange},
+     * from the archived lessons if {@code isArchiveSearch} is true.
+     */
+    public FindLessonCommand(LessonStartsWithinRangePredicate timeRange, boolean isArchiveSearch) {
+        this.predicate = null;
+        this.timeRange = timeRange;
+        this.resultLimit = 0;
+        this.isRanked = false;
+        this.isArchiveSearch = isArchiveSearch;
+    }
+
+    /**
+     * Creates a FindLessonCommand that lists only the {@code resultLimit} most relevant matching lessons.
+     */
+    public FindLessonCommand(LessonNameOrSubjectContainsKeywordsPredicate predicate, int resultLimit) {
+        this(predicate, resultLimit, false);
+    }
+
+    /**
+     * Creates a FindLessonCommand that lists only the {@code resultLimit} most relevant matching lessons,
+     * from the archived lessons if {@code isArchiveSearch} is true.
+     */
+    public FindLessonCommand(LessonNameOrSubjectContainsKeywordsPredicate predicate, int resultLimit,
+                             boolean isArchiveSearch) {
+        this.predicate = predicate;
+        this.timeRange = null;
+        this.resultLimit = resultLimit;
+        this.isRanked = true;
+        this.isArchiveSearch = isArchiveSearch;
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        long startTime = System.nanoTime();
+        try {
+            return isArchiveSearch ? searchArchive(model) : search(model);
+        } finally {
+            searchLatency.record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Lists the matching archived lessons in the result, since they are not part of the lesson list.
+     */
+    private CommandResult searchArchive(Model model) throws CommandException {
+        List<Lesson> archivedLessons;
+        try {
+            archivedLessons = model.getArchivedLessons();
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_NOT_LOADED, e.getMessage()), e);
+        }
+
+        List<Lesson> matches;
+        if (isRanked) {
+            TopKSelector<Lesson> selector = new TopKSelector<>(resultLimit);
+            for (Lesson lesson : archivedLessons) {
+                int score = predicate.score(lesson);
+                if (score > 0) {
+                    selector.offer(lesson, score);
+                }
+            }
+            matches = selector.getTopK();
+        } else {
+            Predicate<Lesson> filter = timeRange != null ? timeRange : predicate;
+            matches = archivedLessons.stream().filter(filter).collect(Collectors.toList());
+        }
+
+        StringBuilder resultMessage = new StringBuilder(String.format(MESSAGE_ARCHIVED_LESSONS_LISTED,
+                matches.size()));
+        for (int i = 0; i < Math.min(matches.size(), MAX_ARCHIVED_LESSONS_LISTED); i++) {
+            Lesson lesson = matches.get(i);
+            resultMessage.append('\n').append(String.format(MESSAGE_ARCHIVED_LESSON, i + 1, lesson.getName(),
+                    lesson.getSubject(), lesson.getDateTimeSlot().getDateString(),
+                    lesson.getDateTimeSlot().getTimeString()));
+        }
+        if (matches.size() > MAX_ARCHIVED_LESSONS_LISTED) {
+            resultMessage.append('\n').append(String.format(MESSAGE_MORE_ARCHIVED_LESSONS,
+                    matches.size() - MAX_ARCHIVED_LESSONS_LISTED));
+        }
+        return new CommandResult(resultMessage.toString());
+    }
+
+    private CommandResult search(Model model) {
+        if (timeRange != null) {
+            model.updateLessonListByStartTime(timeRange);
+            String resultMessage = String.format(Messages.MESSAGE_LESSONS_LISTED_OVERVIEW,
+                    model.getFilteredLessonList().size());
+            return new CommandResult(resultMessage, ViewTab.LESSON);
+        }
+
+        if (isRanked) {
+            model.updateRankedLessonList(predicate, resultLimit);
+            String resultMessage = String.format(Messages.MESSAGE_LESSONS_RANKED_OVERVIEW,
+                    model.getFilteredLessonList().size());
+            return new CommandResult(resultMessage, ViewTab.LESSON);
+        }
+
         model.updateFilteredLessonList(predicate);
         String resultMessage = String.format(Messages.MESSAGE_LESSONS_LISTED_OVERVIEW,
                 model.getFilteredLessonList().size());
@@ -42,6 +202,10 @@ public class FindLessonCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindLessonCommand // instanceof handles nulls
-                && predicate.equals(((FindLessonCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindLessonCommand) other).predicate) // state check
+                && Objects.equals(timeRange, ((FindLessonCommand) other).timeRange)
+                && isRanked == ((FindLessonCommand) other).isRanked
+                && isArchiveSearch == ((FindLessonCommand) other).isArchiveSearch
+                && resultLimit == ((FindLessonCommand) other).resultLimit);
     }
 }
@@ -1,8 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULT_LIMIT;
 
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.PerformanceMonitor;
 import seedu.address.logic.commands.misc.ViewTab;
 import seedu.address.model.Model;
 import seedu.address.model.student.NameOrTagsContainsKeywordsPredicate;
@@ -19,18 +22,53 @@ public class FindStudentCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_RESULT_LIMIT + " NUMBER_OF_RESULTS]\n"
+            + "If " + PREFIX_RESULT_LIMIT + " is given, only the most relevant students are shown, best match first.\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    private static final LatencyHistogram searchLatency = PerformanceMonitor.getHistogram("Student search");
+
     private final NameOrTagsContainsKeywordsPredicate predicate;
+    private final int resultLimit;
+    private final boolean isRanked;
 
+    /**
+     * Creates a FindStudentCommand that lists every matching student in storage order.
+     */
     public FindStudentCommand(NameOrTagsContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.resultLimit = 0;
+        this.isRanked = false;
+    }
+
+    /**
+     * Creates a FindStudentCommand that lists only the {@code resultLimit} most relevant matching students.
+     */
+    public FindStudentCommand(NameOrTagsContainsKeywordsPredicate predicate, int resultLimit) {
+        this.predicate = predicate;
+        this.resultLimit = resultLimit;
+        this.isRanked = true;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        long startTime = System.nanoTime();
+        try {
+            return search(model);
+        } finally {
+            searchLatency.record(System.nanoTime() - startTime);
+        }
+    }
+
+    private CommandResult search(Model model) {
+        if (isRanked) {
+            model.updateRankedStudentList(predicate, resultLimit);
+            String resultMessage = String.format(Messages.MESSAGE_STUDENTS_RANKED_OVERVIEW,
+                    model.getFilteredStudentList().size());
+            return new CommandResult(resultMessage, ViewTab.STUDENT);
+        }
+
         model.updateFilteredStudentList(predicate);
         String resultMessage = String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW,
                 model.getFilteredStudentList().size());
@@ -41,6 +79,8 @@ public class FindStudentCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindStudentCommand // instanceof handles nulls
-                && predicate.equals(((FindStudentCommand) other).predicate)); // state check
+                && predicate.equals(((FindStudentCommand) other).predicate) // state check
+                && isRanked == ((FindStudentCommand) other).isRanked
+                && resultLimit == ((FindStudentCommand) other).resultLimit);
     }
 }
@@ -0,0 +1,249 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.misc.ViewTab;
+import seedu.address.logic.parser.CsvRowParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonConflictIndex;
+import seedu.address.model.student.Student;
+
+/**
+ * Adds the students or lessons in a CSV file to the student book or lesson book.
+ *
+ * The rows are read and checked one at a time, against the same rules as {@code addstudent} and {@code addlesson},
+ * and against the students or lessons already in the book and the rows accepted before them. The accepted rows are
+ * then added in a single change, so the book is saved once. Each row that is not accepted is written, along with the
+ * reason, to a file of rejects beside the CSV file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String SHORTENED_COMMAND_WORD = "";
+    public static final String COMMAND_DESCRIPTION = "Import students or lessons from a CSV file";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students or lessons in a CSV file. "
+            + "The first row names the columns: " + CsvRowParser.COLUMN_NAME + ", " + CsvRowParser.COLUMN_PHONE + ", "
+            + CsvRowParser.COLUMN_EMAIL + ", " + CsvRowParser.COLUMN_ADDRESS + " and " + CsvRowParser.COLUMN_TAGS
+            + " for students, or " + CsvRowParser.COLUMN_NAME + ", " + CsvRowParser.COLUMN_SUBJECT + ", "
+            + CsvRowParser.COLUMN_ADDRESS + ", " + CsvRowParser.COLUMN_DATE + ", " + CsvRowParser.COLUMN_START_TIME
+            + ", " + CsvRowParser.COLUMN_DURATION_HOURS + ", " + CsvRowParser.COLUMN_DURATION_MINUTES + " and "
+            + CsvRowParser.COLUMN_RECURRING + " for lessons.\n"
+            + "Parameters: FILE.csv\n"
+            + "Example: " + COMMAND_WORD + " students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s from %3$s.";
+    public static final String MESSAGE_REJECTS =
+            "\n%1$d rows were not imported; they are listed with the reasons in %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Cannot find the file %1$s";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s is empty.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read %1$s: %2$s\nNothing was imported.";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "The student is already in the student book.";
+    public static final String MESSAGE_CONFLICTING_LESSON = "The lesson conflicts with %1$s.";
+
+    public static final String REJECTS_FILE_SUFFIX = ".rejects.csv";
+    public static final String COLUMN_LINE = "line";
+    public static final String COLUMN_REASON = "reason";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code ImportCommand} to import the rows of the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the file the rows of {@code csvFilePath} that are not imported are written to.
+     */
+    public static Path getRejectsPath(Path csvFilePath) {
+        String fileName = csvFilePath.getFileName().toString();
+        String baseName = fileName.toLowerCase(Locale.ROOT).endsWith(".csv")
+                ? fileName.substring(0, fileName.length() - ".csv".length())
+                : fileName;
+        return csvFilePath.resolveSibling(baseName + REJECTS_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        long startTime = System.nanoTime();
+        Path rejectsPath = getRejectsPath(filePath);
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8));
+             Rejects rejects = new Rejects(rejectsPath)) {
+            Optional<List<String>> header = reader.readRecord();
+            if (!header.isPresent()) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+            CsvRowParser rowParser = CsvRowParser.forHeader(header.get());
+            rejects.setHeader(header.get());
+
+            String result;
+            if (rowParser.getRecordType() == CsvRowParser.RecordType.STUDENT) {
+                List<Student> students = readStudents(reader, rowParser, rejects, model);
+                model.addStudents(students);
+                result = String.format(MESSAGE_SUCCESS, students.size(), "students", filePath);
+            } else {
+                List<Lesson> lessons = readLessons(reader, rowParser, rejects, model);
+                model.addLessons(lessons);
+                result = String.format(MESSAGE_SUCCESS, lessons.size(), "lessons", filePath);
+            }
+            logger.info(String.format("Imported %s in %s", filePath,
+                    LatencyHistogram.formatMillis(System.nanoTime() - startTime)));
+
+            if (rejects.getCount() > 0) {
+                result += String.format(MESSAGE_REJECTS, rejects.getCount(), rejectsPath);
+            }
+            return new CommandResult(result, rowParser.getRecordType() == CsvRowParser.RecordType.STUDENT
+                    ? ViewTab.STUDENT
+                    : ViewTab.LESSON);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, filePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    /**
+     * Returns the students in the rows left in {@code reader} that can be added to the student book of
+     * {@code model}, writing the other rows to {@code rejects}.
+     */
+    private static List<Student> readStudents(CsvReader reader, CsvRowParser rowParser, Rejects rejects,
+                                              Model model) throws IOException {
+        Set<List<Object>> identities = new HashSet<>();
+        model.getStudentBook().getStudentList().forEach(student -> identities.add(student.getIdentityKey()));
+
+        List<Student> students = new ArrayList<>();
+        Optional<List<String>> row;
+        while ((row = reader.readRecord()).isPresent()) {
+            Student student;
+            try {
+                student = rowParser.parseStudent(row.get());
+            } catch (ParseException pe) {
+                rejects.add(reader.getRecordLineNumber(), row.get(), pe.getMessage());
+                continue;
+            }
+
+            if (!identities.add(student.getIdentityKey())) {
+                rejects.add(reader.getRecordLineNumber(), row.get(), MESSAGE_DUPLICATE_STUDENT);
+                continue;
+            }
+            students.add(student);
+        }
+        return students;
+    }
+
+    /**
+     * Returns the lessons in the rows left in {@code reader} that can be added to the lesson book of
+     * {@code model}, writing the other rows to {@code rejects}.
+     */
+    private static List<Lesson> readLessons(CsvReader reader, CsvRowParser rowParser, Rejects rejects,
+                                            Model model) throws IOException {
+        LessonConflictIndex conflictIndex = new LessonConflictIndex(model.getLessonBook().getLessonList());
+
+        List<Lesson> lessons = new ArrayList<>();
+        Optional<List<String>> row;
+        while ((row = reader.readRecord()).isPresent()) {
+            Lesson lesson;
+            try {
+                lesson = rowParser.parseLesson(row.get());
+            } catch (ParseException pe) {
+                rejects.add(reader.getRecordLineNumber(), row.get(), pe.getMessage());
+                continue;
+            }
+
+            Optional<Lesson> conflictingLesson = conflictIndex.findConflictingLesson(lesson);
+            if (conflictingLesson.isPresent()) {
+                rejects.add(reader.getRecordLineNumber(), row.get(), String.format(MESSAGE_CONFLICTING_LESSON,
+                        conflictingLesson.get().getName() + " on "
+                                + conflictingLesson.get().getDateTimeSlot().getDateString()));
+                continue;
+            }
+            conflictIndex.add(lesson);
+            lessons.add(lesson);
+        }
+        return lessons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+    /**
+     * The rows of the CSV file that are not imported, written as they are found. The file is only created once
+     * there is a row to write, and any file of rejects left by an earlier import of the same file is removed.
+     */
+    private static class Rejects implements AutoCloseable {
+        private final Path rejectsPath;
+        private List<String> header;
+        private CsvWriter writer;
+        private int count;
+
+        private Rejects(Path rejectsPath) throws IOException {
+            this.rejectsPath = rejectsPath;
+            Files.deleteIfExists(rejectsPath);
+        }
+
+        private void setHeader(List<String> header) {
+            this.header = header;
+        }
+
+        private void add(int lineNumber, List<String> row, String reason) throws IOException {
+            if (writer == null) {
+                writer = new CsvWriter(Files.newBufferedWriter(rejectsPath, StandardCharsets.UTF_8));
+                writer.writeRecord(withLineAndReason(header, COLUMN_LINE, COLUMN_REASON));
+            }
+            writer.writeRecord(withLineAndReason(row, String.valueOf(lineNumber), reason));
+            count++;
+        }
+
+        private int getCount() {
+            return count;
+        }
+
+        private static List<String> withLineAndReason(List<String> fields, String line, String reason) {
+            List<String> record = new ArrayList<>();
+            record.add(line);
+            record.add(reason);
+            record.addAll(fields);
+            return record;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.misc.InfoPanelTypes;
+import seedu.address.model.LessonBook;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.DateTimeSlot;
+import seedu.address.storage.DeltaBackups;
+
+/**
+ * Lists the backups of the students and lessons, or replaces the students and lessons with those of a backup.
+ *
+ * The students and lessons are backed up before they are replaced, so that a restore can itself be undone by
+ * restoring that backup. Archived lessons are not backed up, so they are kept as they are.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+    public static final String SHORTENED_COMMAND_WORD = "";
+    public static final String COMMAND_DESCRIPTION = "List the backups, or restore the students and lessons of one";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces the students and lessons with those of the "
+            + "backup with the given id, or of the latest backup taken at or before the given date and time. "
+            + "Lists the backups if neither is given.\n"
+            + "Parameters: [ID] or [DATE TIME]\n"
+            + "Example: " + COMMAND_WORD + " 12\n"
+            + "Example: " + COMMAND_WORD + " 21-10-2021 18:30";
+
+    public static final String MESSAGE_SUCCESS = "Restored the students and lessons of backup %1$d, taken %2$s.";
+    public static final String MESSAGE_UNDO = "\nThe students and lessons as they were before are kept as backup %1$d.";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups in %1$s";
+    public static final String MESSAGE_NO_BACKUP_AT = "There is no backup taken at or before %1$s.";
+    public static final String MESSAGE_BACKUPS_LISTED = "%1$d backups in %2$s:";
+    public static final String MESSAGE_BACKUP = "\n%1$d. %2$s (%3$s)";
+    public static final String MESSAGE_FAILED = "Could not restore from %1$s: %2$s";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final Optional<Integer> id;
+    private final Optional<LocalDateTime> time;
+
+    /**
+     * Creates a {@code RestoreCommand} to list the backups.
+     */
+    public RestoreCommand() {
+        this.id = Optional.empty();
+        this.time = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code RestoreCommand} to restore the backup with the id {@code id}.
+     */
+    public RestoreCommand(int id) {
+        this.id = Optional.of(id);
+        this.time = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code RestoreCommand} to restore the latest backup taken at or before {@code time}.
+     */
+    public RestoreCommand(LocalDateTime time) {
+        requireNonNull(time);
+        this.id = Optional.empty();
+        this.time = Optional.of(time);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        DeltaBackups backups = DeltaBackups.forDirectory(DeltaBackups.getDirectoryOf(model.getUserPrefs()));
+        try {
+            if (!id.isPresent() && !time.isPresent()) {
+                return new CommandResult(describeBackups(backups));
+            }
+            return restore(model, backups, id.isPresent() ? id.get() : findBackupAt(backups, time.get()));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILED, backups.getDirectory(), ioe.getMessage()), ioe);
+        }
+    }
+
+    private static int findBackupAt(DeltaBackups backups, LocalDateTime time) throws IOException, CommandException {
+        return backups.findBackupAt(time)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_NO_BACKUP_AT,
+                        describeTime(time))))
+                .getId();
+    }
+
+    private static CommandResult restore(Model model, DeltaBackups backups, int id)
+            throws IOException, CommandException {
+        DeltaBackups.Books books;
+        try {
+            books = backups.restore(id);
+        } catch (DataConversionException e) {
+            throw new CommandException(e.getCause().getMessage(), e);
+        }
+
+        Optional<DeltaBackups.Summary> undoBackup = backups.backUp(model.getStudentBook(), model.getLessonBook());
+        LessonBook lessonBook = books.getLessonBook();
+        lessonBook.setArchive(model.getLessonBook().getArchive());
+        model.setStudentBook(books.getStudentBook());
+        model.setLessonBook(lessonBook);
+
+        String result = String.format(MESSAGE_SUCCESS, id, describeTime(books.getEntry().getTime()));
+        if (undoBackup.isPresent()) {
+            result += String.format(MESSAGE_UNDO, undoBackup.get().getEntry().getId());
+        }
+        return new CommandResult(result, InfoPanelTypes.EMPTY);
+    }
+
+    private static String describeBackups(DeltaBackups backups) throws IOException {
+        List<DeltaBackups.Entry> entries = backups.listBackups();
+        if (entries.isEmpty()) {
+            return String.format(MESSAGE_NO_BACKUPS, backups.getDirectory());
+        }
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_BACKUPS_LISTED, entries.size(),
+                backups.getDirectory()));
+        for (DeltaBackups.Entry entry : entries) {
+            description.append(String.format(MESSAGE_BACKUP, entry.getId(), describeTime(entry.getTime()),
+                    entry.isBase() ? "base" : "delta"));
+        }
+        return description.toString();
+    }
+
+    private static String describeTime(LocalDateTime time) {
+        return time.format(DateTimeSlot.getAcceptedDateFormat()) + " " + time.format(TIME_FORMAT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RestoreCommand // instanceof handles nulls
+                && id.equals(((RestoreCommand) other).id)
+                && time.equals(((RestoreCommand) other).time)); // state check
+    }
+}
@@ -3,13 +3,16 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.misc.InfoPanelTypes;
 import seedu.address.logic.commands.misc.ViewTab;
 import seedu.address.model.Model;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 
 /**
@@ -26,6 +29,8 @@ public class ViewStudentInfoCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_VIEW_SUCCESS = "Viewing details of %1$s";
+    public static final String MESSAGE_ARCHIVED_LESSONS_ATTENDED = "%1$d archived lessons attended";
+    public static final String MESSAGE_ARCHIVE_NOT_LOADED = "The archived lessons could not be loaded.";
 
     private final Index targetIndex;
 
@@ -45,10 +50,42 @@ public class ViewStudentInfoCommand extends Command {
 
         Student studentToSelect = lastShownList.get(targetIndex.getZeroBased());
         model.setSelectedStudent(studentToSelect);
-        String commandResultMessage = String.format(MESSAGE_VIEW_SUCCESS, studentToSelect.getName());
+        String commandResultMessage = String.format(MESSAGE_VIEW_SUCCESS, studentToSelect.getName())
+                + describeArchivedLessons(model, studentToSelect);
         return new CommandResult(commandResultMessage, InfoPanelTypes.STUDENT, ViewTab.STUDENT);
     }
 
+    /**
+     * Returns a list of the archived lessons {@code student} was enrolled in, as they are no longer in the lesson list,
+     * or an empty string if there are none.
+     */
+    private static String describeArchivedLessons(Model model, Student student) {
+        List<Lesson> attendedLessons;
+        try {
+            attendedLessons = model.getArchivedLessons().stream()
+                    .filter(lesson -> lesson.hasAlreadyAssigned(student))
+                    .collect(Collectors.toList());
+        } catch (DataConversionException e) {
+            return "\n" + MESSAGE_ARCHIVE_NOT_LOADED;
+        }
+        if (attendedLessons.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder description = new StringBuilder("\n").append(String.format(MESSAGE_ARCHIVED_LESSONS_ATTENDED,
+                attendedLessons.size()));
+        for (int i = 0; i < Math.min(attendedLessons.size(), FindLessonCommand.MAX_ARCHIVED_LESSONS_LISTED); i++) {
+            Lesson lesson = attendedLessons.get(i);
+            description.append('\n').append(String.format(FindLessonCommand.MESSAGE_ARCHIVED_LESSON, i + 1,
+                    lesson.getName(), lesson.getSubject(), lesson.getDateTimeSlot().getDateString(),
+                    lesson.getDateTimeSlot().getTimeString()));
+        }
+        if (attendedLessons.size() > FindLessonCommand.MAX_ARCHIVED_LESSONS_LISTED) {
+            description.append('\n').append(String.format(FindLessonCommand.MESSAGE_MORE_ARCHIVED_LESSONS,
+                    attendedLessons.size() - FindLessonCommand.MAX_ARCHIVED_LESSONS_LISTED));
+        }
+        return description.toString();
+    }
 
     @Override
     public boolean equals(Object other) {
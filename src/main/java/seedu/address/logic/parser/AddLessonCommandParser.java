@@ -23,16 +23,17 @@ import seedu.address.model.lesson.Subject;
  */
 public class AddLessonCommandParser implements Parser<AddLessonCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_LESSON_NAME, PREFIX_SUBJECT,
+            PREFIX_LESSON_ADDRESS, PREFIX_DATE, PREFIX_START_TIME, PREFIX_DURATION_HOURS, PREFIX_DURATION_MINUTES,
+            PREFIX_RECURRING);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddStudentCommand
      * and returns an AddStudentCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddLessonCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_LESSON_NAME, PREFIX_SUBJECT, PREFIX_LESSON_ADDRESS,
-                        PREFIX_DATE, PREFIX_START_TIME, PREFIX_DURATION_HOURS,
-                        PREFIX_DURATION_MINUTES, PREFIX_RECURRING);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (CheckPrefixes.arePrefixesAbsent(argMultimap, PREFIX_LESSON_NAME, PREFIX_DATE, PREFIX_START_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -24,15 +24,16 @@ import seedu.address.model.tag.Tag;
  */
 public class AddStudentCommandParser implements Parser<AddStudentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT_NAME, PREFIX_STUDENT_PHONE,
+            PREFIX_STUDENT_EMAIL, PREFIX_STUDENT_ADDRESS, PREFIX_STUDENT_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddStudentCommand
      * and returns an AddStudentCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddStudentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_STUDENT_NAME, PREFIX_STUDENT_PHONE, PREFIX_STUDENT_EMAIL,
-                        PREFIX_STUDENT_ADDRESS, PREFIX_STUDENT_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_STUDENT_NAME, PREFIX_STUDENT_PHONE)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -10,9 +10,11 @@ import seedu.address.logic.commands.AssignCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class AssignCommandParser implements Parser<AssignCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT, PREFIX_LESSON);
+
     @Override
     public AssignCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(userInput, PREFIX_STUDENT, PREFIX_LESSON);
+        ArgumentMultimap argMultiMap = TOKENIZER.tokenize(userInput);
 
         if (CheckPrefixes.arePrefixesAbsent(argMultiMap, PREFIX_STUDENT, PREFIX_LESSON)
                 || !argMultiMap.getPreamble().isEmpty()) {
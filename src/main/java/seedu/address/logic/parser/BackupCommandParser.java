@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BackupCommand object
+ */
+public class BackupCommandParser implements Parser<BackupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BackupCommand
+     * and returns a BackupCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public BackupCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new BackupCommand();
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        if (words.length != 2 || !words[0].equals(BackupCommand.EVERY_KEYWORD) || !words[1].matches("\\d{1,9}")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackupCommand.MESSAGE_USAGE));
+        }
+        return new BackupCommand(Long.parseLong(words[1]));
+    }
+}
@@ -10,9 +10,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Ensure that users type in a certain command before the program is cleared.
  */
 public class ClearCommandParser implements Parser<ClearCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CLEAR);
+
     @Override
     public ClearCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_CLEAR);
+        ArgumentMultimap argumentMultimap = TOKENIZER.tokenize(userInput);
 
         if (CheckPrefixes.arePrefixesAbsent(argumentMultimap, PREFIX_CLEAR)
                 || !argumentMultimap.getPreamble().isEmpty()) {
@@ -24,5 +24,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_STUDENT = new Prefix("-s", "studentID");
     public static final Prefix PREFIX_LESSON = new Prefix("-l", "lessonID");
 
+    public static final Prefix PREFIX_RESULT_LIMIT = new Prefix("-k", "resultLimit");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("-from", "fromDate");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("-to", "toDate");
+    public static final Prefix PREFIX_AFTER_TIME = new Prefix("-after", "afterTime");
+    public static final Prefix PREFIX_BEFORE_TIME = new Prefix("-before", "beforeTime");
+
     public static final Prefix PREFIX_CLEAR = new Prefix("-f", "clearConfirmation");
+    public static final Prefix PREFIX_ARCHIVE = new Prefix("--archive", "archive");
 }
@@ -0,0 +1,180 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.DateTimeSlot;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonAddress;
+import seedu.address.model.lesson.LessonName;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the rows of a CSV file of students or lessons, using the same rules as {@code addstudent} and
+ * {@code addlesson}. The header row names the column of each field, in any order and in any case; a file with a
+ * {@value #COLUMN_PHONE} column holds students, and a file with a {@value #COLUMN_DATE} column holds lessons.
+ * A blank field is treated as if it was left out of the command.
+ */
+public class CsvRowParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String COLUMN_SUBJECT = "subject";
+    public static final String COLUMN_DATE = "date";
+    public static final String COLUMN_START_TIME = "start";
+    public static final String COLUMN_DURATION_HOURS = "hours";
+    public static final String COLUMN_DURATION_MINUTES = "minutes";
+    public static final String COLUMN_RECURRING = "recurring";
+
+    public static final String MESSAGE_UNKNOWN_HEADER = "The first row of the file must name its columns, including "
+            + "either \"" + COLUMN_NAME + "\" and \"" + COLUMN_PHONE + "\" for students, or \"" + COLUMN_NAME
+            + "\", \"" + COLUMN_DATE + "\" and \"" + COLUMN_START_TIME + "\" for lessons.";
+    public static final String MESSAGE_MISSING_FIELD = "The %1$s is missing.";
+    public static final String MESSAGE_INVALID_RECURRING = "The recurring field must be yes or no.";
+
+    private static final Set<String> RECURRING_VALUES = Set.of("yes", "y", "true", "1");
+    private static final Set<String> NOT_RECURRING_VALUES = Set.of("no", "n", "false", "0");
+    private static final String TAG_SEPARATORS = "[;\\s]+";
+
+    /**
+     * The kinds of records a CSV file can hold.
+     */
+    public enum RecordType {
+        STUDENT, LESSON
+    }
+
+    private final RecordType recordType;
+    private final Map<String, Integer> columns;
+
+    private CsvRowParser(RecordType recordType, Map<String, Integer> columns) {
+        this.recordType = recordType;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns a {@code CsvRowParser} of the rows after {@code header}.
+     *
+     * @throws ParseException if the header does not name the columns of either students or lessons.
+     */
+    public static CsvRowParser forHeader(List<String> header) throws ParseException {
+        requireNonNull(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        if (columns.keySet().containsAll(List.of(COLUMN_NAME, COLUMN_PHONE))) {
+            return new CsvRowParser(RecordType.STUDENT, columns);
+        }
+        if (columns.keySet().containsAll(List.of(COLUMN_NAME, COLUMN_DATE, COLUMN_START_TIME))) {
+            return new CsvRowParser(RecordType.LESSON, columns);
+        }
+        throw new ParseException(MESSAGE_UNKNOWN_HEADER);
+    }
+
+    public RecordType getRecordType() {
+        return recordType;
+    }
+
+    /**
+     * Parses {@code row} into a {@code Student}.
+     *
+     * @throws ParseException if a field is missing or invalid.
+     */
+    public Student parseStudent(List<String> row) throws ParseException {
+        assert recordType == RecordType.STUDENT;
+        Name name = ParserUtil.parseName(getRequiredField(row, COLUMN_NAME));
+        Phone phone = ParserUtil.parsePhone(getRequiredField(row, COLUMN_PHONE));
+        Optional<String> email = getField(row, COLUMN_EMAIL);
+        Optional<String> address = getField(row, COLUMN_ADDRESS);
+        Optional<String> tags = getField(row, COLUMN_TAGS);
+
+        return new Student(name, phone,
+                email.isPresent() ? ParserUtil.parseEmail(email.get()) : Email.EMPTY_EMAIL,
+                address.isPresent() ? ParserUtil.parseAddress(address.get()) : Address.EMPTY_ADDRESS,
+                tags.isPresent() ? parseTags(tags.get()) : Set.of());
+    }
+
+    /**
+     * Parses {@code row} into a {@code Lesson}.
+     *
+     * @throws ParseException if a field is missing or invalid.
+     */
+    public Lesson parseLesson(List<String> row) throws ParseException {
+        assert recordType == RecordType.LESSON;
+        LessonName name = ParserUtil.parseLessonName(getRequiredField(row, COLUMN_NAME));
+        Optional<String> subject = getField(row, COLUMN_SUBJECT);
+        Optional<String> address = getField(row, COLUMN_ADDRESS);
+        Optional<String> hours = getField(row, COLUMN_DURATION_HOURS);
+        Optional<String> minutes = getField(row, COLUMN_DURATION_MINUTES);
+        DateTimeSlot dateTimeSlot = ParserUtil.parseDateTimeSlot(getRequiredField(row, COLUMN_DATE),
+                getRequiredField(row, COLUMN_START_TIME),
+                hours.isPresent() ? ParserUtil.parseDurationHours(hours.get()) : 0,
+                minutes.isPresent() ? ParserUtil.parseDurationMinutes(minutes.get()) : 0);
+        Subject lessonSubject = subject.isPresent() ? ParserUtil.parseSubject(subject.get()) : Subject.EMPTY_SUBJECT;
+        LessonAddress lessonAddress = address.isPresent()
+                ? ParserUtil.parseLessonAddress(address.get())
+                : LessonAddress.EMPTY_ADDRESS;
+
+        return isRecurring(row)
+                ? Lesson.makeRecurringLesson(name, lessonSubject, lessonAddress, dateTimeSlot)
+                : Lesson.makeTemporaryLesson(name, lessonSubject, lessonAddress, dateTimeSlot);
+    }
+
+    private boolean isRecurring(List<String> row) throws ParseException {
+        Optional<String> recurring = getField(row, COLUMN_RECURRING);
+        if (!recurring.isPresent()) {
+            return false;
+        }
+
+        String value = recurring.get().toLowerCase(Locale.ROOT);
+        if (RECURRING_VALUES.contains(value)) {
+            return true;
+        } else if (NOT_RECURRING_VALUES.contains(value)) {
+            return false;
+        }
+        throw new ParseException(MESSAGE_INVALID_RECURRING);
+    }
+
+    private static Set<Tag> parseTags(String tags) throws ParseException {
+        return ParserUtil.parseTags(Arrays.stream(tags.split(TAG_SEPARATORS))
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the trimmed field of {@code row} in {@code column}, or an empty {@code Optional} if it is blank
+     * or there is no such column.
+     */
+    private Optional<String> getField(List<String> row, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size()) {
+            return Optional.empty();
+        }
+        String field = row.get(index).trim();
+        return field.isEmpty() ? Optional.empty() : Optional.of(field);
+    }
+
+    private String getRequiredField(List<String> row, String column) throws ParseException {
+        return getField(row, column).orElseThrow(() -> new ParseException(String.format(MESSAGE_MISSING_FIELD,
+                column)));
+    }
+}
@@ -23,6 +23,9 @@ import seedu.address.model.lesson.Subject;
 
 public class EditLessonCommandParser implements Parser<EditLessonCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_LESSON_NAME, PREFIX_SUBJECT,
+            PREFIX_LESSON_ADDRESS, PREFIX_DATE, PREFIX_START_TIME, PREFIX_DURATION_HOURS, PREFIX_DURATION_MINUTES);
+
     private Optional<Integer> getDurationHours(ArgumentMultimap argMultimap) throws ParseException {
         return argMultimap.getValue(PREFIX_DURATION_HOURS).isEmpty()
                 ? Optional.empty()
@@ -37,9 +40,7 @@ public class EditLessonCommandParser implements Parser<EditLessonCommand> {
 
     @Override
     public EditLessonCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_LESSON_NAME,
-                PREFIX_SUBJECT, PREFIX_LESSON_ADDRESS, PREFIX_DATE, PREFIX_START_TIME,
-                PREFIX_DURATION_HOURS, PREFIX_DURATION_MINUTES);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(userInput);
 
         Index lessonId;
 
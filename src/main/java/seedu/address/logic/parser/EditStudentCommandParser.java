@@ -28,6 +28,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditStudentCommandParser implements Parser<EditStudentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT_NAME, PREFIX_STUDENT_PHONE,
+            PREFIX_STUDENT_EMAIL, PREFIX_STUDENT_ADDRESS, PREFIX_STUDENT_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditStudentCommand
      * and returns an EditStudentCommand object for execution.
@@ -35,9 +38,7 @@ public class EditStudentCommandParser implements Parser<EditStudentCommand> {
      */
     public EditStudentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_STUDENT_NAME, PREFIX_STUDENT_PHONE, PREFIX_STUDENT_EMAIL,
-                        PREFIX_STUDENT_ADDRESS, PREFIX_STUDENT_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index index;
 
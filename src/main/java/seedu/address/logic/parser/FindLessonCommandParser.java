@@ -1,31 +1,106 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ARCHIVE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULT_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.LessonNameOrSubjectContainsKeywordsPredicate;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
 
 /**
  * Parses input arguments and creates a new FindLessonCommand object
  */
 public class FindLessonCommandParser implements Parser<FindLessonCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_RESULT_LIMIT, PREFIX_FROM_DATE,
+            PREFIX_TO_DATE, PREFIX_AFTER_TIME, PREFIX_BEFORE_TIME, PREFIX_ARCHIVE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindLessonCommand
      * and returns a FindLessonCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindLessonCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
+        boolean isArchiveSearch = argMultimap.getValue(PREFIX_ARCHIVE).isPresent();
+        if (isAnyPrefixPresent(argMultimap, PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_AFTER_TIME, PREFIX_BEFORE_TIME)) {
+            if (isArchiveSearch && !argMultimap.getValue(PREFIX_ARCHIVE).get().isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+            }
+            return parseTimeRange(argMultimap, isArchiveSearch);
+        }
+
+        // keywords typed after the archive flag are read as its value
+        String trimmedArgs = (argMultimap.getPreamble() + " "
+                + argMultimap.getValue(PREFIX_ARCHIVE).orElse("")).trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
         }
 
-        return new FindLessonCommand(new LessonNameOrSubjectContainsKeywordsPredicate(Arrays.asList(trimmedArgs)));
+        // a ranked search scores each word separately, so lessons matching more of the words rank higher
+        if (argMultimap.getValue(PREFIX_RESULT_LIMIT).isPresent()) {
+            int resultLimit = ParserUtil.parseResultLimit(argMultimap.getValue(PREFIX_RESULT_LIMIT).get());
+            List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+            return new FindLessonCommand(new LessonNameOrSubjectContainsKeywordsPredicate(keywords), resultLimit,
+                    isArchiveSearch);
+        }
+
+        return new FindLessonCommand(new LessonNameOrSubjectContainsKeywordsPredicate(Arrays.asList(trimmedArgs)),
+                isArchiveSearch);
+    }
+
+    /**
+     * Parses a search for the lessons starting within a range of dates and, optionally, times of the day.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private FindLessonCommand parseTimeRange(ArgumentMultimap argMultimap, boolean isArchiveSearch)
+            throws ParseException {
+        if (!argMultimap.getValue(PREFIX_FROM_DATE).isPresent() || !argMultimap.getValue(PREFIX_TO_DATE).isPresent()
+                || argMultimap.getValue(PREFIX_RESULT_LIMIT).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate fromDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM_DATE).get());
+        LocalDate toDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO_DATE).get());
+        if (fromDate.isAfter(toDate)) {
+            throw new ParseException(LessonStartsWithinRangePredicate.MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        Optional<LocalTime> afterTime = argMultimap.getValue(PREFIX_AFTER_TIME).isPresent()
+                ? Optional.of(ParserUtil.parseStartTime(argMultimap.getValue(PREFIX_AFTER_TIME).get()))
+                : Optional.empty();
+        Optional<LocalTime> beforeTime = argMultimap.getValue(PREFIX_BEFORE_TIME).isPresent()
+                ? Optional.of(ParserUtil.parseStartTime(argMultimap.getValue(PREFIX_BEFORE_TIME).get()))
+                : Optional.empty();
+        if (beforeTime.isPresent() && !afterTime.orElse(LocalTime.MIDNIGHT).isBefore(beforeTime.get())) {
+            throw new ParseException(LessonStartsWithinRangePredicate.MESSAGE_INVALID_TIME_RANGE);
+        }
+
+        return new FindLessonCommand(new LessonStartsWithinRangePredicate(fromDate, toDate, afterTime, beforeTime),
+                isArchiveSearch);
+    }
+
+    /**
+     * Returns true if any of the prefixes contains a value in the given {@code ArgumentMultimap}.
+     */
+    private static boolean isAnyPrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 
 }
@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULT_LIMIT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -13,18 +15,28 @@ import seedu.address.model.student.NameOrTagsContainsKeywordsPredicate;
  */
 public class FindStudentCommandParser implements Parser<FindStudentCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_RESULT_LIMIT);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindStudentCommand
      * and returns a FindStudentCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindStudentCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
+        String trimmedArgs = argMultimap.getPreamble();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
         }
 
+        // a ranked search scores each word separately, so students matching more of the words rank higher
+        if (argMultimap.getValue(PREFIX_RESULT_LIMIT).isPresent()) {
+            int resultLimit = ParserUtil.parseResultLimit(argMultimap.getValue(PREFIX_RESULT_LIMIT).get());
+            List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+            return new FindStudentCommand(new NameOrTagsContainsKeywordsPredicate(keywords), resultLimit);
+        }
+
         return new FindStudentCommand(new NameOrTagsContainsKeywordsPredicate(Arrays.asList(trimmedArgs)));
     }
 
@@ -31,6 +31,7 @@ import seedu.address.model.tag.Tag;
  */
 public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RESULT_LIMIT = "Number of results must be a positive integer.";
 
     public static final String INVALID_DATE_FORMAT_MESSAGE = "Invalid date format!"
             + " Date must be in DD-MM-YYYY and day-field cannot exceed the maximum day of the month\n"
@@ -67,6 +68,19 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code resultLimit} into the maximum number of search results to show. Leading and trailing whitespaces
+     * will be trimmed.
+     * @throws ParseException if the specified limit is invalid (not non-zero unsigned integer).
+     */
+    public static int parseResultLimit(String resultLimit) throws ParseException {
+        String trimmedResultLimit = resultLimit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedResultLimit)) {
+            throw new ParseException(MESSAGE_INVALID_RESULT_LIMIT);
+        }
+        return Integer.parseInt(trimmedResultLimit);
+    }
+
     /**
      * Parses a {@code String name} into a {@code LessonName}.
      * Leading and trailing whitespaces will be trimmed.
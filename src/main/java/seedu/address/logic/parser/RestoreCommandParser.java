@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RestoreCommand object
+ */
+public class RestoreCommandParser implements Parser<RestoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreCommand
+     * and returns a RestoreCommand object for execution.
+     * A date without a time restores the latest backup taken on or before that date.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public RestoreCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new RestoreCommand();
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        if (words.length == 1 && words[0].matches("\\d{1,9}")) {
+            return new RestoreCommand(Integer.parseInt(words[0]));
+        }
+        if (words.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate date = ParserUtil.parseDate(words[0]);
+        LocalTime time = words.length == 2 ? ParserUtil.parseStartTime(words[1]) : LocalTime.MAX;
+        return new RestoreCommand(date.atTime(time));
+    }
+}
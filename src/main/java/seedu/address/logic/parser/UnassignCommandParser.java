@@ -10,9 +10,11 @@ import seedu.address.logic.commands.UnassignCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class UnassignCommandParser implements Parser<UnassignCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT, PREFIX_LESSON);
+
     @Override
     public UnassignCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_STUDENT, PREFIX_LESSON);
+        ArgumentMultimap argumentMultimap = TOKENIZER.tokenize(userInput);
         if (CheckPrefixes.arePrefixesAbsent(argumentMultimap, PREFIX_STUDENT, PREFIX_LESSON)
                 || !argumentMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnassignCommand.MESSAGE_USAGE));
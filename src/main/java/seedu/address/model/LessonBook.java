@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.lesson.ConsistentLessonList;
+import seedu.address.model.lesson.DeferredLessons;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonArchive;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
 import seedu.address.model.student.Student;
 
 /**
@@ -16,6 +21,9 @@ import seedu.address.model.student.Student;
 public class LessonBook implements ReadOnlyLessonBook {
 
     private final ConsistentLessonList lessons;
+    private LessonArchive archive = new LessonArchive();
+    private DeferredLessons deferredLessons = new DeferredLessons();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +54,7 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        version++;
     }
 
     /**
@@ -55,6 +64,62 @@ public class LessonBook implements ReadOnlyLessonBook {
         requireNonNull(newData);
 
         setLessons(newData.getLessonList());
+        archive = newData.getArchive();
+        deferredLessons = newData.getDeferredLessons();
+    }
+
+    /**
+     * Replaces the archived lessons of this {@code LessonBook} with {@code archive}.
+     */
+    public void setArchive(LessonArchive archive) {
+        requireNonNull(archive);
+        this.archive = archive;
+        version++;
+    }
+
+    /**
+     * Replaces the lessons of this {@code LessonBook} left on disk when it was read with {@code deferredLessons}.
+     */
+    public void setDeferredLessons(DeferredLessons deferredLessons) {
+        requireNonNull(deferredLessons);
+        this.deferredLessons = deferredLessons;
+        version++;
+    }
+
+    /**
+     * Adds the deferred lessons to the lesson list, loading them if needed, as one change.
+     *
+     * @return the number of lessons added.
+     * @throws DataConversionException if the deferred lessons cannot be loaded, in which case they stay deferred.
+     */
+    public int mergeDeferredLessons() throws DataConversionException {
+        if (deferredLessons.isEmpty()) {
+            return 0;
+        }
+
+        List<Lesson> loadedLessons = deferredLessons.getLessons();
+        lessons.addAll(loadedLessons);
+        deferredLessons = new DeferredLessons();
+        version++;
+        return loadedLessons.size();
+    }
+
+    /**
+     * Moves the temporary lessons that ended before {@code cutoff} into the archive.
+     *
+     * @return the number of lessons archived.
+     */
+    public int archiveLessonsEndedBefore(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        List<Lesson> endedLessons = lessons.removeLessonsMatching(lesson -> !lesson.isRecurring()
+                && lesson.getDateTimeSlot().getEndingDateTime().isBefore(cutoff));
+        if (endedLessons.isEmpty()) {
+            return 0;
+        }
+
+        archive = archive.withLessons(endedLessons);
+        version++;
+        return endedLessons.size();
     }
 
     //// lesson-level operations
@@ -73,14 +138,43 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void addLesson(Lesson lesson) {
         lessons.add(lesson);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code lessons} to the lesson book, as one change.
+     * None of the lessons may conflict with each other, or with the lessons in the lesson book.
+     */
+    public void addLessons(List<Lesson> lessons) {
+        this.lessons.addAll(lessons);
+        version++;
     }
 
     public void assignStudent(Student student, Lesson lesson) {
         lessons.assignStudent(student, lesson);
+        version++;
     }
 
     public void unasssignStudent(Student student) {
         lessons.unassignStudent(student);
+        version++;
+    }
+
+    /**
+     * Unassigns {@code student} from {@code lesson} only.
+     * {@code lesson} must exist in the lesson book.
+     */
+    public void unassignStudent(Student student, Lesson lesson) {
+        lessons.unassignStudent(student, lesson);
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the enrolled students of every lesson.
+     */
+    public void replaceEnrolledStudent(Student target, Student editedStudent) {
+        lessons.replaceEnrolledStudent(target, editedStudent);
+        version++;
     }
 
     /**
@@ -92,6 +186,7 @@ public class LessonBook implements ReadOnlyLessonBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(target, editedLesson);
+        version++;
     }
 
     /**
@@ -100,6 +195,20 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void deleteLesson(Lesson key) {
         lessons.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the lessons that start within {@code range}.
+     */
+    public List<Lesson> findLessonsStartingWithin(LessonStartsWithinRangePredicate range) {
+        requireNonNull(range);
+        return lessons.findLessonsStartingWithin(range);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -115,6 +224,16 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public LessonArchive getArchive() {
+        return archive;
+    }
+
+    @Override
+    public DeferredLessons getDeferredLessons() {
+        return deferredLessons;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
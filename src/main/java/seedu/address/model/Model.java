@@ -1,12 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
 import seedu.address.model.student.Student;
 
 /**
@@ -74,6 +78,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds all of the given students, as a single change to the student book.
+     * None of {@code students} may already exist in the student book, or be the same as each other.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the student book.
@@ -91,6 +101,13 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filtered student list to show only the {@code limit} students that are most relevant to
+     * {@code predicate}, ordered from the most to the least relevant.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateRankedStudentList(RankedPredicate<Student> predicate, int limit);
+
     //=========== LessonBook =================================================================================
     /**
      * Replaces lesson book data with the data in {@code lessonBook}.
@@ -114,6 +131,12 @@ public interface Model {
      */
     void addLesson(Lesson lesson);
 
+    /**
+     * Adds all of the given lessons, as a single change to the lesson book.
+     * None of {@code lessons} may conflict with each other, or with the lessons in the lesson book.
+     */
+    void addLessons(List<Lesson> lessons);
+
     /**
      * Deletes the given lesson.
      * The lesson must exist in the lesson book.
@@ -126,6 +149,50 @@ public interface Model {
      */
     void updateFilteredLessonList(Predicate<Lesson> predicate);
 
+    /**
+     * Updates the filtered lesson list to show only the {@code limit} lessons that are most relevant to
+     * {@code predicate}, ordered from the most to the least relevant.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateRankedLessonList(RankedPredicate<Lesson> predicate, int limit);
+
+    /**
+     * Updates the filtered lesson list to show only the lessons that start within {@code range}.
+     * @throws NullPointerException if {@code range} is null.
+     */
+    void updateLessonListByStartTime(LessonStartsWithinRangePredicate range);
+
+    /**
+     * Moves the temporary lessons that ended before {@code cutoff} out of the lesson list and into the archive.
+     *
+     * @return the number of lessons archived.
+     */
+    int archiveLessonsEndedBefore(LocalDateTime cutoff);
+
+    /**
+     * Moves the temporary lessons that ended longer ago than the user prefs allow out of the lesson list and into the
+     * archive. Nothing is archived if the user prefs do not ask for it.
+     *
+     * @return the number of lessons archived.
+     */
+    int archivePastLessons();
+
+    /**
+     * Adds the lessons left on disk when the lesson book was read to the lesson list, loading them if needed,
+     * and then archives the past lessons as {@link #archivePastLessons()} does.
+     *
+     * @return the number of lessons added.
+     * @throws DataConversionException if the deferred lessons cannot be loaded, in which case they stay deferred.
+     */
+    int mergeDeferredLessons() throws DataConversionException;
+
+    /**
+     * Returns the archived lessons, loading them if they have not been needed before.
+     *
+     * @throws DataConversionException if the archived lessons cannot be loaded.
+     */
+    List<Lesson> getArchivedLessons() throws DataConversionException;
+
     /**
      * Replaces the given lesson {@code target} with {@code editedLesson}.
      * {@code target} must exist in the lesson book.
@@ -4,16 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.misc.InfoPanelTypes;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
 import seedu.address.model.student.Student;
 
 /**
@@ -27,6 +38,16 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<Lesson> filteredLessons;
+    private final SortedList<Student> sortedStudents;
+    private final SortedList<Lesson> sortedLessons;
+    private Predicate<? super Student> appliedStudentPredicate;
+    private Predicate<? super Lesson> appliedLessonPredicate;
+    /** The ranked search shown in the student list, or null if the list is not ranked. */
+    private RankedSearch<Student> rankedStudents;
+    /** The ranked search shown in the lesson list, or null if the list is not ranked. */
+    private RankedSearch<Lesson> rankedLessons;
+    /** The start time search shown in the lesson list, or null if the list is not searched by start time. */
+    private LessonStartsWithinRangePredicate appliedStartTimeRange;
     private Student selectedStudent;
     private Lesson selectedLesson;
     private InfoPanelTypes currentInfoPanel;
@@ -44,6 +65,25 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.studentBook.getStudentList());
         filteredLessons = new FilteredList<>(this.lessonBook.getLessonList());
+        sortedStudents = new SortedList<>(filteredStudents);
+        sortedLessons = new SortedList<>(filteredLessons);
+        // Ranked and start time searches pick out the matching items themselves, so they are updated whenever
+        // a book changes to pick up the edited, added and removed items. Ranked searches only score the items
+        // a change adds or replaces, and are only shown again if the highest ranked items change.
+        this.studentBook.getStudentList().addListener((ListChangeListener<Student>) change -> {
+            if (rankedStudents != null && rankedStudents.update(change)) {
+                showRankedStudentList();
+            }
+        });
+        this.lessonBook.getLessonList().addListener((ListChangeListener<Lesson>) change -> {
+            if (rankedLessons != null) {
+                if (rankedLessons.update(change)) {
+                    showRankedLessonList();
+                }
+            } else if (appliedStartTimeRange != null) {
+                applyStartTimeRange();
+            }
+        });
         currentInfoPanel = InfoPanelTypes.EMPTY;
     }
 
@@ -96,7 +136,6 @@ public class ModelManager implements Model {
     @Override
     public void setStudentBook(ReadOnlyStudentBook addressBook) {
         this.studentBook.resetData(addressBook);
-        filteredStudents.clear(); // This might not be necessary
     }
 
     @Override
@@ -122,10 +161,17 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        studentBook.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         studentBook.setStudent(target, editedStudent);
+        lessonBook.replaceEnrolledStudent(target, editedStudent);
     }
 
     //=========== LessonBook =================================================================================
@@ -139,7 +185,6 @@ public class ModelManager implements Model {
     @Override
     public void setLessonBook(ReadOnlyLessonBook lessonBook) {
         this.lessonBook.resetData(lessonBook);
-        filteredLessons.clear(); // This might not be necessary
     }
 
     @Override
@@ -159,6 +204,12 @@ public class ModelManager implements Model {
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
+    @Override
+    public void addLessons(List<Lesson> lessons) {
+        lessonBook.addLessons(lessons);
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+    }
+
     @Override
     public void deleteLesson(Lesson lesson) {
         lessonBook.deleteLesson(lesson);
@@ -170,7 +221,7 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Student} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in relevance order if the last search was ranked.
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
@@ -181,13 +232,42 @@ public class ModelManager implements Model {
                 }
             }
         });
-        return filteredStudents;
+        return sortedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        rankedStudents = null;
+        // Changes made since the predicate was applied reached the filtered list as per-student change events,
+        // so only the changed students have been re-tested and the list is up to date.
+        if (predicate.equals(appliedStudentPredicate)) {
+            logger.fine("Student list is already filtered by " + predicate);
+            return;
+        }
+
+        sortedStudents.setComparator(null);
         filteredStudents.setPredicate(predicate);
+        appliedStudentPredicate = predicate;
+    }
+
+    @Override
+    public void updateRankedStudentList(RankedPredicate<Student> predicate, int limit) {
+        requireNonNull(predicate);
+        rankedStudents = new RankedSearch<>(predicate, limit, studentBook.getStudentList());
+        showRankedStudentList();
+    }
+
+    /**
+     * Shows the students that rank highest in {@code rankedStudents}, most relevant first.
+     */
+    private void showRankedStudentList() {
+        Map<Student, Integer> ranks = rankedStudents.getRanks();
+        // The comparator must be cleared first, as the previous one only knows the previous ranks
+        sortedStudents.setComparator(null);
+        filteredStudents.setPredicate(ranks::containsKey);
+        sortedStudents.setComparator(Comparator.comparing(ranks::get));
+        appliedStudentPredicate = null;
     }
 
     @Override
@@ -206,24 +286,103 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return studentBook.equals(other.studentBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStudents.equals(other.filteredStudents);
+                && sortedStudents.equals(other.sortedStudents);
     }
 
     //=========== Filtered Lesson List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Lesson} backed by the internal list of
-     * {@code versionedLessonBook}
+     * {@code versionedLessonBook}, in relevance order if the last search was ranked.
      */
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
-        return filteredLessons;
+        return sortedLessons;
     }
 
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
+        rankedLessons = null;
+        appliedStartTimeRange = null;
+        // Changes made since the predicate was applied reached the filtered list as per-lesson change events,
+        // so only the changed lessons have been re-tested and the list is up to date.
+        if (predicate.equals(appliedLessonPredicate)) {
+            logger.fine("Lesson list is already filtered by " + predicate);
+            return;
+        }
+
+        sortedLessons.setComparator(null);
         filteredLessons.setPredicate(predicate);
+        appliedLessonPredicate = predicate;
+    }
+
+    @Override
+    public void updateRankedLessonList(RankedPredicate<Lesson> predicate, int limit) {
+        requireNonNull(predicate);
+        rankedLessons = new RankedSearch<>(predicate, limit, lessonBook.getLessonList());
+        appliedStartTimeRange = null;
+        showRankedLessonList();
+    }
+
+    /**
+     * Shows the lessons that rank highest in {@code rankedLessons}, most relevant first.
+     */
+    private void showRankedLessonList() {
+        Map<Lesson, Integer> ranks = rankedLessons.getRanks();
+        // The comparator must be cleared first, as the previous one only knows the previous ranks
+        sortedLessons.setComparator(null);
+        filteredLessons.setPredicate(ranks::containsKey);
+        sortedLessons.setComparator(Comparator.comparing(ranks::get));
+        appliedLessonPredicate = null;
+    }
+
+    @Override
+    public int archiveLessonsEndedBefore(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        return lessonBook.archiveLessonsEndedBefore(cutoff);
+    }
+
+    @Override
+    public int archivePastLessons() {
+        int archiveAfterDays = userPrefs.getArchiveLessonsAfterDays();
+        if (archiveAfterDays <= 0) {
+            return 0;
+        }
+        return archiveLessonsEndedBefore(LocalDateTime.now().minusDays(archiveAfterDays));
+    }
+
+    @Override
+    public int mergeDeferredLessons() throws DataConversionException {
+        int mergedCount = lessonBook.mergeDeferredLessons();
+        if (mergedCount > 0) {
+            archivePastLessons();
+        }
+        return mergedCount;
+    }
+
+    @Override
+    public List<Lesson> getArchivedLessons() throws DataConversionException {
+        return lessonBook.getArchive().getLessons();
+    }
+
+    @Override
+    public void updateLessonListByStartTime(LessonStartsWithinRangePredicate range) {
+        requireNonNull(range);
+        appliedStartTimeRange = range;
+        rankedLessons = null;
+        applyStartTimeRange();
+    }
+
+    /**
+     * Shows the lessons that start within {@code appliedStartTimeRange}.
+     */
+    private void applyStartTimeRange() {
+        Set<Lesson> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(lessonBook.findLessonsStartingWithin(appliedStartTimeRange));
+        sortedLessons.setComparator(null);
+        filteredLessons.setPredicate(matches::contains);
+        appliedLessonPredicate = null;
     }
 
     @Override
@@ -236,8 +395,8 @@ public class ModelManager implements Model {
 
     @Override
     public void updateUnassignment(Student student, Lesson lesson) {
-        student.unassignLesson(lesson);
-        lesson.unassignStudent(student);
+        studentBook.unassignLesson(lesson, student);
+        lessonBook.unassignStudent(student, lesson);
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
@@ -0,0 +1,20 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can also score how relevant a matching item is.
+ * Items that do not match score zero, and more relevant matches score higher.
+ */
+public interface RankedPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns the relevance of {@code item}, or zero if it does not match.
+     */
+    int score(T item);
+
+    @Override
+    default boolean test(T item) {
+        return score(item) > 0;
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.TopKSelector;
+
+/**
+ * The items of a list that rank highest against a {@code RankedPredicate}, kept up to date as the list changes.
+ *
+ * Every item is scored when the search starts, and the scores of the matching items are kept. Afterwards a change to
+ * the list only scores the items it adds or replaces. The highest ranked items are only picked again from the kept
+ * scores when one of them is removed, unless it is replaced by an item that ranks at least as high.
+ * Items with equal scores are ranked in the order they were scored, and an item replacing another takes its place in
+ * that order.
+ */
+class RankedSearch<T> {
+
+    /** Orders entries from the most to the least relevant. */
+    private static final Comparator<Entry<?>> MOST_RELEVANT_FIRST =
+            Comparator.<Entry<?>>comparingInt(entry -> entry.score).reversed()
+                    .thenComparingLong(entry -> entry.sequence);
+
+    private final RankedPredicate<T> predicate;
+    private final int limit;
+    /** The entries of the matching items of the list, by identity. */
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    /** The {@code limit} most relevant entries. */
+    private final TreeSet<Entry<T>> topEntries = new TreeSet<>(MOST_RELEVANT_FIRST);
+    private long nextSequence;
+
+    /**
+     * Creates a {@code RankedSearch} of {@code items} that ranks at most {@code limit} of them.
+     */
+    RankedSearch(RankedPredicate<T> predicate, int limit, List<? extends T> items) {
+        requireNonNull(predicate);
+        checkArgument(limit > 0, TopKSelector.MESSAGE_INVALID_LIMIT);
+        this.predicate = predicate;
+        this.limit = limit;
+        for (T item : items) {
+            Entry<T> entry = score(item, nextSequence++);
+            if (entry != null) {
+                entries.put(item, entry);
+            }
+        }
+        rescan();
+    }
+
+    /**
+     * Updates the ranking with {@code change} to the list searched.
+     *
+     * @return true if the highest ranked items, or their order, changed.
+     */
+    boolean update(ListChangeListener.Change<? extends T> change) {
+        requireNonNull(change);
+        List<T> previousTopItems = getTopItems();
+        boolean isRescanNeeded = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // the items are only reordered, which does not change their scores
+                continue;
+            }
+            List<? extends T> addedItems = change.wasUpdated()
+                    ? change.getList().subList(change.getFrom(), change.getTo())
+                    : change.getAddedSubList();
+            List<? extends T> removedItems = change.wasUpdated() ? addedItems : change.getRemoved();
+            isRescanNeeded |= replace(removedItems, addedItems, isRescanNeeded);
+        }
+        if (isRescanNeeded) {
+            rescan();
+        }
+        return !isSameItems(previousTopItems, getTopItems());
+    }
+
+    /**
+     * Replaces the entries of {@code removedItems} with those of {@code addedItems}, which take the places of the
+     * removed items at the same positions. The added entries are not offered to the top entries if
+     * {@code isRescanNeeded}, as they are then ranked by the rescan.
+     *
+     * @return true if a top entry was removed without being replaced by one that ranks at least as high.
+     */
+    private boolean replace(List<? extends T> removedItems, List<? extends T> addedItems, boolean isRescanNeeded) {
+        // every removed item is taken out first, as an item can be both removed and added by a change
+        List<Entry<T>> removedEntries = new ArrayList<>();
+        for (T item : removedItems) {
+            removedEntries.add(entries.remove(item));
+        }
+
+        List<Entry<T>> addedEntries = new ArrayList<>();
+        for (int i = 0; i < addedItems.size(); i++) {
+            Entry<T> replacedEntry = i < removedEntries.size() ? removedEntries.get(i) : null;
+            Entry<T> entry = score(addedItems.get(i),
+                    replacedEntry != null ? replacedEntry.sequence : nextSequence++);
+            if (entry != null) {
+                entries.put(entry.item, entry);
+            }
+            addedEntries.add(entry);
+        }
+
+        boolean isTopEntryLost = false;
+        for (int i = 0; i < removedEntries.size(); i++) {
+            Entry<T> removedEntry = removedEntries.get(i);
+            if (removedEntry == null || !topEntries.remove(removedEntry)) {
+                continue;
+            }
+            Entry<T> replacingEntry = i < addedEntries.size() ? addedEntries.get(i) : null;
+            if (replacingEntry == null || MOST_RELEVANT_FIRST.compare(replacingEntry, removedEntry) > 0) {
+                // an item that was not among the top items may now rank above the replacement
+                isTopEntryLost = true;
+            }
+        }
+
+        if (!isTopEntryLost && !isRescanNeeded) {
+            addedEntries.stream().filter(entry -> entry != null).forEach(this::offer);
+        }
+        return isTopEntryLost;
+    }
+
+    /**
+     * Returns the rank of each of the highest ranked items, from zero for the most relevant, by identity.
+     */
+    Map<T, Integer> getRanks() {
+        Map<T, Integer> ranks = new IdentityHashMap<>();
+        for (T item : getTopItems()) {
+            ranks.put(item, ranks.size());
+        }
+        return ranks;
+    }
+
+    private List<T> getTopItems() {
+        List<T> items = new ArrayList<>(topEntries.size());
+        topEntries.forEach(entry -> items.add(entry.item));
+        return items;
+    }
+
+    /**
+     * Picks the top entries again from the scores kept.
+     */
+    private void rescan() {
+        topEntries.clear();
+        entries.values().forEach(this::offer);
+    }
+
+    private void offer(Entry<T> entry) {
+        if (topEntries.size() < limit) {
+            topEntries.add(entry);
+        } else if (MOST_RELEVANT_FIRST.compare(entry, topEntries.last()) < 0) {
+            topEntries.pollLast();
+            topEntries.add(entry);
+        }
+    }
+
+    /**
+     * Returns the entry of {@code item}, scored in the order given by {@code sequence}, or null if it does not match.
+     */
+    private Entry<T> score(T item, long sequence) {
+        int score = predicate.score(item);
+        return score > 0 ? new Entry<>(item, score, sequence) : null;
+    }
+
+    private static <T> boolean isSameItems(List<T> items, List<T> otherItems) {
+        if (items.size() != otherItems.size()) {
+            return false;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) != otherItems.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A matching item with its score and the order in which it was scored.
+     */
+    private static class Entry<T> {
+        private final T item;
+        private final int score;
+        private final long sequence;
+
+        Entry(T item, int score, long sequence) {
+            this.item = item;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.lesson.DeferredLessons;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonArchive;
 
 /**
  * Unmodifiable view of an student book
@@ -13,4 +15,19 @@ public interface ReadOnlyLessonBook {
      * This list will not contain any duplicate students.
      */
     ObservableList<Lesson> getLessonList();
+
+    /**
+     * Returns the lessons moved out of this lesson book once they were over.
+     */
+    LessonArchive getArchive();
+
+    /**
+     * Returns the lessons of this lesson book left on disk when it was read, which are not in its lesson list yet.
+     */
+    DeferredLessons getDeferredLessons();
+
+    /**
+     * Returns a number that changes whenever the contents of this lesson book change.
+     */
+    long getVersion();
 }
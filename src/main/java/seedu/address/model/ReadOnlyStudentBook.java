@@ -13,4 +13,9 @@ public interface ReadOnlyStudentBook {
      * This list will not contain any duplicate students.
      */
     ObservableList<Student> getStudentList();
+
+    /**
+     * Returns a number that changes whenever the contents of this student book change.
+     */
+    long getVersion();
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getStudentBookFilePath();
 
+    Path getLessonBookFilePath();
+
+    DataFileFormat getDataFileFormat();
+
+    boolean isCompactDataFiles();
+
+    boolean isCompressDataFiles();
+
+    int getArchiveLessonsAfterDays();
+
+    long getSaveBudgetMillis();
+
+    long getBackupIntervalMinutes();
+
 }
@@ -16,6 +16,7 @@ import seedu.address.model.student.UniqueStudentList;
 public class StudentBook implements ReadOnlyStudentBook {
 
     private final UniqueStudentList students;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +47,7 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        version++;
     }
 
     /**
@@ -73,6 +75,16 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void addStudent(Student p) {
         students.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code students} to the student book, as one change.
+     * None of the students may already exist in the student book, or be the same as each other.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+        version++;
     }
 
     /**
@@ -85,6 +97,7 @@ public class StudentBook implements ReadOnlyStudentBook {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        version++;
     }
 
     /**
@@ -93,15 +106,33 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        version++;
     }
 
     public void assignLesson(Lesson lesson, Student student) {
         students.assignLesson(lesson, student);
+        version++;
     }
 
     public void unassignLesson(Lesson lesson) {
         students.unassignLesson(lesson);
+        version++;
+    }
+
+    /**
+     * Unassigns {@code lesson} from {@code student} only.
+     * {@code student} must exist in the student book.
+     */
+    public void unassignLesson(Lesson lesson, Student student) {
+        students.unassignLesson(lesson, student);
+        version++;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
+
     //// util methods
 
     @Override
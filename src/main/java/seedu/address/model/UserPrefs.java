@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageMonitor;
 
 /**
  * Represents User's preferences.
@@ -16,6 +18,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path studentBookFilePath = Paths.get("data" , "studentbook.json");
     private Path lessonBookFilePath = Paths.get("data", "lessonbook.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private boolean compactDataFiles = false;
+    private boolean compressDataFiles = false;
+    private int archiveLessonsAfterDays = 30;
+    private long saveBudgetMillis = StorageMonitor.DEFAULT_SAVE_BUDGET_MILLIS;
+    private long backupIntervalMinutes = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +45,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudentBookFilePath(newUserPrefs.getStudentBookFilePath());
+        setLessonBookFilePath(newUserPrefs.getLessonBookFilePath());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setCompactDataFiles(newUserPrefs.isCompactDataFiles());
+        setCompressDataFiles(newUserPrefs.isCompressDataFiles());
+        setArchiveLessonsAfterDays(newUserPrefs.getArchiveLessonsAfterDays());
+        setSaveBudgetMillis(newUserPrefs.getSaveBudgetMillis());
+        setBackupIntervalMinutes(newUserPrefs.getBackupIntervalMinutes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -66,6 +81,74 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.lessonBookFilePath = lessonBookFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    /**
+     * Returns true if the data files are written on a single line, which is smaller and faster to save,
+     * rather than indented for reading.
+     */
+    public boolean isCompactDataFiles() {
+        return compactDataFiles;
+    }
+
+    public void setCompactDataFiles(boolean isCompactDataFiles) {
+        this.compactDataFiles = isCompactDataFiles;
+    }
+
+    /**
+     * Returns true if the json data files are compressed with gzip, which makes them several times smaller
+     * at the cost of some time to compress and decompress them.
+     */
+    public boolean isCompressDataFiles() {
+        return compressDataFiles;
+    }
+
+    public void setCompressDataFiles(boolean isCompressDataFiles) {
+        this.compressDataFiles = isCompressDataFiles;
+    }
+
+    /**
+     * Returns the number of days after it ends that a temporary lesson is archived, or 0 if lessons are never
+     * archived.
+     */
+    public int getArchiveLessonsAfterDays() {
+        return archiveLessonsAfterDays;
+    }
+
+    public void setArchiveLessonsAfterDays(int archiveLessonsAfterDays) {
+        this.archiveLessonsAfterDays = Math.max(0, archiveLessonsAfterDays);
+    }
+
+    /**
+     * Returns how long, in milliseconds, saving a book may take before it is logged as a warning.
+     */
+    public long getSaveBudgetMillis() {
+        return saveBudgetMillis;
+    }
+
+    public void setSaveBudgetMillis(long saveBudgetMillis) {
+        this.saveBudgetMillis = Math.max(0, saveBudgetMillis);
+    }
+
+    /**
+     * Returns how many minutes apart the books are backed up while they change, or 0 if they are only backed up
+     * when asked to.
+     */
+    public long getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    public void setBackupIntervalMinutes(long backupIntervalMinutes) {
+        this.backupIntervalMinutes = Math.max(0, backupIntervalMinutes);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,12 +161,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && studentBookFilePath.equals(o.studentBookFilePath);
+                && studentBookFilePath.equals(o.studentBookFilePath)
+                && dataFileFormat == o.dataFileFormat
+                && compactDataFiles == o.compactDataFiles
+                && compressDataFiles == o.compressDataFiles
+                && archiveLessonsAfterDays == o.archiveLessonsAfterDays
+                && saveBudgetMillis == o.saveBudgetMillis
+                && backupIntervalMinutes == o.backupIntervalMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, studentBookFilePath);
+        return Objects.hash(guiSettings, studentBookFilePath, dataFileFormat, compactDataFiles, compressDataFiles,
+                archiveLessonsAfterDays, saveBudgetMillis, backupIntervalMinutes);
     }
 
     @Override
@@ -91,6 +181,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + studentBookFilePath);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nCompact data files : " + compactDataFiles);
+        sb.append("\nCompress data files : " + compressDataFiles);
+        sb.append("\nArchive lessons after days : " + archiveLessonsAfterDays);
+        sb.append("\nSave budget in milliseconds : " + saveBudgetMillis);
+        sb.append("\nBackup interval in minutes : " + backupIntervalMinutes);
         return sb.toString();
     }
 
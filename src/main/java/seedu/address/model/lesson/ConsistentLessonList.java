@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -37,6 +39,7 @@ public class ConsistentLessonList implements Iterable<Lesson> {
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final LessonStartTimeIndex startTimeIndex = new LessonStartTimeIndex();
 
     /**
      * Adds a lesson to the list.
@@ -50,6 +53,28 @@ public class ConsistentLessonList implements Iterable<Lesson> {
         }
 
         internalList.add(toAdd);
+        startTimeIndex.add(toAdd);
+        sortList();
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, in one change.
+     * The time slots of the lessons must not conflict with each other, or with any of the existing lessons in the list.
+     */
+    public void addAll(List<Lesson> toAdd) {
+        requireAllNonNull(toAdd);
+
+        LessonConflictIndex conflictIndex = new LessonConflictIndex(internalList);
+        for (Lesson lesson : toAdd) {
+            Optional<Lesson> conflictingLesson = conflictIndex.findConflictingLesson(lesson);
+            if (conflictingLesson.isPresent()) {
+                throw new ConflictsWithLessonsException(lesson, List.of(conflictingLesson.get()));
+            }
+            conflictIndex.add(lesson);
+        }
+
+        internalList.addAll(toAdd);
+        toAdd.forEach(startTimeIndex::add);
         sortList();
     }
 
@@ -62,7 +87,9 @@ public class ConsistentLessonList implements Iterable<Lesson> {
         requireAllNonNull(student, lesson);
         assert internalList.contains(lesson) : "Cannot find lesson object in internal list.";
 
-        internalList.get(internalList.indexOf(lesson)).assignStudent(student);
+        int index = internalList.indexOf(lesson);
+        internalList.get(index).assignStudent(student);
+        markUpdated(index);
     }
 
     /**
@@ -72,13 +99,54 @@ public class ConsistentLessonList implements Iterable<Lesson> {
     public void unassignStudent(Student student) {
         requireNonNull(student);
 
-        for (Lesson lesson: internalList) {
-            if (lesson.hasAlreadyAssigned(student)) {
-                lesson.unassignStudent(student);
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i).hasAlreadyAssigned(student)) {
+                internalList.get(i).unassignStudent(student);
+                markUpdated(i);
+            }
+        }
+    }
+
+    /**
+     * Unassigns the student from the enrolled students of {@code lesson} only.
+     * @param student the student that is leaving the lesson
+     * @param lesson the lesson that the student is being unenrolled from
+     */
+    public void unassignStudent(Student student, Lesson lesson) {
+        requireAllNonNull(student, lesson);
+
+        int index = internalList.indexOf(lesson);
+        if (index == -1) {
+            throw new LessonNotFoundException();
+        }
+        internalList.get(index).unassignStudent(student);
+        markUpdated(index);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the enrolled students of every lesson.
+     * @param target the student that is being edited
+     * @param editedStudent the student after the edit
+     */
+    public void replaceEnrolledStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i).hasAlreadyAssigned(target)) {
+                internalList.get(i).getEnrolledStudents().replaceEditedStudent(target, editedStudent);
+                markUpdated(i);
             }
         }
     }
 
+    /**
+     * Reports the lesson at {@code index}, which was changed in place, as replaced by itself.
+     * Views of this list then re-examine that lesson alone.
+     */
+    private void markUpdated(int index) {
+        internalList.set(index, internalList.get(index));
+    }
+
     /**
      * Replaces the lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the list.
@@ -96,7 +164,9 @@ public class ConsistentLessonList implements Iterable<Lesson> {
             throw new ConflictsWithLessonsException(editedLesson, findAllLessonsConflictingWith(editedLesson));
         }
 
+        startTimeIndex.remove(internalList.get(index));
         internalList.set(index, editedLesson);
+        startTimeIndex.add(editedLesson);
         sortList();
     }
 
@@ -110,6 +180,26 @@ public class ConsistentLessonList implements Iterable<Lesson> {
         if (!internalList.remove(toRemove)) {
             throw new LessonNotFoundException();
         }
+        startTimeIndex.remove(toRemove);
+    }
+
+    /**
+     * Removes every lesson accepted by {@code predicate} from the list, and returns them in the order of the list.
+     */
+    public List<Lesson> removeLessonsMatching(Predicate<Lesson> predicate) {
+        requireNonNull(predicate);
+
+        List<Lesson> removed = new ArrayList<>();
+        for (Lesson lesson : internalList) {
+            if (predicate.test(lesson)) {
+                removed.add(lesson);
+            }
+        }
+        if (!removed.isEmpty()) {
+            internalList.removeIf(predicate);
+            removed.forEach(startTimeIndex::remove);
+        }
+        return removed;
     }
 
     /**
@@ -119,15 +209,24 @@ public class ConsistentLessonList implements Iterable<Lesson> {
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
 
-        if (lessonsDoConflict(lessons)) {
-            List<Lesson> conflictingLessons = findConflictingLessons(lessons);
+        List<Lesson> conflictingLessons = findConflictingLessons(lessons);
+        if (conflictingLessons != null) {
             throw new ContainsConflictingLessonsException(conflictingLessons);
         }
 
         internalList.setAll(lessons);
+        startTimeIndex.setAll(lessons);
         sortList();
     }
 
+    /**
+     * Returns the lessons accepted by {@code range}, found through the start-time index.
+     */
+    public List<Lesson> findLessonsStartingWithin(LessonStartsWithinRangePredicate range) {
+        requireNonNull(range);
+        return startTimeIndex.findLessonsStartingWithin(range);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -192,30 +291,18 @@ public class ConsistentLessonList implements Iterable<Lesson> {
         return conflictingLessons;
     }
 
-    /**
-     * Returns false if {@code lessons} contains only non-conflicting lessons.
-     */
-    private boolean lessonsDoConflict(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isConflictingWithLesson(lessons.get(j))) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     /**
      * Returns a list containing instances of conflicting lessons in a list of {@code lessons}, if any.
+     * Each lesson is only tested against the lessons that {@link LessonConflictIndex} finds may conflict with it.
      */
     private List<Lesson> findConflictingLessons(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isConflictingWithLesson(lessons.get(j))) {
-                    return Arrays.asList(lessons.get(i), lessons.get(j));
-                }
+        LessonConflictIndex conflictIndex = new LessonConflictIndex();
+        for (Lesson lesson : lessons) {
+            Optional<Lesson> conflictingLesson = conflictIndex.findConflictingLesson(lesson);
+            if (conflictingLesson.isPresent()) {
+                return Arrays.asList(conflictingLesson.get(), lesson);
             }
+            conflictIndex.add(lesson);
         }
         return null;
     }
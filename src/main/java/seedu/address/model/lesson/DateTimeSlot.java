@@ -127,7 +127,7 @@ public class DateTimeSlot {
     /**
      * Get the date and time at which the lesson ends.
      */
-    private LocalDateTime getEndingDateTime() {
+    public LocalDateTime getEndingDateTime() {
         return dateOfLesson.plusHours(hours).plusMinutes(minutes);
     }
 
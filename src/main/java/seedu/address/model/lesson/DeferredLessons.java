@@ -0,0 +1,64 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * The lessons of a lesson book that were left on disk when it was read, as they are not needed straight away, such as
+ * the lessons of past months. They belong in the lesson list of the book, and are loaded and added to it later.
+ *
+ * Deferred lessons are loaded from disk the first time they are needed, and kept once they are loaded, so they can be
+ * loaded in the background ahead of being added to the book.
+ */
+public class DeferredLessons {
+    private final Loader loader;
+
+    /** The lessons loaded, or null until they are first needed. */
+    private List<Lesson> lessons;
+
+    /**
+     * Creates an empty {@code DeferredLessons}, for a lesson book read in full.
+     */
+    public DeferredLessons() {
+        this.loader = null;
+        this.lessons = List.of();
+    }
+
+    /**
+     * Creates a {@code DeferredLessons} of the lessons loaded by {@code loader} the first time they are needed.
+     */
+    public DeferredLessons(Loader loader) {
+        this.loader = requireNonNull(loader);
+    }
+
+    /**
+     * Returns true if no lessons were deferred.
+     */
+    public boolean isEmpty() {
+        return loader == null;
+    }
+
+    /**
+     * Returns the deferred lessons, loading them if needed.
+     *
+     * @throws DataConversionException if the deferred lessons cannot be loaded.
+     */
+    public synchronized List<Lesson> getLessons() throws DataConversionException {
+        if (lessons == null) {
+            lessons = Collections.unmodifiableList(loader.load());
+        }
+        return lessons;
+    }
+
+    /**
+     * Loads the lessons deferred on disk.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<Lesson> load() throws DataConversionException;
+    }
+}
@@ -1,29 +1,65 @@
 package seedu.address.model.lesson;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.student.Student;
 
+/**
+ * The students enrolled in a lesson.
+ * The list of students is copied on write: every change replaces it with a new unmodifiable list, so a copy shares
+ * the list until either of them changes, and a list returned by {@link #getStudentsList()} never changes.
+ */
 public class EnrolledStudents {
-    private final List<Student> enrolledStudents;
+    private List<Student> enrolledStudents;
 
     public EnrolledStudents() {
-        this.enrolledStudents = new ArrayList<>();
+        this.enrolledStudents = List.of();
     }
 
     public EnrolledStudents(List<Student> enrolledStudents) {
-        this.enrolledStudents = enrolledStudents;
+        this.enrolledStudents = List.copyOf(enrolledStudents);
     }
 
+    /**
+     * Returns an {@code EnrolledStudents} of the same students, which later changes to either do not affect.
+     */
+    public EnrolledStudents copy() {
+        EnrolledStudents copy = new EnrolledStudents();
+        copy.enrolledStudents = enrolledStudents;
+        return copy;
+    }
+
+    /**
+     * Returns an unmodifiable list of the students enrolled, as they are now.
+     */
     public List<Student> getStudentsList() {
         return enrolledStudents;
     }
 
+    /**
+     * Enrols {@code student}.
+     */
     public boolean addStudent(Student student) {
-        return this.enrolledStudents.add(student);
+        List<Student> students = new ArrayList<>(enrolledStudents);
+        students.add(student);
+        enrolledStudents = Collections.unmodifiableList(students);
+        return true;
+    }
+
+    /**
+     * Removes {@code student}, if they are enrolled.
+     */
+    public void removeStudent(Student student) {
+        if (!enrolledStudents.contains(student)) {
+            return;
+        }
+        List<Student> students = new ArrayList<>(enrolledStudents);
+        students.remove(student);
+        enrolledStudents = Collections.unmodifiableList(students);
     }
 
     /**
@@ -32,11 +68,16 @@ public class EnrolledStudents {
      * @param editedStudent the student after the edit
      */
     public void replaceEditedStudent(Student target, Student editedStudent) {
-        for (int i = 0; i < enrolledStudents.size(); i++) {
-            if (enrolledStudents.get(i).equals(target)) {
-                enrolledStudents.set(i, editedStudent);
+        if (!enrolledStudents.contains(target)) {
+            return;
+        }
+        List<Student> students = new ArrayList<>(enrolledStudents);
+        for (int i = 0; i < students.size(); i++) {
+            if (students.get(i).equals(target)) {
+                students.set(i, editedStudent);
             }
         }
+        enrolledStudents = Collections.unmodifiableList(students);
     }
 
     public boolean hasEnrolled(Student student) {
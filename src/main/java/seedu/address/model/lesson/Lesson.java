@@ -2,6 +2,7 @@ package seedu.address.model.lesson;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+
 import seedu.address.model.student.Student;
 
 
@@ -142,9 +143,7 @@ public abstract class Lesson {
      * @param student the student that is being deleted
      */
     public void unassignStudent(Student student) {
-        if (enrolledStudents.getStudentsList().contains(student)) {
-            enrolledStudents.getStudentsList().remove(student);
-        }
+        enrolledStudents.removeStudent(student);
     }
 
     /**
@@ -164,6 +163,28 @@ public abstract class Lesson {
      */
     public abstract boolean isRecurring();
 
+    /**
+     * Returns a copy of this lesson with its own enrolled students,
+     * so that later enrolments in this lesson do not change the copy.
+     * The copy shares the list of students enrolled until either lesson's enrolments change.
+     */
+    public abstract Lesson copy();
+
+    /**
+     * Returns a copy of the students enrolled in this lesson.
+     */
+    protected EnrolledStudents copyEnrolledStudents() {
+        return enrolledStudents.copy();
+    }
+
+    /**
+     * Returns true if {@code copy} is a copy of this lesson that still holds the same students, in the same list,
+     * as enrolments in a lesson are the only part of it that changes.
+     */
+    public boolean isUnchangedCopy(Lesson copy) {
+        return copy.enrolledStudents.getStudentsList() == enrolledStudents.getStudentsList();
+    }
+
     @Override
     public String toString() {
         StringBuilder lessonString = new StringBuilder();
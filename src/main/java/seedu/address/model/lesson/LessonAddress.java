@@ -3,6 +3,8 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the address of the location where the lesson will be held.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -14,6 +16,7 @@ public class LessonAddress {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public static final LessonAddress EMPTY_ADDRESS = new LessonAddress();
 
@@ -41,7 +44,7 @@ public class LessonAddress {
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 100;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= 100;
     }
 
     @Override
@@ -0,0 +1,104 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * The lessons moved out of a lesson book once they are over.
+ * Archived lessons take no part in conflict checks, sorting or filtering of the lesson book, and can no longer be
+ * changed; they are only searched and shown in the history of their students.
+ *
+ * An archive is immutable: archiving more lessons returns a new archive built on top of this one. The lessons of the
+ * archive a lesson book was read with are loaded from disk the first time they are needed.
+ */
+public class LessonArchive {
+    private final LessonArchive base;
+    private final List<Lesson> addedLessons;
+    private final Loader loader;
+
+    /** All the lessons of this archive, or null until they are first needed. */
+    private List<Lesson> lessons;
+
+    /**
+     * Creates an empty {@code LessonArchive}.
+     */
+    public LessonArchive() {
+        this(null, List.of(), null);
+    }
+
+    /**
+     * Creates a {@code LessonArchive} of the lessons loaded by {@code loader} the first time they are needed.
+     */
+    public LessonArchive(Loader loader) {
+        this(null, List.of(), requireNonNull(loader));
+    }
+
+    private LessonArchive(LessonArchive base, List<Lesson> addedLessons, Loader loader) {
+        this.base = base;
+        this.addedLessons = addedLessons;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns an archive of the lessons in this archive followed by {@code lessons}.
+     */
+    public LessonArchive withLessons(List<Lesson> lessons) {
+        requireNonNull(lessons);
+        return new LessonArchive(this, List.copyOf(lessons), null);
+    }
+
+    /**
+     * Returns every lesson in this archive, in the order they were archived, loading them if needed.
+     *
+     * @throws DataConversionException if the archived lessons cannot be loaded.
+     */
+    public synchronized List<Lesson> getLessons() throws DataConversionException {
+        if (lessons == null) {
+            List<Lesson> allLessons = new ArrayList<>();
+            if (base != null) {
+                allLessons.addAll(base.getLessons());
+            }
+            if (loader != null) {
+                allLessons.addAll(loader.load());
+            }
+            allLessons.addAll(addedLessons);
+            lessons = Collections.unmodifiableList(allLessons);
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns the lessons archived on top of {@code earlier} to make this archive,
+     * or an empty {@code Optional} if this archive was not built from {@code earlier}.
+     */
+    public Optional<List<Lesson>> getLessonsAddedSince(LessonArchive earlier) {
+        requireNonNull(earlier);
+        List<List<Lesson>> additions = new ArrayList<>();
+        for (LessonArchive archive = this; archive != earlier; archive = archive.base) {
+            if (archive == null) {
+                return Optional.empty();
+            }
+            additions.add(archive.addedLessons);
+        }
+
+        List<Lesson> addedSince = new ArrayList<>();
+        for (int i = additions.size() - 1; i >= 0; i--) {
+            addedSince.addAll(additions.get(i));
+        }
+        return Optional.of(addedSince);
+    }
+
+    /**
+     * Loads the lessons archived on disk.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<Lesson> load() throws DataConversionException;
+    }
+}
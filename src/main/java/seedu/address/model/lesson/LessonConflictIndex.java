@@ -0,0 +1,117 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Indexes lessons by when they take place, so that the lessons a lesson may conflict with can be found
+ * without testing it against every lesson.
+ *
+ * A temporary lesson can only conflict with the temporary lessons that start before it ends and less than the longest
+ * of their durations before it starts, and with the recurring lessons on its day of the week starting before it ends.
+ * A recurring lesson can only conflict with the lessons on its day of the week that start before it ends.
+ * The lessons found this way are then tested with {@link Lesson#isConflictingWithLesson(Lesson)}, so the index
+ * finds exactly the conflicts that testing every pair would.
+ */
+public class LessonConflictIndex {
+
+    private final NavigableMap<Long, List<Lesson>> temporaryLessons = new TreeMap<>();
+    private final Map<DayOfWeek, NavigableMap<Integer, List<Lesson>>> temporaryLessonsByDay =
+            new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, NavigableMap<Integer, List<Lesson>>> recurringLessonsByDay =
+            new EnumMap<>(DayOfWeek.class);
+    /** The longest duration of the temporary lessons in the index, in minutes. */
+    private int longestTemporaryDuration;
+
+    /**
+     * Creates an empty {@code LessonConflictIndex}.
+     */
+    public LessonConflictIndex() {}
+
+    /**
+     * Creates a {@code LessonConflictIndex} of {@code lessons}.
+     */
+    public LessonConflictIndex(Collection<Lesson> lessons) {
+        lessons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code lesson} to the index.
+     */
+    public void add(Lesson lesson) {
+        requireNonNull(lesson);
+        LocalDateTime start = lesson.getDateTimeSlot().getDateOfLesson();
+        if (lesson.isRecurring()) {
+            addTo(recurringLessonsByDay, start, lesson);
+        } else {
+            temporaryLessons.computeIfAbsent(toEpochMinute(start), minute -> new ArrayList<>()).add(lesson);
+            addTo(temporaryLessonsByDay, start, lesson);
+            longestTemporaryDuration = Math.max(longestTemporaryDuration, getDurationMinutes(lesson));
+        }
+    }
+
+    /**
+     * Returns a lesson in the index that conflicts with {@code lesson}, if there is one.
+     */
+    public Optional<Lesson> findConflictingLesson(Lesson lesson) {
+        requireNonNull(lesson);
+        LocalDateTime start = lesson.getDateTimeSlot().getDateOfLesson();
+        DayOfWeek day = start.getDayOfWeek();
+        int endMinuteOfDay = toMinuteOfDay(start) + getDurationMinutes(lesson);
+
+        List<Collection<List<Lesson>>> candidates = new ArrayList<>();
+        candidates.add(headOf(recurringLessonsByDay.get(day), endMinuteOfDay));
+        if (lesson.isRecurring()) {
+            candidates.add(headOf(temporaryLessonsByDay.get(day), endMinuteOfDay));
+        } else {
+            long startMinute = toEpochMinute(start);
+            candidates.add(temporaryLessons.subMap(startMinute - longestTemporaryDuration, true,
+                    startMinute + getDurationMinutes(lesson), true).values());
+        }
+
+        for (Collection<List<Lesson>> buckets : candidates) {
+            for (List<Lesson> bucket : buckets) {
+                for (Lesson candidate : bucket) {
+                    if (candidate.isConflictingWithLesson(lesson)) {
+                        return Optional.of(candidate);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void addTo(Map<DayOfWeek, NavigableMap<Integer, List<Lesson>>> lessonsByDay,
+                              LocalDateTime start, Lesson lesson) {
+        lessonsByDay.computeIfAbsent(start.getDayOfWeek(), day -> new TreeMap<>())
+                .computeIfAbsent(toMinuteOfDay(start), minute -> new ArrayList<>())
+                .add(lesson);
+    }
+
+    private static Collection<List<Lesson>> headOf(NavigableMap<Integer, List<Lesson>> lessons, int endMinuteOfDay) {
+        return lessons == null ? List.of() : lessons.headMap(endMinuteOfDay, true).values();
+    }
+
+    private static int getDurationMinutes(Lesson lesson) {
+        return lesson.getDateTimeSlot().getHours() * 60 + lesson.getDateTimeSlot().getMinutes();
+    }
+
+    private static int toMinuteOfDay(LocalDateTime dateTime) {
+        return LessonStartsWithinRangePredicate.toMinuteOfDay(dateTime.toLocalTime());
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
@@ -1,12 +1,24 @@
 package seedu.address.model.lesson;
 
 import java.util.List;
-import java.util.function.Predicate;
+
+import seedu.address.model.RankedPredicate;
 
 /**
  * Tests that a {@code Lesson}'s {@code LessonName} or {@code Subject} matches any of the keywords given.
+ * Matching lessons are scored so that an exact name match ranks above a name prefix match, which ranks above
+ * a name substring match, which ranks above a subject match. Lessons matching more keywords rank higher within a tier.
  */
-public class LessonNameOrSubjectContainsKeywordsPredicate implements Predicate<Lesson> {
+public class LessonNameOrSubjectContainsKeywordsPredicate implements RankedPredicate<Lesson> {
+    private static final int NO_MATCH = 0;
+    private static final int SUBJECT_MATCH = 1;
+    private static final int NAME_SUBSTRING_MATCH = 2;
+    private static final int NAME_PREFIX_MATCH = 3;
+    private static final int EXACT_NAME_MATCH = 4;
+
+    /** Keeps keyword coverage from outweighing the kind of match. */
+    private static final int TIER_WEIGHT = 1000;
+
     private final List<String> keywords;
 
     public LessonNameOrSubjectContainsKeywordsPredicate(List<String> keywords) {
@@ -24,6 +36,43 @@ public class LessonNameOrSubjectContainsKeywordsPredicate implements Predicate<L
         return nameMatch || subjectMatch;
     }
 
+    @Override
+    public int score(Lesson lesson) {
+        String name = lesson.getName().fullName.toLowerCase();
+        String subject = lesson.getSubject().subjectName.toLowerCase();
+        int bestTier = name.equals(String.join(" ", keywords).toLowerCase()) ? EXACT_NAME_MATCH : NO_MATCH;
+        int matchedKeywords = 0;
+
+        for (String keyword : keywords) {
+            int tier = getMatchTier(name, subject, keyword.toLowerCase());
+            if (tier != NO_MATCH) {
+                matchedKeywords++;
+                bestTier = Math.max(bestTier, tier);
+            }
+        }
+
+        if (bestTier == NO_MATCH) {
+            return 0;
+        }
+        return bestTier * TIER_WEIGHT + Math.min(matchedKeywords, TIER_WEIGHT - 1);
+    }
+
+    private static int getMatchTier(String name, String subject, String keyword) {
+        if (name.equals(keyword)) {
+            return EXACT_NAME_MATCH;
+        }
+        if (name.startsWith(keyword)) {
+            return NAME_PREFIX_MATCH;
+        }
+        if (name.contains(keyword)) {
+            return NAME_SUBSTRING_MATCH;
+        }
+        if (subject.contains(keyword)) {
+            return SUBJECT_MATCH;
+        }
+        return NO_MATCH;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
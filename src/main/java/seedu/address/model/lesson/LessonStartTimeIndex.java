@@ -0,0 +1,141 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Indexes lessons by their start time so that lessons starting within a range can be found
+ * without testing every lesson.
+ *
+ * Temporary lessons are kept in a sorted map keyed by their start in minutes since the epoch.
+ * Recurring lessons are bucketed by the day of the week they fall on, each bucket sorted by start time of day.
+ * A lookup costs O(log n + k), where k is the number of lessons found.
+ */
+public class LessonStartTimeIndex {
+
+    private final NavigableMap<Long, List<Lesson>> temporaryLessons = new TreeMap<>();
+    private final Map<DayOfWeek, NavigableMap<Integer, List<Lesson>>> recurringLessons =
+            new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Adds {@code lesson} to the index.
+     */
+    public void add(Lesson lesson) {
+        requireNonNull(lesson);
+        if (lesson instanceof RecurringLesson) {
+            RecurringLesson recurringLesson = (RecurringLesson) lesson;
+            recurringLessons.computeIfAbsent(recurringLesson.getDayOfLesson(), day -> new TreeMap<>())
+                    .computeIfAbsent(getStartMinuteOfDay(lesson), minute -> new ArrayList<>())
+                    .add(lesson);
+        } else {
+            temporaryLessons.computeIfAbsent(getStartEpochMinute(lesson), minute -> new ArrayList<>())
+                    .add(lesson);
+        }
+    }
+
+    /**
+     * Removes the lesson equivalent to {@code lesson} from the index, if it is present.
+     */
+    public void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        if (lesson instanceof RecurringLesson) {
+            NavigableMap<Integer, List<Lesson>> bucket =
+                    recurringLessons.get(((RecurringLesson) lesson).getDayOfLesson());
+            if (bucket != null) {
+                removeFrom(bucket, getStartMinuteOfDay(lesson), lesson);
+            }
+        } else {
+            removeFrom(temporaryLessons, getStartEpochMinute(lesson), lesson);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code lessons}.
+     */
+    public void setAll(Collection<Lesson> lessons) {
+        temporaryLessons.clear();
+        recurringLessons.clear();
+        lessons.forEach(this::add);
+    }
+
+    /**
+     * Returns the lessons accepted by {@code range}.
+     */
+    public List<Lesson> findLessonsStartingWithin(LessonStartsWithinRangePredicate range) {
+        requireNonNull(range);
+        List<Lesson> matches = new ArrayList<>();
+        collectTemporaryLessons(range, matches);
+        collectRecurringLessons(range, matches);
+        return matches;
+    }
+
+    private void collectTemporaryLessons(LessonStartsWithinRangePredicate range, List<Lesson> matches) {
+        if (range.isWholeDay()) {
+            long from = toEpochMinute(range.getStartDate().atStartOfDay());
+            long to = toEpochMinute(range.getEndDate().plusDays(1).atStartOfDay());
+            temporaryLessons.subMap(from, true, to, false).values().forEach(matches::addAll);
+            return;
+        }
+
+        for (LocalDate date = range.getStartDate(); !date.isAfter(range.getEndDate()); date = date.plusDays(1)) {
+            long midnight = toEpochMinute(date.atStartOfDay());
+            temporaryLessons.subMap(midnight + range.getEarliestStartMinute(), true,
+                    midnight + range.getLatestStartMinute(), false).values().forEach(matches::addAll);
+        }
+    }
+
+    private void collectRecurringLessons(LessonStartsWithinRangePredicate range, List<Lesson> matches) {
+        for (Map.Entry<DayOfWeek, NavigableMap<Integer, List<Lesson>>> bucket : recurringLessons.entrySet()) {
+            Optional<LocalDate> lastDate = range.getLastDateFallingOn(bucket.getKey());
+            if (lastDate.isEmpty()) {
+                continue;
+            }
+
+            for (List<Lesson> lessons : bucket.getValue().subMap(range.getEarliestStartMinute(), true,
+                    range.getLatestStartMinute(), false).values()) {
+                for (Lesson lesson : lessons) {
+                    // a recurring lesson has no occurrences before its first one
+                    if (!((RecurringLesson) lesson).getFirstOccurrenceDate().isAfter(lastDate.get())) {
+                        matches.add(lesson);
+                    }
+                }
+            }
+        }
+    }
+
+    private static <K> void removeFrom(NavigableMap<K, List<Lesson>> map, K key, Lesson lesson) {
+        List<Lesson> lessons = map.get(key);
+        if (lessons == null) {
+            return;
+        }
+
+        lessons.remove(lesson);
+        if (lessons.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static long getStartEpochMinute(Lesson lesson) {
+        return toEpochMinute(lesson.getDateTimeSlot().getDateOfLesson());
+    }
+
+    private static int getStartMinuteOfDay(Lesson lesson) {
+        return LessonStartsWithinRangePredicate.toMinuteOfDay(lesson.getDateTimeSlot().getDateOfLesson().toLocalTime());
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
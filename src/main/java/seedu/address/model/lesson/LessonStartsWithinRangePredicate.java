@@ -0,0 +1,131 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Lesson} starts on a date within a range of dates, optionally within a window of the day.
+ * A recurring lesson matches if any of its weekly occurrences, from its first one onwards, matches.
+ */
+public class LessonStartsWithinRangePredicate implements Predicate<Lesson> {
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date cannot be after the end date.";
+    public static final String MESSAGE_INVALID_TIME_RANGE = "The earliest start time must be before the latest.";
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int earliestStartMinute;
+    private final int latestStartMinute;
+
+    /**
+     * Creates a predicate for lessons starting between {@code startDate} and {@code endDate}, both inclusive,
+     * at or after {@code earliestStartTime} and strictly before {@code latestStartTime} if they are given.
+     */
+    public LessonStartsWithinRangePredicate(LocalDate startDate, LocalDate endDate,
+                                            Optional<LocalTime> earliestStartTime,
+                                            Optional<LocalTime> latestStartTime) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        checkArgument(!startDate.isAfter(endDate), MESSAGE_INVALID_DATE_RANGE);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.earliestStartMinute = earliestStartTime.map(LessonStartsWithinRangePredicate::toMinuteOfDay).orElse(0);
+        this.latestStartMinute = latestStartTime.map(LessonStartsWithinRangePredicate::toMinuteOfDay)
+                .orElse(MINUTES_PER_DAY);
+        checkArgument(earliestStartMinute < latestStartMinute, MESSAGE_INVALID_TIME_RANGE);
+    }
+
+    /**
+     * Returns the number of minutes between midnight and {@code time}.
+     */
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the earliest start time accepted, in minutes after midnight (inclusive).
+     */
+    public int getEarliestStartMinute() {
+        return earliestStartMinute;
+    }
+
+    /**
+     * Returns the latest start time accepted, in minutes after midnight (exclusive).
+     */
+    public int getLatestStartMinute() {
+        return latestStartMinute;
+    }
+
+    /**
+     * Returns true if every start time of the day is accepted.
+     */
+    public boolean isWholeDay() {
+        return earliestStartMinute == 0 && latestStartMinute == MINUTES_PER_DAY;
+    }
+
+    /**
+     * Returns the last date within the range that falls on {@code day}, or an empty {@code Optional}
+     * if the range does not contain such a date.
+     */
+    public Optional<LocalDate> getLastDateFallingOn(DayOfWeek day) {
+        LocalDate lastDate = endDate.with(TemporalAdjusters.previousOrSame(day));
+        return lastDate.isBefore(startDate) ? Optional.empty() : Optional.of(lastDate);
+    }
+
+    private boolean isWithinWindow(LocalTime time) {
+        int minuteOfDay = toMinuteOfDay(time);
+        return minuteOfDay >= earliestStartMinute && minuteOfDay < latestStartMinute;
+    }
+
+    @Override
+    public boolean test(Lesson lesson) {
+        LocalDateTime start = lesson.getDateTimeSlot().getDateOfLesson();
+        if (!isWithinWindow(start.toLocalTime())) {
+            return false;
+        }
+
+        if (lesson instanceof RecurringLesson) {
+            RecurringLesson recurringLesson = (RecurringLesson) lesson;
+            return getLastDateFallingOn(recurringLesson.getDayOfLesson())
+                    .map(lastDate -> !recurringLesson.getFirstOccurrenceDate().isAfter(lastDate))
+                    .orElse(false);
+        }
+
+        LocalDate date = start.toLocalDate();
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LessonStartsWithinRangePredicate)) {
+            return false;
+        }
+
+        LessonStartsWithinRangePredicate otherPredicate = (LessonStartsWithinRangePredicate) other;
+        return startDate.equals(otherPredicate.startDate)
+                && endDate.equals(otherPredicate.endDate)
+                && earliestStartMinute == otherPredicate.earliestStartMinute
+                && latestStartMinute == otherPredicate.latestStartMinute;
+    }
+}
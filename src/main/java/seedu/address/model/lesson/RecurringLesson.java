@@ -31,6 +31,17 @@ public class RecurringLesson extends Lesson {
         }
     }
 
+    public DayOfWeek getDayOfLesson() {
+        return dayOfLesson;
+    }
+
+    /**
+     * Returns the date of the first occurrence of this lesson.
+     */
+    public LocalDate getFirstOccurrenceDate() {
+        return super.getDateTimeSlot().getDateOfLesson().toLocalDate();
+    }
+
     @Override
     public boolean isConflictingWithLesson(Lesson otherLesson) {
         requireAllNonNull(otherLesson);
@@ -63,6 +74,12 @@ public class RecurringLesson extends Lesson {
         }
     }
 
+    @Override
+    public RecurringLesson copy() {
+        return new RecurringLesson(getName(), getSubject(), getLessonAddress(), super.getDateTimeSlot(),
+                copyEnrolledStudents());
+    }
+
     @Override
     public boolean isRecurring() {
         return true;
@@ -3,6 +3,8 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's name in the student book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -17,6 +19,7 @@ public class Subject {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public static final Subject EMPTY_SUBJECT = new Subject();
 
@@ -44,7 +47,7 @@ public class Subject {
      * Returns true if a given string is a valid subject.
      */
     public static boolean isValidSubject(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 50;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= 50;
     }
 
     @Override
@@ -41,6 +41,12 @@ public class TemporaryLesson extends Lesson {
         }
     }
 
+    @Override
+    public TemporaryLesson copy() {
+        return new TemporaryLesson(getName(), getSubject(), getLessonAddress(), getDateTimeSlot(),
+                copyEnrolledStudents());
+    }
+
     @Override
     public boolean isRecurring() {
         return false;
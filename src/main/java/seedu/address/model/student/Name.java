@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's name in the student book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,8 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern NUMBERS_ONLY_PATTERN = Pattern.compile("[0-9]+");
 
     public final String fullName;
 
@@ -36,7 +40,8 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && !test.matches("[0-9]+") && test.length() <= 50;
+        return VALIDATION_PATTERN.matcher(test).matches() && !NUMBERS_ONLY_PATTERN.matcher(test).matches()
+                && test.length() <= 50;
     }
 
 
@@ -54,7 +59,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // names that differ only in case are equal, so they must hash alike
+        return fullName.toLowerCase().hashCode();
     }
 
 }
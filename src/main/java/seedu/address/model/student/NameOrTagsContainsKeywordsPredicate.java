@@ -2,14 +2,26 @@ package seedu.address.model.student;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
+import seedu.address.model.RankedPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Student}'s {@code Name} or {@code Tags} matches any of the keywords given.
+ * Matching students are scored so that an exact name match ranks above a name prefix match, which ranks above
+ * a name substring match, which ranks above a tag match. Students matching more keywords rank higher within a tier.
  */
-public class NameOrTagsContainsKeywordsPredicate implements Predicate<Student> {
+public class NameOrTagsContainsKeywordsPredicate implements RankedPredicate<Student> {
+    private static final int NO_MATCH = 0;
+    private static final int TAG_MATCH = 1;
+    private static final int NAME_SUBSTRING_MATCH = 2;
+    private static final int NAME_PREFIX_MATCH = 3;
+    private static final int EXACT_NAME_MATCH = 4;
+
+    /** Keeps keyword coverage from outweighing the kind of match. */
+    private static final int TIER_WEIGHT = 1000;
+
     private final List<String> keywords;
 
     public NameOrTagsContainsKeywordsPredicate(List<String> keywords) {
@@ -45,6 +57,44 @@ public class NameOrTagsContainsKeywordsPredicate implements Predicate<Student> {
         return tagMatch;
     }
 
+    @Override
+    public int score(Student student) {
+        String name = student.getName().fullName.toLowerCase();
+        int bestTier = name.equals(String.join(" ", keywords).toLowerCase()) ? EXACT_NAME_MATCH : NO_MATCH;
+        int matchedKeywords = 0;
+
+        for (String keyword : keywords) {
+            int tier = getMatchTier(name, student.getTags(), keyword.toLowerCase());
+            if (tier != NO_MATCH) {
+                matchedKeywords++;
+                bestTier = Math.max(bestTier, tier);
+            }
+        }
+
+        if (bestTier == NO_MATCH) {
+            return 0;
+        }
+        return bestTier * TIER_WEIGHT + Math.min(matchedKeywords, TIER_WEIGHT - 1);
+    }
+
+    private static int getMatchTier(String name, Set<Tag> tags, String keyword) {
+        if (name.equals(keyword)) {
+            return EXACT_NAME_MATCH;
+        }
+        if (name.startsWith(keyword)) {
+            return NAME_PREFIX_MATCH;
+        }
+        if (name.contains(keyword)) {
+            return NAME_SUBSTRING_MATCH;
+        }
+        for (Tag tag : tags) {
+            if (tag.tagName.toLowerCase().contains(keyword)) {
+                return TAG_MATCH;
+            }
+        }
+        return NO_MATCH;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -98,7 +99,15 @@ public class Student {
     }
 
     /**
-     * Returns true if both students have the same name.
+     * Returns the identity fields of this student, the name and phone, as a value that can be compared or hashed.
+     * Two students have equal identity keys exactly when they are the same student.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(name, phone);
+    }
+
+    /**
+     * Returns true if both students have the same name and phone.
      * This defines a weaker notion of equality between two students.
      */
     public boolean isSameStudent(Student otherStudent) {
@@ -107,8 +116,7 @@ public class Student {
         }
 
         return otherStudent != null
-                && otherStudent.getName().equals(getName())
-                && otherStudent.getPhone().equals((getPhone()));
+                && otherStudent.getIdentityKey().equals(getIdentityKey());
     }
 
     /**
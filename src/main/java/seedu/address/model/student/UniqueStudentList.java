@@ -3,8 +3,11 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -49,6 +52,20 @@ public class UniqueStudentList implements Iterable<Student> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list, in one change.
+     * The students must not be the same as each other, or as any of the existing students in the list.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Student> students = new ArrayList<>(internalList);
+        students.addAll(toAdd);
+        if (!studentsAreUnique(students)) {
+            throw new DuplicateStudentException();
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -65,14 +82,6 @@ public class UniqueStudentList implements Iterable<Student> {
         if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
             throw new DuplicateStudentException();
         }
-        for (int i = 0; i < target.getEnrolledLessons().getLessonsList().size(); i++) {
-            target.getEnrolledLessons()
-                    .getLessonsList()
-                    .get(i)
-                    .getEnrolledStudents()
-                    .replaceEditedStudent(target, editedStudent);
-
-        }
         internalList.set(index, editedStudent);
     }
 
@@ -95,21 +104,48 @@ public class UniqueStudentList implements Iterable<Student> {
     public void assignLesson(Lesson lesson, Student student) {
         requireAllNonNull(lesson, student);
         assert internalList.contains(student) : "Cannot find student object in internal list.";
-        internalList.get(internalList.indexOf(student)).assignLesson(lesson);
+        int index = internalList.indexOf(student);
+        internalList.get(index).assignLesson(lesson);
+        markUpdated(index);
     }
+
     /**
      * Unassigns the lesson from the student's enrolled lessons.
      * @param lesson the lesson that is being deleted
      */
     public void unassignLesson(Lesson lesson) {
         requireNonNull(lesson);
-        for (Student student: internalList) {
-            if (student.isEnrolledIn(lesson)) {
-                student.unassignLesson(lesson);
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i).isEnrolledIn(lesson)) {
+                internalList.get(i).unassignLesson(lesson);
+                markUpdated(i);
             }
         }
     }
 
+    /**
+     * Unassigns the lesson from the enrolled lessons of {@code student} only.
+     * @param lesson the lesson that the student is leaving
+     * @param student the student that is being unenrolled
+     */
+    public void unassignLesson(Lesson lesson, Student student) {
+        requireAllNonNull(lesson, student);
+        int index = internalList.indexOf(student);
+        if (index == -1) {
+            throw new StudentNotFoundException();
+        }
+        internalList.get(index).unassignLesson(lesson);
+        markUpdated(index);
+    }
+
+    /**
+     * Reports the student at {@code index}, which was changed in place, as replaced by itself.
+     * Views of this list then re-examine that student alone.
+     */
+    private void markUpdated(int index) {
+        internalList.set(index, internalList.get(index));
+    }
+
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -156,11 +192,10 @@ public class UniqueStudentList implements Iterable<Student> {
      * Returns true if {@code students} contains only unique students.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        for (Student student : students) {
+            if (!identities.add(student.getIdentityKey())) {
+                return false;
             }
         }
         return true;
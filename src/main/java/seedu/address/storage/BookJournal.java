@@ -0,0 +1,257 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageMonitor;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only journal of the changes made to the records of a book since its snapshot file was last written.
+ *
+ * The journal starts with a header holding the checksum of the snapshot it follows, then holds one change per line.
+ * Each change is forced to disk before {@link #append} returns. A journal whose header does not match the snapshot
+ * was left behind by an earlier snapshot and is ignored, so a crash while either file is being written loses nothing
+ * that had already been journaled.
+ *
+ * @param <T> the type of the records in the model.
+ * @param <J> the Jackson-friendly type of the records.
+ */
+class BookJournal<T, J> {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Journals larger than this many bytes are replaced by a new snapshot. */
+    public static final long JOURNAL_SIZE_LIMIT = 256 * 1024;
+
+    /** Journals with this many changes are replaced by a new snapshot. */
+    public static final int JOURNAL_CHANGE_LIMIT = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(BookJournal.class);
+
+    private final Path journalPath;
+    private final Class<J> adaptedClass;
+    private final Function<T, J> adapter;
+    private final UnaryOperator<T> copier;
+    private final BiPredicate<T, T> isUnchanged;
+
+    /** The records as of the last change written, or null if they are not known. */
+    private List<T> journaledRecords;
+    /** Whether the journal on disk follows the current snapshot and ends with a complete change. */
+    private boolean isIntact;
+    private int changeCount;
+
+    /**
+     * Creates a {@code BookJournal} at {@code journalPath}.
+     *
+     * @param adapter converts a record into its Jackson-friendly type.
+     * @param copier returns a copy of a record that is not affected by later changes to it.
+     * @param isUnchanged tests whether the second record would be saved in the same way as the first.
+     */
+    public BookJournal(Path journalPath, Class<J> adaptedClass, Function<T, J> adapter, UnaryOperator<T> copier,
+                       BiPredicate<T, T> isUnchanged) {
+        requireNonNull(journalPath);
+        this.journalPath = journalPath;
+        this.adaptedClass = adaptedClass;
+        this.adapter = adapter;
+        this.copier = copier;
+        this.isUnchanged = isUnchanged;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the records in the snapshot at {@code snapshotPath} with the changes in the journal applied to them.
+     * Changes after the first one that cannot be read, such as one cut short by a crash, are dropped.
+     *
+     * @param snapshotRecords the records read from the snapshot.
+     * @throws DataConversionException if a change does not fit the records it is applied to.
+     */
+    public List<J> replay(Path snapshotPath, List<J> snapshotRecords) throws DataConversionException {
+        List<J> records = new ArrayList<>(snapshotRecords);
+        journaledRecords = null;
+        isIntact = false;
+        changeCount = 0;
+        if (!FileUtil.isFileExists(journalPath)) {
+            return records;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !isHeaderOf(headerLine, snapshotPath)) {
+                logger.info("Journal " + journalPath + " does not follow the current snapshot; ignoring it");
+                return records;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                readChange(line).applyTo(records);
+                changeCount++;
+            }
+            isIntact = true;
+        } catch (IOException e) {
+            // a change that was being written when the app stopped is incomplete; the ones before it are intact
+            logger.warning("Stopped replaying journal " + journalPath + " after " + changeCount + " changes: " + e);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+
+        logger.info("Replayed " + changeCount + " changes from journal " + journalPath);
+        return records;
+    }
+
+    /**
+     * Returns true if changes to the records can be appended to this journal.
+     */
+    public boolean canAppend() {
+        return isIntact && journaledRecords != null;
+    }
+
+    /**
+     * Returns true if the journal has grown enough that a new snapshot should be written instead.
+     */
+    public boolean isCompactionDue() throws IOException {
+        return changeCount >= JOURNAL_CHANGE_LIMIT
+                || (FileUtil.isFileExists(journalPath) && Files.size(journalPath) >= JOURNAL_SIZE_LIMIT);
+    }
+
+    /**
+     * Marks {@code records} as the records that later changes are relative to.
+     * Should be called with the records returned by {@link #replay}, once they have been loaded into the model.
+     */
+    public void setJournaledRecords(List<T> records) {
+        journaledRecords = records.stream().map(copier).collect(Collectors.toList());
+    }
+
+    /**
+     * Appends the change from the last journaled records to {@code records} to the journal, if there is one.
+     * Can only be called if {@link #canAppend()} is true.
+     */
+    public void append(List<T> records) throws IOException {
+        assert canAppend();
+        JsonAdaptedListChange<J> change = getChange(journaledRecords, records);
+        if (change.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendLine(JsonUtil.toCompactJsonString(change));
+        } catch (IOException ioe) {
+            // the journal may now end with part of a change, so nothing more can be appended to it
+            isIntact = false;
+            throw ioe;
+        }
+        changeCount++;
+        setJournaledRecords(records);
+    }
+
+    /**
+     * Starts a new, empty journal following the snapshot of {@code records} just written to {@code snapshotPath},
+     * keeping the journal it replaces as a backup.
+     */
+    public void restart(Path snapshotPath, List<T> records) throws IOException {
+        // the journal is replaced rather than truncated, as its backup may be a link to it
+        FileUtil.rotateBackups(journalPath, DataManifest.BACKUP_COUNT);
+        byte[] headerLine = (JsonUtil.toCompactJsonString(new Header(getChecksum(snapshotPath))) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(journalPath, out -> out.write(headerLine));
+        isIntact = true;
+        changeCount = 0;
+        setJournaledRecords(records);
+    }
+
+    private JsonAdaptedListChange<J> getChange(List<T> previous, List<T> current) {
+        return JsonAdaptedListChange.between(previous, current, isUnchanged, adapter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonAdaptedListChange<J> readChange(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedListChange.class, adaptedClass);
+    }
+
+    private boolean isHeaderOf(String headerLine, Path snapshotPath) throws IOException {
+        return isHeaderOf(headerLine, getChecksum(snapshotPath));
+    }
+
+    private static boolean isHeaderOf(String headerLine, long snapshotChecksum) throws IOException {
+        Header header = JsonUtil.fromJsonString(headerLine, Header.class);
+        return header.snapshotChecksum == snapshotChecksum;
+    }
+
+    /**
+     * Returns true if there is a journal at {@code journalPath} and it follows the snapshot with the checksum
+     * {@code snapshotChecksum}.
+     */
+    static boolean follows(Path journalPath, long snapshotChecksum) {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            return headerLine != null && isHeaderOf(headerLine, snapshotChecksum);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void appendLine(String line) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            long syncStartTime = System.nanoTime();
+            channel.force(false);
+            StorageMonitor.recordWrite(bytes.limit(), System.nanoTime() - syncStartTime);
+        }
+    }
+
+    /**
+     * Returns the checksum of the file at {@code snapshotPath}.
+     */
+    static long getChecksum(Path snapshotPath) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(FileUtil.readToBuffer(snapshotPath));
+        return checksum.getValue();
+    }
+
+    /**
+     * The first line of a journal, identifying the snapshot it follows.
+     */
+    static class Header {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        Header(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
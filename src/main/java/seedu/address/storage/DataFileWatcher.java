@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Watches the data files of the books for changes made by other programs, such as scripts that edit them while the
+ * app is running.
+ *
+ * The files of a book are the book file itself and every file and directory beside it whose name starts with the
+ * book file's name, such as its journal, archive or segments. Once a file of a book changes, the watcher waits until
+ * no more changes have been seen for {@value #SETTLE_MILLIS} ms, so that a burst of writes is reported once, and then
+ * calls its listener on the watcher's own thread. The app's own saves are reported too; they can be told apart by
+ * comparing the {@link #fingerprintOf fingerprint} of the files with the one taken after the save.
+ */
+public class DataFileWatcher implements Closeable {
+
+    public static final String WATCHER_THREAD_NAME = "TeachWhat! data file watcher";
+    public static final long SETTLE_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final WatchService watchService;
+    private final Runnable listener;
+    private final Thread thread;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private List<Path> bookFilePaths = List.of();
+
+    /**
+     * Creates a {@code DataFileWatcher} that calls {@code listener} when the files of the watched books change.
+     */
+    public DataFileWatcher(Runnable listener) throws IOException {
+        requireNonNull(listener);
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, WATCHER_THREAD_NAME);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Watches the files of the books at {@code bookFilePaths} from now on, in place of those watched before,
+     * and starts watching if this is the first call.
+     */
+    public synchronized void watch(List<Path> bookFilePaths) throws IOException {
+        requireNonNull(bookFilePaths);
+        this.bookFilePaths = bookFilePaths.stream().map(Path::toAbsolutePath).collect(Collectors.toList());
+        for (Path bookFilePath : this.bookFilePaths) {
+            Path directory = bookFilePath.getParent();
+            FileUtil.createParentDirsOfFile(bookFilePath);
+            register(directory);
+            try (Stream<Path> entries = Files.list(directory)) {
+                for (Path entry : (Iterable<Path>) entries::iterator) {
+                    if (Files.isDirectory(entry) && isFileOf(entry, bookFilePath)) {
+                        register(entry);
+                    }
+                }
+            }
+        }
+        if (!thread.isAlive()) {
+            thread.start();
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        if (!watchedDirectories.containsValue(directory)) {
+            watchedDirectories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE),
+                    directory);
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!isBookChanged(watchService.take())) {
+                    continue;
+                }
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isBookChanged(key);
+                }
+                logger.fine("Data files changed on disk");
+                listener.run();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching the data files");
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} is a change to the files of a watched book, and lets
+     * {@code key} report more events.
+     */
+    private synchronized boolean isBookChanged(WatchKey key) {
+        Path directory = watchedDirectories.get(key);
+        boolean isBookChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                isBookChanged = true;
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+
+            Path changedFile = directory.resolve((Path) event.context());
+            if (changedFile.getFileName().toString().endsWith(FileUtil.TEMP_FILE_SUFFIX)) {
+                continue; // still being written, and is renamed once it is done
+            }
+            for (Path bookFilePath : bookFilePaths) {
+                if (isFileOf(changedFile, bookFilePath) || isFileOf(directory, bookFilePath)) {
+                    isBookChanged = true;
+                    registerIfNewDirectory(event, changedFile);
+                }
+            }
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+        return isBookChanged;
+    }
+
+    private void registerIfNewDirectory(WatchEvent<?> event, Path changedFile) {
+        if (event.kind() != ENTRY_CREATE || !Files.isDirectory(changedFile)) {
+            return;
+        }
+        try {
+            register(changedFile);
+        } catch (IOException e) {
+            logger.warning("Cannot watch " + changedFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if {@code file} is the book file at {@code bookFilePath}, or beside it and named after it.
+     */
+    private static boolean isFileOf(Path file, Path bookFilePath) {
+        return bookFilePath.getParent().equals(file.getParent())
+                && file.getFileName().toString().startsWith(bookFilePath.getFileName().toString());
+    }
+
+    /**
+     * Returns the names, sizes and modification times of the files of the books at {@code bookFilePaths},
+     * which differ once any of the files is changed.
+     */
+    public static String fingerprintOf(List<Path> bookFilePaths) throws IOException {
+        requireNonNull(bookFilePaths);
+        TreeSet<String> fingerprint = new TreeSet<>();
+        for (Path bookFilePath : bookFilePaths) {
+            Path absolutePath = bookFilePath.toAbsolutePath();
+            if (!Files.isDirectory(absolutePath.getParent())) {
+                continue;
+            }
+            for (Path file : listFilesOf(absolutePath)) {
+                fingerprint.add(file + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+            }
+        }
+        return String.join("\n", fingerprint);
+    }
+
+    private static List<Path> listFilesOf(Path bookFilePath) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(bookFilePath.getParent())) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                if (!isFileOf(entry, bookFilePath) || entry.toString().endsWith(FileUtil.TEMP_FILE_SUFFIX)) {
+                    continue;
+                }
+                if (Files.isDirectory(entry)) {
+                    try (Stream<Path> directoryEntries = Files.list(entry)) {
+                        directoryEntries.filter(Files::isRegularFile).forEach(files::add);
+                    }
+                } else {
+                    files.add(entry);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Stops watching the files.
+     */
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records the data files of the student book and lesson book as they were the last time both books were saved
+ * together, so that a pair of files torn by a crash after one book was saved but before the other was can be rolled
+ * back to the last pair that agree with each other.
+ *
+ * The manifest is written, as a whole, after the books have been saved, and is what commits the save. For each book,
+ * it holds the checksum of the snapshot and the length of the journal following it. A book whose files have moved
+ * past the manifest has its snapshot restored from the newest backup with the recorded checksum, and its journal cut
+ * back to the recorded length.
+ */
+class DataManifest {
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** The number of earlier versions kept of each snapshot and journal. */
+    public static final int BACKUP_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(DataManifest.class);
+
+    private final Path manifestPath;
+    private final List<Path> bookFilePaths;
+
+    private long generation;
+    private List<BookEntry> committedEntries;
+    /** The checksums of the snapshots already read, by the attributes of the file they were read from. */
+    private final Map<Path, CachedChecksum> cachedChecksums = new HashMap<>();
+
+    /**
+     * Creates a {@code DataManifest} for the books at {@code bookFilePaths},
+     * kept beside the first of them.
+     */
+    public DataManifest(Path... bookFilePaths) {
+        assert bookFilePaths.length > 0;
+        this.bookFilePaths = List.of(bookFilePaths);
+        this.manifestPath = bookFilePaths[0].resolveSibling(MANIFEST_FILE_NAME);
+    }
+
+    public Path getManifestPath() {
+        return manifestPath;
+    }
+
+    /**
+     * Returns the number of times the books have been committed, as of the manifest last read or written.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Records the books as they are now on disk as the latest pair saved together.
+     */
+    public synchronized void commit() throws IOException {
+        List<BookEntry> entries = new ArrayList<>();
+        for (Path bookFilePath : bookFilePaths) {
+            entries.add(describe(bookFilePath));
+        }
+        if (entries.equals(committedEntries)) {
+            return;
+        }
+
+        JsonUtil.saveJsonFile(new Contents(generation + 1, entries), manifestPath, true);
+        generation++;
+        committedEntries = entries;
+        logger.fine("Committed generation " + generation + " of the data files");
+    }
+
+    /**
+     * Rolls back each book whose files have changed since the manifest was written to the files it records.
+     * Books not named in the manifest, or whose recorded files can no longer be found, are left as they are.
+     */
+    public synchronized void recover() throws IOException {
+        Optional<Contents> contents;
+        try {
+            contents = JsonUtil.readJsonFile(manifestPath, Contents.class);
+        } catch (DataConversionException e) {
+            logger.warning("Manifest " + manifestPath + " cannot be read; data files will not be checked");
+            return;
+        }
+        if (!contents.isPresent()) {
+            return;
+        }
+
+        generation = contents.get().generation;
+        for (BookEntry entry : contents.get().books) {
+            for (Path bookFilePath : bookFilePaths) {
+                if (bookFilePath.getFileName().toString().equals(entry.fileName)) {
+                    recoverBook(bookFilePath, entry);
+                }
+            }
+        }
+        logger.info("Data files checked against generation " + generation + " of " + manifestPath);
+    }
+
+    private void recoverBook(Path snapshotPath, BookEntry entry) throws IOException {
+        if (entry.snapshotChecksum == null) {
+            // the book had never been saved when the manifest was written
+            return;
+        }
+        long checksum = entry.snapshotChecksum;
+
+        if (!hasChecksum(snapshotPath, checksum)) {
+            Optional<Path> backup = findVersion(snapshotPath, path -> hasChecksum(path, checksum));
+            if (!backup.isPresent()) {
+                logger.warning("No backup of " + snapshotPath + " matches the manifest; it cannot be rolled back");
+                return;
+            }
+            logger.warning("Rolling back " + snapshotPath + " to " + backup.get());
+            FileUtil.writeAtomically(snapshotPath, out -> Files.copy(backup.get(), out));
+        }
+
+        Path journalPath = BookJournal.getJournalPath(snapshotPath);
+        Optional<Path> journal = findVersion(journalPath, path -> BookJournal.follows(path, checksum));
+        if (!journal.isPresent()) {
+            return;
+        }
+        long journalLength = Files.size(journal.get());
+        if (journal.get().equals(journalPath) && journalLength <= entry.journalLength) {
+            return;
+        }
+
+        logger.warning("Rolling back " + journalPath + " to the " + entry.journalLength + " bytes in the manifest");
+        if (entry.journalLength == 0) {
+            Files.deleteIfExists(journalPath);
+        } else {
+            FileUtil.writeAtomically(journalPath, out -> copyPrefix(journal.get(), entry.journalLength, out));
+        }
+    }
+
+    private BookEntry describe(Path bookFilePath) throws IOException {
+        String fileName = bookFilePath.getFileName().toString();
+        if (!FileUtil.isFileExists(bookFilePath)) {
+            return new BookEntry(fileName, null, 0);
+        }
+
+        long checksum = getChecksum(bookFilePath);
+        Path journalPath = BookJournal.getJournalPath(bookFilePath);
+        long journalLength = BookJournal.follows(journalPath, checksum) ? Files.size(journalPath) : 0;
+        return new BookEntry(fileName, checksum, journalLength);
+    }
+
+    /**
+     * Returns {@code file} if it passes {@code test}, or else its newest backup that does.
+     */
+    private static Optional<Path> findVersion(Path file, VersionTest test) throws IOException {
+        if (test.matches(file)) {
+            return Optional.of(file);
+        }
+        for (int index = 1; index <= BACKUP_COUNT; index++) {
+            Path backup = FileUtil.getBackupPath(file, index);
+            if (test.matches(backup)) {
+                return Optional.of(backup);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean hasChecksum(Path file, long checksum) throws IOException {
+        return FileUtil.isFileExists(file) && getChecksum(file) == checksum;
+    }
+
+    /**
+     * Returns the checksum of the snapshot at {@code path}, reading it again only if it has been replaced
+     * since its checksum was last read.
+     */
+    private long getChecksum(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        CachedChecksum cached = cachedChecksums.get(path);
+        if (cached != null && cached.isFor(attributes)) {
+            return cached.checksum;
+        }
+
+        long checksum = BookJournal.getChecksum(path);
+        cachedChecksums.put(path, new CachedChecksum(attributes, checksum));
+        return checksum;
+    }
+
+    private static void copyPrefix(Path source, long length, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = length;
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) > 0) {
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface VersionTest {
+        boolean matches(Path path) throws IOException;
+    }
+
+    /**
+     * The checksum of a file, and the attributes of the file when it was read.
+     */
+    private static class CachedChecksum {
+        private final Object fileKey;
+        private final long size;
+        private final long lastModifiedMillis;
+        private final long checksum;
+
+        private CachedChecksum(BasicFileAttributes attributes, long checksum) {
+            this.fileKey = attributes.fileKey();
+            this.size = attributes.size();
+            this.lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns true if a file with {@code attributes} is the same file, unchanged, as the one that was read.
+         * A replaced file has a new key on file systems that have them.
+         */
+        private boolean isFor(BasicFileAttributes attributes) {
+            return Objects.equals(fileKey, attributes.fileKey())
+                    && size == attributes.size()
+                    && lastModifiedMillis == attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    /**
+     * The files of a book as recorded in the manifest.
+     */
+    static class BookEntry {
+        private final String fileName;
+        /** The checksum of the snapshot, or null if there was none. */
+        private final Long snapshotChecksum;
+        /** The length in bytes of the journal following the snapshot, or 0 if there was none. */
+        private final long journalLength;
+
+        @JsonCreator
+        BookEntry(@JsonProperty("fileName") String fileName, @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                  @JsonProperty("journalLength") long journalLength) {
+            requireNonNull(fileName);
+            this.fileName = fileName;
+            this.snapshotChecksum = snapshotChecksum;
+            this.journalLength = journalLength;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof BookEntry)) {
+                return false;
+            }
+            BookEntry otherEntry = (BookEntry) other;
+            return fileName.equals(otherEntry.fileName)
+                    && Objects.equals(snapshotChecksum, otherEntry.snapshotChecksum)
+                    && journalLength == otherEntry.journalLength;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileName, snapshotChecksum, journalLength);
+        }
+    }
+
+    /**
+     * The contents of the manifest file.
+     */
+    static class Contents {
+        private final long generation;
+        private final List<BookEntry> books;
+
+        @JsonCreator
+        Contents(@JsonProperty("generation") long generation, @JsonProperty("books") List<BookEntry> books) {
+            this.generation = generation;
+            this.books = books == null ? List.of() : books;
+        }
+    }
+}
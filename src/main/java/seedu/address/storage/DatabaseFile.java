@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An SQLite database file that a storage keeps its rows in, opened through JDBC.
+ * The connection does not commit on its own, so every change made through it is part of a transaction that is only
+ * written to the file, as a whole, by {@link #commit()}.
+ */
+class DatabaseFile implements AutoCloseable {
+
+    public static final String MESSAGE_NOT_DATABASE = "The file is not a database file";
+
+    /** The result code SQLite gives for a file that is not a database. */
+    private static final int SQLITE_NOTADB = 26;
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseFile.class);
+
+    private final Path filePath;
+    private final Connection connection;
+
+    private DatabaseFile(Path filePath, Connection connection) {
+        this.filePath = filePath;
+        this.connection = connection;
+    }
+
+    /**
+     * Opens the database file at {@code filePath}, creating it if it is missing, and runs the {@code schema}
+     * statements, which create the tables and indexes that the file does not have yet.
+     *
+     * @throws IllegalValueException if the file is not a database file.
+     */
+    public static DatabaseFile open(Path filePath, String... schema) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+
+        Connection connection = null;
+        try {
+            connection = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : schema) {
+                    statement.execute(sql);
+                }
+            }
+            connection.commit();
+            return new DatabaseFile(filePath, connection);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            if (e.getErrorCode() == SQLITE_NOTADB) {
+                throw new IllegalValueException(MESSAGE_NOT_DATABASE);
+            }
+            throw toIoException(filePath, e);
+        }
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Writes the changes made since the last commit to the file, as one transaction.
+     * If they cannot be written, they are rolled back.
+     */
+    public void commit() throws IOException {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            throw toIoException(filePath, e);
+        }
+    }
+
+    /**
+     * Discards the changes made since the last commit.
+     */
+    public void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.warning("Cannot roll back the changes to " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns an {@code IOException} for {@code e}, which was thrown while accessing {@code filePath}.
+     */
+    public static IOException toIoException(Path filePath, SQLException e) {
+        return new IOException(filePath + ": " + e.getMessage(), e);
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(connection);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Cannot close the database connection: " + e.getMessage());
+        }
+    }
+}
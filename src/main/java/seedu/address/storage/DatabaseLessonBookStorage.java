@@ -0,0 +1,368 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonArchive;
+import seedu.address.model.lesson.RecurringLesson;
+import seedu.address.model.lesson.exceptions.ContainsConflictingLessonsException;
+
+/**
+ * A class to access LessonBook data stored in an SQLite database file on the hard disk.
+ *
+ * Each lesson is a row of the lessons table, holding the lesson and its students as compact json, along with the day
+ * of the week, subject and start of the lesson, which are indexed. A temporary lesson is keyed by when it starts, and
+ * a recurring lesson by the day of the week and time it starts, as no two lessons in a lesson book can share those.
+ * The archived lessons are rows of a second table in the same file, which is only read when the archived lessons are
+ * first needed, and only written to when lessons have been archived. A save upserts only the lessons that were added
+ * or changed, and deletes the lessons that were removed, in one transaction.
+ */
+public class DatabaseLessonBookStorage implements LessonBookStorage {
+
+    static final String TABLE_LESSONS = "lessons";
+    static final String TABLE_ARCHIVE = "archived_lessons";
+
+    private static final String[] SCHEMA = {
+        createTable(TABLE_LESSONS),
+        createIndex(TABLE_LESSONS, "weekday"),
+        createIndex(TABLE_LESSONS, "subject"),
+        createIndex(TABLE_LESSONS, "start"),
+        createTable(TABLE_ARCHIVE),
+        createIndex(TABLE_ARCHIVE, "weekday"),
+        createIndex(TABLE_ARCHIVE, "subject"),
+        createIndex(TABLE_ARCHIVE, "start")
+    };
+    private static final String SELECT_ROWS = "SELECT lesson_key, record FROM %s ORDER BY rowid";
+    private static final String COUNT_ROWS = "SELECT COUNT(*) FROM %s";
+    private static final String UPSERT_LESSON = "INSERT INTO %s (lesson_key, weekday, subject, start, record) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (lesson_key) DO UPDATE SET weekday = excluded.weekday, "
+            + "subject = excluded.subject, start = excluded.start, record = excluded.record";
+    private static final String DELETE_LESSON = "DELETE FROM %s WHERE lesson_key = ?";
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseLessonBookStorage.class);
+
+    private Path filePath;
+    /** The database file of this storage, once it has been opened. */
+    private DatabaseFile file;
+    /** The records in each table of this storage's file by their keys, for the tables whose rows are known. */
+    private final Map<String, Map<String, String>> savedRows = new HashMap<>();
+    /** The archive as it was last read or written, or null if it has been neither. */
+    private LessonArchive savedArchive;
+
+    public DatabaseLessonBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getLessonBookFilePath() {
+        return filePath;
+    }
+
+    private static String createTable(String table) {
+        return "CREATE TABLE IF NOT EXISTS " + table + " (lesson_key TEXT PRIMARY KEY, weekday INTEGER NOT NULL, "
+                + "subject TEXT NOT NULL, start TEXT NOT NULL, record TEXT NOT NULL)";
+    }
+
+    private static String createIndex(String table, String column) {
+        return "CREATE INDEX IF NOT EXISTS " + table + "_" + column + " ON " + table + " (" + column + ")";
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException {
+        return readLessonBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook()}.
+     * The archived lessons are only read from {@code filePath} if it is the location of this storage's file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        DatabaseFile openedFile = null;
+        try {
+            openedFile = openFile(filePath);
+            Map<String, String> rows = readRows(openedFile, TABLE_LESSONS);
+            LessonBook lessonBook = new LessonBook();
+            lessonBook.setLessons(toLessons(rows));
+            if (openedFile == file) {
+                DatabaseFile ownFile = openedFile;
+                lessonBook.setArchive(countRows(ownFile, TABLE_ARCHIVE) > 0
+                        ? new LessonArchive(() -> readArchive(ownFile))
+                        : new LessonArchive());
+                savedArchive = lessonBook.getArchive();
+                savedRows.put(TABLE_LESSONS, rows);
+                savedRows.remove(TABLE_ARCHIVE);
+            }
+            return Optional.of(lessonBook);
+        } catch (ContainsConflictingLessonsException e) {
+            logger.info("Conflicting lessons found in " + filePath);
+            throw new DataConversionException(new IllegalValueException(e.getMessage()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (JsonProcessingException e) {
+            logger.info("Unreadable lesson found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } finally {
+            closeUnlessOwn(openedFile);
+        }
+    }
+
+    private synchronized List<Lesson> readArchive(DatabaseFile ownFile) throws DataConversionException {
+        try {
+            Map<String, String> rows = readRows(ownFile, TABLE_ARCHIVE);
+            List<Lesson> lessons = toLessons(rows);
+            savedRows.put(TABLE_ARCHIVE, rows);
+            return lessons;
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in the archive of " + ownFile.getFilePath() + ": "
+                    + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the records in {@code table} of {@code openedFile} by their keys, in the order they were added.
+     */
+    private static Map<String, String> readRows(DatabaseFile openedFile, String table) throws IOException {
+        Map<String, String> rows = new LinkedHashMap<>();
+        try (PreparedStatement select = openedFile.getConnection().prepareStatement(String.format(SELECT_ROWS, table));
+                ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                rows.put(resultSet.getString("lesson_key"), resultSet.getString("record"));
+            }
+        } catch (SQLException e) {
+            throw DatabaseFile.toIoException(openedFile.getFilePath(), e);
+        } finally {
+            // ends the read, so that the next one sees changes made to the file since
+            openedFile.rollback();
+        }
+        return rows;
+    }
+
+    private static int countRows(DatabaseFile openedFile, String table) throws IOException {
+        try (PreparedStatement count = openedFile.getConnection().prepareStatement(String.format(COUNT_ROWS, table));
+                ResultSet resultSet = count.executeQuery()) {
+            return resultSet.getInt(1);
+        } catch (SQLException e) {
+            throw DatabaseFile.toIoException(openedFile.getFilePath(), e);
+        } finally {
+            openedFile.rollback();
+        }
+    }
+
+    private static List<Lesson> toLessons(Map<String, String> rows) throws IOException, IllegalValueException {
+        List<Lesson> lessons = new ArrayList<>();
+        for (String record : rows.values()) {
+            lessons.add(JsonUtil.fromJsonString(record, JsonAdaptedLesson.class).toModelType());
+        }
+        return lessons;
+    }
+
+    /**
+     * Reads the lesson book as {@link #readLessonBook()} does. SQLite rolls back a transaction that was cut short
+     * when the file is next opened, so there is nothing further to quarantine.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> recoverLessonBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+        return readLessonBook();
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        saveLessonBook(lessonBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook)}.
+     * If {@code filePath} is the location of this storage's file, the archived lessons are saved with the lessons
+     * if they have changed.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(filePath);
+
+        DatabaseFile openedFile = null;
+        try {
+            openedFile = openFile(filePath);
+            boolean isOwnFile = openedFile == file;
+            LessonArchive archive = lessonBook.getArchive();
+            boolean isArchiveChanged = isOwnFile && archive != savedArchive;
+
+            // everything is read before anything is written, as a read ends the transaction it is part of
+            Map<String, String> lessonRows = new LinkedHashMap<>(getRows(openedFile, TABLE_LESSONS));
+            Map<String, String> archiveRows = null;
+            List<Lesson> archivedLessons = null;
+            boolean isArchiveReplaced = false;
+            if (isArchiveChanged) {
+                archiveRows = new LinkedHashMap<>(getRows(openedFile, TABLE_ARCHIVE));
+                // lessons are only ever added to the archive, so usually only they need to be written
+                Optional<List<Lesson>> addedLessons = savedArchive == null
+                        ? Optional.empty()
+                        : archive.getLessonsAddedSince(savedArchive);
+                isArchiveReplaced = addedLessons.isEmpty();
+                archivedLessons = isArchiveReplaced ? archive.getLessons() : addedLessons.get();
+            }
+
+            int changeCount = writeChanges(openedFile, TABLE_LESSONS, lessonBook.getLessonList(), lessonRows, true);
+            if (isArchiveChanged) {
+                changeCount += writeChanges(openedFile, TABLE_ARCHIVE, archivedLessons, archiveRows,
+                        isArchiveReplaced);
+            }
+
+            openedFile.commit();
+            if (isOwnFile) {
+                savedRows.put(TABLE_LESSONS, lessonRows);
+                if (isArchiveChanged) {
+                    savedRows.put(TABLE_ARCHIVE, archiveRows);
+                    savedArchive = archive;
+                }
+            }
+            logger.fine("Saved " + changeCount + " changed lessons to " + filePath);
+        } catch (SQLException e) {
+            openedFile.rollback();
+            throw DatabaseFile.toIoException(filePath, e);
+        } catch (IOException e) {
+            if (openedFile != null) {
+                openedFile.rollback();
+            }
+            throw e;
+        } catch (DataConversionException e) {
+            openedFile.rollback();
+            throw new IOException("Archived lessons cannot be read to be saved", e);
+        } catch (IllegalValueException ive) {
+            throw new IOException(filePath + ": " + ive.getMessage(), ive);
+        } finally {
+            closeUnlessOwn(openedFile);
+        }
+    }
+
+    /**
+     * Returns the records in {@code table} of {@code openedFile} by their keys, as they were last read or saved if
+     * they are known.
+     */
+    private Map<String, String> getRows(DatabaseFile openedFile, String table) throws IOException {
+        Map<String, String> rows = openedFile == file ? savedRows.get(table) : null;
+        return rows != null ? rows : readRows(openedFile, table);
+    }
+
+    /**
+     * Upserts the rows of {@code lessons} that differ from {@code rows} into {@code table}, and deletes the other
+     * rows of the table if {@code isTableReplaced}, updating {@code rows} to match. Returns the number of rows
+     * written or deleted.
+     */
+    private static int writeChanges(DatabaseFile openedFile, String table, List<Lesson> lessons,
+            Map<String, String> rows, boolean isTableReplaced) throws SQLException, JsonProcessingException {
+        int changeCount = 0;
+        Set<String> keys = new HashSet<>();
+        try (PreparedStatement upsert =
+                openedFile.getConnection().prepareStatement(String.format(UPSERT_LESSON, table))) {
+            for (Lesson lesson : lessons) {
+                String key = getKey(lesson);
+                String record = JsonUtil.toCompactJsonString(new JsonAdaptedLesson(lesson));
+                keys.add(key);
+                if (record.equals(rows.put(key, record))) {
+                    continue;
+                }
+                LocalDateTime start = lesson.getDateTimeSlot().getDateOfLesson();
+                upsert.setString(1, key);
+                upsert.setInt(2, start.getDayOfWeek().getValue());
+                upsert.setString(3, lesson.getSubject().subjectName);
+                upsert.setString(4, start.toString());
+                upsert.setString(5, record);
+                upsert.addBatch();
+                changeCount++;
+            }
+            upsert.executeBatch();
+        }
+        if (!isTableReplaced) {
+            return changeCount;
+        }
+
+        try (PreparedStatement delete =
+                openedFile.getConnection().prepareStatement(String.format(DELETE_LESSON, table))) {
+            Iterator<String> iterator = rows.keySet().iterator();
+            while (iterator.hasNext()) {
+                String key = iterator.next();
+                if (keys.contains(key)) {
+                    continue;
+                }
+                delete.setString(1, key);
+                delete.addBatch();
+                iterator.remove();
+                changeCount++;
+            }
+            delete.executeBatch();
+        }
+        return changeCount;
+    }
+
+    /**
+     * Returns the key of the row of {@code lesson}.
+     */
+    static String getKey(Lesson lesson) {
+        if (lesson instanceof RecurringLesson) {
+            return "R " + ((RecurringLesson) lesson).getDayOfLesson() + " "
+                    + lesson.getDateTimeSlot().getDateOfLesson().toLocalTime();
+        }
+        return "T " + lesson.getDateTimeSlot().getDateOfLesson();
+    }
+
+    /**
+     * Returns the database file at {@code filePath}, which is kept open if it is this storage's file.
+     */
+    private DatabaseFile openFile(Path filePath) throws IOException, IllegalValueException {
+        if (!filePath.equals(this.filePath)) {
+            return DatabaseFile.open(filePath, SCHEMA);
+        }
+        if (file == null) {
+            file = DatabaseFile.open(filePath, SCHEMA);
+        }
+        return file;
+    }
+
+    private void closeUnlessOwn(DatabaseFile openedFile) {
+        if (openedFile != null && openedFile != file) {
+            openedFile.close();
+        }
+    }
+}
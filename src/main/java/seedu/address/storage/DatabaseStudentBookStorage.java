@@ -0,0 +1,314 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * A class to access StudentBook data stored in an SQLite database file on the hard disk.
+ *
+ * Each student is a row of the students table, whose primary key is their name, ignoring case, and phone, which
+ * identify a student. The row holds the student as compact json and their position in the student book. A save
+ * upserts only the students that were added or changed, and deletes the students that were removed, in one
+ * transaction.
+ */
+public class DatabaseStudentBookStorage implements StudentBookStorage {
+
+    static final String TABLE_STUDENTS = "students";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS " + TABLE_STUDENTS + " (name TEXT NOT NULL COLLATE NOCASE, phone TEXT NOT NULL, "
+                + "position INTEGER NOT NULL, record TEXT NOT NULL, PRIMARY KEY (name, phone))"
+    };
+    private static final String SELECT_STUDENTS =
+            "SELECT name, phone, position, record FROM " + TABLE_STUDENTS + " ORDER BY position";
+    private static final String UPSERT_STUDENT = "INSERT INTO " + TABLE_STUDENTS
+            + " (name, phone, position, record) VALUES (?, ?, ?, ?) ON CONFLICT (name, phone) DO UPDATE SET "
+            + "name = excluded.name, position = excluded.position, record = excluded.record";
+    private static final String DELETE_STUDENT = "DELETE FROM " + TABLE_STUDENTS + " WHERE name = ? AND phone = ?";
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseStudentBookStorage.class);
+
+    private Path filePath;
+    /** The database file of this storage, once it has been opened. */
+    private DatabaseFile file;
+    /** The rows in this storage's file by the identity of their students, or null if they are not known yet. */
+    private Map<List<Object>, StudentRow> savedRows;
+
+    public DatabaseStudentBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getStudentBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook() throws DataConversionException, IOException {
+        return readStudentBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudentBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        DatabaseFile openedFile = null;
+        try {
+            openedFile = openFile(filePath);
+            Map<List<Object>, StudentRow> rows = new LinkedHashMap<>();
+            List<Student> students = readStudents(openedFile, rows);
+
+            StudentBook studentBook = new StudentBook();
+            studentBook.setStudents(students);
+            if (openedFile == file) {
+                savedRows = rows;
+            }
+            return Optional.of(studentBook);
+        } catch (DuplicateStudentException e) {
+            logger.info("Duplicate students found in " + filePath);
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableStudentBook.MESSAGE_DUPLICATE_STUDENT));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            closeUnlessOwn(openedFile);
+        }
+    }
+
+    /**
+     * Returns the students in {@code openedFile}, in order, and puts their rows into {@code rows}.
+     */
+    private static List<Student> readStudents(DatabaseFile openedFile, Map<List<Object>, StudentRow> rows)
+            throws IOException, DataConversionException, IllegalValueException {
+        List<Student> students = new ArrayList<>();
+        try (PreparedStatement select = openedFile.getConnection().prepareStatement(SELECT_STUDENTS);
+                ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                StudentRow row = new StudentRow(resultSet.getString("name"), resultSet.getString("phone"),
+                        resultSet.getLong("position"), resultSet.getString("record"));
+                Student student = JsonUtil.fromJsonString(row.record, JsonAdaptedStudent.class).toModelType();
+                students.add(student);
+                rows.put(student.getIdentityKey(), row);
+            }
+        } catch (JsonProcessingException e) {
+            logger.info("Unreadable student found in " + openedFile.getFilePath() + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (SQLException e) {
+            throw DatabaseFile.toIoException(openedFile.getFilePath(), e);
+        } finally {
+            // ends the read, so that the next one sees changes made to the file since
+            openedFile.rollback();
+        }
+        return students;
+    }
+
+    /**
+     * Reads the student book as {@link #readStudentBook()} does. SQLite rolls back a transaction that was cut short
+     * when the file is next opened, so there is nothing further to quarantine.
+     */
+    @Override
+    public Optional<ReadOnlyStudentBook> recoverStudentBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+        return readStudentBook();
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        saveStudentBook(studentBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentBook(ReadOnlyStudentBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+
+        DatabaseFile openedFile = null;
+        try {
+            openedFile = openFile(filePath);
+            Map<List<Object>, StudentRow> oldRows = openedFile == file && savedRows != null
+                    ? savedRows
+                    : readRows(openedFile);
+            Map<List<Object>, StudentRow> newRows = toRows(studentBook.getStudentList(), oldRows);
+            int changeCount = writeChanges(openedFile, oldRows, newRows);
+            if (openedFile == file) {
+                savedRows = newRows;
+            }
+            logger.fine("Saved " + changeCount + " changed students to " + filePath);
+        } catch (IllegalValueException | DataConversionException e) {
+            throw new IOException(filePath + ": " + e.getMessage(), e);
+        } finally {
+            closeUnlessOwn(openedFile);
+        }
+    }
+
+    private static Map<List<Object>, StudentRow> readRows(DatabaseFile openedFile) throws IOException,
+            DataConversionException, IllegalValueException {
+        Map<List<Object>, StudentRow> rows = new LinkedHashMap<>();
+        readStudents(openedFile, rows);
+        return rows;
+    }
+
+    /**
+     * Returns the rows of {@code students}, by the identity of the students, given the rows they were saved as.
+     * While the order of the saved students is kept, they keep their positions and added students are placed after
+     * them, so adding or removing a student does not move the others. Otherwise every student is given their index.
+     */
+    private static Map<List<Object>, StudentRow> toRows(List<Student> students, Map<List<Object>, StudentRow> oldRows)
+            throws JsonProcessingException {
+        boolean isOrderKept = true;
+        boolean isStudentAdded = false;
+        long lastPosition = -1;
+        for (Student student : students) {
+            StudentRow oldRow = oldRows.get(student.getIdentityKey());
+            if (oldRow == null) {
+                isStudentAdded = true;
+            } else if (isStudentAdded || oldRow.position <= lastPosition) {
+                isOrderKept = false;
+                break;
+            } else {
+                lastPosition = oldRow.position;
+            }
+        }
+
+        long nextPosition = isOrderKept ? lastPosition + 1 : 0;
+        Map<List<Object>, StudentRow> rows = new LinkedHashMap<>();
+        for (Student student : students) {
+            StudentRow oldRow = oldRows.get(student.getIdentityKey());
+            long position = isOrderKept && oldRow != null ? oldRow.position : nextPosition++;
+            rows.put(student.getIdentityKey(), new StudentRow(student.getName().fullName, student.getPhone().value,
+                    position, JsonUtil.toCompactJsonString(new JsonAdaptedStudent(student))));
+        }
+        return rows;
+    }
+
+    /**
+     * Upserts the rows of {@code newRows} that differ from {@code oldRows} and deletes the rows that are no longer in
+     * use, in one transaction. Returns the number of rows written or deleted.
+     */
+    private static int writeChanges(DatabaseFile openedFile, Map<List<Object>, StudentRow> oldRows,
+            Map<List<Object>, StudentRow> newRows) throws IOException {
+        Connection connection = openedFile.getConnection();
+        int changeCount = 0;
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_STUDENT);
+                PreparedStatement delete = connection.prepareStatement(DELETE_STUDENT)) {
+            for (Map.Entry<List<Object>, StudentRow> entry : newRows.entrySet()) {
+                StudentRow row = entry.getValue();
+                if (row.equals(oldRows.get(entry.getKey()))) {
+                    continue;
+                }
+                upsert.setString(1, row.name);
+                upsert.setString(2, row.phone);
+                upsert.setLong(3, row.position);
+                upsert.setString(4, row.record);
+                upsert.addBatch();
+                changeCount++;
+            }
+            for (Map.Entry<List<Object>, StudentRow> entry : oldRows.entrySet()) {
+                if (newRows.containsKey(entry.getKey())) {
+                    continue;
+                }
+                delete.setString(1, entry.getValue().name);
+                delete.setString(2, entry.getValue().phone);
+                delete.addBatch();
+                changeCount++;
+            }
+            delete.executeBatch();
+            upsert.executeBatch();
+        } catch (SQLException e) {
+            openedFile.rollback();
+            throw DatabaseFile.toIoException(openedFile.getFilePath(), e);
+        }
+        openedFile.commit();
+        return changeCount;
+    }
+
+    /**
+     * Returns the database file at {@code filePath}, which is kept open if it is this storage's file.
+     */
+    private DatabaseFile openFile(Path filePath) throws IOException, IllegalValueException {
+        if (!filePath.equals(this.filePath)) {
+            return DatabaseFile.open(filePath, SCHEMA);
+        }
+        if (file == null) {
+            file = DatabaseFile.open(filePath, SCHEMA);
+        }
+        return file;
+    }
+
+    private void closeUnlessOwn(DatabaseFile openedFile) {
+        if (openedFile != null && openedFile != file) {
+            openedFile.close();
+        }
+    }
+
+    /**
+     * A row of the students table.
+     */
+    private static class StudentRow {
+        private final String name;
+        private final String phone;
+        private final long position;
+        private final String record;
+
+        StudentRow(String name, String phone, long position, String record) {
+            this.name = name;
+            this.phone = phone;
+            this.position = position;
+            this.record = record;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof StudentRow
+                    && name.equals(((StudentRow) other).name)
+                    && phone.equals(((StudentRow) other).phone)
+                    && position == ((StudentRow) other).position
+                    && record.equals(((StudentRow) other).record));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, position, record);
+        }
+    }
+}
@@ -0,0 +1,541 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudentBook;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * Backs up the student book and lesson book to a directory as chains of deltas, so that a backup costs in proportion
+ * to what changed since the one before it, and restores the books as they were at any backup kept.
+ *
+ * Each student and lesson is stored once per chain, addressed by a hash of its contents. A backup is a file listing
+ * the change to the addresses of the students and lessons since the backup before it, together with the records new
+ * to its chain; a backup of unchanged books writes nothing. The first backup of a chain is its base, which holds every
+ * record. Once the deltas of a chain add up to more than its base, or number {@value #MAX_CHAIN_LENGTH}, the chain is
+ * compacted: the next backup starts a new chain with a base of the books as they are then. This bounds the files read
+ * to restore a backup, and keeps the cost of writing bases in proportion to the changes. Only the last
+ * {@value #KEPT_CHAIN_COUNT} chains are kept.
+ *
+ * Archived lessons are not backed up, as they are never changed once archived; a restore keeps the archive as it is.
+ */
+public class DeltaBackups {
+
+    public static final String BACKUP_DIRECTORY_NAME = "backups";
+    public static final int MAX_CHAIN_LENGTH = 50;
+    public static final int KEPT_CHAIN_COUNT = 3;
+
+    public static final String MESSAGE_NO_SUCH_BACKUP = "There is no backup %1$d.";
+    public static final String MESSAGE_BROKEN_CHAIN = "Backup %1$d cannot be restored, as backup %2$d, which it "
+            + "builds on, is missing or damaged.";
+    public static final String MESSAGE_MISSING_RECORD = "Backup %1$d refers to a record its chain does not hold.";
+
+    private static final Logger logger = LogsCenter.getLogger(DeltaBackups.class);
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("(\\d{6,})-(\\d{8}T\\d{6})-(base|delta)\\.json");
+    private static final String FILE_NAME_FORMAT = "%06d-%s-%s.json";
+    private static final int ADDRESS_BYTES = 16;
+    private static final Map<Path, DeltaBackups> instances = new HashMap<>();
+
+    private final Path directory;
+    private final Clock clock;
+
+    private boolean isLoaded;
+    /** The id of the latest backup, or 0 if there is none. */
+    private int latestId;
+    /** Whether the chain of the latest backup can be extended by a delta. */
+    private boolean isChainUsable;
+    private int chainLength;
+    private long baseBytes;
+    private long deltaBytes;
+    private List<String> studentAddresses = new ArrayList<>();
+    private List<String> lessonAddresses = new ArrayList<>();
+    /** The addresses of the records held by the chain of the latest backup. */
+    private final Set<String> storedAddresses = new HashSet<>();
+
+    /**
+     * Creates a {@code DeltaBackups} of the backups in {@code directory}, timing them by {@code clock}.
+     * Only one should be used for a directory at a time; see {@link #forDirectory}.
+     */
+    public DeltaBackups(Path directory, Clock clock) {
+        requireNonNull(directory);
+        requireNonNull(clock);
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the {@code DeltaBackups} of the backups in {@code directory}, shared by everything that backs up to it,
+     * so that the state of its latest chain is only read from disk once.
+     */
+    public static synchronized DeltaBackups forDirectory(Path directory) {
+        requireNonNull(directory);
+        return instances.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                absoluteDirectory -> new DeltaBackups(absoluteDirectory, Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Returns the directory the books in {@code userPrefs} are backed up to: {@value #BACKUP_DIRECTORY_NAME},
+     * beside the student book file.
+     */
+    public static Path getDirectoryOf(ReadOnlyUserPrefs userPrefs) {
+        return userPrefs.getStudentBookFilePath().toAbsolutePath().resolveSibling(BACKUP_DIRECTORY_NAME);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Backs up {@code studentBook} and {@code lessonBook}, writing only what changed since the latest backup.
+     *
+     * @return what the backup wrote, or an empty {@code Optional} if the books are unchanged since the latest backup.
+     * @throws IOException if the backup cannot be written, in which case the next backup starts a new chain.
+     */
+    public synchronized Optional<Summary> backUp(ReadOnlyStudentBook studentBook, ReadOnlyLessonBook lessonBook)
+            throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(lessonBook);
+        loadIfNeeded();
+
+        Map<String, JsonAdaptedStudent> students = addressAll(studentBook.getStudentList(), JsonAdaptedStudent::new);
+        Map<String, JsonAdaptedLesson> lessons = addressAll(lessonBook.getLessonList(), JsonAdaptedLesson::new);
+        List<String> newStudentAddresses = new ArrayList<>(students.keySet());
+        List<String> newLessonAddresses = new ArrayList<>(lessons.keySet());
+        if (isChainUsable && newStudentAddresses.equals(studentAddresses)
+                && newLessonAddresses.equals(lessonAddresses)) {
+            return Optional.empty();
+        }
+
+        boolean isBase = !isChainUsable || chainLength >= MAX_CHAIN_LENGTH || deltaBytes >= baseBytes;
+        if (isBase) {
+            storedAddresses.clear();
+        }
+        List<String> previousStudents = isBase ? List.of() : studentAddresses;
+        List<String> previousLessons = isBase ? List.of() : lessonAddresses;
+        JsonAdaptedBackup backup = new JsonAdaptedBackup(changeOf(previousStudents, newStudentAddresses),
+                changeOf(previousLessons, newLessonAddresses), newRecords(students), newRecords(lessons));
+
+        int id = latestId + 1;
+        LocalDateTime time = LocalDateTime.now(clock).withNano(0);
+        Path filePath = directory.resolve(String.format(FILE_NAME_FORMAT, id, FILE_TIME_FORMAT.format(time),
+                isBase ? "base" : "delta"));
+        isChainUsable = false; // until the backup has been written
+        latestId = id;
+        JsonUtil.saveJsonFile(backup, filePath, true);
+        long byteCount = Files.size(filePath);
+
+        if (isBase) {
+            chainLength = 0;
+            baseBytes = byteCount;
+            deltaBytes = 0;
+            deleteOldChains();
+        } else {
+            chainLength++;
+            deltaBytes += byteCount;
+        }
+        studentAddresses = newStudentAddresses;
+        lessonAddresses = newLessonAddresses;
+        storedAddresses.addAll(backup.studentRecords.keySet());
+        storedAddresses.addAll(backup.lessonRecords.keySet());
+        isChainUsable = true;
+        return Optional.of(new Summary(new Entry(id, time, isBase),
+                backup.studentRecords.size() + backup.lessonRecords.size(), byteCount));
+    }
+
+    private static JsonAdaptedListChange<String> changeOf(List<String> previous, List<String> current) {
+        return JsonAdaptedListChange.between(previous, current, String::equals, Function.identity());
+    }
+
+    /**
+     * Returns the records among {@code records} that the chain of the latest backup does not hold yet.
+     */
+    private <J> Map<String, J> newRecords(Map<String, J> records) {
+        Map<String, J> newRecords = new LinkedHashMap<>();
+        records.forEach((address, record) -> {
+            if (!storedAddresses.contains(address)) {
+                newRecords.put(address, record);
+            }
+        });
+        return newRecords;
+    }
+
+    /**
+     * Returns the Jackson-friendly {@code records} by their addresses, in the order of {@code records}.
+     * A book holds no two records with the same contents, so each address is used once.
+     */
+    private static <T, J> Map<String, J> addressAll(List<T> records, Function<T, J> adapter) throws IOException {
+        Map<String, J> addressedRecords = new LinkedHashMap<>();
+        for (T record : records) {
+            J adaptedRecord = adapter.apply(record);
+            addressedRecords.put(addressOf(JsonUtil.toCompactJsonString(adaptedRecord)), adaptedRecord);
+        }
+        return addressedRecords;
+    }
+
+    /**
+     * Returns the address of a record written as {@code json}: the first {@value #ADDRESS_BYTES} bytes of its SHA-256
+     * hash, in hexadecimal.
+     */
+    static String addressOf(String json) {
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+        StringBuilder address = new StringBuilder();
+        for (int i = 0; i < ADDRESS_BYTES; i++) {
+            address.append(String.format("%02x", hash[i]));
+        }
+        return address.toString();
+    }
+
+    /**
+     * Reads the state of the chain of the latest backup, if it has not been read yet. If the chain cannot be read,
+     * the next backup starts a new one.
+     */
+    private void loadIfNeeded() throws IOException {
+        if (isLoaded) {
+            return;
+        }
+        List<Entry> entries = listBackups();
+        isLoaded = true;
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<Entry> chain = getChainOf(entries, entries.get(entries.size() - 1));
+        latestId = chain.get(chain.size() - 1).id;
+        try {
+            ChainState state = replay(chain);
+            studentAddresses = state.studentAddresses;
+            lessonAddresses = state.lessonAddresses;
+            storedAddresses.addAll(state.studentRecords.keySet());
+            storedAddresses.addAll(state.lessonRecords.keySet());
+            chainLength = chain.size() - 1;
+            baseBytes = Files.size(getFilePath(chain.get(0)));
+            deltaBytes = 0;
+            for (Entry entry : chain.subList(1, chain.size())) {
+                deltaBytes += Files.size(getFilePath(entry));
+            }
+            isChainUsable = true;
+        } catch (DataConversionException e) {
+            logger.warning("Cannot read the latest backups in " + directory + "; the next backup starts a new chain: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the backups in the directory, oldest first.
+     */
+    public synchronized List<Entry> listBackups() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> FILE_NAME_PATTERN.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> new Entry(Integer.parseInt(matcher.group(1)),
+                            LocalDateTime.parse(matcher.group(2), FILE_TIME_FORMAT), matcher.group(3).equals("base")))
+                    .sorted((entry, otherEntry) -> Integer.compare(entry.id, otherEntry.id))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the latest backup taken at or before {@code time}, if any.
+     */
+    public synchronized Optional<Entry> findBackupAt(LocalDateTime time) throws IOException {
+        requireNonNull(time);
+        Entry found = null;
+        for (Entry entry : listBackups()) {
+            if (!entry.time.isAfter(time)) {
+                found = entry;
+            }
+        }
+        return Optional.ofNullable(found);
+    }
+
+    /**
+     * Returns the books as they were backed up by the backup with the id {@code id}, rebuilt from its chain.
+     *
+     * @throws DataConversionException if there is no such backup, or its chain is missing a backup or is damaged.
+     */
+    public synchronized Books restore(int id) throws IOException, DataConversionException {
+        List<Entry> entries = listBackups();
+        Optional<Entry> target = entries.stream().filter(entry -> entry.id == id).findFirst();
+        if (!target.isPresent()) {
+            throw new DataConversionException(new IllegalValueException(String.format(MESSAGE_NO_SUCH_BACKUP, id)));
+        }
+
+        List<Entry> chain = getChainOf(entries, target.get());
+        ChainState state = replay(chain);
+        try {
+            StudentBook studentBook = new StudentBook();
+            studentBook.setStudents(RecordConverter.convertAll(
+                    recordsAt(state.studentAddresses, state.studentRecords, id), JsonAdaptedStudent::toModelType));
+            LessonBook lessonBook = JsonSerializableLessonBook.toLessonBook(RecordConverter.convertAll(
+                    recordsAt(state.lessonAddresses, state.lessonRecords, id), JsonAdaptedLesson::toModelType));
+            return new Books(target.get(), studentBook, lessonBook);
+        } catch (DuplicateStudentException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableStudentBook.MESSAGE_DUPLICATE_STUDENT));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static <J> List<J> recordsAt(List<String> addresses, Map<String, J> records, int id)
+            throws IllegalValueException {
+        List<J> recordsAt = new ArrayList<>();
+        for (String address : addresses) {
+            J record = records.get(address);
+            if (record == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, id));
+            }
+            recordsAt.add(record);
+        }
+        return recordsAt;
+    }
+
+    /**
+     * Returns the backups from the base of the chain of {@code target} up to {@code target}. The chain may be missing
+     * backups, which is found when it is replayed.
+     */
+    private static List<Entry> getChainOf(List<Entry> entries, Entry target) {
+        int end = entries.indexOf(target);
+        int start = end;
+        while (start > 0 && !entries.get(start).isBase) {
+            start--;
+        }
+        return entries.subList(start, end + 1);
+    }
+
+    /**
+     * Applies the backups of {@code chain} in turn, and returns the addresses of the books after the last of them,
+     * along with every record the chain holds.
+     *
+     * @throws DataConversionException if the chain does not start with a base, skips a backup, or cannot be read.
+     */
+    private ChainState replay(List<Entry> chain) throws DataConversionException {
+        ChainState state = new ChainState();
+        int expectedId = chain.get(0).id;
+        for (Entry entry : chain) {
+            if (!chain.get(0).isBase || entry.id != expectedId) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_BROKEN_CHAIN, chain.get(chain.size() - 1).id, expectedId)));
+            }
+            expectedId++;
+
+            try {
+                JsonAdaptedBackup backup = JsonUtil.readJsonFile(getFilePath(entry), JsonAdaptedBackup.class)
+                        .orElseThrow(() -> new IOException("Backup " + entry.id + " was removed"));
+                backup.students.applyTo(state.studentAddresses);
+                backup.lessons.applyTo(state.lessonAddresses);
+                state.studentRecords.putAll(backup.studentRecords);
+                state.lessonRecords.putAll(backup.lessonRecords);
+            } catch (IOException | IllegalValueException | DataConversionException e) {
+                logger.warning("Cannot read backup " + entry.id + " in " + directory + ": " + e.getMessage());
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_BROKEN_CHAIN, chain.get(chain.size() - 1).id, entry.id), e));
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Deletes the backups of every chain but the last {@value #KEPT_CHAIN_COUNT}.
+     */
+    private void deleteOldChains() throws IOException {
+        List<Entry> entries = listBackups();
+        List<Entry> bases = entries.stream().filter(entry -> entry.isBase).collect(Collectors.toList());
+        if (bases.size() <= KEPT_CHAIN_COUNT) {
+            return;
+        }
+
+        int oldestKeptId = bases.get(bases.size() - KEPT_CHAIN_COUNT).id;
+        for (Entry entry : entries) {
+            if (entry.id < oldestKeptId) {
+                Files.deleteIfExists(getFilePath(entry));
+            }
+        }
+    }
+
+    private Path getFilePath(Entry entry) {
+        return directory.resolve(String.format(FILE_NAME_FORMAT, entry.id, FILE_TIME_FORMAT.format(entry.time),
+                entry.isBase ? "base" : "delta"));
+    }
+
+    /**
+     * A backup in the directory.
+     */
+    public static class Entry {
+        private final int id;
+        private final LocalDateTime time;
+        private final boolean isBase;
+
+        Entry(int id, LocalDateTime time, boolean isBase) {
+            this.id = id;
+            this.time = time;
+            this.isBase = isBase;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public LocalDateTime getTime() {
+            return time;
+        }
+
+        /**
+         * Returns true if this backup is the base of its chain, holding the books in full.
+         */
+        public boolean isBase() {
+            return isBase;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Entry
+                    && id == ((Entry) other).id
+                    && time.equals(((Entry) other).time)
+                    && isBase == ((Entry) other).isBase);
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
+    /**
+     * What a backup wrote.
+     */
+    public static class Summary {
+        private final Entry entry;
+        private final int recordCount;
+        private final long byteCount;
+
+        private Summary(Entry entry, int recordCount, long byteCount) {
+            this.entry = entry;
+            this.recordCount = recordCount;
+            this.byteCount = byteCount;
+        }
+
+        public Entry getEntry() {
+            return entry;
+        }
+
+        /**
+         * Returns the number of students and lessons the backup wrote, which are those not already in its chain.
+         */
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+    }
+
+    /**
+     * The books as a backup holds them.
+     */
+    public static class Books {
+        private final Entry entry;
+        private final StudentBook studentBook;
+        private final LessonBook lessonBook;
+
+        private Books(Entry entry, StudentBook studentBook, LessonBook lessonBook) {
+            this.entry = entry;
+            this.studentBook = studentBook;
+            this.lessonBook = lessonBook;
+        }
+
+        public Entry getEntry() {
+            return entry;
+        }
+
+        public StudentBook getStudentBook() {
+            return studentBook;
+        }
+
+        public LessonBook getLessonBook() {
+            return lessonBook;
+        }
+    }
+
+    /**
+     * The addresses of the books after a backup, and the records of its chain.
+     */
+    private static class ChainState {
+        private final List<String> studentAddresses = new ArrayList<>();
+        private final List<String> lessonAddresses = new ArrayList<>();
+        private final Map<String, JsonAdaptedStudent> studentRecords = new HashMap<>();
+        private final Map<String, JsonAdaptedLesson> lessonRecords = new HashMap<>();
+    }
+
+    /**
+     * The contents of a backup file.
+     */
+    static class JsonAdaptedBackup {
+        private final JsonAdaptedListChange<String> students;
+        private final JsonAdaptedListChange<String> lessons;
+        private final Map<String, JsonAdaptedStudent> studentRecords = new LinkedHashMap<>();
+        private final Map<String, JsonAdaptedLesson> lessonRecords = new LinkedHashMap<>();
+
+        @JsonCreator
+        JsonAdaptedBackup(@JsonProperty("students") JsonAdaptedListChange<String> students,
+                          @JsonProperty("lessons") JsonAdaptedListChange<String> lessons,
+                          @JsonProperty("studentRecords") Map<String, JsonAdaptedStudent> studentRecords,
+                          @JsonProperty("lessonRecords") Map<String, JsonAdaptedLesson> lessonRecords) {
+            this.students = students == null ? new JsonAdaptedListChange<>(0, 0, List.of()) : students;
+            this.lessons = lessons == null ? new JsonAdaptedListChange<>(0, 0, List.of()) : lessons;
+            if (studentRecords != null) {
+                this.studentRecords.putAll(studentRecords);
+            }
+            if (lessonRecords != null) {
+                this.lessonRecords.putAll(lessonRecords);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.IcsWriter;
+import seedu.address.model.lesson.DateTimeSlot;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonAddress;
+import seedu.address.model.lesson.RecurringLesson;
+import seedu.address.model.lesson.Subject;
+
+/**
+ * Exports lessons to an iCalendar file, which calendar apps can import or subscribe to.
+ *
+ * Each lesson becomes one {@code VEVENT}, written straight to the file as it is made: a recurring lesson repeats
+ * weekly by an {@code RRULE}, and a temporary lesson takes place once. Each event holds a hash of its contents.
+ * When the file already holds an earlier export, the events of the lessons that are unchanged since then are copied
+ * from it byte for byte, keeping their {@code DTSTAMP}, and only the events of new or changed lessons are made again,
+ * so calendar apps only update those. Only the position and hash of each earlier event are held in memory.
+ */
+public class IcsLessonExporter {
+
+    public static final String PRODUCT_ID = "-//TeachWhat!//Lesson schedule//EN";
+    public static final String PROPERTY_HASH = "X-TEACHWHAT-HASH";
+
+    private static final String BEGIN_EVENT = "BEGIN:VEVENT";
+    private static final String END_EVENT = "END:VEVENT";
+    private static final String UID_PREFIX = "UID:";
+    private static final String HASH_PREFIX = PROPERTY_HASH + ":";
+    private static final String UID_DOMAIN = "@teachwhat";
+    private static final DateTimeFormatter LOCAL_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Path filePath;
+    private final Clock clock;
+
+    /**
+     * Creates an {@code IcsLessonExporter} of the iCalendar file at {@code filePath}.
+     */
+    public IcsLessonExporter(Path filePath) {
+        this(filePath, Clock.systemUTC());
+    }
+
+    /**
+     * Creates an {@code IcsLessonExporter} of the iCalendar file at {@code filePath}, stamping the events it makes
+     * with the time of {@code clock}.
+     */
+    public IcsLessonExporter(Path filePath, Clock clock) {
+        requireNonNull(filePath);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.clock = clock;
+    }
+
+    /**
+     * Replaces the file with the events of {@code lessons}, reusing the unchanged events of an earlier export.
+     *
+     * @throws IOException if the file cannot be written, in which case it is left as it was.
+     */
+    public Summary export(List<Lesson> lessons) throws IOException {
+        requireNonNull(lessons);
+        Map<String, EventLocation> earlierEvents = Files.isRegularFile(filePath)
+                ? indexEvents(filePath)
+                : new HashMap<>();
+        String timeStamp = UTC_DATE_TIME_FORMAT.format(clock.instant());
+        Summary summary = new Summary();
+
+        FileUtil.writeAtomically(filePath, out -> {
+            // the earlier file is closed before the new one is moved over it
+            try (RandomAccessFile earlierFile = earlierEvents.isEmpty() ? null
+                    : new RandomAccessFile(filePath.toFile(), "r")) {
+                IcsWriter writer = new IcsWriter(out);
+                writer.writeProperty("BEGIN", "VCALENDAR");
+                writer.writeProperty("VERSION", "2.0");
+                writer.writeProperty("PRODID", PRODUCT_ID);
+                writer.writeProperty("CALSCALE", "GREGORIAN");
+
+                byte[] buffer = new byte[0];
+                for (Lesson lesson : lessons) {
+                    List<String> properties = toEventProperties(lesson);
+                    String hash = Long.toHexString(RecordChecksum.of(properties));
+                    EventLocation earlierEvent = earlierEvents.remove(getUid(lesson));
+                    if (earlierEvent != null && earlierEvent.hash.equals(hash)) {
+                        if (buffer.length < earlierEvent.length) {
+                            buffer = new byte[earlierEvent.length];
+                        }
+                        earlierFile.seek(earlierEvent.offset);
+                        earlierFile.readFully(buffer, 0, earlierEvent.length);
+                        writer.writeRaw(buffer, 0, earlierEvent.length);
+                        summary.unchangedCount++;
+                        continue;
+                    }
+
+                    writer.writeProperty("BEGIN", "VEVENT");
+                    writer.writeProperty("DTSTAMP", timeStamp);
+                    for (String property : properties) {
+                        int separator = property.indexOf(':');
+                        writer.writeProperty(property.substring(0, separator), property.substring(separator + 1));
+                    }
+                    writer.writeProperty(PROPERTY_HASH, hash);
+                    writer.writeProperty("END", "VEVENT");
+                    summary.writtenCount++;
+                }
+                writer.writeProperty("END", "VCALENDAR");
+            }
+        });
+        summary.removedCount = earlierEvents.size();
+        return summary;
+    }
+
+    /**
+     * Returns the content lines of the event of {@code lesson}, except for its {@code DTSTAMP} and hash,
+     * with their values escaped.
+     */
+    private static List<String> toEventProperties(Lesson lesson) {
+        DateTimeSlot dateTimeSlot = lesson.getDateTimeSlot();
+        LocalDateTime start = getFirstStart(lesson);
+        List<String> properties = new ArrayList<>();
+        properties.add(UID_PREFIX + getUid(lesson));
+        properties.add("DTSTART:" + LOCAL_DATE_TIME_FORMAT.format(start));
+        properties.add("DTEND:" + LOCAL_DATE_TIME_FORMAT.format(start
+                .plusHours(dateTimeSlot.getHours())
+                .plusMinutes(dateTimeSlot.getMinutes())));
+        if (lesson.isRecurring()) {
+            properties.add("RRULE:FREQ=WEEKLY");
+        }
+        properties.add("SUMMARY:" + IcsWriter.escapeText(lesson.getName().toString()));
+        if (!lesson.getLessonAddress().equals(LessonAddress.EMPTY_ADDRESS)) {
+            properties.add("LOCATION:" + IcsWriter.escapeText(lesson.getLessonAddress().toString()));
+        }
+
+        List<String> description = new ArrayList<>();
+        if (!lesson.getSubject().equals(Subject.EMPTY_SUBJECT)) {
+            description.add("Subject: " + lesson.getSubject());
+        }
+        if (!lesson.getEnrolledStudents().getStudentsList().isEmpty()) {
+            description.add("Students: " + lesson.getEnrolledStudents().getStudentsList().stream()
+                    .map(student -> student.getName().toString())
+                    .collect(Collectors.joining(", ")));
+        }
+        if (!description.isEmpty()) {
+            properties.add("DESCRIPTION:" + IcsWriter.escapeText(String.join("\n", description)));
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the UID of the event of {@code lesson}. No two lessons in a lesson book start at the same time,
+     * so the start of a lesson identifies its event across exports.
+     */
+    static String getUid(Lesson lesson) {
+        return LOCAL_DATE_TIME_FORMAT.format(getFirstStart(lesson)) + (lesson.isRecurring() ? "-R" : "-T")
+                + UID_DOMAIN;
+    }
+
+    /**
+     * Returns when {@code lesson} first takes place. The date time slot of a recurring lesson is that of its
+     * next occurrence, which would move the event every week.
+     */
+    private static LocalDateTime getFirstStart(Lesson lesson) {
+        LocalDateTime start = lesson.getDateTimeSlot().getDateOfLesson();
+        return lesson instanceof RecurringLesson
+                ? LocalDateTime.of(((RecurringLesson) lesson).getFirstOccurrenceDate(), start.toLocalTime())
+                : start;
+    }
+
+    /**
+     * Returns the position and hash of each event made by an earlier export in {@code file}, by UID.
+     * Events without a UID or hash are left out, so they are made again.
+     */
+    private static Map<String, EventLocation> indexEvents(Path file) throws IOException {
+        Map<String, EventLocation> events = new HashMap<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            StringBuilder line = new StringBuilder();
+            long offset = 0;
+            long lineStart = 0;
+            long eventStart = -1;
+            String uid = null;
+            String hash = null;
+            int b;
+            while ((b = in.read()) != -1) {
+                offset++;
+                if (b != '\n') {
+                    line.append((char) b); // the lines looked for are ASCII
+                    continue;
+                }
+
+                String content = line.toString().trim();
+                line.setLength(0);
+                if (content.equals(BEGIN_EVENT)) {
+                    eventStart = lineStart;
+                    uid = null;
+                    hash = null;
+                } else if (content.startsWith(UID_PREFIX)) {
+                    uid = content.substring(UID_PREFIX.length());
+                } else if (content.startsWith(HASH_PREFIX)) {
+                    hash = content.substring(HASH_PREFIX.length());
+                } else if (content.equals(END_EVENT) && eventStart >= 0 && uid != null && hash != null) {
+                    events.put(uid, new EventLocation(hash, eventStart, (int) (offset - eventStart)));
+                    eventStart = -1;
+                }
+                lineStart = offset;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * The hash of an event in an earlier export, and where its lines are in the file.
+     */
+    private static class EventLocation {
+        private final String hash;
+        private final long offset;
+        private final int length;
+
+        private EventLocation(String hash, long offset, int length) {
+            this.hash = hash;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The number of events an export wrote, copied unchanged, and removed.
+     */
+    public static class Summary {
+        private int writtenCount;
+        private int unchangedCount;
+        private int removedCount;
+
+        public int getWrittenCount() {
+            return writtenCount;
+        }
+
+        public int getUnchangedCount() {
+            return unchangedCount;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to read LessonBook data saved as a single json snapshot file on the hard disk, followed by a journal
+ * of the changes made since the snapshot was written, as lesson books were saved before they were split into segments.
+ * Such a book is only read, and {@link SegmentedLessonBookStorage} splits it into segments when it is next saved,
+ * so this storage cannot save.
+ */
+class JournaledLessonBookStorage extends JsonLessonBookStorage {
+
+    public static final String MESSAGE_JOURNAL_NOT_APPLIED =
+            "The changes journaled after the damaged file do not fit the records recovered from it: %s";
+    public static final String MESSAGE_READ_ONLY = "Lesson books are no longer saved with a journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledLessonBookStorage.class);
+
+    private final BookJournal<Lesson, JsonAdaptedLesson> journal;
+
+    /**
+     * Creates a {@code JournaledLessonBookStorage} with its snapshot at {@code filePath}.
+     */
+    JournaledLessonBookStorage(Path filePath) {
+        super(filePath);
+        journal = new BookJournal<>(BookJournal.getJournalPath(filePath), JsonAdaptedLesson.class,
+                JsonAdaptedLesson::new, Lesson::copy, JournaledLessonBookStorage::isSavedSameAs);
+    }
+
+    /**
+     * Returns true if {@code current} would be saved in the same way as {@code previous}.
+     */
+    static boolean isSavedSameAs(Lesson previous, Lesson current) {
+        if (!previous.equals(current)) {
+            return false;
+        }
+
+        List<Student> previousStudents = previous.getEnrolledStudents().getStudentsList();
+        List<Student> currentStudents = current.getEnrolledStudents().getStudentsList();
+        if (previousStudents.size() != currentStudents.size()) {
+            return false;
+        }
+        for (int i = 0; i < previousStudents.size(); i++) {
+            if (previousStudents.get(i) != currentStudents.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Similar to {@link JsonLessonBookStorage#readLessonBook(Path)}, but also replays the journal
+     * if {@code filePath} is the location of this storage's snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getLessonBookFilePath())) {
+            return super.readLessonBook(filePath);
+        }
+
+        long startTime = System.nanoTime();
+        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readVersionedJsonFile(
+                filePath, JsonSerializableLessonBook.class, JsonSerializableLessonBook.MIGRATOR);
+        if (!jsonLessonBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        long parsedTime = System.nanoTime();
+        List<JsonAdaptedLesson> lessons = journal.replay(filePath, jsonLessonBook.get().getLessons());
+        long replayedTime = System.nanoTime();
+        try {
+            LessonBook lessonBook = jsonLessonBook.get().withLessons(lessons).toModelType();
+            long convertedTime = System.nanoTime();
+            logger.info(String.format("Loaded %s: parsed in %s, journal replayed in %s, converted in %s", filePath,
+                    LatencyHistogram.formatMillis(parsedTime - startTime),
+                    LatencyHistogram.formatMillis(replayedTime - parsedTime),
+                    LatencyHistogram.formatMillis(convertedTime - replayedTime)));
+            return Optional.of(lessonBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link JsonLessonBookStorage#recoverLessonBook(Quarantine)}, but also replays the journal on top of
+     * the lessons recovered from the snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> recoverLessonBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+
+        Path filePath = getLessonBookFilePath();
+        Optional<ObjectNode> root = JsonUtil.readDamagedJsonFile(filePath, quarantine::addLoss);
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+
+        JsonSerializableLessonBook recovered = JsonSerializableLessonBook.recover(root.get(), quarantine);
+        List<JsonAdaptedLesson> lessons;
+        try {
+            lessons = journal.replay(filePath, recovered.getLessons());
+        } catch (DataConversionException e) {
+            quarantine.addLoss(String.format(MESSAGE_JOURNAL_NOT_APPLIED, e.getMessage()));
+            lessons = recovered.getLessons();
+        }
+
+        try {
+            LessonBook lessonBook = JsonSerializableLessonBook.toLessonBook(
+                    recovered.withLessons(lessons).toModelLessons(quarantine), quarantine);
+            quarantine.writeBeside(filePath);
+            return Optional.of(lessonBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Always throws, as lesson books are no longer saved with a journal. A snapshot written here would still have
+     * the old journal replayed on top of it when read.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access StudentBook data stored as a json snapshot file on the hard disk, followed by a journal
+ * of the changes made since the snapshot was written.
+ * Saving appends only the students that changed to the journal, until the journal is due to be compacted
+ * into a new snapshot.
+ */
+public class JournaledStudentBookStorage extends JsonStudentBookStorage {
+
+    public static final String MESSAGE_JOURNAL_NOT_APPLIED =
+            "The changes journaled after the damaged file do not fit the records recovered from it: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStudentBookStorage.class);
+    private static final String MESSAGE_LEGACY_FORMAT =
+            "Read %s in an earlier format; it is rewritten in format version %d when next saved";
+
+    private final BookJournal<Student, JsonAdaptedStudent> journal;
+
+    /**
+     * Creates a {@code JournaledStudentBookStorage} with its snapshot at {@code filePath}.
+     */
+    public JournaledStudentBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournaledStudentBookStorage} with its snapshot at {@code filePath},
+     * written on a single line if {@code isCompact} is true.
+     */
+    public JournaledStudentBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JournaledStudentBookStorage} with its snapshot at {@code filePath},
+     * written on a single line if {@code isCompact} is true, and compressed with gzip if {@code isCompressed} is true.
+     * The journal is never compressed, as it is appended to a line at a time.
+     */
+    public JournaledStudentBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
+        super(filePath, isCompact, isCompressed);
+        // the saved fields of a student are immutable, so a student is unchanged exactly when it is the same object
+        journal = new BookJournal<>(BookJournal.getJournalPath(filePath), JsonAdaptedStudent.class,
+                JsonAdaptedStudent::new, UnaryOperator.identity(), (previous, current) -> previous == current);
+    }
+
+    /**
+     * Similar to {@link JsonStudentBookStorage#readStudentBook(Path)}, but also replays the journal
+     * if {@code filePath} is the location of this storage's snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getStudentBookFilePath())) {
+            return super.readStudentBook(filePath);
+        }
+
+        long startTime = System.nanoTime();
+        Optional<JsonSerializableStudentBook> jsonStudentBook = JsonUtil.readVersionedJsonFile(
+                filePath, JsonSerializableStudentBook.class, JsonSerializableStudentBook.MIGRATOR);
+        if (!jsonStudentBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        long parsedTime = System.nanoTime();
+        List<JsonAdaptedStudent> students = journal.replay(filePath, jsonStudentBook.get().getStudents());
+        long replayedTime = System.nanoTime();
+        try {
+            StudentBook studentBook = jsonStudentBook.get().withStudents(students).toModelType();
+            long convertedTime = System.nanoTime();
+            logger.info(String.format("Loaded %s: parsed in %s, journal replayed in %s, converted in %s", filePath,
+                    LatencyHistogram.formatMillis(parsedTime - startTime),
+                    LatencyHistogram.formatMillis(replayedTime - parsedTime),
+                    LatencyHistogram.formatMillis(convertedTime - replayedTime)));
+            if (jsonStudentBook.get().isLegacyFormat()) {
+                // the journal is not started, so the next save writes a snapshot in the current format
+                logger.info(String.format(MESSAGE_LEGACY_FORMAT, filePath,
+                        JsonSerializableStudentBook.FORMAT_VERSION));
+            } else {
+                journal.setJournaledRecords(studentBook.getStudentList());
+            }
+            return Optional.of(studentBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link JsonStudentBookStorage#recoverStudentBook(Quarantine)}, but also replays the journal on top of
+     * the students recovered from the snapshot. The journal is not kept going, so that the next save writes a new
+     * snapshot of the recovered book.
+     */
+    @Override
+    public Optional<ReadOnlyStudentBook> recoverStudentBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+
+        Path filePath = getStudentBookFilePath();
+        Optional<ObjectNode> root = JsonUtil.readDamagedJsonFile(filePath, quarantine::addLoss);
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+
+        JsonSerializableStudentBook recovered = JsonSerializableStudentBook.recover(root.get(), quarantine);
+        List<JsonAdaptedStudent> students;
+        try {
+            students = journal.replay(filePath, recovered.getStudents());
+        } catch (DataConversionException e) {
+            quarantine.addLoss(String.format(MESSAGE_JOURNAL_NOT_APPLIED, e.getMessage()));
+            students = recovered.getStudents();
+        }
+
+        try {
+            StudentBook studentBook = recovered.withStudents(students).toModelType(quarantine);
+            quarantine.writeBeside(filePath);
+            return Optional.of(studentBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link JsonStudentBookStorage#saveStudentBook(ReadOnlyStudentBook, Path)}, but only appends
+     * the changes to the journal if {@code filePath} is the location of this storage's snapshot.
+     */
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getStudentBookFilePath())) {
+            super.saveStudentBook(studentBook, filePath);
+            return;
+        }
+
+        if (journal.canAppend() && !journal.isCompactionDue()) {
+            journal.append(studentBook.getStudentList());
+            return;
+        }
+
+        logger.fine("Compacting the student book journal into a new snapshot");
+        writeSnapshot(studentBook, filePath);
+    }
+
+    /**
+     * Writes a new snapshot and restarts the journal, keeping the snapshot and journal they replace as backups.
+     */
+    private void writeSnapshot(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        FileUtil.rotateBackups(filePath, DataManifest.BACKUP_COUNT);
+        super.saveStudentBook(studentBook, filePath);
+        journal.restart(filePath, studentBook.getStudentList());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -47,6 +48,14 @@ class JsonAdaptedDateTimeSlot {
         this.durationMinutes = source.getJsonDurationMinutes();
     }
 
+    /**
+     * Returns the fields of this date-time slot that are written to a file, in order.
+     */
+    List<String> getFields() {
+        return List.of(String.valueOf(dateOfLesson), String.valueOf(startTime), String.valueOf(durationHours),
+                String.valueOf(durationMinutes));
+    }
+
     /**
      * Converts this Jackson-friendly adapted date-time slot object into the model's {@code DateTimeSlot} object.
      *
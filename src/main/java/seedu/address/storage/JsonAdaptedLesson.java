@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,6 +18,7 @@ import seedu.address.model.lesson.LessonName;
 import seedu.address.model.lesson.RecurringLesson;
 import seedu.address.model.lesson.Subject;
 import seedu.address.model.lesson.TemporaryLesson;
+import seedu.address.model.student.Student;
 
 /**
  * Jackson-friendly version of {@link TemporaryLesson}.
@@ -23,16 +26,43 @@ import seedu.address.model.lesson.TemporaryLesson;
 class JsonAdaptedLesson {
 
     public static final String MISSING_FIELD_MESSAGE = "Lesson has some missing/invalid fields!";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Lesson refers to a student that is not in the lesson book!";
+    public static final String MESSAGE_UNREADABLE_STUDENT = "Lesson refers to a student that could not be read!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Lesson's fields do not match their checksum!";
 
     private final String lessonName;
     private final String subject;
     private final String lessonAddress;
     private final JsonAdaptedDateTimeSlot dateTimeSlot;
     private final Boolean isRecurring;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedStudent> assignedStudents = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Integer> assignedStudentIds = new ArrayList<>();
+    /** The checksum of the other fields when they were written, or null if the file predates checksums. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details and full copies of its students.
+     */
+    public JsonAdaptedLesson(String lessonName, String subject, String address, JsonAdaptedDateTimeSlot dateTimeSlot,
+                             Boolean isRecurring, List<JsonAdaptedStudent> assignedStudents) {
+        this(lessonName, subject, address, dateTimeSlot, isRecurring, assignedStudents, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * Its students may be given in full, or as their positions in the lesson book's table of students.
+     */
+    public JsonAdaptedLesson(String lessonName, String subject, String address, JsonAdaptedDateTimeSlot dateTimeSlot,
+                             Boolean isRecurring, List<JsonAdaptedStudent> assignedStudents,
+                             List<Integer> assignedStudentIds) {
+        this(lessonName, subject, address, dateTimeSlot, isRecurring, assignedStudents, assignedStudentIds, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details and the checksum they were written with.
      */
     @JsonCreator
     public JsonAdaptedLesson(@JsonProperty("lessonName") String lessonName,
@@ -40,7 +70,10 @@ class JsonAdaptedLesson {
                              @JsonProperty("address") String address,
                              @JsonProperty("dateTimeSlot") JsonAdaptedDateTimeSlot dateTimeSlot,
                              @JsonProperty("isRecurring") Boolean isRecurring,
-                             @JsonProperty("assignedStudents") List<JsonAdaptedStudent> assignedStudents) {
+                             @JsonProperty("assignedStudents") List<JsonAdaptedStudent> assignedStudents,
+                             @JsonProperty("assignedStudentIds") List<Integer> assignedStudentIds,
+                             @JsonProperty("checksum") Long checksum) {
+        this.checksum = checksum;
         this.lessonName = lessonName;
         this.subject = subject;
         this.lessonAddress = address;
@@ -49,6 +82,9 @@ class JsonAdaptedLesson {
         if (assignedStudents != null) {
             this.assignedStudents.addAll(assignedStudents);
         }
+        if (assignedStudentIds != null) {
+            this.assignedStudentIds.addAll(assignedStudentIds);
+        }
     }
 
     /**
@@ -63,6 +99,61 @@ class JsonAdaptedLesson {
         this.assignedStudents.addAll(source.getEnrolledStudents().getStudentsList().stream()
                 .map(JsonAdaptedStudent::new)
                 .collect(Collectors.toList()));
+        this.checksum = computeChecksum();
+    }
+
+    /**
+     * Converts a given {@code Lesson} into this class for Jackson use, referring to each of its students
+     * by the position {@code studentIds} gives it in the lesson book's table of students.
+     */
+    public JsonAdaptedLesson(Lesson source, Function<Student, Integer> studentIds) {
+        this.lessonName = source.getName().fullName;
+        this.subject = source.getSubject().subjectName;
+        this.lessonAddress = source.getLessonAddress().value;
+        this.dateTimeSlot = new JsonAdaptedDateTimeSlot(source.getDateTimeSlot());
+        this.isRecurring = source instanceof RecurringLesson;
+        this.assignedStudentIds.addAll(source.getEnrolledStudents().getStudentsList().stream()
+                .map(studentIds)
+                .collect(Collectors.toList()));
+        this.checksum = computeChecksum();
+    }
+
+    /**
+     * Returns a copy of this lesson that holds a full copy of each of its students found in {@code studentTable},
+     * so that it can be read without the table. Students that are not in the table are still referred to by their
+     * positions.
+     */
+    JsonAdaptedLesson withStudentsFrom(List<JsonAdaptedStudent> studentTable) {
+        List<JsonAdaptedStudent> students = new ArrayList<>(assignedStudents);
+        List<Integer> unknownStudentIds = new ArrayList<>();
+        for (Integer studentId : assignedStudentIds) {
+            if (studentId != null && studentId >= 0 && studentId < studentTable.size()
+                    && studentTable.get(studentId) != null) {
+                students.add(studentTable.get(studentId));
+            } else {
+                unknownStudentIds.add(studentId);
+            }
+        }
+        return new JsonAdaptedLesson(lessonName, subject, lessonAddress, dateTimeSlot, isRecurring, students,
+                unknownStudentIds);
+    }
+
+    /**
+     * Returns the checksum of the fields of this lesson that are written to a file.
+     */
+    long computeChecksum() {
+        List<String> fields = new ArrayList<>(List.of(String.valueOf(lessonName), String.valueOf(subject),
+                String.valueOf(lessonAddress), String.valueOf(isRecurring)));
+        if (dateTimeSlot != null) {
+            fields.addAll(dateTimeSlot.getFields());
+        }
+        for (JsonAdaptedStudent student : assignedStudents) {
+            fields.add(String.valueOf(student.computeChecksum()));
+        }
+        for (Integer studentId : assignedStudentIds) {
+            fields.add(String.valueOf(studentId));
+        }
+        return RecordChecksum.of(fields);
     }
 
     /**
@@ -71,6 +162,19 @@ class JsonAdaptedLesson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted temporary lesson.
      */
     public Lesson toModelType() throws IllegalValueException {
+        return toModelType(List.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted lesson object into the model's {@code Lesson} object,
+     * looking up the students it refers to in {@code studentTable}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
+     */
+    public Lesson toModelType(List<Student> studentTable) throws IllegalValueException {
+        if (checksum != null && checksum != computeChecksum()) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
         checkFieldsArePresent(lessonName, subject, lessonAddress, dateTimeSlot, isRecurring, assignedStudents);
         checkFieldsAreValid(lessonName, subject, lessonAddress);
 
@@ -78,7 +182,8 @@ class JsonAdaptedLesson {
         Subject modelSubject = new Subject(subject);
         LessonAddress modelLessonAddress = new LessonAddress(lessonAddress);
         DateTimeSlot modelDateTimeSlot = dateTimeSlot.toModelType();
-        EnrolledStudents modelAssignedStudents = getEnrolledStudents(assignedStudents);
+        EnrolledStudents modelAssignedStudents = getEnrolledStudents(assignedStudents, assignedStudentIds,
+                studentTable);
 
         if (this.isRecurring) {
             return Lesson.makeRecurringLesson(
@@ -124,14 +229,24 @@ class JsonAdaptedLesson {
         }
     }
 
-    private static EnrolledStudents getEnrolledStudents(List<JsonAdaptedStudent> assignedStudents)
-            throws IllegalValueException {
+    private static EnrolledStudents getEnrolledStudents(List<JsonAdaptedStudent> assignedStudents,
+            List<Integer> assignedStudentIds, List<Student> studentTable) throws IllegalValueException {
         EnrolledStudents enrolledStudents = new EnrolledStudents();
 
         for (JsonAdaptedStudent student : assignedStudents) {
             enrolledStudents.addStudent(student.toModelType());
         }
 
+        for (Integer studentId : assignedStudentIds) {
+            if (studentId == null || studentId < 0 || studentId >= studentTable.size()) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_STUDENT);
+            }
+            if (studentTable.get(studentId) == null) {
+                throw new IllegalValueException(MESSAGE_UNREADABLE_STUDENT);
+            }
+            enrolledStudents.addStudent(studentTable.get(studentId));
+        }
+
         return enrolledStudents;
     }
 }
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of a change to a list of records, made by replacing a run of records with new ones.
+ *
+ * @param <J> the type of the records in the list.
+ */
+class JsonAdaptedListChange<J> {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal contains a change that does not fit the data!";
+
+    private final int start;
+    private final int removed;
+    private final List<J> inserted = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} that replaces the {@code removed} records starting at {@code start}
+     * with {@code inserted}.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("start") int start, @JsonProperty("removed") int removed,
+                                 @JsonProperty("inserted") List<J> inserted) {
+        this.start = start;
+        this.removed = removed;
+        if (inserted != null) {
+            this.inserted.addAll(inserted);
+        }
+    }
+
+    /**
+     * Returns the change that turns {@code previous} into {@code current}: the run of records between the
+     * longest unchanged prefix and the longest unchanged suffix of both lists, as adapted by {@code adapter}.
+     */
+    static <T, J> JsonAdaptedListChange<J> between(List<T> previous, List<T> current,
+            BiPredicate<T, T> isUnchanged, Function<T, J> adapter) {
+        int prefix = 0;
+        int maxPrefix = Math.min(previous.size(), current.size());
+        while (prefix < maxPrefix && isUnchanged.test(previous.get(prefix), current.get(prefix))) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && isUnchanged.test(previous.get(previous.size() - 1 - suffix),
+                current.get(current.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<J> inserted = current.subList(prefix, current.size() - suffix).stream()
+                .map(adapter)
+                .collect(Collectors.toList());
+        return new JsonAdaptedListChange<>(prefix, previous.size() - prefix - suffix, inserted);
+    }
+
+    public boolean isEmpty() {
+        return removed == 0 && inserted.isEmpty();
+    }
+
+    /**
+     * Applies this change to {@code records}.
+     *
+     * @throws IllegalValueException if the records to be replaced are not all in {@code records}.
+     */
+    public void applyTo(List<J> records) throws IllegalValueException {
+        if (start < 0 || removed < 0 || start + removed > records.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+
+        List<J> replaced = records.subList(start, start + removed);
+        replaced.clear();
+        replaced.addAll(inserted);
+    }
+
+    /**
+     * Returns the records inserted by this change.
+     */
+    List<J> getInserted() {
+        return inserted;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -25,22 +26,38 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedStudent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Student's %s field is missing!";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Student's fields do not match their checksum!";
 
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    /** Only read from files in the layout before lessons referred to their students; never written. */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedLesson> enrolledLessons = new ArrayList<>();
+    /** The checksum of the other fields when they were written, or null if the file predates checksums. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long checksum;
 
     /**
      * Constructs a {@code JsonAdaptedStudent} with the given student details.
      */
+    public JsonAdaptedStudent(String name, String phone, String email, String address, List<JsonAdaptedTag> tagged,
+            List<JsonAdaptedLesson> enrolledLessons) {
+        this(name, phone, email, address, tagged, enrolledLessons, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedStudent} with the given student details and the checksum they were written with.
+     */
     @JsonCreator
     public JsonAdaptedStudent(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
-            @JsonProperty("enrolledLessons") List<JsonAdaptedLesson> enrolledLessons) {
+            @JsonProperty("enrolledLessons") List<JsonAdaptedLesson> enrolledLessons,
+            @JsonProperty("checksum") Long checksum) {
+        this.checksum = checksum;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,6 +81,19 @@ class JsonAdaptedStudent {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        checksum = computeChecksum();
+    }
+
+    /**
+     * Returns the checksum of the fields of this student that are written to a file.
+     */
+    long computeChecksum() {
+        List<String> fields = new ArrayList<>(List.of(String.valueOf(name), String.valueOf(phone),
+                String.valueOf(email), String.valueOf(address)));
+        for (JsonAdaptedTag tag : tagged) {
+            fields.add(String.valueOf(tag.getTagName()));
+        }
+        return RecordChecksum.of(fields);
     }
 
     /**
@@ -72,6 +102,10 @@ class JsonAdaptedStudent {
      * @throws IllegalValueException if there were any data constraints violated in the adapted student.
      */
     public Student toModelType() throws IllegalValueException {
+        if (checksum != null && checksum != computeChecksum()) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
         final List<Tag> studentTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             studentTags.add(tag.toModelType());
@@ -4,15 +4,19 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LessonBook;
 import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.Lesson;
 
 /**
  * A class to access StudentBook data stored as a json file on the hard disk.
@@ -22,15 +26,50 @@ public class JsonLessonBookStorage implements LessonBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonLessonBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
 
     public JsonLessonBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonLessonBookStorage} at {@code filePath} that writes its file on a single line
+     * if {@code isCompact} is true, or indented for reading otherwise.
+     */
+    public JsonLessonBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonLessonBookStorage} at {@code filePath} that writes its file on a single line
+     * if {@code isCompact} is true, and compressed with gzip if {@code isCompressed} is true.
+     * Files are read whether or not they are compressed.
+     */
+    public JsonLessonBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
     }
 
     public Path getLessonBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns true if this storage writes its files on a single line.
+     */
+    boolean isCompact() {
+        return isCompact;
+    }
+
+    /**
+     * Returns true if this storage compresses its files.
+     */
+    boolean isCompressed() {
+        return isCompressed;
+    }
+
     @Override
     public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException {
         return readLessonBook(filePath);
@@ -45,8 +84,8 @@ public class JsonLessonBookStorage implements LessonBookStorage {
     public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLessonBook.class);
+        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readVersionedJsonFile(
+                filePath, JsonSerializableLessonBook.class, JsonSerializableLessonBook.MIGRATOR);
         if (!jsonLessonBook.isPresent()) {
             return Optional.empty();
         }
@@ -59,6 +98,28 @@ public class JsonLessonBookStorage implements LessonBookStorage {
         }
     }
 
+    @Override
+    public Optional<ReadOnlyLessonBook> recoverLessonBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+
+        Optional<ObjectNode> root = JsonUtil.readDamagedJsonFile(filePath, quarantine::addLoss);
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Lesson> lessons = JsonSerializableLessonBook.recover(root.get(), quarantine)
+                    .toModelLessons(quarantine);
+            LessonBook lessonBook = JsonSerializableLessonBook.toLessonBook(lessons, quarantine);
+            quarantine.writeBeside(filePath);
+            return Optional.of(lessonBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
     @Override
     public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
         saveLessonBook(lessonBook, filePath);
@@ -73,8 +134,8 @@ public class JsonLessonBookStorage implements LessonBookStorage {
         requireNonNull(lessonBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath, isCompact,
+                isCompressed);
     }
 
 }
@@ -1,36 +1,71 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.RecordMigrator;
 import seedu.address.model.LessonBook;
 import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.exceptions.ContainsConflictingLessonsException;
+import seedu.address.model.student.Student;
 
 /**
- * An Immutable StudentBook that is serializable to JSON format.
+ * An Immutable LessonBook that is serializable to JSON format.
+ *
+ * From {@link #FORMAT_VERSION} 2 onwards, each student enrolled in any lesson is written once to a table of students,
+ * and lessons refer to their students by their position in that table. Files without a version use the earlier
+ * layout, where every lesson holds a full copy of each of its students; they can still be read, and
+ * {@link #MIGRATOR} drops the copies of lessons those copies of students held as the file is read. A file saved in
+ * an earlier version is not rewritten when it is read, only when the book is next saved.
  */
 @JsonRootName(value = "lessonbook")
 class JsonSerializableLessonBook {
 
+    public static final int FORMAT_VERSION = 2;
+
     public static final String MESSAGE_CONFLICTING_LESSONS = "Lesson list contains conflicting lesson(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Lesson book was saved by a newer version of TeachWhat! (format version %d).";
+
+    /** Upgrades each student and lesson of a file saved in an earlier format version as it is read. */
+    static final RecordMigrator MIGRATOR = new RecordMigrator(FORMAT_VERSION)
+            .addStep("lessons", 1, lesson -> lesson.path("assignedStudents").forEach(student -> {
+                if (student.isObject()) {
+                    ((ObjectNode) student).remove("enrolledLessons");
+                }
+            }));
 
+    private final Integer version;
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableLessonBook} with the given lessons.
+     * Constructs a {@code JsonSerializableLessonBook} with the given format version, students and lessons.
      */
     @JsonCreator
-    public JsonSerializableLessonBook(
-            @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
-        this.lessons.addAll(lessons);
+    public JsonSerializableLessonBook(@JsonProperty("version") Integer version,
+                                      @JsonProperty("students") List<JsonAdaptedStudent> students,
+                                      @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.version = version;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
     }
 
     /**
@@ -39,7 +74,77 @@ class JsonSerializableLessonBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableLessonBook}.
      */
     public JsonSerializableLessonBook(ReadOnlyLessonBook source) {
-        lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
+        this(source.getLessonList());
+    }
+
+    /**
+     * Converts the given {@code lessons} into a lesson book for Jackson use.
+     *
+     * @param lessons future changes to this will not affect the created {@code JsonSerializableLessonBook}.
+     */
+    public JsonSerializableLessonBook(List<Lesson> lessons) {
+        version = FORMAT_VERSION;
+        Map<Student, Integer> studentIds = new HashMap<>();
+        Function<Student, Integer> studentIdOf = student -> studentIds.computeIfAbsent(student, newStudent -> {
+            students.add(new JsonAdaptedStudent(newStudent));
+            return students.size() - 1;
+        });
+        for (Lesson lesson : lessons) {
+            this.lessons.add(new JsonAdaptedLesson(lesson, studentIdOf));
+        }
+    }
+
+    /**
+     * Returns the lesson book in {@code root}, a json tree recovered from a damaged file. Each lesson that cannot be
+     * read is added to {@code quarantine}, and left in the book as null, so that the changes journaled after the file
+     * still apply to the lessons they were made to. Students in the table that cannot be read are left as null too,
+     * so the lessons that refer to them are found when they are converted.
+     */
+    static JsonSerializableLessonBook recover(ObjectNode root, Quarantine quarantine) {
+        Integer version = root.path("version").isInt() ? root.get("version").intValue() : null;
+        int fileVersion = version == null ? RecordMigrator.UNVERSIONED : version;
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        for (JsonNode student : root.path("students")) {
+            try {
+                students.add(JsonUtil.fromJsonTree(MIGRATOR.migrate("students", student, fileVersion),
+                        JsonAdaptedStudent.class));
+            } catch (IOException e) {
+                students.add(null);
+            }
+        }
+        List<JsonAdaptedLesson> lessons = new ArrayList<>();
+        for (JsonNode lesson : root.path("lessons")) {
+            try {
+                lessons.add(JsonUtil.fromJsonTree(MIGRATOR.migrate("lessons", lesson, fileVersion),
+                        JsonAdaptedLesson.class));
+            } catch (IOException e) {
+                quarantine.add(lesson, e.getMessage());
+                lessons.add(null);
+            }
+        }
+        return new JsonSerializableLessonBook(version, students, lessons);
+    }
+
+    /**
+     * Returns true if this lesson book is in a layout older than {@link #FORMAT_VERSION}.
+     */
+    boolean isLegacyFormat() {
+        return version == null || version < FORMAT_VERSION;
+    }
+
+    /**
+     * Returns the Jackson-friendly lessons in this lesson book.
+     */
+    List<JsonAdaptedLesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns a copy of this lesson book with its lessons replaced by {@code lessons},
+     * which may refer to the students in this lesson book.
+     */
+    JsonSerializableLessonBook withLessons(List<JsonAdaptedLesson> lessons) {
+        return new JsonSerializableLessonBook(version, students, lessons);
     }
 
     /**
@@ -48,19 +153,85 @@ class JsonSerializableLessonBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public LessonBook toModelType() throws IllegalValueException {
-        LessonBook lessonBook = new LessonBook();
-        List<Lesson> lessonList = new ArrayList<>();
-
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            lessonList.add(jsonAdaptedLesson.toModelType());
-        }
+        return toLessonBook(toModelLessons());
+    }
 
+    /**
+     * Returns a {@code LessonBook} of the converted {@code lessons}.
+     *
+     * @throws IllegalValueException if any of the lessons conflict with each other.
+     */
+    static LessonBook toLessonBook(List<Lesson> lessons) throws IllegalValueException {
+        // conflicts can only be found once every lesson has been converted
+        LessonBook lessonBook = new LessonBook();
         try {
-            lessonBook.setLessons(lessonList);
+            lessonBook.setLessons(lessons);
         } catch (ContainsConflictingLessonsException e) {
             throw new IllegalValueException(e.getMessage());
         }
 
         return lessonBook;
     }
+
+    /**
+     * Returns a {@code LessonBook} of the converted {@code lessons}, adding each lesson that conflicts with an earlier
+     * one to {@code quarantine} instead.
+     */
+    static LessonBook toLessonBook(List<Lesson> lessons, Quarantine quarantine) {
+        try {
+            return toLessonBook(lessons);
+        } catch (IllegalValueException e) {
+            // only a damaged book has conflicts, so the slower check of each lesson is left until one is found
+            List<Lesson> acceptedLessons = new ArrayList<>();
+            for (Lesson lesson : lessons) {
+                if (acceptedLessons.stream().anyMatch(lesson::isConflictingWithLesson)) {
+                    quarantine.add(new JsonAdaptedLesson(lesson), MESSAGE_CONFLICTING_LESSONS);
+                } else {
+                    acceptedLessons.add(lesson);
+                }
+            }
+            LessonBook lessonBook = new LessonBook();
+            lessonBook.setLessons(acceptedLessons);
+            return lessonBook;
+        }
+    }
+
+    /**
+     * Converts the lessons in this lesson book into the model's {@code Lesson} objects,
+     * without checking them for conflicts with each other.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<Lesson> toModelLessons() throws IllegalValueException {
+        if (version != null && version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Student> studentTable = RecordConverter.convertAll(students, JsonAdaptedStudent::toModelType);
+        return RecordConverter.convertAll(lessons, jsonAdaptedLesson -> jsonAdaptedLesson.toModelType(studentTable));
+    }
+
+    /**
+     * Converts the valid lessons in this lesson book into the model's {@code Lesson} objects, without checking them
+     * for conflicts with each other, adding each invalid lesson to {@code quarantine} instead. A quarantined lesson
+     * holds full copies of its students, as the table of students it refers to is not quarantined with it.
+     *
+     * @throws IllegalValueException if the lesson book was saved by a newer version of TeachWhat!.
+     */
+    List<Lesson> toModelLessons(Quarantine quarantine) throws IllegalValueException {
+        if (version != null && version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // an unreadable student is left as null, so that the lessons referring to it are quarantined
+        List<Student> studentTable = RecordConverter.convertAll(students, student -> {
+            try {
+                return student == null ? null : student.toModelType();
+            } catch (IllegalValueException ive) {
+                return null;
+            }
+        });
+        return RecordConverter.convertValid(lessons, jsonAdaptedLesson -> jsonAdaptedLesson.toModelType(studentTable),
+                (lesson, ive) -> quarantine.add(lesson.withStudentsFrom(students), ive.getMessage()));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,29 +8,50 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.RecordMigrator;
 import seedu.address.model.ReadOnlyStudentBook;
 import seedu.address.model.StudentBook;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
 
 /**
  * An Immutable StudentBook that is serializable to JSON format.
+ *
+ * Files without a version may hold a copy of every lesson a student is enrolled in; these copies are dropped
+ * by {@link #MIGRATOR} as the file is read, as the lesson book records enrolments from {@link #FORMAT_VERSION} 2.
+ * A file saved in an earlier version is not rewritten when it is read, only when the book is next saved.
  */
 @JsonRootName(value = "studentbook")
 class JsonSerializableStudentBook {
 
+    public static final int FORMAT_VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Student book was saved by a newer version of TeachWhat! (format version %d).";
+
+    /** Upgrades each student of a file saved in an earlier format version as it is read. */
+    static final RecordMigrator MIGRATOR = new RecordMigrator(FORMAT_VERSION)
+            .addStep("students", 1, student -> student.remove("enrolledLessons"));
 
+    private final Integer version;
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableStudentBook} with the given students.
+     * Constructs a {@code JsonSerializableStudentBook} with the given format version and students.
      */
     @JsonCreator
-    public JsonSerializableStudentBook(
-            @JsonProperty("students") List<JsonAdaptedStudent> students) {
-        this.students.addAll(students);
+    public JsonSerializableStudentBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("students") List<JsonAdaptedStudent> students) {
+        this.version = version;
+        if (students != null) {
+            this.students.addAll(students);
+        }
     }
 
     /**
@@ -38,26 +60,101 @@ class JsonSerializableStudentBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableStudentBook}.
      */
     public JsonSerializableStudentBook(ReadOnlyStudentBook source) {
+        version = FORMAT_VERSION;
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this student book is in a layout older than {@link #FORMAT_VERSION}.
+     */
+    boolean isLegacyFormat() {
+        return version == null || version < FORMAT_VERSION;
+    }
+
+    /**
+     * Returns the Jackson-friendly students in this student book.
+     */
+    List<JsonAdaptedStudent> getStudents() {
+        return students;
+    }
+
+    /**
+     * Returns a copy of this student book with its students replaced by {@code students}.
+     */
+    JsonSerializableStudentBook withStudents(List<JsonAdaptedStudent> students) {
+        return new JsonSerializableStudentBook(version, students);
+    }
+
+    /**
+     * Returns the student book in {@code root}, a json tree recovered from a damaged file. Each student that cannot
+     * be read is added to {@code quarantine}, and left in the book as null, so that the changes journaled after the
+     * file still apply to the students they were made to.
+     */
+    static JsonSerializableStudentBook recover(ObjectNode root, Quarantine quarantine) {
+        Integer version = root.path("version").isInt() ? root.get("version").intValue() : null;
+        int fileVersion = version == null ? RecordMigrator.UNVERSIONED : version;
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        for (JsonNode student : root.path("students")) {
+            try {
+                students.add(JsonUtil.fromJsonTree(MIGRATOR.migrate("students", student, fileVersion),
+                        JsonAdaptedStudent.class));
+            } catch (IOException e) {
+                quarantine.add(student, e.getMessage());
+                students.add(null);
+            }
+        }
+        return new JsonSerializableStudentBook(version, students);
+    }
+
     /**
      * Converts this student book into the model's {@code StudentBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudentBook toModelType() throws IllegalValueException {
+        if (version != null && version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Student> studentList = RecordConverter.convertAll(students, JsonAdaptedStudent::toModelType);
+
+        // duplicates can only be found once every student has been converted
         StudentBook studentBook = new StudentBook();
+        try {
+            studentBook.setStudents(studentList);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        }
+        return studentBook;
+    }
 
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (studentBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            studentBook.addStudent(student);
+    /**
+     * Converts the valid students in this student book into the model's {@code StudentBook} object, adding each
+     * student that is invalid, or a duplicate of an earlier one, to {@code quarantine} instead.
+     *
+     * @throws IllegalValueException if the student book was saved by a newer version of TeachWhat!.
+     */
+    public StudentBook toModelType(Quarantine quarantine) throws IllegalValueException {
+        if (version != null && version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
         }
 
+        List<Student> studentList = RecordConverter.convertValid(students, JsonAdaptedStudent::toModelType,
+                (student, ive) -> quarantine.add(student, ive.getMessage()));
 
+        StudentBook studentBook = new StudentBook();
+        try {
+            studentBook.setStudents(studentList);
+        } catch (DuplicateStudentException e) {
+            // only a damaged book has duplicates, so the slower check of each student is left until one is found
+            for (Student student : studentList) {
+                if (studentBook.hasStudent(student)) {
+                    quarantine.add(new JsonAdaptedStudent(student), MESSAGE_DUPLICATE_STUDENT);
+                } else {
+                    studentBook.addStudent(student);
+                }
+            }
+        }
         return studentBook;
     }
 }
@@ -7,12 +7,14 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
 
 /**
  * A class to access StudentBook data stored as a json file on the hard disk.
@@ -22,9 +24,30 @@ public class JsonStudentBookStorage implements StudentBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonStudentBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
 
     public JsonStudentBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonStudentBookStorage} at {@code filePath} that writes its file on a single line
+     * if {@code isCompact} is true, or indented for reading otherwise.
+     */
+    public JsonStudentBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonStudentBookStorage} at {@code filePath} that writes its file on a single line
+     * if {@code isCompact} is true, and compressed with gzip if {@code isCompressed} is true.
+     * Files are read whether or not they are compressed.
+     */
+    public JsonStudentBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
     }
 
     public Path getStudentBookFilePath() {
@@ -45,8 +68,8 @@ public class JsonStudentBookStorage implements StudentBookStorage {
     public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableStudentBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableStudentBook.class);
+        Optional<JsonSerializableStudentBook> jsonAddressBook = JsonUtil.readVersionedJsonFile(
+                filePath, JsonSerializableStudentBook.class, JsonSerializableStudentBook.MIGRATOR);
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
@@ -59,6 +82,27 @@ public class JsonStudentBookStorage implements StudentBookStorage {
         }
     }
 
+    @Override
+    public Optional<ReadOnlyStudentBook> recoverStudentBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+
+        Optional<ObjectNode> root = JsonUtil.readDamagedJsonFile(filePath, quarantine::addLoss);
+        if (!root.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            StudentBook studentBook = JsonSerializableStudentBook.recover(root.get(), quarantine)
+                    .toModelType(quarantine);
+            quarantine.writeBeside(filePath);
+            return Optional.of(studentBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
     @Override
     public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
         saveStudentBook(studentBook, filePath);
@@ -73,8 +117,8 @@ public class JsonStudentBookStorage implements StudentBookStorage {
         requireNonNull(studentBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath, isCompact,
+                isCompressed);
     }
 
 }
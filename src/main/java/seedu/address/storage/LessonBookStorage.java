@@ -30,6 +30,26 @@ public interface LessonBookStorage {
      */
     Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns LessonBook data as a {@link ReadOnlyLessonBook}, like {@link #readLessonBook()}, but may leave
+     * the lessons that are not needed straight away on disk, to be loaded later as the
+     * {@link ReadOnlyLessonBook#getDeferredLessons() deferred lessons} of the book.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<ReadOnlyLessonBook> readLessonBookLazily() throws DataConversionException, IOException {
+        return readLessonBook();
+    }
+
+    /**
+     * Returns LessonBook data as a {@link ReadOnlyLessonBook}, like {@link #readLessonBook()}, but leaves out
+     * the lessons that cannot be read, or the damaged part of the file they are in, instead of failing.
+     * What is left out is added to {@code quarantine}, and kept in a file beside the data file.
+     * @throws DataConversionException if none of the data in storage can be read.
+     * @throws IOException if there was any problem when reading from the storage or writing the quarantined lessons.
+     */
+    Optional<ReadOnlyLessonBook> recoverLessonBook(Quarantine quarantine) throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyLessonBook} to the storage.
      * @param lessonBook cannot be null.
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * The records left out of a book recovered from a damaged data file, each with the reason it could not be read.
+ * They are kept in a file beside the data file, where they can be repaired by hand, as the data file itself is
+ * replaced by the recovered book the next time it is saved.
+ */
+public class Quarantine {
+
+    public static final String QUARANTINE_FILE_FORMAT = "%1$s.quarantine-%2$s.json";
+    public static final String DAMAGED_FILE_FORMAT = "%1$s.damaged-%2$s";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // records may be quarantined by the threads converting a large book in parallel
+    private final List<QuarantinedRecord> records = Collections.synchronizedList(new ArrayList<>());
+    private final List<Path> writtenFiles = new ArrayList<>();
+
+    /**
+     * Adds {@code record}, which was left out of the book because of {@code reason}.
+     */
+    void add(Object record, String reason) {
+        requireNonNull(record);
+        requireNonNull(reason);
+        records.add(new QuarantinedRecord(reason, record));
+    }
+
+    /**
+     * Notes that an unknown number of records were lost from the book because of {@code reason}.
+     */
+    void addLoss(String reason) {
+        requireNonNull(reason);
+        records.add(new QuarantinedRecord(reason, null));
+    }
+
+    /**
+     * Returns true if nothing was left out of the book.
+     */
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * Returns the number of records left out of the book, not counting those lost in a part of a file that could
+     * not be read at all.
+     */
+    public int getRecordCount() {
+        synchronized (records) {
+            return (int) records.stream().filter(record -> record.record != null).count();
+        }
+    }
+
+    /**
+     * Returns the reason for each record, or part of a file, that was left out of the book.
+     */
+    public List<String> getReasons() {
+        synchronized (records) {
+            return records.stream().map(record -> record.reason).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the files the records were kept in, if any.
+     */
+    public List<Path> getWrittenFiles() {
+        return Collections.unmodifiableList(writtenFiles);
+    }
+
+    /**
+     * Writes the records left out of the book read from {@code dataFilePath} to a new file beside it, and, if part
+     * of the data file could not be read at all, keeps a copy of the whole data file too. Does nothing if nothing
+     * was left out.
+     *
+     * @return the file the records were written to, if any.
+     * @throws IOException if the records cannot be written.
+     */
+    Optional<Path> writeBeside(Path dataFilePath) throws IOException {
+        requireNonNull(dataFilePath);
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        String dataFileName = dataFilePath.getFileName().toString();
+        List<QuarantinedRecord> quarantinedRecords;
+        synchronized (records) {
+            quarantinedRecords = new ArrayList<>(records);
+        }
+        if (quarantinedRecords.stream().anyMatch(record -> record.record == null) && Files.exists(dataFilePath)) {
+            Path damagedCopy = dataFilePath.resolveSibling(String.format(DAMAGED_FILE_FORMAT, dataFileName,
+                    timestamp));
+            Files.copy(dataFilePath, damagedCopy, StandardCopyOption.REPLACE_EXISTING);
+            writtenFiles.add(damagedCopy);
+        }
+
+        Path quarantinePath = dataFilePath.resolveSibling(String.format(QUARANTINE_FILE_FORMAT, dataFileName,
+                timestamp));
+        JsonUtil.saveJsonFile(new Contents(dataFileName, quarantinedRecords), quarantinePath);
+        writtenFiles.add(quarantinePath);
+        return Optional.of(quarantinePath);
+    }
+
+    /**
+     * A record left out of a book, or a part of a file lost without its records, with the reason why.
+     */
+    private static class QuarantinedRecord {
+        private final String reason;
+        private final Object record;
+
+        private QuarantinedRecord(String reason, Object record) {
+            this.reason = reason;
+            this.record = record;
+        }
+    }
+
+    /**
+     * The contents of a quarantine file.
+     */
+    private static class Contents {
+        private final String dataFile;
+        private final List<QuarantinedRecord> records;
+
+        private Contents(String dataFile, List<QuarantinedRecord> records) {
+            this.dataFile = dataFile;
+            this.records = records;
+        }
+    }
+}
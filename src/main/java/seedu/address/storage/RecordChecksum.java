@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Computes the checksums stored with each record of a json data file, so that a record damaged on disk is found
+ * and left out on its own, rather than read with wrong values or failing the whole file.
+ */
+class RecordChecksum {
+    private static final byte FIELD_SEPARATOR = 0;
+
+    private RecordChecksum() {} // prevents instantiation
+
+    /**
+     * Returns the checksum of {@code fields}, in order.
+     */
+    static long of(List<String> fields) {
+        CRC32 checksum = new CRC32();
+        for (String field : fields) {
+            checksum.update(field.getBytes(StandardCharsets.UTF_8));
+            checksum.update(FIELD_SEPARATOR);
+        }
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the Jackson-friendly records of a book into the model's type.
+ * The records of a large book are converted in parallel, as each is validated independently of the others; checks
+ * across records, such as for duplicates or conflicts, are left to the book the records are put into.
+ */
+class RecordConverter {
+    /** Books with fewer records than this are converted on the calling thread. */
+    public static final int PARALLEL_THRESHOLD = 2048;
+
+    private RecordConverter() {} // prevents instantiation
+
+    /**
+     * Returns {@code records} converted by {@code conversion}, in the same order.
+     *
+     * @throws IllegalValueException if a record is invalid. If more than one is, any of them may be reported.
+     */
+    public static <J, T> List<T> convertAll(List<J> records, Conversion<J, T> conversion)
+            throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+        if (records.size() < PARALLEL_THRESHOLD) {
+            List<T> converted = new ArrayList<>(records.size());
+            for (J record : records) {
+                converted.add(conversion.convert(record));
+            }
+            return converted;
+        }
+        return convertAllInParallel(records, conversion);
+    }
+
+    /**
+     * Returns {@code records} converted by {@code conversion}, in the same order, converting them in parallel
+     * however few there are. Meant for records that are each expensive to convert, such as whole files.
+     *
+     * @throws IllegalValueException if a record is invalid. If more than one is, any of them may be reported.
+     */
+    public static <J, T> List<T> convertAllInParallel(List<J> records, Conversion<J, T> conversion)
+            throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+        try {
+            return records.parallelStream()
+                    .map(record -> convertUnchecked(record, conversion))
+                    .collect(Collectors.toList());
+        } catch (InvalidRecordException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the valid {@code records} converted by {@code conversion}, in the same order, passing each invalid one
+     * to {@code onInvalid} instead. Null records, which stand for records already found unreadable, are skipped.
+     * Like {@link #convertAll}, a large book is converted in parallel, so {@code onInvalid} must be thread-safe.
+     */
+    public static <J, T> List<T> convertValid(List<J> records, Conversion<J, T> conversion,
+                                              BiConsumer<J, IllegalValueException> onInvalid) {
+        requireNonNull(records);
+        requireNonNull(conversion);
+        requireNonNull(onInvalid);
+        Stream<J> stream = records.size() < PARALLEL_THRESHOLD ? records.stream() : records.parallelStream();
+        return stream.filter(Objects::nonNull)
+                .map(record -> {
+                    try {
+                        return conversion.convert(record);
+                    } catch (IllegalValueException ive) {
+                        onInvalid.accept(record, ive);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static <J, T> T convertUnchecked(J record, Conversion<J, T> conversion) {
+        try {
+            return conversion.convert(record);
+        } catch (IllegalValueException ive) {
+            throw new InvalidRecordException(ive);
+        }
+    }
+
+    /**
+     * Converts a single record into the model's type.
+     */
+    @FunctionalInterface
+    interface Conversion<J, T> {
+        T convert(J record) throws IllegalValueException;
+    }
+
+    /**
+     * Carries the {@code IllegalValueException} of an invalid record out of a parallel stream.
+     */
+    private static class InvalidRecordException extends RuntimeException {
+        private InvalidRecordException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,660 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.DeferredLessons;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonArchive;
+
+/**
+ * A class to access LessonBook data stored as json segments on the hard disk: one segment for the recurring lessons,
+ * and one for the other lessons starting in each calendar month, listed by a small index file.
+ *
+ * The lessons archived once they were over are kept in segments of their own, listed separately by the index. They are
+ * only read when first needed, and saving archived lessons rewrites only the archive segments of their months.
+ * When the lesson book is {@link #readLessonBookLazily() read lazily}, such as on startup, only the recurring segment
+ * and the segments of the current and future months are read straight away. The segments of past months are left as
+ * the deferred lessons of the book, which are read when first needed, and stay listed by the index as they are until
+ * they are added to the book.
+ *
+ * Segments are never changed once written. Each is named after the month it holds and the checksum of its contents,
+ * so saving writes new files only for the segments whose lessons changed, and then commits them by replacing the
+ * index. Segments no longer listed by the index or its backups are deleted.
+ * A lesson book saved as a single file, with or without a journal, is read as it is, and split into segments
+ * when it is next saved.
+ */
+public class SegmentedLessonBookStorage extends JsonLessonBookStorage {
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    public static final String RECURRING_SEGMENT_KEY = "recurring";
+    public static final String ARCHIVE_SEGMENT_KEY_PREFIX = "archive-";
+    public static final int INDEX_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Lesson book index was saved by a newer version of TeachWhat! (index version %d).";
+    public static final String MESSAGE_MISSING_SEGMENT = "Lesson book segment %s is missing.";
+    public static final String MESSAGE_MISSING_SEGMENT_LESSONS =
+            "Lesson book segment %s is missing; the %d lessons in it are lost.";
+    public static final String MESSAGE_UNREADABLE_SEGMENT = "Lesson book segment %s cannot be read.";
+    public static final String MESSAGE_SEGMENT_SIZE_MISMATCH =
+            "Lesson book segment %s holds %d lessons, but the index lists %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedLessonBookStorage.class);
+    private static final DateTimeFormatter MONTH_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String SEGMENT_FILE_FORMAT = "%s-%08x.json";
+
+    private final Path segmentDirectory;
+
+    /** The segments listed by the index as it was last read or written, by their keys. */
+    private Map<String, SegmentEntry> savedEntries = new TreeMap<>();
+    /** Copies of the lessons in each segment as they were last read or written, by the keys of their segments. */
+    private final Map<String, List<Lesson>> savedSegments = new HashMap<>();
+    /** Whether the file at this storage's location is an index last read or written by this storage. */
+    private boolean isIndexSaved;
+    /** The archive segments listed by the index as it was last read or written, by their keys. */
+    private Map<String, SegmentEntry> savedArchiveEntries = new TreeMap<>();
+    /** The archive as it was last read or written, or null if it has been neither. */
+    private LessonArchive savedArchive;
+    /** Whether the file at this storage's location was read as a single file, to be split on the next save. */
+    private boolean isSplitDue;
+    /** The deferred lessons of the lesson book last read, which are saved as they are while they stay deferred. */
+    private DeferredLessons savedDeferredLessons = new DeferredLessons();
+    /** The segments listed by the index that hold {@code savedDeferredLessons}. */
+    private List<SegmentEntry> deferredEntries = List.of();
+    /**
+     * Copies of the lessons in the deferred segments read, by their segments, so that a segment that has not changed
+     * since it was read need not be written once its lessons are added to the book.
+     */
+    private final Map<SegmentEntry, List<Lesson>> readDeferredSegments = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code SegmentedLessonBookStorage} with its index at {@code filePath}.
+     */
+    public SegmentedLessonBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code SegmentedLessonBookStorage} with its index at {@code filePath},
+     * writing its files on a single line if {@code isCompact} is true.
+     */
+    public SegmentedLessonBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code SegmentedLessonBookStorage} with its index at {@code filePath},
+     * writing its files on a single line if {@code isCompact} is true, and compressed with gzip if {@code isCompressed}
+     * is true.
+     */
+    public SegmentedLessonBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
+        super(filePath, isCompact, isCompressed);
+        segmentDirectory = getSegmentDirectory(filePath);
+    }
+
+    /**
+     * Returns the directory holding the segments of the lesson book indexed at {@code indexPath}.
+     */
+    public static Path getSegmentDirectory(Path indexPath) {
+        return indexPath.resolveSibling(indexPath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the key of the segment {@code lesson} is saved in.
+     */
+    static String getSegmentKey(Lesson lesson) {
+        if (lesson.isRecurring()) {
+            return RECURRING_SEGMENT_KEY;
+        }
+        return lesson.getDateTimeSlot().getDateOfLesson().format(MONTH_KEY_FORMAT);
+    }
+
+    /**
+     * Returns true if the segment under {@code key} holds the lessons of a month before {@code currentMonth}.
+     */
+    static boolean isPastMonthSegment(String key, LocalDate currentMonth) {
+        return !key.equals(RECURRING_SEGMENT_KEY) && key.compareTo(currentMonth.format(MONTH_KEY_FORMAT)) < 0;
+    }
+
+    /**
+     * Similar to {@link JsonLessonBookStorage#readLessonBook(Path)}, but reads the segments listed by the index
+     * if {@code filePath} is the location of this storage's index.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getLessonBookFilePath())) {
+            return super.readLessonBook(filePath);
+        }
+        return readIndexedLessonBook(filePath, false);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook()}, but leaves the segments of past months to be read when first needed.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBookLazily() throws DataConversionException {
+        return readIndexedLessonBook(getLessonBookFilePath(), true);
+    }
+
+    /**
+     * Reads the lesson book indexed at {@code filePath}, leaving the segments of past months as deferred lessons
+     * if {@code isLazy} is true.
+     */
+    private Optional<ReadOnlyLessonBook> readIndexedLessonBook(Path filePath, boolean isLazy)
+            throws DataConversionException {
+        long startTime = System.nanoTime();
+        Optional<SegmentIndex> index = JsonUtil.readJsonFile(filePath, SegmentIndex.class);
+        if (!index.isPresent()) {
+            return Optional.empty();
+        }
+        if (index.get().isSingleFile()) {
+            return readSingleFile(filePath);
+        }
+
+        try {
+            if (index.get().version > INDEX_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, index.get().version));
+            }
+            List<SegmentEntry> readEntries = new ArrayList<>();
+            List<SegmentEntry> pastEntries = new ArrayList<>();
+            LocalDate today = LocalDate.now();
+            for (SegmentEntry entry : index.get().segments) {
+                if (isLazy && isPastMonthSegment(entry.key, today)) {
+                    pastEntries.add(entry);
+                } else {
+                    readEntries.add(entry);
+                }
+            }
+            List<List<Lesson>> segments = RecordConverter.convertAllInParallel(readEntries, this::readSegment);
+            LessonBook lessonBook = JsonSerializableLessonBook.toLessonBook(segments.stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()));
+            List<SegmentEntry> archiveEntries = index.get().archive;
+            lessonBook.setArchive(archiveEntries.isEmpty()
+                    ? new LessonArchive()
+                    : new LessonArchive(() -> readArchive(archiveEntries)));
+            if (!pastEntries.isEmpty()) {
+                lessonBook.setDeferredLessons(new DeferredLessons(() -> readPastMonths(pastEntries)));
+            }
+            logger.info(String.format("Loaded %s: %d segments read in %s, %d segments of past months and "
+                    + "%d archive segments left unread", filePath, segments.size(),
+                    LatencyHistogram.formatMillis(System.nanoTime() - startTime), pastEntries.size(),
+                    archiveEntries.size()));
+            setSaved(index.get(), lessonBook, pastEntries);
+            return Optional.of(lessonBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link JsonLessonBookStorage#recoverLessonBook(Quarantine)}, but recovers the lessons of each segment
+     * listed by the index on its own, so a damaged or missing segment loses only the lessons in it. The index itself
+     * is small and rewritten in full on every save, so it is not recovered.
+     * The archive is read as it is, when first needed.
+     */
+    @Override
+    public Optional<ReadOnlyLessonBook> recoverLessonBook(Quarantine quarantine) throws DataConversionException,
+            IOException {
+        requireNonNull(quarantine);
+
+        Path filePath = getLessonBookFilePath();
+        Optional<SegmentIndex> index = JsonUtil.readJsonFile(filePath, SegmentIndex.class);
+        if (!index.isPresent()) {
+            return Optional.empty();
+        }
+        if (index.get().isSingleFile()) {
+            isSplitDue = true;
+            return new JournaledLessonBookStorage(filePath).recoverLessonBook(quarantine);
+        }
+
+        try {
+            if (index.get().version > INDEX_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, index.get().version));
+            }
+            List<Lesson> lessons = new ArrayList<>();
+            for (SegmentEntry entry : index.get().segments) {
+                lessons.addAll(recoverSegment(entry, quarantine));
+            }
+            LessonBook lessonBook = JsonSerializableLessonBook.toLessonBook(lessons, quarantine);
+            List<SegmentEntry> archiveEntries = index.get().archive;
+            lessonBook.setArchive(archiveEntries.isEmpty()
+                    ? new LessonArchive()
+                    : new LessonArchive(() -> readArchive(archiveEntries)));
+            if (quarantine.isEmpty()) {
+                setSaved(index.get(), lessonBook, List.of());
+            } else {
+                // only the archive is known to be saved as it is; every other segment is written on the next save
+                setSaved(new SegmentIndex(index.get().version, List.of(), archiveEntries), lessonBook, List.of());
+                savedSegments.clear();
+                isIndexSaved = false;
+            }
+            quarantine.writeBeside(filePath);
+            return Optional.of(lessonBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link JsonLessonBookStorage#saveLessonBook(ReadOnlyLessonBook, Path)}, but only writes
+     * the segments that changed if {@code filePath} is the location of this storage's index.
+     */
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getLessonBookFilePath())) {
+            super.saveLessonBook(lessonBook, filePath);
+            return;
+        }
+
+        Map<String, List<Lesson>> segments = groupBySegment(lessonBook.getLessonList());
+        Map<String, SegmentEntry> entries = new TreeMap<>();
+        DeferredLessons deferredLessons = lessonBook.getDeferredLessons();
+        if (isDeferredAsSaved(deferredLessons, segments)) {
+            deferredEntries.forEach(entry -> entries.put(entry.key, entry));
+        } else {
+            if (!deferredLessons.isEmpty()) {
+                segments = groupBySegment(withDeferredLessons(lessonBook));
+            }
+            // the deferred segments read are known to be saved as they were read
+            savedEntries.values().stream()
+                    .filter(entry -> !savedSegments.containsKey(entry.key) && readDeferredSegments.containsKey(entry))
+                    .forEach(entry -> savedSegments.put(entry.key, readDeferredSegments.get(entry)));
+        }
+        Map<String, List<Lesson>> writtenSegments = new HashMap<>();
+        for (Map.Entry<String, List<Lesson>> segment : segments.entrySet()) {
+            String key = segment.getKey();
+            if (savedEntries.containsKey(key) && isSavedSameAs(savedSegments.get(key), segment.getValue())) {
+                entries.put(key, savedEntries.get(key));
+                continue;
+            }
+            entries.put(key, writeSegment(key, segment.getValue()));
+            writtenSegments.put(key, segment.getValue());
+        }
+
+        Map<String, SegmentEntry> archiveEntries = saveArchive(lessonBook.getArchive());
+
+        boolean isIndexChanged = !isIndexSaved || !entries.equals(savedEntries)
+                || !archiveEntries.equals(savedArchiveEntries);
+        if (isIndexChanged) {
+            writeIndex(filePath, new ArrayList<>(entries.values()), new ArrayList<>(archiveEntries.values()));
+            savedEntries = entries;
+            savedArchiveEntries = archiveEntries;
+            isIndexSaved = true;
+        }
+        if (isSplitDue) {
+            // the journal followed the single file, which is now kept only as a backup of the index
+            Files.deleteIfExists(BookJournal.getJournalPath(filePath));
+            isSplitDue = false;
+            logger.info("Split " + filePath + " into " + entries.size() + " segments");
+        }
+        savedArchive = lessonBook.getArchive();
+        if (deferredLessons != savedDeferredLessons) {
+            savedDeferredLessons = new DeferredLessons();
+            deferredEntries = List.of();
+            readDeferredSegments.clear();
+        }
+        writtenSegments.forEach((key, lessons) -> savedSegments.put(key, copyOf(lessons)));
+        savedSegments.keySet().retainAll(segments.keySet());
+        if (isIndexChanged) {
+            logger.fine(String.format("Saved %d of %d lesson book segments", writtenSegments.size(), entries.size()));
+            deleteUnlistedSegments(filePath);
+        }
+    }
+
+    /**
+     * Returns true if {@code deferredLessons} are those of the lesson book last read, and can still be saved as they
+     * were read, as none of the lessons in {@code segments} belong in their segments.
+     */
+    private boolean isDeferredAsSaved(DeferredLessons deferredLessons, Map<String, List<Lesson>> segments) {
+        return !deferredLessons.isEmpty() && deferredLessons == savedDeferredLessons
+                && deferredEntries.stream().noneMatch(entry -> segments.containsKey(entry.key));
+    }
+
+    /**
+     * Returns the lessons of {@code lessonBook} followed by its deferred lessons, which are read if needed.
+     */
+    private static List<Lesson> withDeferredLessons(ReadOnlyLessonBook lessonBook) throws IOException {
+        List<Lesson> lessons = new ArrayList<>(lessonBook.getLessonList());
+        try {
+            lessons.addAll(lessonBook.getDeferredLessons().getLessons());
+        } catch (DataConversionException e) {
+            throw new IOException("Lessons of past months cannot be read to be saved", e);
+        }
+        return lessons;
+    }
+
+    /**
+     * Reads the lesson book saved as a single file at {@code filePath}, replaying its journal. The file is left as it
+     * is, and split into segments on the next save, so reading it takes no longer than before.
+     */
+    private Optional<ReadOnlyLessonBook> readSingleFile(Path filePath) throws DataConversionException {
+        Optional<ReadOnlyLessonBook> lessonBook = new JournaledLessonBookStorage(filePath).readLessonBook();
+        isSplitDue = lessonBook.isPresent();
+        return lessonBook;
+    }
+
+    /**
+     * Writes the segments of the lessons archived since the archive was last saved, and returns the archive segments
+     * the index should list. Only the archive segments of the months of those lessons are rewritten, unless
+     * {@code archive} was not built from the archive last saved, in which case it is written in full.
+     */
+    private Map<String, SegmentEntry> saveArchive(LessonArchive archive) throws IOException {
+        Optional<List<Lesson>> addedLessons = savedArchive == null
+                ? Optional.empty()
+                : archive.getLessonsAddedSince(savedArchive);
+        if (addedLessons.isPresent() && addedLessons.get().isEmpty()) {
+            return savedArchiveEntries;
+        }
+
+        Map<String, SegmentEntry> entries = new TreeMap<>();
+        Map<String, List<Lesson>> segments;
+        if (addedLessons.isPresent()) {
+            entries.putAll(savedArchiveEntries);
+            segments = groupByArchiveSegment(addedLessons.get());
+        } else {
+            try {
+                segments = groupByArchiveSegment(archive.getLessons());
+            } catch (DataConversionException e) {
+                throw new IOException("Archived lessons cannot be read to be saved", e);
+            }
+        }
+
+        for (Map.Entry<String, List<Lesson>> segment : segments.entrySet()) {
+            String key = segment.getKey();
+            List<Lesson> lessons = new ArrayList<>();
+            if (addedLessons.isPresent() && entries.containsKey(key)) {
+                try {
+                    lessons.addAll(readSegment(entries.get(key)));
+                } catch (IllegalValueException ive) {
+                    throw new IOException(ive.getMessage(), ive);
+                }
+            }
+            lessons.addAll(segment.getValue());
+            entries.put(key, writeSegment(key, lessons));
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the archived lessons in the archive segments listed by {@code entries}.
+     */
+    private List<Lesson> readArchive(List<SegmentEntry> entries) throws DataConversionException {
+        return readSegmentsLater(entries, "archived lessons").stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the lessons of past months in the segments listed by {@code entries}, keeping copies of them as read.
+     */
+    private List<Lesson> readPastMonths(List<SegmentEntry> entries) throws DataConversionException {
+        List<List<Lesson>> segments = readSegmentsLater(entries, "lessons of past months");
+        for (int i = 0; i < entries.size(); i++) {
+            readDeferredSegments.put(entries.get(i), copyOf(segments.get(i)));
+        }
+        return segments.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the segments listed by {@code entries}, which were left unread when the lesson book was read,
+     * logging them as the {@code description} loaded.
+     */
+    private List<List<Lesson>> readSegmentsLater(List<SegmentEntry> entries, String description)
+            throws DataConversionException {
+        long startTime = System.nanoTime();
+        try {
+            List<List<Lesson>> segments = RecordConverter.convertAllInParallel(entries, this::readSegment);
+            logger.info(String.format("Loaded %d %s from %d segments in %s",
+                    segments.stream().mapToInt(List::size).sum(), description, entries.size(),
+                    LatencyHistogram.formatMillis(System.nanoTime() - startTime)));
+            return segments;
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in the " + description + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private List<Lesson> readSegment(SegmentEntry entry) throws IllegalValueException {
+        Optional<JsonSerializableLessonBook> segment;
+        try {
+            segment = JsonUtil.readVersionedJsonFile(segmentDirectory.resolve(entry.fileName),
+                    JsonSerializableLessonBook.class, JsonSerializableLessonBook.MIGRATOR);
+        } catch (DataConversionException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNREADABLE_SEGMENT, entry.fileName), e);
+        }
+        if (!segment.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, entry.fileName));
+        }
+
+        List<Lesson> lessons = segment.get().toModelLessons();
+        if (lessons.size() != entry.lessonCount) {
+            throw new IllegalValueException(String.format(MESSAGE_SEGMENT_SIZE_MISMATCH, entry.fileName,
+                    lessons.size(), entry.lessonCount));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns the valid lessons in the segment listed by {@code entry}, adding those that cannot be read to
+     * {@code quarantine}.
+     */
+    private List<Lesson> recoverSegment(SegmentEntry entry, Quarantine quarantine) throws DataConversionException,
+            IllegalValueException {
+        Optional<ObjectNode> segment = JsonUtil.readDamagedJsonFile(segmentDirectory.resolve(entry.fileName),
+                damage -> quarantine.addLoss(entry.fileName + ": " + damage));
+        if (!segment.isPresent()) {
+            quarantine.addLoss(String.format(MESSAGE_MISSING_SEGMENT_LESSONS, entry.fileName, entry.lessonCount));
+            return List.of();
+        }
+        return JsonSerializableLessonBook.recover(segment.get(), quarantine).toModelLessons(quarantine);
+    }
+
+    /**
+     * Writes the segment of {@code lessons} under {@code key}, unless a segment with the same contents exists.
+     */
+    private SegmentEntry writeSegment(String key, List<Lesson> lessons) throws IOException {
+        JsonSerializableLessonBook segment = new JsonSerializableLessonBook(lessons);
+        String json = isCompact() ? JsonUtil.toCompactJsonString(segment) : JsonUtil.toJsonString(segment);
+        byte[] contents = json.getBytes(StandardCharsets.UTF_8);
+        CRC32 checksum = new CRC32();
+        checksum.update(contents);
+
+        String fileName = String.format(SEGMENT_FILE_FORMAT, key, checksum.getValue());
+        Path segmentPath = segmentDirectory.resolve(fileName);
+        if (!FileUtil.isFileExists(segmentPath)) {
+            FileUtil.writeAtomically(segmentPath, isCompressed(), out -> out.write(contents));
+        }
+        return new SegmentEntry(key, fileName, lessons.size());
+    }
+
+    /**
+     * Replaces the index, keeping the index it replaces as a backup.
+     */
+    private void writeIndex(Path filePath, List<SegmentEntry> entries, List<SegmentEntry> archiveEntries)
+            throws IOException {
+        FileUtil.rotateBackups(filePath, DataManifest.BACKUP_COUNT);
+        JsonUtil.saveJsonFile(new SegmentIndex(INDEX_VERSION, entries, archiveEntries), filePath, isCompact(),
+                isCompressed());
+    }
+
+    /**
+     * Deletes the segments listed by neither the index nor any of its backups, which may still be restored.
+     */
+    private void deleteUnlistedSegments(Path filePath) throws IOException {
+        Set<String> listedFileNames = new HashSet<>();
+        savedEntries.values().forEach(entry -> listedFileNames.add(entry.fileName));
+        savedArchiveEntries.values().forEach(entry -> listedFileNames.add(entry.fileName));
+        for (int index = 1; index <= DataManifest.BACKUP_COUNT; index++) {
+            Path backup = FileUtil.getBackupPath(filePath, index);
+            try {
+                Optional<SegmentIndex> backupIndex = JsonUtil.readJsonFile(backup, SegmentIndex.class);
+                if (backupIndex.isPresent() && !backupIndex.get().isSingleFile()) {
+                    backupIndex.get().segments.forEach(entry -> listedFileNames.add(entry.fileName));
+                    backupIndex.get().archive.forEach(entry -> listedFileNames.add(entry.fileName));
+                }
+            } catch (DataConversionException e) {
+                logger.warning("Backup " + backup + " cannot be read; its segments may be deleted");
+            }
+        }
+
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(segmentDirectory, "*.json")) {
+            for (Path segmentFile : segmentFiles) {
+                if (!listedFileNames.contains(segmentFile.getFileName().toString())) {
+                    Files.deleteIfExists(segmentFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records {@code lessonBook} as saved under {@code index}, with the lessons in the segments listed by
+     * {@code deferredEntries} deferred.
+     */
+    private void setSaved(SegmentIndex index, ReadOnlyLessonBook lessonBook, List<SegmentEntry> deferredEntries) {
+        savedEntries = new TreeMap<>();
+        index.segments.forEach(entry -> savedEntries.put(entry.key, entry));
+        savedArchiveEntries = new TreeMap<>();
+        index.archive.forEach(entry -> savedArchiveEntries.put(entry.key, entry));
+        savedArchive = lessonBook.getArchive();
+        savedDeferredLessons = lessonBook.getDeferredLessons();
+        this.deferredEntries = List.copyOf(deferredEntries);
+        readDeferredSegments.clear();
+        isIndexSaved = true;
+        savedSegments.clear();
+        groupBySegment(lessonBook.getLessonList()).forEach((key, lessons) -> savedSegments.put(key, copyOf(lessons)));
+    }
+
+    private static Map<String, List<Lesson>> groupBySegment(List<Lesson> lessons) {
+        Map<String, List<Lesson>> segments = new TreeMap<>();
+        for (Lesson lesson : lessons) {
+            segments.computeIfAbsent(getSegmentKey(lesson), key -> new ArrayList<>()).add(lesson);
+        }
+        return segments;
+    }
+
+    private static Map<String, List<Lesson>> groupByArchiveSegment(List<Lesson> lessons) {
+        Map<String, List<Lesson>> segments = new TreeMap<>();
+        for (Lesson lesson : lessons) {
+            segments.computeIfAbsent(ARCHIVE_SEGMENT_KEY_PREFIX + getSegmentKey(lesson), key -> new ArrayList<>())
+                    .add(lesson);
+        }
+        return segments;
+    }
+
+    private static boolean isSavedSameAs(List<Lesson> previous, List<Lesson> current) {
+        if (previous == null || previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            if (!JournaledLessonBookStorage.isSavedSameAs(previous.get(i), current.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // lessons are copied since the students enrolled in them can change
+    private static List<Lesson> copyOf(List<Lesson> lessons) {
+        return lessons.stream().map(Lesson::copy).collect(Collectors.toList());
+    }
+
+    /**
+     * A segment as listed in the index.
+     */
+    static class SegmentEntry {
+        private final String key;
+        private final String fileName;
+        private final int lessonCount;
+
+        @JsonCreator
+        SegmentEntry(@JsonProperty("key") String key, @JsonProperty("fileName") String fileName,
+                     @JsonProperty("lessonCount") int lessonCount) {
+            requireNonNull(key);
+            requireNonNull(fileName);
+            this.key = key;
+            this.fileName = fileName;
+            this.lessonCount = lessonCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof SegmentEntry)) {
+                return false;
+            }
+            SegmentEntry otherEntry = (SegmentEntry) other;
+            return key.equals(otherEntry.key)
+                    && fileName.equals(otherEntry.fileName)
+                    && lessonCount == otherEntry.lessonCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, fileName, lessonCount);
+        }
+    }
+
+    /**
+     * The contents of the index file.
+     */
+    static class SegmentIndex {
+        private final int version;
+        /** The segments of the lesson book, or null if the file holds a lesson book saved as a single file. */
+        private final List<SegmentEntry> segments;
+        private final List<SegmentEntry> archive;
+
+        @JsonCreator
+        SegmentIndex(@JsonProperty("version") int version, @JsonProperty("segments") List<SegmentEntry> segments,
+                     @JsonProperty("archive") List<SegmentEntry> archive) {
+            this.version = version;
+            this.segments = segments;
+            this.archive = archive == null ? List.of() : archive;
+        }
+
+        private boolean isSingleFile() {
+            return segments == null;
+        }
+    }
+}
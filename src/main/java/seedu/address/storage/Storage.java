@@ -1,8 +1,35 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.ReadOnlyUserPrefs;
+
 /**
  * API of the Storage component
  */
 public interface Storage extends StudentBookStorage, LessonBookStorage, UserPrefsStorage {
-    // nothing here
+
+    /**
+     * Returns the format that the student book and lesson book are saved in.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Saves and reads the student book and lesson book from now on in the files and format chosen in {@code userPrefs}.
+     * Must not be called while a book is being saved or read.
+     */
+    void setDataFiles(ReadOnlyUserPrefs userPrefs);
+
+    /**
+     * Records the student book and lesson book files as they are now as the latest pair saved together.
+     * Should be called once both books have been saved after a change.
+     */
+    void commitDataFiles() throws IOException;
+
+    /**
+     * Rolls back the student book and lesson book files to the pair last recorded by {@link #commitDataFiles()},
+     * if a book has been saved since without the other. Should be called before the books are read.
+     */
+    void recoverDataFiles() throws IOException;
 }
@@ -1,11 +1,15 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageMonitor;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.ReadOnlyStudentBook;
@@ -17,19 +21,88 @@ import seedu.address.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    static final String STUDENT_BOOK_NAME = "Student book";
+    static final String LESSON_BOOK_NAME = "Lesson book";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private StudentBookStorage studentBookStorage;
-    private LessonBookStorage lessonBookStorage;
+    // the books may be switched to other files by one thread while another is saving them
+    private volatile StudentBookStorage studentBookStorage;
+    private volatile LessonBookStorage lessonBookStorage;
+    private volatile DataFileFormat dataFileFormat;
+    private volatile DataManifest manifest;
     private UserPrefsStorage userPrefsStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code StudentBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code StudentBookStorage} and {@code UserPrefStorage},
+     * which save the books as json.
      */
     public StorageManager(StudentBookStorage studentBookStorage, LessonBookStorage lessonBookStorage,
                           UserPrefsStorage userPrefsStorage) {
         this.studentBookStorage = studentBookStorage;
         this.lessonBookStorage = lessonBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.dataFileFormat = DataFileFormat.JSON;
+        this.manifest = new DataManifest(studentBookStorage.getStudentBookFilePath(),
+                lessonBookStorage.getLessonBookFilePath());
+    }
+
+    /**
+     * Creates a {@code StorageManager} that keeps the books in the files and format chosen in {@code userPrefs}.
+     */
+    public StorageManager(ReadOnlyUserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        this.userPrefsStorage = userPrefsStorage;
+        setDataFiles(userPrefs);
+    }
+
+    // ================ Data file methods ==============================
+
+    @Override
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    @Override
+    public void setDataFiles(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        Path studentBookFilePath = userPrefs.getStudentBookFilePath();
+        Path lessonBookFilePath = userPrefs.getLessonBookFilePath();
+        switch (userPrefs.getDataFileFormat()) {
+        case DATABASE:
+            studentBookStorage = new DatabaseStudentBookStorage(studentBookFilePath);
+            lessonBookStorage = new DatabaseLessonBookStorage(lessonBookFilePath);
+            break;
+        case JSON:
+            studentBookStorage = new JournaledStudentBookStorage(studentBookFilePath, userPrefs.isCompactDataFiles(),
+                    userPrefs.isCompressDataFiles());
+            lessonBookStorage = new SegmentedLessonBookStorage(lessonBookFilePath, userPrefs.isCompactDataFiles(),
+                    userPrefs.isCompressDataFiles());
+            break;
+        default:
+            throw new AssertionError("Unknown data file format: " + userPrefs.getDataFileFormat());
+        }
+        dataFileFormat = userPrefs.getDataFileFormat();
+        StorageMonitor.setSaveBudgetMillis(userPrefs.getSaveBudgetMillis());
+        manifest = new DataManifest(studentBookFilePath, lessonBookFilePath);
+        logger.info("Using " + dataFileFormat + " data files " + studentBookFilePath + " and " + lessonBookFilePath);
+    }
+
+    @Override
+    public void commitDataFiles() throws IOException {
+        // a database file commits each save as a transaction of its own, and drops unfinished ones when opened,
+        // so checksumming the whole file after every save would only undo the saving of just the changed records
+        if (dataFileFormat == DataFileFormat.DATABASE) {
+            return;
+        }
+        manifest.commit();
+    }
+
+    @Override
+    public void recoverDataFiles() throws IOException {
+        if (dataFileFormat == DataFileFormat.DATABASE) {
+            return;
+        }
+        logger.fine("Checking data files against the manifest: " + manifest.getManifestPath());
+        manifest.recover();
     }
 
     // ================ UserPrefs methods ==============================
@@ -65,7 +138,17 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return studentBookStorage.readStudentBook(filePath);
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyStudentBook> studentBook = studentBookStorage.readStudentBook(filePath);
+        StorageMonitor.recordRead(STUDENT_BOOK_NAME, System.nanoTime() - startTime);
+        return studentBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> recoverStudentBook(Quarantine quarantine)
+            throws DataConversionException, IOException {
+        logger.info("Attempting to recover data from file: " + studentBookStorage.getStudentBookFilePath());
+        return studentBookStorage.recoverStudentBook(quarantine);
     }
 
     @Override
@@ -76,7 +159,10 @@ public class StorageManager implements Storage {
     @Override
     public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        studentBookStorage.saveStudentBook(studentBook, filePath);
+        try (StorageMonitor.Measurement save = StorageMonitor.startSave(STUDENT_BOOK_NAME)) {
+            studentBookStorage.saveStudentBook(studentBook, filePath);
+            save.complete();
+        }
     }
 
     // ================ LessonBook methods ==============================
@@ -94,7 +180,26 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return lessonBookStorage.readLessonBook(filePath);
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyLessonBook> lessonBook = lessonBookStorage.readLessonBook(filePath);
+        StorageMonitor.recordRead(LESSON_BOOK_NAME, System.nanoTime() - startTime);
+        return lessonBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBookLazily() throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + lessonBookStorage.getLessonBookFilePath());
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyLessonBook> lessonBook = lessonBookStorage.readLessonBookLazily();
+        StorageMonitor.recordRead(LESSON_BOOK_NAME, System.nanoTime() - startTime);
+        return lessonBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> recoverLessonBook(Quarantine quarantine)
+            throws DataConversionException, IOException {
+        logger.info("Attempting to recover data from file: " + lessonBookStorage.getLessonBookFilePath());
+        return lessonBookStorage.recoverLessonBook(quarantine);
     }
 
     @Override
@@ -105,7 +210,10 @@ public class StorageManager implements Storage {
     @Override
     public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        lessonBookStorage.saveLessonBook(lessonBook, filePath);
+        try (StorageMonitor.Measurement save = StorageMonitor.startSave(LESSON_BOOK_NAME)) {
+            lessonBookStorage.saveLessonBook(lessonBook, filePath);
+            save.complete();
+        }
     }
 
 }
@@ -31,6 +31,15 @@ public interface StudentBookStorage {
      */
     Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns StudentBook data as a {@link ReadOnlyStudentBook}, like {@link #readStudentBook()}, but leaves out
+     * the students that cannot be read, or the damaged part of the file they are in, instead of failing.
+     * What is left out is added to {@code quarantine}, and kept in a file beside the data file.
+     * @throws DataConversionException if none of the data in storage can be read.
+     * @throws IOException if there was any problem when reading from the storage or writing the quarantined students.
+     */
+    Optional<ReadOnlyStudentBook> recoverStudentBook(Quarantine quarantine) throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyStudentBook} to the storage.
      * @param studentBook cannot be null.
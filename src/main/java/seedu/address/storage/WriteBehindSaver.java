@@ -0,0 +1,394 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.lesson.DeferredLessons;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonArchive;
+import seedu.address.model.student.Student;
+
+/**
+ * Saves the student book and lesson book to {@code Storage} on a single background thread.
+ *
+ * Each save takes a snapshot of the book on the calling thread, so that the book can keep changing while
+ * the snapshot is being written. A lesson book snapshot reuses the copies of the lessons whose enrolments have not
+ * changed since the last snapshot, so taking it copies only the lessons that changed.
+ * Saves requested while an earlier one is still queued replace the queued snapshot,
+ * so a burst of changes results in a single write of the latest data.
+ * Once the books in a write have been saved, they are committed together, so that a crash part way through
+ * the write rolls both books back to the last write that completed.
+ * A failed write is kept until it is taken with {@link #takeFailure()}.
+ * The snapshots last written, and the {@link DataFileWatcher#fingerprintOf fingerprint} of the data files after they
+ * were written, are kept as what the data files hold, so that changes made to the files by other programs can be
+ * told apart from the app's own saves and merged.
+ * If a {@link #setBackupSchedule backup schedule} is set, the books written are also backed up after a write once the
+ * interval of the schedule has passed since the last backup, so that backups are only taken while the books change.
+ */
+public class WriteBehindSaver {
+    public static final String WRITER_THREAD_NAME = "TeachWhat! storage writer";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    private ReadOnlyStudentBook pendingStudentBook;
+    private ReadOnlyLessonBook pendingLessonBook;
+    private boolean isWriteQueued;
+    private IOException failure;
+    private ReadOnlyStudentBook writtenStudentBook;
+    private ReadOnlyLessonBook writtenLessonBook;
+    private String writtenFingerprint;
+    private DeltaBackups scheduledBackups;
+    private long backupIntervalNanos;
+    private long lastBackupNanos;
+    private boolean hasBackedUp;
+    /** The copies of lessons in the last lesson book snapshot, by the lessons they were copied from. */
+    private final Map<Lesson, Lesson> lessonCopies = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} on its own thread.
+     */
+    public WriteBehindSaver(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} using {@code writer},
+     * which must run its tasks one at a time.
+     */
+    public WriteBehindSaver(Storage storage, ExecutorService writer) {
+        requireNonNull(storage);
+        requireNonNull(writer);
+        this.storage = storage;
+        this.writer = writer;
+    }
+
+    /**
+     * Queues a write of a snapshot of {@code studentBook},
+     * replacing any snapshot of the student book that has been queued but not yet written.
+     */
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) {
+        requireNonNull(studentBook);
+        saveBooks(studentBook, null);
+    }
+
+    /**
+     * Queues a write of a snapshot of {@code lessonBook},
+     * replacing any snapshot of the lesson book that has been queued but not yet written.
+     */
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) {
+        requireNonNull(lessonBook);
+        saveBooks(null, lessonBook);
+    }
+
+    /**
+     * Queues a write of snapshots of {@code studentBook} and {@code lessonBook}, either of which may be null if it
+     * has not changed. Both snapshots are written by the same write, and committed together once both are saved.
+     */
+    public void saveBooks(ReadOnlyStudentBook studentBook, ReadOnlyLessonBook lessonBook) {
+        ReadOnlyStudentBook studentBookSnapshot = studentBook == null ? null : snapshotOf(studentBook);
+        ReadOnlyLessonBook lessonBookSnapshot = lessonBook == null ? null : snapshotOf(lessonBook);
+        if (studentBookSnapshot == null && lessonBookSnapshot == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (studentBookSnapshot != null) {
+                pendingStudentBook = studentBookSnapshot;
+            }
+            if (lessonBookSnapshot != null) {
+                pendingLessonBook = lessonBookSnapshot;
+            }
+        }
+        queueWrite();
+    }
+
+    private void queueWrite() {
+        synchronized (this) {
+            if (isWriteQueued) {
+                logger.fine("Coalesced save into the write already queued");
+                return;
+            }
+            isWriteQueued = true;
+        }
+        writer.execute(this::writePending);
+    }
+
+    /**
+     * Records snapshots of {@code studentBook} and {@code lessonBook} as what the data files hold, with the
+     * {@code fingerprint} of the files, such as when the books have just been read from the files.
+     */
+    public void setWrittenBooks(ReadOnlyStudentBook studentBook, ReadOnlyLessonBook lessonBook,
+                                String fingerprint) {
+        requireNonNull(studentBook);
+        requireNonNull(lessonBook);
+        ReadOnlyStudentBook studentBookSnapshot = snapshotOf(studentBook);
+        ReadOnlyLessonBook lessonBookSnapshot = snapshotOf(lessonBook);
+        synchronized (this) {
+            writtenStudentBook = studentBookSnapshot;
+            writtenLessonBook = lessonBookSnapshot;
+            writtenFingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Returns the student book last written, or recorded by {@link #setWrittenBooks}, if there is one.
+     */
+    public synchronized Optional<ReadOnlyStudentBook> getWrittenStudentBook() {
+        return Optional.ofNullable(writtenStudentBook);
+    }
+
+    /**
+     * Returns the lesson book last written, or recorded by {@link #setWrittenBooks}, if there is one.
+     */
+    public synchronized Optional<ReadOnlyLessonBook> getWrittenLessonBook() {
+        return Optional.ofNullable(writtenLessonBook);
+    }
+
+    /**
+     * Returns the fingerprint of the data files after they were last written, or an empty {@code Optional} if it
+     * is not known.
+     */
+    public synchronized Optional<String> getWrittenFingerprint() {
+        return Optional.ofNullable(writtenFingerprint);
+    }
+
+    /**
+     * Backs up the books written to {@code backups} after a write, at most once every {@code intervalMinutes}
+     * minutes, in place of any schedule set before. The first write after the schedule is set is always backed up.
+     * An interval of 0 stops the scheduled backups.
+     */
+    public synchronized void setBackupSchedule(DeltaBackups backups, long intervalMinutes) {
+        requireNonNull(backups);
+        if (intervalMinutes <= 0) {
+            scheduledBackups = null;
+            return;
+        }
+        if (backups != scheduledBackups) {
+            hasBackedUp = false;
+        }
+        scheduledBackups = backups;
+        backupIntervalNanos = TimeUnit.MINUTES.toNanos(intervalMinutes);
+    }
+
+    /**
+     * Runs {@code task} on the writer thread once every write queued before this call has finished, so that it can
+     * read the data files without a write to them being in progress.
+     */
+    public void runBetweenWrites(Runnable task) {
+        requireNonNull(task);
+        writer.execute(task);
+    }
+
+    /**
+     * Blocks until every write queued before this call has finished.
+     */
+    public void awaitPendingWrites() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail", e);
+        }
+    }
+
+    /**
+     * Returns the failure of the most recent failed write, if it has not already been taken, and clears it.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> takenFailure = Optional.ofNullable(failure);
+        failure = null;
+        return takenFailure;
+    }
+
+    /**
+     * Writes every queued snapshot and stops the writer thread.
+     *
+     * @throws IOException if a write failed and its failure has not been taken.
+     */
+    public void close() throws IOException {
+        awaitPendingWrites();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Optional<IOException> unreportedFailure = takeFailure();
+        if (unreportedFailure.isPresent()) {
+            throw unreportedFailure.get();
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyStudentBook studentBook;
+        ReadOnlyLessonBook lessonBook;
+        synchronized (this) {
+            studentBook = pendingStudentBook;
+            lessonBook = pendingLessonBook;
+            pendingStudentBook = null;
+            pendingLessonBook = null;
+            isWriteQueued = false;
+        }
+
+        try {
+            if (studentBook != null) {
+                storage.saveStudentBook(studentBook);
+            }
+            if (lessonBook != null) {
+                storage.saveLessonBook(lessonBook);
+            }
+            if (studentBook != null || lessonBook != null) {
+                storage.commitDataFiles();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                failure = ioe;
+                // the files may hold part of the write, so they are not known until they are read again
+                writtenFingerprint = null;
+            }
+            return;
+        }
+
+        String fingerprint;
+        try {
+            fingerprint = DataFileWatcher.fingerprintOf(List.of(storage.getStudentBookFilePath(),
+                    storage.getLessonBookFilePath()));
+        } catch (IOException ioe) {
+            fingerprint = null;
+        }
+        synchronized (this) {
+            writtenStudentBook = studentBook == null ? writtenStudentBook : studentBook;
+            writtenLessonBook = lessonBook == null ? writtenLessonBook : lessonBook;
+            writtenFingerprint = fingerprint;
+        }
+        backUpIfDue();
+    }
+
+    private void backUpIfDue() {
+        DeltaBackups backups;
+        ReadOnlyStudentBook studentBook;
+        ReadOnlyLessonBook lessonBook;
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (scheduledBackups == null || writtenStudentBook == null || writtenLessonBook == null
+                    || hasBackedUp && now - lastBackupNanos < backupIntervalNanos) {
+                return;
+            }
+            backups = scheduledBackups;
+            studentBook = writtenStudentBook;
+            lessonBook = writtenLessonBook;
+            hasBackedUp = true;
+            lastBackupNanos = now;
+        }
+
+        try {
+            backups.backUp(studentBook, lessonBook).ifPresent(summary ->
+                    logger.fine("Backed up the books as backup " + summary.getEntry().getId()));
+        } catch (IOException ioe) {
+            logger.warning("Failed to back up the books to " + backups.getDirectory() + ": "
+                    + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Returns a read-only copy of {@code studentBook} that is not affected by later changes to it.
+     * The fields of a student that are saved are immutable, so the students themselves are shared.
+     */
+    private static ReadOnlyStudentBook snapshotOf(ReadOnlyStudentBook studentBook) {
+        ObservableList<Student> students = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(new ArrayList<>(studentBook.getStudentList())));
+        long version = studentBook.getVersion();
+        return new ReadOnlyStudentBook() {
+            @Override
+            public ObservableList<Student> getStudentList() {
+                return students;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only copy of {@code lessonBook} that is not affected by later changes to it.
+     * Lessons are copied since the students enrolled in them can change, but a copy made for an earlier snapshot is
+     * shared while the enrolments of its lesson stay the same. The archive and deferred lessons are shared, as they
+     * are not changed once made.
+     */
+    private ReadOnlyLessonBook snapshotOf(ReadOnlyLessonBook lessonBook) {
+        List<Lesson> bookLessons = lessonBook.getLessonList();
+        List<Lesson> copies = new ArrayList<>(bookLessons.size());
+        synchronized (lessonCopies) {
+            for (Lesson lesson : bookLessons) {
+                Lesson copy = lessonCopies.get(lesson);
+                if (copy == null || !lesson.isUnchangedCopy(copy)) {
+                    copy = lesson.copy();
+                    lessonCopies.put(lesson, copy);
+                }
+                copies.add(copy);
+            }
+            if (lessonCopies.size() > 2 * copies.size()) {
+                // forgets the copies of the lessons no longer in the book
+                lessonCopies.clear();
+                for (int i = 0; i < bookLessons.size(); i++) {
+                    lessonCopies.put(bookLessons.get(i), copies.get(i));
+                }
+            }
+        }
+        ObservableList<Lesson> lessons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(copies));
+        LessonArchive archive = lessonBook.getArchive();
+        DeferredLessons deferredLessons = lessonBook.getDeferredLessons();
+        long version = lessonBook.getVersion();
+        return new ReadOnlyLessonBook() {
+            @Override
+            public ObservableList<Lesson> getLessonList() {
+                return lessons;
+            }
+
+            @Override
+            public LessonArchive getArchive() {
+                return archive;
+            }
+
+            @Override
+            public DeferredLessons getDeferredLessons() {
+                return deferredLessons;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+    }
+}
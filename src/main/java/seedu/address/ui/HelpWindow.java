@@ -21,17 +21,23 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddLessonCommand;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteLessonCommand;
 import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.EditLessonCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindLessonCommand;
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListLessonsCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.UnassignCommand;
 import seedu.address.logic.commands.ViewLessonInfoCommand;
 import seedu.address.logic.commands.ViewStudentInfoCommand;
@@ -178,6 +184,18 @@ public class HelpWindow extends UiPart<Stage> {
                         ViewLessonInfoCommand.SHORTENED_COMMAND_WORD),
                 new CommandCard(ClearCommand.COMMAND_DESCRIPTION, ClearCommand.COMMAND_WORD,
                         ClearCommand.SHORTENED_COMMAND_WORD),
+                new CommandCard(DiagnosticsCommand.COMMAND_DESCRIPTION, DiagnosticsCommand.COMMAND_WORD,
+                        DiagnosticsCommand.SHORTENED_COMMAND_WORD),
+                new CommandCard(ConvertCommand.COMMAND_DESCRIPTION, ConvertCommand.COMMAND_WORD,
+                        ConvertCommand.SHORTENED_COMMAND_WORD),
+                new CommandCard(ImportCommand.COMMAND_DESCRIPTION, ImportCommand.COMMAND_WORD,
+                        ImportCommand.SHORTENED_COMMAND_WORD),
+                new CommandCard(ExportCommand.COMMAND_DESCRIPTION, ExportCommand.COMMAND_WORD,
+                        ExportCommand.SHORTENED_COMMAND_WORD),
+                new CommandCard(BackupCommand.COMMAND_DESCRIPTION, BackupCommand.COMMAND_WORD,
+                        BackupCommand.SHORTENED_COMMAND_WORD),
+                new CommandCard(RestoreCommand.COMMAND_DESCRIPTION, RestoreCommand.COMMAND_WORD,
+                        RestoreCommand.SHORTENED_COMMAND_WORD),
                 new CommandCard(HelpCommand.COMMAND_DESCRIPTION, HelpCommand.COMMAND_WORD,
                         HelpCommand.SHORTENED_COMMAND_WORD),
                 new CommandCard(ExitCommand.COMMAND_DESCRIPTION, ExitCommand.COMMAND_WORD,
@@ -2,8 +2,10 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -147,6 +149,30 @@ public class MainWindow extends UiPart<Stage> {
         createResultDisplay();
         createStatusBarFooter();
         createCommandBox();
+        watchDataFiles();
+        logic.loadDeferredLessons(() -> Platform.runLater(logic::mergeDeferredLessons));
+    }
+
+    /**
+     * Watches the data files, so that changes made to them by other programs are merged into the lists shown.
+     */
+    private void watchDataFiles() {
+        try {
+            logic.watchDataFiles(() -> Platform.runLater(this::handleExternalChanges));
+        } catch (IOException e) {
+            logger.warning("Cannot watch the data files for changes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Merges the changes made to the data files by other programs, and shows what was merged.
+     */
+    private void handleExternalChanges() {
+        try {
+            logic.mergeExternalChanges().ifPresent(resultDisplay::setFeedbackToUser);
+        } catch (CommandException e) {
+            resultDisplay.setFeedbackToUser(e.getMessage());
+        }
     }
 
     private void createResultDisplay() {
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows a warning that needs the user's attention, and waits until the user has read it. */
+    void showWarning(String title, String message);
+
 }
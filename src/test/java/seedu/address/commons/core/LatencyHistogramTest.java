@@ -0,0 +1,56 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void record_negativeLatency_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    @Test
+    public void getPercentileNanos_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void record_measurements_summarised() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 0; i < 99; i++) {
+            histogram.record(3_000); // 3 microseconds, in the bucket below 4 microseconds
+        }
+        histogram.record(5_000_000); // 5 milliseconds
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5_000_000, histogram.getMaxNanos());
+        assertEquals((99 * 3_000 + 5_000_000) / 100, histogram.getMeanNanos());
+        assertEquals(4_000, histogram.getPercentileNanos(50));
+        assertEquals(4_000, histogram.getPercentileNanos(99));
+        assertEquals(5_000_000, histogram.getPercentileNanos(100));
+        assertTrue(histogram.toString().startsWith("test: count=100"));
+    }
+
+    @Test
+    public void reset_discardsMeasurements() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        histogram.record(1_000);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals("test: no measurements", histogram.toString());
+    }
+}
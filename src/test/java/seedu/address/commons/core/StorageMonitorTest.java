@@ -0,0 +1,80 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class StorageMonitorTest {
+
+    private static final String BOOK_NAME = "Test book";
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    public void setUp() {
+        PerformanceMonitor.resetAll();
+        StorageMonitor.resetAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        PerformanceMonitor.resetAll();
+        StorageMonitor.resetAll();
+        StorageMonitor.setSaveBudgetMillis(StorageMonitor.DEFAULT_SAVE_BUDGET_MILLIS);
+    }
+
+    @Test
+    public void startSave_completedSave_bytesAndLatenciesRecorded() throws Exception {
+        try (StorageMonitor.Measurement save = StorageMonitor.startSave(BOOK_NAME)) {
+            FileUtil.writeToFile(testFolder.resolve("book.json"), "0123456789");
+            StorageMonitor.recordWrite(6, 0);
+            save.complete();
+        }
+
+        assertEquals(BOOK_NAME + ": saves=1, written=16 B, largest save=16 B, over budget=0",
+                StorageMonitor.getSummary());
+        assertEquals(1, PerformanceMonitor.getHistogram(BOOK_NAME + " save").getCount());
+        assertEquals(1, PerformanceMonitor.getHistogram(BOOK_NAME + " fsync").getCount());
+        assertTrue(PerformanceMonitor.getHistogram(BOOK_NAME + " fsync").getMaxNanos()
+                <= PerformanceMonitor.getHistogram(BOOK_NAME + " save").getMaxNanos());
+    }
+
+    @Test
+    public void startSave_failedSave_notRecorded() {
+        try (StorageMonitor.Measurement save = StorageMonitor.startSave(BOOK_NAME)) {
+            StorageMonitor.recordWrite(10, 0);
+        }
+        StorageMonitor.recordWrite(10, 0); // outside of a save
+
+        assertEquals(StorageMonitor.MESSAGE_NO_SAVES, StorageMonitor.getSummary());
+        assertEquals(0, PerformanceMonitor.getHistogram(BOOK_NAME + " save").getCount());
+    }
+
+    @Test
+    public void startSave_overBudget_countedOverBudget() {
+        StorageMonitor.setSaveBudgetMillis(0);
+        try (StorageMonitor.Measurement save = StorageMonitor.startSave(BOOK_NAME)) {
+            StorageMonitor.recordWrite(2048, 0);
+            save.complete();
+        }
+
+        assertEquals(BOOK_NAME + ": saves=1, written=2.0 KB, largest save=2.0 KB, over budget=1",
+                StorageMonitor.getSummary());
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("512 B", StorageMonitor.formatBytes(512));
+        assertEquals("1.5 KB", StorageMonitor.formatBytes(1536));
+        assertEquals("3.0 MB", StorageMonitor.formatBytes(3 * 1024 * 1024));
+    }
+}
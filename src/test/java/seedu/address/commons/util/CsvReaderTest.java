@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_success() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("name,phone\nAlice,9435\r\n\r\nBob,,\n"));
+        assertEquals(Optional.of(List.of("name", "phone")), reader.readRecord());
+        assertEquals(Optional.of(List.of("Alice", "9435")), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(Optional.of(List.of("Bob", "", "")), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertFalse(reader.readRecord().isPresent());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Blk 11, #11-04\",\"say \"\"hi\"\"\"\n\"two\nlines\",x"));
+        assertEquals(Optional.of(List.of("Blk 11, #11-04", "say \"hi\"")), reader.readRecord());
+        assertEquals(Optional.of(List.of("two\nlines", "x")), reader.readRecord());
+        assertFalse(reader.readRecord().isPresent());
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_skipped() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,phone"));
+        assertEquals(Optional.of(List.of("name", "phone")), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"unclosed,c\n"));
+        reader.readRecord();
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), reader::readRecord);
+    }
+
+    @Test
+    public void readRecord_textAfterQuote_throwsIoException() {
+        CsvReader reader = new CsvReader(new StringReader("\"a\"b,c"));
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_MISPLACED_QUOTE, 1), reader::readRecord);
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws IOException {
+        List<String> fields = List.of("plain", "with, comma", "with \"quotes\"", "two\r\nlines", "");
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRecord(fields);
+        }
+        assertEquals(Optional.of(fields), new CsvReader(new StringReader(out.toString())).readRecord());
+    }
+}
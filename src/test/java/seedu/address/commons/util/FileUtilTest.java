@@ -1,13 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DeflaterOutputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,114 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("sub/file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes()));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void rotateBackups_moreVersionsThanBackups_newestKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int version = 1; version <= 4; version++) {
+            FileUtil.rotateBackups(file, 2);
+            FileUtil.writeToFile(file, "version " + version);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
+    @Test
+    public void readToBuffer_smallAndLargeFiles_wholeContentsRead() throws Exception {
+        for (long size : new long[] {0, 100, FileUtil.MAPPED_READ_THRESHOLD + 1}) {
+            byte[] contents = getContents((int) size);
+            Path file = testFolder.resolve("file" + size);
+            Files.write(file, contents);
+
+            ByteBuffer buffer = FileUtil.readToBuffer(file);
+            byte[] read = new byte[buffer.remaining()];
+            buffer.get(read);
+            assertArrayEquals(contents, read);
+        }
+    }
+
+    @Test
+    public void newInputStream_smallAndLargeFiles_wholeContentsRead() throws Exception {
+        for (long size : new long[] {0, 100, FileUtil.MAPPED_READ_THRESHOLD + 1}) {
+            byte[] contents = getContents((int) size);
+            Path file = testFolder.resolve("file" + size);
+            Files.write(file, contents);
+
+            try (InputStream in = FileUtil.newInputStream(file)) {
+                assertArrayEquals(contents, in.readAllBytes());
+                assertEquals(-1, in.read());
+            }
+        }
+    }
+
+    @Test
+    public void newDecompressingInputStream_compressedAndUncompressedFiles_wholeContentsRead() throws Exception {
+        byte[] contents = getContents(100_000);
+        Path compressedFile = testFolder.resolve("compressed");
+        FileUtil.writeAtomically(compressedFile, true, out -> out.write(contents));
+        assertTrue(Files.size(compressedFile) < contents.length);
+
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(deflated)) {
+            out.write(contents);
+        }
+        Path deflatedFile = testFolder.resolve("deflated");
+        Files.write(deflatedFile, deflated.toByteArray());
+
+        Path plainFile = testFolder.resolve("plain");
+        FileUtil.writeAtomically(plainFile, false, out -> out.write(contents));
+
+        for (Path file : new Path[] {compressedFile, deflatedFile, plainFile}) {
+            try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+                assertArrayEquals(contents, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void newDecompressingInputStream_shortFiles_wholeContentsRead() throws Exception {
+        for (byte[] contents : new byte[][] {{}, {'{'}, {0x1f}}) {
+            Path file = testFolder.resolve("short");
+            Files.write(file, contents);
+            try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+                assertArrayEquals(contents, in.readAllBytes());
+            }
+        }
+    }
+
+    private static byte[] getContents(int size) {
+        byte[] contents = new byte[size];
+        for (int i = 0; i < size; i++) {
+            contents[i] = (byte) i;
+        }
+        return contents;
+    }
+
 }
@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class IcsWriterTest {
+
+    @Test
+    public void writeProperty_shortLine_notFolded() throws IOException {
+        assertEquals("SUMMARY:Math\r\n", write("SUMMARY", "Math"));
+    }
+
+    @Test
+    public void writeProperty_longLine_foldedAt75Octets() throws IOException {
+        String value = "a".repeat(150);
+        String[] lines = write("DESCRIPTION", value).split("\r\n");
+
+        assertEquals(3, lines.length);
+        assertEquals(75, lines[0].length());
+        assertEquals(75, lines[1].length());
+        assertEquals(' ', lines[1].charAt(0));
+        assertEquals("DESCRIPTION:" + value, lines[0] + lines[1].substring(1) + lines[2].substring(1));
+    }
+
+    @Test
+    public void writeProperty_multibyteCharacters_notSplit() throws IOException {
+        String value = "é".repeat(60);
+        String[] lines = write("SUMMARY", value).split("\r\n");
+
+        for (String line : lines) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals("SUMMARY:" + value, lines[0] + lines[1].substring(1));
+    }
+
+    @Test
+    public void escapeText() {
+        assertEquals("Blk 11\\, #11-04\\; back\\\\slash\\nnext line",
+                IcsWriter.escapeText("Blk 11, #11-04; back\\slash\nnext line"));
+    }
+
+    private static String write(String name, String value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new IcsWriter(out).writeProperty(name, value);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
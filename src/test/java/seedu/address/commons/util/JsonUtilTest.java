@@ -1,12 +1,18 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -16,6 +22,8 @@ import seedu.address.testutil.TestUtil;
 public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
+    private static final RecordMigrator MIGRATOR = new RecordMigrator(2)
+            .addStep("records", 1, record -> record.put("isMigrated", true));
 
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
@@ -39,7 +47,72 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
-    //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
+    @Test
+    public void serializeObjectToJsonFile_compact_writtenOnOneLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(json.contains("\n"));
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), json);
+    }
+
+    @Test
+    public void jsonUtil_writeThenReadObjectToJson_correctObject() throws Exception {
+        SerializableTestClass original = new SerializableTestClass();
+        original.setTestValues();
+
+        for (boolean isCompact : new boolean[] {false, true}) {
+            JsonUtil.saveJsonFile(original, SERIALIZATION_FILE, isCompact);
+            SerializableTestClass readBack = JsonUtil
+                    .readJsonFile(SERIALIZATION_FILE, SerializableTestClass.class).get();
+
+            assertEquals(original.getName(), readBack.getName());
+            assertEquals(original.getListOfLocalDateTimes(), readBack.getListOfLocalDateTimes());
+            assertEquals(original.getMapOfIntegerToString(), readBack.getMapOfIntegerToString());
+        }
+    }
+
+    @Test
+    public void readVersionedJsonFile_currentVersion_readAsItIs() throws Exception {
+        String json = "{\"version\":2,\"records\":[{\"value\":1}],\"name\":\"book\"}";
+        FileUtil.writeToFile(SERIALIZATION_FILE, json);
 
-    //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+        assertEquals(JsonUtil.fromJsonString(json, JsonNode.class),
+                JsonUtil.readVersionedJsonFile(SERIALIZATION_FILE, JsonNode.class, MIGRATOR).get());
+    }
+
+    @Test
+    public void readVersionedJsonFile_olderVersion_recordsMigrated() throws Exception {
+        for (String json : new String[] {"{\"version\":1,\"records\":[{\"value\":1},{\"value\":2}]}",
+                "{\"records\":[{\"value\":1},{\"value\":2}]}",
+                "{\"records\":[{\"value\":1},{\"value\":2}],\"version\":1}"}) {
+            FileUtil.writeToFile(SERIALIZATION_FILE, json);
+
+            JsonNode read = JsonUtil.readVersionedJsonFile(SERIALIZATION_FILE, JsonNode.class, MIGRATOR).get();
+            assertEquals(2, read.get("records").get(1).get("value").intValue());
+            assertTrue(read.get("records").get(1).get("isMigrated").booleanValue());
+            assertEquals(json, FileUtil.readFromFile(SERIALIZATION_FILE));
+        }
+    }
+
+    @Test
+    public void readVersionedJsonFile_laterVersionAfterRecords_recordsNotMigrated() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"records\":[{\"value\":1}],\"version\":2}");
+
+        JsonNode read = JsonUtil.readVersionedJsonFile(SERIALIZATION_FILE, JsonNode.class, MIGRATOR).get();
+        assertFalse(read.get("records").get(0).has("isMigrated"));
+    }
+
+    @Test
+    public void readVersionedJsonFile_notJsonObject_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "not json");
+
+        assertThrows(DataConversionException.class, () -> JsonUtil.readVersionedJsonFile(SERIALIZATION_FILE,
+                SerializableTestClass.class, MIGRATOR));
+    }
+
+    //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 }
@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class RecordMigratorTest {
+
+    private final RecordMigrator migrator = new RecordMigrator(3)
+            .addStep("records", 1, record -> record.put("steps", record.path("steps").asText() + "1"))
+            .addStep("records", 2, record -> record.put("steps", record.path("steps").asText() + "2"));
+
+    @Test
+    public void addStep_invalidVersion_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> migrator.addStep("records", 0, record -> {}));
+        assertThrows(IllegalArgumentException.class, () -> migrator.addStep("records", 3, record -> {}));
+    }
+
+    @Test
+    public void migrate_olderVersions_stepsChainedInOrder() throws Exception {
+        assertEquals("12", migrate("records", "{}", RecordMigrator.UNVERSIONED).get("steps").asText());
+        assertEquals("2", migrate("records", "{}", 2).get("steps").asText());
+    }
+
+    @Test
+    public void migrate_currentOrNewerVersion_unchanged() throws Exception {
+        assertEquals(JsonUtil.fromJsonString("{}", JsonNode.class), migrate("records", "{}", 3));
+        assertEquals(JsonUtil.fromJsonString("{}", JsonNode.class), migrate("records", "{}", 4));
+    }
+
+    @Test
+    public void migrate_otherArrayOrNotObject_unchanged() throws Exception {
+        assertEquals(JsonUtil.fromJsonString("{}", JsonNode.class), migrate("others", "{}", 1));
+        assertEquals(JsonUtil.fromJsonString("\"record\"", JsonNode.class), migrate("records", "\"record\"", 1));
+    }
+
+    private JsonNode migrate(String arrayName, String record, int version) throws Exception {
+        return migrator.migrate(arrayName, JsonUtil.fromJsonString(record, JsonNode.class), version);
+    }
+}
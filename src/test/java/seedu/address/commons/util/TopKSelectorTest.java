@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class TopKSelectorTest {
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, TopKSelector.MESSAGE_INVALID_LIMIT, () -> new TopKSelector<>(0));
+    }
+
+    @Test
+    public void getTopK_noItemsOffered_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), new TopKSelector<String>(3).getTopK());
+    }
+
+    @Test
+    public void getTopK_moreItemsThanLimit_retainsHighestScoresInDescendingOrder() {
+        TopKSelector<String> selector = new TopKSelector<>(3);
+        selector.offer("a", 1);
+        selector.offer("b", 5);
+        selector.offer("c", 3);
+        selector.offer("d", 4);
+        selector.offer("e", 2);
+        assertEquals(Arrays.asList("b", "d", "c"), selector.getTopK());
+    }
+
+    @Test
+    public void getTopK_equalScores_keepsEarliestOffered() {
+        TopKSelector<String> selector = new TopKSelector<>(2);
+        selector.offer("a", 1);
+        selector.offer("b", 1);
+        selector.offer("c", 1);
+        selector.offer("d", 2);
+        assertEquals(Arrays.asList("d", "a"), selector.getTopK());
+    }
+
+    @Test
+    public void getRanks_returnsZeroBasedRanks() {
+        TopKSelector<String> selector = new TopKSelector<>(5);
+        selector.offer("a", 1);
+        selector.offer("b", 2);
+        Map<String, Integer> ranks = selector.getRanks();
+        assertEquals(2, ranks.size());
+        assertEquals(0, (int) ranks.get("b"));
+        assertEquals(1, (int) ranks.get("a"));
+    }
+}
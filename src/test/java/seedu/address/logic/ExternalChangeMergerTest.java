@@ -0,0 +1,216 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.LessonBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.StudentBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TemporaryLessonBuilder;
+
+public class ExternalChangeMergerTest {
+
+    private final StudentBook baseStudentBook = getTypicalStudentBook();
+    private final LessonBook baseLessonBook = getTypicalLessonBook();
+    private final Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+
+    @Test
+    public void merge_unchangedFiles_nothingMerged() {
+        ExternalChangeMerger.Result result = merge(getTypicalStudentBook(), getTypicalLessonBook());
+        assertTrue(result.isEmpty());
+        assertEquals(getTypicalStudentBook(), model.getStudentBook());
+    }
+
+    @Test
+    public void merge_studentsChangedInFile_changesApplied() {
+        StudentBook fileStudentBook = getTypicalStudentBook();
+        Student editedBenson = new StudentBuilder(BENSON).withEmail("benson@example.com").build();
+        fileStudentBook.setStudent(BENSON, editedBenson);
+        fileStudentBook.removeStudent(ALICE);
+        fileStudentBook.addStudent(HOON);
+
+        ExternalChangeMerger.Result result = merge(fileStudentBook, getTypicalLessonBook());
+
+        assertEquals(1, result.getAddedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(1, result.getRemovedCount());
+        assertTrue(result.getConflicts().isEmpty());
+        assertEquals(fileStudentBook.getStudentList().size(), model.getStudentBook().getStudentList().size());
+        assertTrue(model.getStudentBook().getStudentList().contains(editedBenson));
+        assertTrue(model.getStudentBook().getStudentList().contains(HOON));
+        assertFalse(model.hasStudent(ALICE));
+    }
+
+    @Test
+    public void merge_lessonsChangedInFile_changesApplied() {
+        LessonBook fileLessonBook = getTypicalLessonBook();
+        Lesson renamedHistoryLesson = new TemporaryLessonBuilder(TEMPORARY_HISTORY_LESSON)
+                .withName("World history").build();
+        fileLessonBook.setLesson(TEMPORARY_HISTORY_LESSON, renamedHistoryLesson);
+        fileLessonBook.deleteLesson(TEMPORARY_BIOLOGY_LESSON);
+
+        ExternalChangeMerger.Result result = merge(getTypicalStudentBook(), fileLessonBook);
+
+        assertEquals(0, result.getAddedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(1, result.getRemovedCount());
+        assertEquals(fileLessonBook.getLessonList(), model.getLessonBook().getLessonList());
+    }
+
+    @Test
+    public void merge_studentChangedInBoth_conflictKeepsModel() {
+        Student modelBenson = new StudentBuilder(BENSON).withEmail("benson@app.com").build();
+        model.setStudent(BENSON, modelBenson);
+        StudentBook fileStudentBook = getTypicalStudentBook();
+        fileStudentBook.setStudent(BENSON, new StudentBuilder(BENSON).withEmail("benson@script.com").build());
+
+        ExternalChangeMerger.Result result = merge(fileStudentBook, getTypicalLessonBook());
+
+        assertEquals(List.of("student " + BENSON.getName()), result.getConflicts());
+        assertTrue(model.getStudentBook().getStudentList().contains(modelBenson));
+    }
+
+    @Test
+    public void merge_sameChangeInBoth_noConflict() {
+        model.deleteStudent(ALICE);
+        StudentBook fileStudentBook = getTypicalStudentBook();
+        fileStudentBook.removeStudent(ALICE);
+
+        assertTrue(merge(fileStudentBook, getTypicalLessonBook()).isEmpty());
+    }
+
+    @Test
+    public void merge_enrolledStudentsUnchangedInFile_nothingMerged() {
+        Student student = new StudentBuilder(HOON).build();
+        Lesson lesson = enrol(student);
+        StudentBook savedStudentBook = new StudentBook(model.getStudentBook());
+        LessonBook savedLessonBook = new LessonBook(model.getLessonBook());
+
+        ExternalChangeMerger.Result result = new ExternalChangeMerger(model).merge(savedStudentBook,
+                withoutEnrolledLessons(savedStudentBook), savedLessonBook, new LessonBook(savedLessonBook));
+
+        assertTrue(result.isEmpty());
+        assertTrue(student.isEnrolledIn(lesson));
+    }
+
+    @Test
+    public void merge_enrolledStudentChangedInFile_enrolmentKept() {
+        Student student = new StudentBuilder(HOON).build();
+        Lesson lesson = enrol(student);
+        StudentBook savedStudentBook = new StudentBook(model.getStudentBook());
+        LessonBook savedLessonBook = new LessonBook(model.getLessonBook());
+        StudentBook fileStudentBook = withoutEnrolledLessons(savedStudentBook);
+        Student fileStudent = new StudentBuilder(HOON).withEmail("hoon@example.com").build();
+        fileStudentBook.setStudent(HOON, fileStudent);
+
+        ExternalChangeMerger.Result result = new ExternalChangeMerger(model).merge(savedStudentBook,
+                fileStudentBook, savedLessonBook, new LessonBook(savedLessonBook));
+
+        assertEquals(1, result.getUpdatedCount());
+        assertTrue(result.getConflicts().isEmpty());
+        Student mergedStudent = model.getStudentBook().getStudentList().stream()
+                .filter(fileStudent::equals)
+                .findFirst()
+                .get();
+        assertTrue(mergedStudent.isEnrolledIn(lesson));
+        assertEquals(List.of(fileStudent), model.getLessonBook().getLessonList().stream()
+                .filter(lesson::equals)
+                .findFirst()
+                .get()
+                .getEnrolledStudents()
+                .getStudentsList());
+    }
+
+    @Test
+    public void merge_studentEnrolledInFile_modelStudentEnrolled() {
+        Student student = new StudentBuilder(HOON).build();
+        Lesson lesson = new TemporaryLessonBuilder().build();
+        model.addStudent(student);
+        model.addLesson(lesson);
+        StudentBook savedStudentBook = new StudentBook(model.getStudentBook());
+        LessonBook savedLessonBook = new LessonBook(model.getLessonBook());
+        LessonBook fileLessonBook = new LessonBook(savedLessonBook);
+        Lesson fileLesson = lesson.copy();
+        fileLesson.assignStudent(new StudentBuilder(HOON).build());
+        fileLessonBook.setLesson(lesson, fileLesson);
+
+        ExternalChangeMerger.Result result = new ExternalChangeMerger(model).merge(savedStudentBook,
+                withoutEnrolledLessons(savedStudentBook), savedLessonBook, fileLessonBook);
+
+        assertEquals(1, result.getUpdatedCount());
+        Lesson mergedLesson = findLesson(lesson);
+        assertSame(student, mergedLesson.getEnrolledStudents().getStudentsList().get(0));
+        assertTrue(student.isEnrolledIn(mergedLesson));
+    }
+
+    @Test
+    public void merge_lessonWithStudentAddedInFile_modelStudentEnrolled() {
+        Student student = new StudentBuilder(HOON).build();
+        model.addStudent(student);
+        StudentBook savedStudentBook = new StudentBook(model.getStudentBook());
+        LessonBook savedLessonBook = new LessonBook(model.getLessonBook());
+        LessonBook fileLessonBook = new LessonBook(savedLessonBook);
+        Lesson fileLesson = new TemporaryLessonBuilder().build();
+        fileLesson.assignStudent(new StudentBuilder(HOON).build());
+        fileLessonBook.addLesson(fileLesson);
+
+        ExternalChangeMerger.Result result = new ExternalChangeMerger(model).merge(savedStudentBook,
+                withoutEnrolledLessons(savedStudentBook), savedLessonBook, fileLessonBook);
+
+        assertEquals(1, result.getAddedCount());
+        Lesson mergedLesson = findLesson(fileLesson);
+        assertSame(student, mergedLesson.getEnrolledStudents().getStudentsList().get(0));
+        assertTrue(student.isEnrolledIn(mergedLesson));
+    }
+
+    private Lesson findLesson(Lesson lesson) {
+        return model.getLessonBook().getLessonList().stream()
+                .filter(lesson::equals)
+                .findFirst()
+                .get();
+    }
+
+    /**
+     * Adds {@code student} and a new lesson to the model, enrols the student in the lesson and returns the lesson.
+     */
+    private Lesson enrol(Student student) {
+        Lesson lesson = new TemporaryLessonBuilder().build();
+        model.addStudent(student);
+        model.addLesson(lesson);
+        model.updateAssignment(student, lesson);
+        return lesson;
+    }
+
+    /**
+     * Returns a copy of {@code studentBook} as it is read from a file, in which students are not enrolled in lessons.
+     */
+    private static StudentBook withoutEnrolledLessons(StudentBook studentBook) {
+        StudentBook fileStudentBook = new StudentBook();
+        studentBook.getStudentList().forEach(student -> fileStudentBook.addStudent(new Student(student.getName(),
+                student.getPhone(), student.getEmail(), student.getAddress(), student.getTags())));
+        return fileStudentBook;
+    }
+
+    private ExternalChangeMerger.Result merge(StudentBook fileStudentBook, LessonBook fileLessonBook) {
+        return new ExternalChangeMerger(model).merge(baseStudentBook, fileStudentBook, baseLessonBook,
+                fileLessonBook);
+    }
+}
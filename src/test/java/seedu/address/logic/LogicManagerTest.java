@@ -8,12 +8,21 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,20 +30,28 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.inputhistory.InputHistoryResult;
 import seedu.address.logic.inputhistory.UserInputString;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.LessonBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.DeferredLessons;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
+import seedu.address.storage.DatabaseStudentBookStorage;
 import seedu.address.storage.JsonLessonBookStorage;
 import seedu.address.storage.JsonStudentBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.RecurringLessonBuilder;
 import seedu.address.testutil.StudentBuilder;
 
 public class LogicManagerTest {
@@ -76,7 +93,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_failureShownWithNextResult() throws Exception {
         // Setup LogicManager with JsonStudentBookIoExceptionThrowingStub
         JsonStudentBookStorage addressBookStorage =
                 new JsonStudentBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
@@ -85,16 +102,185 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, lessonBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        logic = logicManager;
 
-        // Execute add command
+        // Execute add command, which is saved in the background
         String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY;
         Student expectedStudent = new StudentBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedStudent);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddStudentCommand.MESSAGE_SUCCESS, expectedStudent),
+                expectedModel);
+        logicManager.awaitPendingSaves();
+
+        // The failed save is reported after the result of the next command, which still takes effect
+        String expectedMessage = ListStudentsCommand.MESSAGE_SUCCESS + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE
+                + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(ListStudentsCommand.COMMAND_WORD, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void close_storageThrowsIoException_throwsIoException() throws Exception {
+        JsonStudentBookStorage addressBookStorage =
+                new JsonStudentBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonLessonBookStorage lessonBookStorage =
+                new JsonLessonBookStorage(temporaryFolder.resolve("lessonBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, lessonBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.close());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_nothingSaved() throws Exception {
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+        ((LogicManager) logic).awaitPendingSaves();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("lessonBook.json")));
+    }
+
+    @Test
+    public void execute_studentBookChanged_onlyStudentBookSaved() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        ((LogicManager) logic).awaitPendingSaves();
+
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("lessonBook.json")));
+    }
+
+    @Test
+    public void execute_enrolledStudentEdited_lessonBookSaved() throws Exception {
+        Lesson lesson = new RecurringLessonBuilder().build();
+        model.addStudent(AMY);
+        model.addLesson(lesson);
+        model.updateAssignment(AMY, lesson);
+        // a new LogicManager takes the books as they are as already saved
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonStudentBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonLessonBookStorage(temporaryFolder.resolve("lessonBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logicManager.execute(EditStudentCommand.COMMAND_WORD + " 1" + NAME_DESC_BOB);
+        logicManager.awaitPendingSaves();
+
+        Student editedAmy = new StudentBuilder(AMY).withName(VALID_NAME_BOB).build();
+        Lesson savedLesson = new JsonLessonBookStorage(temporaryFolder.resolve("lessonBook.json"))
+                .readLessonBook().get().getLessonList().get(0);
+        assertEquals(Arrays.asList(editedAmy), savedLesson.getEnrolledStudents().getStudentsList());
+    }
+
+    @Test
+    public void execute_convertCommand_booksSavedInNewFormat() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudentBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        userPrefs.setLessonBookFilePath(temporaryFolder.resolve("lessonBook.json"));
+        model.setUserPrefs(userPrefs);
+        model.addStudent(AMY);
+
+        logic.execute(ConvertCommand.COMMAND_WORD + " database");
+        ((LogicManager) logic).awaitPendingSaves();
+
+        DatabaseStudentBookStorage databaseStorage =
+                new DatabaseStudentBookStorage(temporaryFolder.resolve("addressBook.db"));
+        assertEquals(model.getStudentBook(), databaseStorage.readStudentBook().get());
+        assertTrue(Files.exists(temporaryFolder.resolve("lessonBook.db")));
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void mergeExternalChanges_onlyOwnSaves_nothingMerged() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        ((LogicManager) logic).awaitPendingSaves();
+        AtomicBoolean isRead = new AtomicBoolean();
+        ((LogicManager) logic).readExternalChanges(() -> isRead.set(true));
+        ((LogicManager) logic).awaitPendingSaves();
+
+        assertFalse(isRead.get());
+        assertEquals(Optional.empty(), logic.mergeExternalChanges());
+    }
+
+    @Test
+    public void mergeExternalChanges_studentAddedToFile_studentAdded() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        ((LogicManager) logic).awaitPendingSaves();
+        StudentBook editedStudentBook = new StudentBook(model.getStudentBook());
+        editedStudentBook.addStudent(BOB);
+        new JsonStudentBookStorage(temporaryFolder.resolve("addressBook.json")).saveStudentBook(editedStudentBook);
+        readExternalChanges();
+
+        assertEquals(Optional.of(String.format(LogicManager.MESSAGE_EXTERNAL_CHANGES_MERGED, 1, 0, 0)),
+                logic.mergeExternalChanges());
+        assertTrue(model.hasStudent(BOB));
+        assertTrue(model.hasStudent(AMY));
+    }
+
+    @Test
+    public void mergeExternalChanges_unreadableFile_throwsCommandException() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        ((LogicManager) logic).awaitPendingSaves();
+        Files.writeString(temporaryFolder.resolve("addressBook.json"), "{ not json");
+        readExternalChanges();
+
+        assertThrows(CommandException.class, () -> logic.mergeExternalChanges());
+        assertTrue(model.hasStudent(AMY));
+    }
+
+    @Test
+    public void mergeExternalChanges_changesNotRead_nothingMerged() throws Exception {
+        ((LogicManager) logic).awaitPendingSaves();
+        StudentBook editedStudentBook = new StudentBook(model.getStudentBook());
+        editedStudentBook.addStudent(BOB);
+        new JsonStudentBookStorage(temporaryFolder.resolve("addressBook.json")).saveStudentBook(editedStudentBook);
+
+        assertEquals(Optional.empty(), logic.mergeExternalChanges());
+        assertFalse(model.hasStudent(BOB));
+    }
+
+    @Test
+    public void execute_deferredLessons_mergedBeforeCommand() throws Exception {
+        Lesson lesson = new RecurringLessonBuilder().build();
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.setDeferredLessons(new DeferredLessons(() -> List.of(lesson)));
+        model.setLessonBook(lessonBook);
+
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+
+        assertEquals(List.of(lesson), model.getLessonBook().getLessonList());
+        assertTrue(model.getLessonBook().getDeferredLessons().isEmpty());
+    }
+
+    @Test
+    public void loadDeferredLessons_deferredLessons_loadedOnceInBackground() {
+        Lesson lesson = new RecurringLessonBuilder().build();
+        AtomicInteger loadCount = new AtomicInteger();
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.setDeferredLessons(new DeferredLessons(() -> {
+            loadCount.incrementAndGet();
+            return List.of(lesson);
+        }));
+        model.setLessonBook(lessonBook);
+        AtomicBoolean isLoaded = new AtomicBoolean();
+
+        logic.loadDeferredLessons(() -> isLoaded.set(true));
+        ((LogicManager) logic).awaitPendingSaves();
+        assertTrue(isLoaded.get());
+        assertEquals(1, loadCount.get());
+        assertTrue(model.getLessonBook().getLessonList().isEmpty());
+
+        logic.mergeDeferredLessons();
+        assertEquals(List.of(lesson), model.getLessonBook().getLessonList());
+        assertEquals(1, loadCount.get());
     }
 
     @Test
@@ -145,6 +331,14 @@ public class LogicManagerTest {
         assertFalse(result2.isChanged());
     }
 
+    /**
+     * Reads the data files as if they were seen to change, and waits until they have been read.
+     */
+    private void readExternalChanges() {
+        ((LogicManager) logic).readExternalChanges(() -> { });
+        ((LogicManager) logic).awaitPendingSaves();
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -7,8 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,11 +20,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.RankedPredicate;
 import seedu.address.model.ReadOnlyLessonBook;
 import seedu.address.model.ReadOnlyStudentBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.StudentBook;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
 import seedu.address.model.student.Student;
 import seedu.address.testutil.StudentBuilder;
 
@@ -117,6 +121,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudents(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudentBook(ReadOnlyStudentBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -152,6 +161,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateRankedStudentList(RankedPredicate<Student> predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Lesson> getFilteredLessonList() {
             throw new AssertionError("This method should not be called.");
@@ -197,6 +211,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLessons(List<Lesson> lessons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -207,6 +226,36 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateRankedLessonList(RankedPredicate<Lesson> predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateLessonListByStartTime(LessonStartsWithinRangePredicate range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archiveLessonsEndedBefore(LocalDateTime cutoff) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archivePastLessons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int mergeDeferredLessons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Lesson> getArchivedLessons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateAssignment(Student student, Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DeltaBackups;
+
+public class BackupCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private UserPrefs userPrefs;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        userPrefs = new UserPrefs();
+        userPrefs.setStudentBookFilePath(testFolder.resolve("studentbook.json"));
+        userPrefs.setLessonBookFilePath(testFolder.resolve("lessonbook.json"));
+        model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), userPrefs);
+    }
+
+    @Test
+    public void execute_changedBooks_backedUp() throws Exception {
+        String result = new BackupCommand().execute(model).getFeedbackToUser();
+        assertTrue(result.startsWith(String.format("Backed up the students and lessons as backup %1$d, a base", 1)));
+
+        DeltaBackups backups = DeltaBackups.forDirectory(testFolder.resolve(DeltaBackups.BACKUP_DIRECTORY_NAME));
+        assertEquals(1, backups.listBackups().size());
+        assertEquals(model.getStudentBook().getStudentList(),
+                backups.restore(1).getStudentBook().getStudentList());
+    }
+
+    @Test
+    public void execute_unchangedBooks_nothingBackedUp() throws Exception {
+        new BackupCommand().execute(model);
+        assertEquals(BackupCommand.MESSAGE_UNCHANGED, new BackupCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_interval_userPrefsUpdated() {
+        UserPrefs expectedUserPrefs = new UserPrefs(userPrefs);
+        expectedUserPrefs.setBackupIntervalMinutes(30);
+        Model expectedModel = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), expectedUserPrefs);
+
+        assertCommandSuccess(new BackupCommand(30), model, String.format(BackupCommand.MESSAGE_SCHEDULED, 30,
+                testFolder.resolve(DeltaBackups.BACKUP_DIRECTORY_NAME)), expectedModel);
+
+        expectedUserPrefs.setBackupIntervalMinutes(0);
+        expectedModel.setUserPrefs(expectedUserPrefs);
+        assertCommandSuccess(new BackupCommand(0), model, BackupCommand.MESSAGE_UNSCHEDULED, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        BackupCommand backUpNow = new BackupCommand();
+        BackupCommand backUpEvery30 = new BackupCommand(30);
+
+        assertTrue(backUpNow.equals(new BackupCommand()));
+        assertTrue(backUpEvery30.equals(new BackupCommand(30)));
+        assertFalse(backUpNow.equals(backUpEvery30));
+        assertFalse(backUpEvery30.equals(new BackupCommand(0)));
+        assertFalse(backUpNow.equals(null));
+    }
+}
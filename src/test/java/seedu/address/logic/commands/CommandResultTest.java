@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.misc.ViewTab;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -51,4 +53,12 @@ public class CommandResultTest {
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
+
+    @Test
+    public void withNote() {
+        assertEquals(new CommandResult("feedback\nnote", true, false),
+                new CommandResult("feedback", true, false).withNote("note"));
+        assertEquals(new CommandResult("feedback\nnote", ViewTab.LESSON),
+                new CommandResult("feedback", ViewTab.LESSON).withNote("note"));
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_otherFormat_userPrefsUpdated() {
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setDataFileFormat(DataFileFormat.DATABASE);
+        expectedUserPrefs.setStudentBookFilePath(Paths.get("data", "studentbook.db"));
+        expectedUserPrefs.setLessonBookFilePath(Paths.get("data", "lessonbook.db"));
+        Model expectedModel = new ModelManager();
+        expectedModel.setUserPrefs(expectedUserPrefs);
+
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_SUCCESS, DataFileFormat.DATABASE,
+                expectedUserPrefs.getStudentBookFilePath(), expectedUserPrefs.getLessonBookFilePath());
+        assertCommandSuccess(new ConvertCommand(DataFileFormat.DATABASE), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        assertCommandFailure(new ConvertCommand(DataFileFormat.JSON), model,
+                String.format(ConvertCommand.MESSAGE_ALREADY_IN_FORMAT, DataFileFormat.JSON));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToDatabase = new ConvertCommand(DataFileFormat.DATABASE);
+
+        assertTrue(convertToDatabase.equals(convertToDatabase));
+        assertTrue(convertToDatabase.equals(new ConvertCommand(DataFileFormat.DATABASE)));
+        assertFalse(convertToDatabase.equals(new ConvertCommand(DataFileFormat.JSON)));
+        assertFalse(convertToDatabase.equals(null));
+        assertFalse(convertToDatabase.equals(1));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.PerformanceMonitor;
+import seedu.address.commons.core.StorageMonitor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.NameOrTagsContainsKeywordsPredicate;
+
+public class DiagnosticsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @BeforeEach
+    public void setUp() {
+        PerformanceMonitor.resetAll();
+        StorageMonitor.resetAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        PerformanceMonitor.resetAll();
+        StorageMonitor.resetAll();
+    }
+
+    @Test
+    public void execute_noMeasurements_showsNoMeasurements() {
+        String expectedMessage = String.format(DiagnosticsCommand.MESSAGE_SUCCESS,
+                PerformanceMonitor.MESSAGE_NO_MEASUREMENTS, StorageMonitor.MESSAGE_NO_SAVES);
+        assertCommandSuccess(new DiagnosticsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_afterSearch_showsSearchLatency() {
+        new FindStudentCommand(new NameOrTagsContainsKeywordsPredicate(Arrays.asList("alice"))).execute(model);
+        String feedback = new DiagnosticsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("Student search: count=1"));
+    }
+}
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_RANKED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 import static seedu.address.testutil.TypicalStudents.ELLE;
 import static seedu.address.testutil.TypicalStudents.FIONA;
 import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
@@ -52,6 +55,12 @@ public class FindStudentCommandTest {
 
         // different student -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // ranked and unranked -> returns false
+        assertFalse(findFirstCommand.equals(new FindStudentCommand(firstPredicate, 5)));
+
+        // different result limit -> returns false
+        assertFalse(new FindStudentCommand(firstPredicate, 5).equals(new FindStudentCommand(firstPredicate, 6)));
     }
 
     @Test
@@ -74,6 +83,16 @@ public class FindStudentCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_rankedKeywords_mostRelevantStudentsFirst() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_RANKED_OVERVIEW, 2);
+        NameOrTagsContainsKeywordsPredicate predicate = preparePredicate("Daniel Meier Kurz");
+        FindStudentCommand command = new FindStudentCommand(predicate, 2);
+        expectedModel.updateRankedStudentList(predicate, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredStudentList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameOrTagsContainsKeywordsPredicate}.
      */
@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvRowParser;
+import seedu.address.model.LessonBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Phone;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalStudentBook(), new LessonBook(), new UserPrefs());
+
+    @Test
+    public void execute_students_validRowsImportedOthersRejected() throws Exception {
+        Path csvFile = writeCsv("students.csv",
+                "Name,Phone,Email,Tags",
+                "Zed Tan,91234567,zed@example.com,sec3;math",
+                "Bad Phone,12,,",
+                ALICE.getName() + "," + ALICE.getPhone() + ",,",
+                "Zed Tan,91234567,,",
+                "\"Yan Lee\",98887777,\"yan@example.com\",");
+        int studentsBefore = model.getStudentBook().getStudentList().size();
+        long versionBefore = model.getStudentBook().getVersion();
+
+        CommandResult result = new ImportCommand(csvFile).execute(model);
+
+        Path rejectsPath = ImportCommand.getRejectsPath(csvFile);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "students", csvFile)
+                + String.format(ImportCommand.MESSAGE_REJECTS, 3, rejectsPath), result.getFeedbackToUser());
+        assertEquals(studentsBefore + 2, model.getStudentBook().getStudentList().size());
+        assertEquals(versionBefore + 1, model.getStudentBook().getVersion());
+
+        List<List<String>> rejects = readCsv(rejectsPath);
+        assertEquals(List.of("line", "reason", "Name", "Phone", "Email", "Tags"), rejects.get(0));
+        assertEquals(List.of("3", Phone.MESSAGE_CONSTRAINTS, "Bad Phone", "12", "", ""), rejects.get(1));
+        assertEquals("4", rejects.get(2).get(0));
+        assertEquals(ImportCommand.MESSAGE_DUPLICATE_STUDENT, rejects.get(2).get(1));
+        assertEquals("5", rejects.get(3).get(0));
+        assertEquals(4, rejects.size());
+    }
+
+    @Test
+    public void execute_lessons_conflictingRowsRejected() throws Exception {
+        Path csvFile = writeCsv("lessons.csv",
+                "name,subject,date,start,hours,minutes,recurring",
+                "Weekly Math,Math,03-01-2022,10:00,2,0,yes",
+                "Extra Math,Math,10-01-2022,11:00,1,0,no",
+                "Extra Math,Math,10-01-2022,13:00,1,30,no",
+                "Late Science,Science,10-01-2022,14:00,1,0,",
+                "Evening Science,Science,11-01-2022,18:00,0,30,maybe");
+
+        CommandResult result = new ImportCommand(csvFile).execute(model);
+
+        Path rejectsPath = ImportCommand.getRejectsPath(csvFile);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "lessons", csvFile)
+                + String.format(ImportCommand.MESSAGE_REJECTS, 3, rejectsPath), result.getFeedbackToUser());
+        assertEquals(2, model.getLessonBook().getLessonList().size());
+
+        List<List<String>> rejects = readCsv(rejectsPath);
+        assertEquals(List.of("3", "5", "6"), List.of(rejects.get(1).get(0), rejects.get(2).get(0),
+                rejects.get(3).get(0)));
+        assertEquals(CsvRowParser.MESSAGE_INVALID_RECURRING, rejects.get(3).get(1));
+    }
+
+    @Test
+    public void execute_allRowsValid_noRejectsFile() throws Exception {
+        Path csvFile = writeCsv("students.csv", "name,phone", "Zed Tan,91234567");
+        Files.writeString(ImportCommand.getRejectsPath(csvFile), "left by an earlier import");
+
+        CommandResult result = new ImportCommand(csvFile).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, "students", csvFile),
+                result.getFeedbackToUser());
+        assertFalse(Files.exists(ImportCommand.getRejectsPath(csvFile)));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path missingFile = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missingFile), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+
+        Path unknownHeader = writeCsv("unknown.csv", "title,author", "Dune,Herbert");
+        assertCommandFailure(new ImportCommand(unknownHeader), model, CsvRowParser.MESSAGE_UNKNOWN_HEADER);
+    }
+
+    @Test
+    public void execute_malformedCsv_nothingImported() throws Exception {
+        Path csvFile = writeCsv("students.csv", "name,phone", "Zed Tan,91234567", "\"Yan Lee,98887777");
+        int studentsBefore = model.getStudentBook().getStudentList().size();
+
+        assertThrows(CommandException.class, () -> new ImportCommand(csvFile).execute(model));
+        assertEquals(studentsBefore, model.getStudentBook().getStudentList().size());
+    }
+
+    @Test
+    public void getRejectsPath() {
+        assertEquals(Paths.get("data", "students.rejects.csv"),
+                ImportCommand.getRejectsPath(Paths.get("data", "students.csv")));
+        assertEquals(Paths.get("students.rejects.csv"), ImportCommand.getRejectsPath(Paths.get("students.CSV")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importStudents = new ImportCommand(Paths.get("students.csv"));
+
+        assertTrue(importStudents.equals(importStudents));
+        assertTrue(importStudents.equals(new ImportCommand(Paths.get("students.csv"))));
+        assertFalse(importStudents.equals(new ImportCommand(Paths.get("lessons.csv"))));
+        assertFalse(importStudents.equals(null));
+        assertFalse(importStudents.equals(1));
+    }
+
+    private Path writeCsv(String fileName, String... lines) throws IOException {
+        Path csvFile = testFolder.resolve(fileName);
+        Files.write(csvFile, List.of(lines), StandardCharsets.UTF_8);
+        return csvFile;
+    }
+
+    private static List<List<String>> readCsv(Path file) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            Optional<List<String>> record;
+            while ((record = reader.readRecord()).isPresent()) {
+                records.add(record.get());
+            }
+        }
+        return records;
+    }
+}
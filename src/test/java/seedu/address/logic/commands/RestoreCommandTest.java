@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.misc.InfoPanelTypes;
+import seedu.address.model.LessonBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DeltaBackups;
+
+public class RestoreCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudentBookFilePath(testFolder.resolve("studentbook.json"));
+        userPrefs.setLessonBookFilePath(testFolder.resolve("lessonbook.json"));
+        model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), userPrefs);
+    }
+
+    @Test
+    public void execute_backupId_booksRestoredAndReplacedBooksBackedUp() throws Exception {
+        new BackupCommand().execute(model);
+        model.addStudent(AMY);
+        model.setLessonBook(new LessonBook());
+
+        CommandResult result = new RestoreCommand(1).execute(model);
+        assertEquals(InfoPanelTypes.EMPTY, result.getInfoPanelType());
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(RestoreCommand.MESSAGE_UNDO, 2)));
+        assertEquals(getTypicalStudentBook().getStudentList(), model.getStudentBook().getStudentList());
+        assertEquals(getTypicalLessonBook().getLessonList(), model.getLessonBook().getLessonList());
+
+        // the restore is undone by restoring the backup taken before it
+        new RestoreCommand(2).execute(model);
+        assertTrue(model.hasStudent(AMY));
+        assertTrue(model.getLessonBook().getLessonList().isEmpty());
+    }
+
+    @Test
+    public void execute_time_latestBackupBeforeRestored() throws Exception {
+        new BackupCommand().execute(model);
+        model.addStudent(AMY);
+
+        new RestoreCommand(LocalDateTime.now().plusDays(1)).execute(model);
+        assertFalse(model.hasStudent(AMY));
+    }
+
+    @Test
+    public void execute_noBackup_throwsCommandException() {
+        LocalDateTime time = LocalDateTime.of(2021, 10, 21, 18, 30);
+        assertCommandFailure(new RestoreCommand(time), model,
+                String.format(RestoreCommand.MESSAGE_NO_BACKUP_AT, "21-10-2021 18:30:00"));
+    }
+
+    @Test
+    public void execute_noSuchBackup_throwsCommandException() {
+        assertCommandFailure(new RestoreCommand(1), model, String.format(DeltaBackups.MESSAGE_NO_SUCH_BACKUP, 1));
+    }
+
+    @Test
+    public void execute_noArguments_backupsListed() throws Exception {
+        new BackupCommand().execute(model);
+        String result = new RestoreCommand().execute(model).getFeedbackToUser();
+        assertTrue(result.contains("\n1. "));
+        assertTrue(result.endsWith("(base)"));
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreFirst = new RestoreCommand(1);
+
+        assertTrue(restoreFirst.equals(new RestoreCommand(1)));
+        assertFalse(restoreFirst.equals(new RestoreCommand(2)));
+        assertFalse(restoreFirst.equals(new RestoreCommand()));
+        assertFalse(new RestoreCommand().equals(new RestoreCommand(LocalDateTime.of(2021, 10, 21, 18, 30))));
+        assertFalse(restoreFirst.equals(null));
+    }
+}
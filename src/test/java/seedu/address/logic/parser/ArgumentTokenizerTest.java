@@ -135,6 +135,33 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, HAT_Q);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix dashTo = new Prefix("-to", "DASH_TO");
+        String argsString = "preamble -to dashTo value -t dashT value -tdashT-joined";
+        assertThrows(IllegalArgumentException.class, () -> argsTokenize(argsString, DASH_T, dashTo));
+
+        ArgumentMultimap argMultimap = argsTokenize("preamble -to dashTo value -t dashT value", DASH_T, dashTo);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTo, "dashTo value");
+        assertArgumentPresent(argMultimap, DASH_T, "dashT value");
+    }
+
+    @Test
+    public void tokenize_reusedTokenizer_noStaleValues() throws Exception {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(DASH_P, DASH_T);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenize("first -p dashP value -t");
+        assertPreamblePresent(argMultimap, "first");
+        assertArgumentPresent(argMultimap, DASH_P, "dashP value");
+        assertArgumentPresent(argMultimap, DASH_T, "");
+
+        argMultimap = tokenizer.tokenize(" -t dashT value");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentAbsent(argMultimap, DASH_P);
+        assertArgumentPresent(argMultimap, DASH_T, "dashT value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa", "tripleA");
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BackupCommand;
+
+public class BackupCommandParserTest {
+
+    private BackupCommandParser parser = new BackupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBackupCommand() {
+        assertParseSuccess(parser, "", new BackupCommand());
+        assertParseSuccess(parser, " every 30 ", new BackupCommand(30));
+        assertParseSuccess(parser, " every 0", new BackupCommand(0));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackupCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 30", expectedMessage);
+        assertParseFailure(parser, " every", expectedMessage);
+        assertParseFailure(parser, " every -5", expectedMessage);
+        assertParseFailure(parser, " every 30 minutes", expectedMessage);
+    }
+}
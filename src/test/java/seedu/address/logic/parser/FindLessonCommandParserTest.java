@@ -0,0 +1,107 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindLessonCommand;
+import seedu.address.model.lesson.LessonNameOrSubjectContainsKeywordsPredicate;
+import seedu.address.model.lesson.LessonStartsWithinRangePredicate;
+
+public class FindLessonCommandParserTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2022, 11, 12);
+    private static final LocalDate TO_DATE = LocalDate.of(2022, 11, 19);
+
+    private FindLessonCommandParser parser = new FindLessonCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validKeywords_returnsFindLessonCommand() {
+        FindLessonCommand expectedFindLessonCommand = new FindLessonCommand(
+                new LessonNameOrSubjectContainsKeywordsPredicate(Arrays.asList("biology")));
+        assertParseSuccess(parser, "biology", expectedFindLessonCommand);
+    }
+
+    @Test
+    public void parse_keywordsWithResultLimit_returnsRankedSearchOfEachWord() {
+        FindLessonCommand expectedFindLessonCommand = new FindLessonCommand(
+                new LessonNameOrSubjectContainsKeywordsPredicate(Arrays.asList("sec", "biology")), 3, false);
+        assertParseSuccess(parser, " sec  biology -k 3", expectedFindLessonCommand);
+    }
+
+    @Test
+    public void parse_archiveFlag_returnsArchiveSearch() {
+        FindLessonCommand expectedFindLessonCommand = new FindLessonCommand(
+                new LessonNameOrSubjectContainsKeywordsPredicate(Arrays.asList("biology")), true);
+        assertParseSuccess(parser, " --archive biology", expectedFindLessonCommand);
+        assertParseSuccess(parser, " biology --archive", expectedFindLessonCommand);
+
+        assertParseSuccess(parser, " --archive -from 12-11-2022 -to 19-11-2022", new FindLessonCommand(
+                new LessonStartsWithinRangePredicate(FROM_DATE, TO_DATE, Optional.empty(), Optional.empty()), true));
+
+        assertParseFailure(parser, " --archive",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validDateRange_returnsFindLessonCommand() {
+        FindLessonCommand expectedFindLessonCommand = new FindLessonCommand(new LessonStartsWithinRangePredicate(
+                FROM_DATE, TO_DATE, Optional.empty(), Optional.empty()));
+        assertParseSuccess(parser, " -from 12-11-2022 -to 19-11-2022", expectedFindLessonCommand);
+    }
+
+    @Test
+    public void parse_validDateAndTimeRange_returnsFindLessonCommand() {
+        FindLessonCommand expectedFindLessonCommand = new FindLessonCommand(new LessonStartsWithinRangePredicate(
+                FROM_DATE, TO_DATE, Optional.of(LocalTime.of(17, 0)), Optional.of(LocalTime.of(21, 30))));
+        assertParseSuccess(parser, " -from 12-11-2022 -to 19-11-2022 -after 17:00 -before 21:30",
+                expectedFindLessonCommand);
+
+        // prefixes in any order
+        assertParseSuccess(parser, " -before 21:30 -after 17:00 -to 19-11-2022 -from 12-11-2022",
+                expectedFindLessonCommand);
+    }
+
+    @Test
+    public void parse_missingDate_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " -from 12-11-2022", expectedMessage);
+        assertParseFailure(parser, " -to 19-11-2022 -after 17:00", expectedMessage);
+    }
+
+    @Test
+    public void parse_keywordsWithDateRange_throwsParseException() {
+        assertParseFailure(parser, "biology -from 12-11-2022 -to 19-11-2022",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLessonCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, " -from 19-11-2022 -to 12-11-2022",
+                LessonStartsWithinRangePredicate.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " -from 12-11-2022 -to 19-11-2022 -after 17:00 -before 17:00",
+                LessonStartsWithinRangePredicate.MESSAGE_INVALID_TIME_RANGE);
+        assertParseFailure(parser, " -from 12-11-2022 -to 19-11-2022 -before 00:00",
+                LessonStartsWithinRangePredicate.MESSAGE_INVALID_TIME_RANGE);
+    }
+
+    @Test
+    public void parse_invalidDateOrTime_throwsParseException() {
+        assertParseFailure(parser, " -from 31-11-2022 -to 19-12-2022", ParserUtil.INVALID_DATE_FORMAT_MESSAGE);
+        assertParseFailure(parser, " -from 12-11-2022 -to 19-11-2022 -after 5pm",
+                ParserUtil.INVALID_START_TIME_MESSAGE);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -9,7 +10,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindStudentCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.student.NameOrTagsContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
 
 public class FindStudentCommandParserTest {
 
@@ -29,4 +34,40 @@ public class FindStudentCommandParserTest {
         assertParseSuccess(parser, "Alice Bob", expectedFindStudentCommand);
     }
 
+    @Test
+    public void parse_validArgsWithResultLimit_returnsRankedFindCommand() {
+        FindStudentCommand expectedFindStudentCommand = new FindStudentCommand(
+                new NameOrTagsContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), 5);
+        assertParseSuccess(parser, "Alice Bob -k 5", expectedFindStudentCommand);
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \n Alice Bob  \t -k 5", expectedFindStudentCommand);
+    }
+
+    @Test
+    public void parse_rankedKeywords_higherCoverageRanksFirst() throws Exception {
+        Student aliceWong = new StudentBuilder().withName("Alice Wong").withPhone("91234567").build();
+        Student aliceTanLim = new StudentBuilder().withName("Alice Tan Lim").withPhone("92345678").build();
+        Model model = new ModelManager();
+        model.addStudent(aliceWong);
+        model.addStudent(aliceTanLim);
+
+        // both names start with the first keyword, but only one also contains the second
+        parser.parse("alice lim -k 2").execute(model);
+
+        assertEquals(Arrays.asList(aliceTanLim, aliceWong), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void parse_invalidResultLimit_throwsParseException() {
+        assertParseFailure(parser, "Alice -k 0", ParserUtil.MESSAGE_INVALID_RESULT_LIMIT);
+        assertParseFailure(parser, "Alice -k many", ParserUtil.MESSAGE_INVALID_RESULT_LIMIT);
+    }
+
+    @Test
+    public void parse_resultLimitWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -k 5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RestoreCommand;
+
+public class RestoreCommandParserTest {
+
+    private RestoreCommandParser parser = new RestoreCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRestoreCommand() {
+        assertParseSuccess(parser, "", new RestoreCommand());
+        assertParseSuccess(parser, " 12", new RestoreCommand(12));
+        assertParseSuccess(parser, " 21-10-2021 18:30", new RestoreCommand(LocalDateTime.of(2021, 10, 21, 18, 30)));
+        assertParseSuccess(parser, " 21-10-2021", new RestoreCommand(LocalDate.of(2021, 10, 21).atTime(LocalTime.MAX)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " 12 13 14",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 31-02-2021", ParserUtil.INVALID_DATE_FORMAT_MESSAGE);
+        assertParseFailure(parser, " 21-10-2021 25:00", ParserUtil.INVALID_START_TIME_MESSAGE);
+    }
+}
@@ -13,9 +13,12 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.EditStudentCommand.EditStudentDescriptor;
 import seedu.address.logic.commands.ExitCommand;
@@ -75,6 +78,18 @@ public class StudentBookParserTest {
         assertEquals(new FindStudentCommand(new NameOrTagsContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_diagnostics() throws Exception {
+        assertTrue(parser.parseCommand(DiagnosticsCommand.COMMAND_WORD) instanceof DiagnosticsCommand);
+        assertTrue(parser.parseCommand(DiagnosticsCommand.COMMAND_WORD + " 3") instanceof DiagnosticsCommand);
+    }
+
+    @Test
+    public void parseCommand_convert() throws Exception {
+        assertEquals(new ConvertCommand(DataFileFormat.DATABASE),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " database"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -5,18 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.student.NameOrTagsContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.StudentBookBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -72,6 +80,19 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getStudentBookFilePath());
     }
 
+    @Test
+    public void setStudentBookAndLessonBook_nonEmptyBooks_listsReset() {
+        modelManager = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+        StudentBook studentBook = new StudentBookBuilder().withStudent(BENSON).build();
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.addLesson(TEMPORARY_HISTORY_LESSON);
+
+        modelManager.setStudentBook(studentBook);
+        modelManager.setLessonBook(lessonBook);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredStudentList());
+        assertEquals(Collections.singletonList(TEMPORARY_HISTORY_LESSON), modelManager.getFilteredLessonList());
+    }
+
     @Test
     public void hasStudent_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasStudent(null));
@@ -93,6 +114,61 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void updateRankedStudentList_limitSmallerThanMatches_showsMostRelevantFirst() {
+        modelManager = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+        modelManager.updateRankedStudentList(
+                new NameOrTagsContainsKeywordsPredicate(Arrays.asList("Daniel", "Meier", "Kurz")), 2);
+        assertEquals(Arrays.asList(DANIEL, BENSON), modelManager.getFilteredStudentList());
+
+        // unranked filters restore storage order
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(getTypicalStudentBook().getStudentList(), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_samePredicateAfterMutation_reflectsMutation() {
+        modelManager = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+        NameOrTagsContainsKeywordsPredicate predicate =
+                new NameOrTagsContainsKeywordsPredicate(Arrays.asList("Alice"));
+        modelManager.updateFilteredStudentList(predicate);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+
+        // re-applying an equal predicate to unchanged data keeps the list as it is
+        modelManager.updateFilteredStudentList(new NameOrTagsContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        modelManager.setStudent(ALICE, renamedAlice);
+        modelManager.updateFilteredStudentList(predicate);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateRankedStudentList_rankedStudentEdited_showsEditedStudent() {
+        modelManager = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+        modelManager.updateRankedStudentList(
+                new NameOrTagsContainsKeywordsPredicate(Arrays.asList("Daniel", "Meier", "Kurz")), 2);
+
+        Student editedDaniel = new StudentBuilder(DANIEL).withTags("tutee").build();
+        modelManager.setStudent(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(editedDaniel, BENSON), modelManager.getFilteredStudentList());
+
+        // a student that no longer matches makes way for the next most relevant student
+        modelManager.setStudent(BENSON, new StudentBuilder(BENSON).withName("Benson Tan").build());
+        assertEquals(Arrays.asList(editedDaniel, CARL), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_afterRankedSearch_restoresStorageOrder() {
+        modelManager = new ModelManager(getTypicalStudentBook(), new UserPrefs());
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        modelManager.updateRankedStudentList(
+                new NameOrTagsContainsKeywordsPredicate(Arrays.asList("Daniel", "Meier")), 2);
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(getTypicalStudentBook().getStudentList(), modelManager.getFilteredStudentList());
+    }
+
     @Test
     public void equals() {
         StudentBook studentBook = new StudentBookBuilder().withStudent(ALICE).withStudent(BENSON).build();
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.TopKSelector;
+
+public class RankedSearchTest {
+
+    /** Scores a word by its length, so that the empty word does not match. */
+    private static final RankedPredicate<String> BY_LENGTH = String::length;
+
+    private final ObservableList<String> words = FXCollections.observableArrayList("bb", "dddd", "", "a", "ccc");
+    private final List<Boolean> updates = new ArrayList<>();
+    private RankedSearch<String> search;
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, TopKSelector.MESSAGE_INVALID_LIMIT, () ->
+                new RankedSearch<>(BY_LENGTH, 0, words));
+    }
+
+    @Test
+    public void getRanks_moreMatchesThanLimit_ranksMostRelevantFirst() {
+        startSearch(2);
+        assertEquals(Map.of("dddd", 0, "ccc", 1), search.getRanks());
+    }
+
+    @Test
+    public void getRanks_equalScores_ranksEarlierItemFirst() {
+        words.setAll("xx", "yy", "zz");
+        startSearch(2);
+        assertEquals(Map.of("xx", 0, "yy", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_moreRelevantItemAdded_itemRanked() {
+        startSearch(2);
+        words.add("eeeee");
+        assertEquals(List.of(true), updates);
+        assertEquals(Map.of("eeeee", 0, "dddd", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_lessRelevantItemAdded_ranksUnchanged() {
+        startSearch(2);
+        words.add("e");
+        assertEquals(List.of(false), updates);
+        assertEquals(Map.of("dddd", 0, "ccc", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_rankedItemRemoved_nextMostRelevantItemRanked() {
+        startSearch(2);
+        words.remove("dddd");
+        assertEquals(List.of(true), updates);
+        assertEquals(Map.of("ccc", 0, "bb", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_rankedItemReplacedByLessRelevantItem_nextMostRelevantItemRanked() {
+        startSearch(2);
+        words.set(words.indexOf("dddd"), "d");
+        assertEquals(Map.of("ccc", 0, "bb", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_rankedItemReplacedByMoreRelevantItem_itemKeepsRank() {
+        startSearch(2);
+        words.set(words.indexOf("ccc"), "ccccc");
+        assertEquals(Map.of("ccccc", 0, "dddd", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_unrankedItemReplaced_ranksUnchanged() {
+        startSearch(2);
+        words.set(words.indexOf("a"), "");
+        assertFalse(updates.get(0));
+        assertEquals(Map.of("dddd", 0, "ccc", 1), search.getRanks());
+    }
+
+    @Test
+    public void update_allItemsReplaced_ranksNewItems() {
+        startSearch(2);
+        words.setAll(Arrays.asList("x", "yyy", "zz"));
+        assertTrue(updates.get(0));
+        assertEquals(Map.of("yyy", 0, "zz", 1), search.getRanks());
+    }
+
+    /**
+     * Starts a search of {@code words} ranking at most {@code limit} of them, which records whether each change to
+     * the words changed the ranks.
+     */
+    private void startSearch(int limit) {
+        search = new RankedSearch<>(BY_LENGTH, limit, words);
+        words.addListener((ListChangeListener<String>) change -> updates.add(search.update(change)));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -97,6 +98,25 @@ public class StudentBookTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
+    @Test
+    public void getVersion_afterMutations_changes() {
+        long initialVersion = studentBook.getVersion();
+        studentBook.addStudent(ALICE);
+        long versionAfterAdd = studentBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        // queries do not change the version
+        studentBook.hasStudent(ALICE);
+        assertEquals(versionAfterAdd, studentBook.getVersion());
+
+        studentBook.removeStudent(ALICE);
+        assertNotEquals(versionAfterAdd, studentBook.getVersion());
+    }
 }
@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +21,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setStudentBookFilePath(null));
     }
 
+    @Test
+    public void resetData_compactDataFiles_copied() {
+        UserPrefs compactPrefs = new UserPrefs();
+        compactPrefs.setCompactDataFiles(true);
+        assertNotEquals(new UserPrefs(), compactPrefs);
+
+        UserPrefs copy = new UserPrefs(compactPrefs);
+        assertTrue(copy.isCompactDataFiles());
+        assertEquals(compactPrefs, copy);
+    }
+
 }
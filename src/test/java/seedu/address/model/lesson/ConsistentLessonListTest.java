@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.lesson.exceptions.ConflictsWithLessonsException;
 import seedu.address.model.lesson.exceptions.ContainsConflictingLessonsException;
+import seedu.address.testutil.RecurringLessonBuilder;
 import seedu.address.testutil.TemporaryLessonBuilder;
 
 public class ConsistentLessonListTest {
@@ -104,4 +105,38 @@ public class ConsistentLessonListTest {
         assertThrows(ConflictsWithLessonsException.class, () -> l.add(conflictingLesson));
     }
 
+    @Test
+    public void addAll_nonConflictingLessons_success() {
+        Lesson recurringLesson = new RecurringLessonBuilder()
+                .withDateTimeSlot(differentLessonDateTimeOne.minusWeeks(2).withHour(8), 2, 0)
+                .build();
+
+        ConsistentLessonList l = new ConsistentLessonList();
+        l.setLessons(listWithNonConflictingLessons);
+        l.addAll(List.of(recurringLesson));
+
+        assertTrue(l.asUnmodifiableObservableList().contains(recurringLesson));
+    }
+
+    @Test
+    public void addAll_conflictingLessons_throwsConflictsWithLessonsException() {
+        Lesson weekLaterLesson = new TemporaryLessonBuilder()
+                .withDateTimeSlot(differentLessonDateTimeOne.plusWeeks(1), 1, 0)
+                .build();
+        Lesson recurringLesson = new RecurringLessonBuilder()
+                .withDateTimeSlot(differentLessonDateTimeOne.minusWeeks(1).plusMinutes(30), 0, 45)
+                .build();
+
+        ConsistentLessonList l = new ConsistentLessonList();
+        l.setLessons(listWithNonConflictingLessons);
+
+        // conflicts with the existing lessons in the list
+        assertThrows(ConflictsWithLessonsException.class, () -> l.addAll(List.of(recurringLesson)));
+
+        // conflicts with another lesson being added, and nothing is added
+        ConsistentLessonList emptyList = new ConsistentLessonList();
+        assertThrows(ConflictsWithLessonsException.class, () -> emptyList.addAll(List.of(weekLaterLesson,
+                recurringLesson)));
+        assertTrue(emptyList.asUnmodifiableObservableList().isEmpty());
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalLessons.RECURRING_CHEMISTRY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class LessonArchiveTest {
+
+    @Test
+    public void getLessons_loadedArchive_loadedOnceWhenNeeded() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        LessonArchive archive = new LessonArchive(() -> {
+            loadCount.incrementAndGet();
+            return List.of(TEMPORARY_BIOLOGY_LESSON);
+        });
+        LessonArchive newArchive = archive.withLessons(List.of(TEMPORARY_HISTORY_LESSON));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON, TEMPORARY_HISTORY_LESSON), newArchive.getLessons());
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON), archive.getLessons());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void getLessonsAddedSince() {
+        LessonArchive archive = new LessonArchive();
+        LessonArchive middleArchive = archive.withLessons(List.of(TEMPORARY_BIOLOGY_LESSON));
+        LessonArchive newArchive = middleArchive.withLessons(List.of(TEMPORARY_HISTORY_LESSON));
+
+        assertEquals(Optional.of(List.of(TEMPORARY_BIOLOGY_LESSON, TEMPORARY_HISTORY_LESSON)),
+                newArchive.getLessonsAddedSince(archive));
+        assertEquals(Optional.of(List.of(TEMPORARY_HISTORY_LESSON)), newArchive.getLessonsAddedSince(middleArchive));
+        assertEquals(Optional.of(List.of()), newArchive.getLessonsAddedSince(newArchive));
+
+        // not built from the given archive
+        LessonArchive otherArchive = new LessonArchive().withLessons(List.of(RECURRING_CHEMISTRY_LESSON));
+        assertFalse(newArchive.getLessonsAddedSince(otherArchive).isPresent());
+        assertFalse(archive.getLessonsAddedSince(newArchive).isPresent());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -107,4 +108,32 @@ public class LessonNameOrSubjectContainsKeywordsPredicateTest {
                 .build())
         );
     }
+
+    @Test
+    public void score_matchKinds_rankedExactThenPrefixThenSubstringThenSubject() {
+        LessonNameOrSubjectContainsKeywordsPredicate predicate =
+                new LessonNameOrSubjectContainsKeywordsPredicate(Collections.singletonList("biology"));
+        int exactScore = predicate.score(new TemporaryLessonBuilder().withName("Biology").build());
+        int prefixScore = predicate.score(new TemporaryLessonBuilder().withName("Biology Lesson").build());
+        int substringScore = predicate.score(new TemporaryLessonBuilder().withName("Sec 2 Biology").build());
+        int subjectScore = predicate.score(new TemporaryLessonBuilder()
+                .withName("Sec 2 Science")
+                .withSubject("Biology")
+                .build());
+
+        assertTrue(exactScore > prefixScore);
+        assertTrue(prefixScore > substringScore);
+        assertTrue(substringScore > subjectScore);
+        assertTrue(subjectScore > 0);
+    }
+
+    @Test
+    public void score_noMatch_returnsZero() {
+        LessonNameOrSubjectContainsKeywordsPredicate predicate =
+                new LessonNameOrSubjectContainsKeywordsPredicate(Collections.singletonList("Biology"));
+        assertEquals(0, predicate.score(new TemporaryLessonBuilder()
+                .withName("History Lesson")
+                .withSubject("History")
+                .build()));
+    }
 }
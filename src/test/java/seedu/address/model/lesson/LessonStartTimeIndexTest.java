@@ -0,0 +1,76 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.RECURRING_CHEMISTRY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessons;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class LessonStartTimeIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2022, 12, 19);
+
+    @Test
+    public void findLessonsStartingWithin_wholeWeek_returnsAllLessons() {
+        LessonStartTimeIndex index = new LessonStartTimeIndex();
+        index.setAll(getTypicalLessons());
+        List<Lesson> lessons = index.findLessonsStartingWithin(new LessonStartsWithinRangePredicate(
+                MONDAY, MONDAY.plusDays(6), Optional.empty(), Optional.empty()));
+        assertEquals(new HashSet<>(getTypicalLessons()), new HashSet<>(lessons));
+    }
+
+    @Test
+    public void findLessonsStartingWithin_timeWindow_returnsLessonsInWindow() {
+        LessonStartTimeIndex index = new LessonStartTimeIndex();
+        index.setAll(getTypicalLessons());
+
+        // the recurring lesson also takes place in the following weeks
+        List<Lesson> lessons = index.findLessonsStartingWithin(new LessonStartsWithinRangePredicate(
+                MONDAY, MONDAY.plusDays(13), Optional.of(LocalTime.of(12, 0)), Optional.empty()));
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON, RECURRING_CHEMISTRY_LESSON), lessons);
+
+        lessons = index.findLessonsStartingWithin(new LessonStartsWithinRangePredicate(
+                MONDAY.plusDays(7), MONDAY.plusDays(13), Optional.of(LocalTime.of(12, 0)), Optional.empty()));
+        assertEquals(List.of(RECURRING_CHEMISTRY_LESSON), lessons);
+    }
+
+    @Test
+    public void findLessonsStartingWithin_beforeFirstOccurrence_excludesRecurringLesson() {
+        LessonStartTimeIndex index = new LessonStartTimeIndex();
+        index.setAll(getTypicalLessons());
+        List<Lesson> lessons = index.findLessonsStartingWithin(new LessonStartsWithinRangePredicate(
+                MONDAY.minusDays(7), MONDAY.minusDays(1), Optional.empty(), Optional.empty()));
+        assertTrue(lessons.isEmpty());
+    }
+
+    @Test
+    public void remove_lessonRemoved_notFound() {
+        LessonStartTimeIndex index = new LessonStartTimeIndex();
+        index.setAll(getTypicalLessons());
+        index.remove(TEMPORARY_HISTORY_LESSON);
+        index.remove(RECURRING_CHEMISTRY_LESSON);
+        List<Lesson> lessons = index.findLessonsStartingWithin(new LessonStartsWithinRangePredicate(
+                MONDAY, MONDAY.plusDays(6), Optional.empty(), Optional.empty()));
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON), lessons);
+    }
+
+    @Test
+    public void findLessonsStartingWithin_agreesWithPredicate() {
+        LessonStartTimeIndex index = new LessonStartTimeIndex();
+        index.setAll(getTypicalLessons());
+        LessonStartsWithinRangePredicate range = new LessonStartsWithinRangePredicate(MONDAY.plusDays(1),
+                MONDAY.plusDays(2), Optional.of(LocalTime.of(8, 0)), Optional.of(LocalTime.of(15, 1)));
+        List<Lesson> expected = getTypicalLessons().stream().filter(range).collect(Collectors.toList());
+        assertEquals(new HashSet<>(expected), new HashSet<>(index.findLessonsStartingWithin(range)));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.RecurringLessonBuilder;
+import seedu.address.testutil.TemporaryLessonBuilder;
+
+public class LessonStartsWithinRangePredicateTest {
+
+    // Monday to Sunday
+    private static final LocalDate FROM_DATE = LocalDate.of(2022, 12, 19);
+    private static final LocalDate TO_DATE = LocalDate.of(2022, 12, 25);
+
+    private final LessonStartsWithinRangePredicate wholeWeek =
+            new LessonStartsWithinRangePredicate(FROM_DATE, TO_DATE, Optional.empty(), Optional.empty());
+    private final LessonStartsWithinRangePredicate weekEvenings = new LessonStartsWithinRangePredicate(
+            FROM_DATE, TO_DATE, Optional.of(LocalTime.of(17, 0)), Optional.of(LocalTime.of(21, 0)));
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LessonStartsWithinRangePredicate(
+                TO_DATE, FROM_DATE, Optional.empty(), Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () -> new LessonStartsWithinRangePredicate(
+                FROM_DATE, TO_DATE, Optional.of(LocalTime.of(18, 0)), Optional.of(LocalTime.of(17, 0))));
+    }
+
+    @Test
+    public void test_temporaryLesson() {
+        // first and last day of the range are included
+        assertTrue(wholeWeek.test(temporaryLessonAt(FROM_DATE.atStartOfDay())));
+        assertTrue(wholeWeek.test(temporaryLessonAt(TO_DATE.atTime(23, 0))));
+
+        // outside the range of dates
+        assertFalse(wholeWeek.test(temporaryLessonAt(FROM_DATE.minusDays(1).atTime(18, 0))));
+        assertFalse(wholeWeek.test(temporaryLessonAt(TO_DATE.plusDays(1).atTime(18, 0))));
+
+        // earliest start time is inclusive, latest start time is exclusive
+        assertTrue(weekEvenings.test(temporaryLessonAt(FROM_DATE.atTime(17, 0))));
+        assertFalse(weekEvenings.test(temporaryLessonAt(FROM_DATE.atTime(16, 59))));
+        assertFalse(weekEvenings.test(temporaryLessonAt(FROM_DATE.atTime(21, 0))));
+    }
+
+    @Test
+    public void test_recurringLesson() {
+        // first occurrence before the range
+        assertTrue(wholeWeek.test(recurringLessonAt(LocalDateTime.of(2022, 11, 1, 18, 0))));
+
+        // first occurrence on the last day of the range
+        assertTrue(wholeWeek.test(recurringLessonAt(TO_DATE.atTime(18, 0))));
+
+        // first occurrence after the range
+        assertFalse(wholeWeek.test(recurringLessonAt(TO_DATE.plusDays(1).atTime(18, 0))));
+
+        // outside the window of the day
+        assertFalse(weekEvenings.test(recurringLessonAt(LocalDateTime.of(2022, 11, 1, 9, 0))));
+
+        // weekday not covered by the range
+        LessonStartsWithinRangePredicate mondayOnly =
+                new LessonStartsWithinRangePredicate(FROM_DATE, FROM_DATE, Optional.empty(), Optional.empty());
+        assertFalse(mondayOnly.test(recurringLessonAt(LocalDateTime.of(2022, 11, 1, 18, 0))));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(wholeWeek.equals(wholeWeek));
+        assertTrue(wholeWeek.equals(
+                new LessonStartsWithinRangePredicate(FROM_DATE, TO_DATE, Optional.empty(), Optional.empty())));
+        assertFalse(wholeWeek.equals(weekEvenings));
+        assertFalse(wholeWeek.equals(null));
+        assertFalse(wholeWeek.equals(1));
+    }
+
+    private static Lesson temporaryLessonAt(LocalDateTime start) {
+        return new TemporaryLessonBuilder().withDateTimeSlot(start, 1, 0).build();
+    }
+
+    private static Lesson recurringLessonAt(LocalDateTime start) {
+        return new RecurringLessonBuilder().withDateTimeSlot(start, 1, 0).build();
+    }
+}
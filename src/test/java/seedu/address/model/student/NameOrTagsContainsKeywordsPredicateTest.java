@@ -1,5 +1,6 @@
 package seedu.address.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -122,4 +123,34 @@ public class NameOrTagsContainsKeywordsPredicateTest {
                 .build())
         );
     }
+
+    @Test
+    public void score_matchKinds_rankedExactThenPrefixThenSubstringThenTag() {
+        NameOrTagsContainsKeywordsPredicate predicate =
+                new NameOrTagsContainsKeywordsPredicate(Collections.singletonList("alice"));
+        int exactScore = predicate.score(new StudentBuilder().withName("Alice").build());
+        int prefixScore = predicate.score(new StudentBuilder().withName("Alice Pauline").build());
+        int substringScore = predicate.score(new StudentBuilder().withName("Malice Tan").build());
+        int tagScore = predicate.score(new StudentBuilder().withName("Bob").withTags("alicesFriend").build());
+
+        assertTrue(exactScore > prefixScore);
+        assertTrue(prefixScore > substringScore);
+        assertTrue(substringScore > tagScore);
+        assertTrue(tagScore > 0);
+    }
+
+    @Test
+    public void score_moreKeywordsMatched_higherScoreWithinSameTier() {
+        NameOrTagsContainsKeywordsPredicate predicate =
+                new NameOrTagsContainsKeywordsPredicate(Arrays.asList("ali", "tan"));
+        assertTrue(predicate.score(new StudentBuilder().withName("Alice Tan").build())
+                > predicate.score(new StudentBuilder().withName("Alice Lim").build()));
+    }
+
+    @Test
+    public void score_noMatch_returnsZero() {
+        NameOrTagsContainsKeywordsPredicate predicate =
+                new NameOrTagsContainsKeywordsPredicate(Collections.singletonList("Carol"));
+        assertEquals(0, predicate.score(new StudentBuilder().withName("Alice Bob").withTags("friends").build()));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -49,6 +51,23 @@ public class StudentTest {
         assertFalse(BOB.isSameStudent(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same name and phone, other attributes different -> equal keys
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB)
+                .withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+
+        // name differs in case -> equal keys with equal hash codes
+        Student editedBob = new StudentBuilder(BOB).withName(VALID_NAME_BOB.toLowerCase()).build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+        assertEquals(BOB.getIdentityKey().hashCode(), editedBob.getIdentityKey().hashCode());
+
+        // different phone -> different keys
+        editedAlice = new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertNotEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void fingerprintOf_filesOfBookChanged_fingerprintChanged() throws Exception {
+        Path bookFilePath = testFolder.resolve("studentbook.json");
+        Files.writeString(bookFilePath, "{}");
+        String fingerprint = DataFileWatcher.fingerprintOf(List.of(bookFilePath));
+        assertEquals(fingerprint, DataFileWatcher.fingerprintOf(List.of(bookFilePath)));
+
+        Files.writeString(testFolder.resolve("unrelated.txt"), "text");
+        assertEquals(fingerprint, DataFileWatcher.fingerprintOf(List.of(bookFilePath)));
+
+        Files.writeString(testFolder.resolve("studentbook.json.journal"), "entry");
+        assertNotEquals(fingerprint, DataFileWatcher.fingerprintOf(List.of(bookFilePath)));
+    }
+
+    @Test
+    public void fingerprintOf_missingDirectory_empty() throws Exception {
+        assertEquals("", DataFileWatcher.fingerprintOf(List.of(testFolder.resolve("missing").resolve("book.json"))));
+    }
+
+    @Test
+    public void watch_bookFileChanged_listenerCalled() throws Exception {
+        Path bookFilePath = testFolder.resolve("lessonbook.json");
+        Files.writeString(bookFilePath, "{}");
+        CountDownLatch changes = new CountDownLatch(1);
+        try (DataFileWatcher watcher = new DataFileWatcher(changes::countDown)) {
+            watcher.watch(List.of(bookFilePath));
+            Files.writeString(bookFilePath, "{ \"lessons\": [] }");
+            assertTrue(changes.await(10, TimeUnit.SECONDS));
+        }
+    }
+}
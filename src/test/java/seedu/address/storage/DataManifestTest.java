@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.StudentBook;
+
+public class DataManifestTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void recover_noManifest_filesUnchanged() throws Exception {
+        Path studentBookPath = testFolder.resolve("studentBook.json");
+        new JournaledStudentBookStorage(studentBookPath).saveStudentBook(getTypicalStudentBook());
+        byte[] snapshot = Files.readAllBytes(studentBookPath);
+
+        new DataManifest(studentBookPath, testFolder.resolve("lessonBook.json")).recover();
+
+        assertArrayEquals(snapshot, Files.readAllBytes(studentBookPath));
+    }
+
+    @Test
+    public void commit_filesUnchanged_generationUnchanged() throws Exception {
+        Path studentBookPath = testFolder.resolve("studentBook.json");
+        new JournaledStudentBookStorage(studentBookPath).saveStudentBook(getTypicalStudentBook());
+        DataManifest manifest = new DataManifest(studentBookPath, testFolder.resolve("lessonBook.json"));
+
+        manifest.commit();
+        manifest.commit();
+
+        assertEquals(1, manifest.getGeneration());
+    }
+
+    @Test
+    public void recover_journalAppendedAfterCommit_changeRolledBack() throws Exception {
+        Path studentBookPath = testFolder.resolve("studentBook.json");
+        Path lessonBookPath = testFolder.resolve("lessonBook.json");
+        JournaledStudentBookStorage studentBookStorage = new JournaledStudentBookStorage(studentBookPath);
+        StudentBook studentBook = getTypicalStudentBook();
+        studentBookStorage.saveStudentBook(studentBook);
+        new JsonLessonBookStorage(lessonBookPath).saveLessonBook(getTypicalLessonBook());
+        DataManifest manifest = new DataManifest(studentBookPath, lessonBookPath);
+        manifest.commit();
+
+        // the student book is saved, but the app stops before the lesson book is and the pair is committed
+        studentBook.addStudent(HOON);
+        studentBookStorage.saveStudentBook(studentBook);
+
+        new DataManifest(studentBookPath, lessonBookPath).recover();
+
+        assertEquals(getTypicalStudentBook(), new JournaledStudentBookStorage(studentBookPath).readStudentBook().get());
+    }
+
+    @Test
+    public void recover_snapshotReplacedAfterCommit_restoredFromBackup() throws Exception {
+        Path studentBookPath = testFolder.resolve("studentBook.json");
+        Path lessonBookPath = testFolder.resolve("lessonBook.json");
+        StudentBook studentBook = getTypicalStudentBook();
+        new JournaledStudentBookStorage(studentBookPath).saveStudentBook(studentBook);
+        DataManifest manifest = new DataManifest(studentBookPath, lessonBookPath);
+        manifest.commit();
+
+        // a storage that has not read the book writes a whole new snapshot, as after a restart
+        studentBook.addStudent(HOON);
+        new JournaledStudentBookStorage(studentBookPath).saveStudentBook(studentBook);
+        studentBook.addStudent(IDA);
+        new JournaledStudentBookStorage(studentBookPath).saveStudentBook(studentBook);
+
+        new DataManifest(studentBookPath, lessonBookPath).recover();
+
+        assertEquals(getTypicalStudentBook(), new JournaledStudentBookStorage(studentBookPath).readStudentBook().get());
+    }
+
+    @Test
+    public void recover_committedFiles_filesUnchanged() throws Exception {
+        Path studentBookPath = testFolder.resolve("studentBook.json");
+        Path lessonBookPath = testFolder.resolve("lessonBook.json");
+        JournaledStudentBookStorage studentBookStorage = new JournaledStudentBookStorage(studentBookPath);
+        StudentBook studentBook = getTypicalStudentBook();
+        studentBookStorage.saveStudentBook(studentBook);
+        studentBook.addStudent(HOON);
+        studentBookStorage.saveStudentBook(studentBook);
+        new DataManifest(studentBookPath, lessonBookPath).commit();
+
+        new DataManifest(studentBookPath, lessonBookPath).recover();
+
+        assertEquals(studentBook, new JournaledStudentBookStorage(studentBookPath).readStudentBook().get());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.RECURRING_CHEMISTRY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+
+public class DatabaseLessonBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveLessonBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.db");
+        LessonBook original = getTypicalLessonBook();
+        DatabaseLessonBookStorage storage = new DatabaseLessonBookStorage(filePath);
+
+        storage.saveLessonBook(original);
+        assertEquals(original, new LessonBook(storage.readLessonBook().get()));
+
+        original.deleteLesson(TEMPORARY_HISTORY_LESSON);
+        storage.saveLessonBook(original);
+        LessonBook readBack = new LessonBook(new DatabaseLessonBookStorage(filePath).readLessonBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getLessonList().get(0).isRecurring(), readBack.getLessonList().get(0).isRecurring());
+    }
+
+    @Test
+    public void readLessonBook_archivedLessons_readFromArchiveTable() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.db");
+        LessonBook original = getTypicalLessonBook();
+        original.archiveLessonsEndedBefore(LocalDateTime.of(2023, 1, 1, 0, 0));
+        new DatabaseLessonBookStorage(filePath).saveLessonBook(original);
+
+        ReadOnlyLessonBook readBack = new DatabaseLessonBookStorage(filePath).readLessonBook().get();
+        assertEquals(List.of(RECURRING_CHEMISTRY_LESSON), readBack.getLessonList());
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON, TEMPORARY_HISTORY_LESSON), readBack.getArchive().getLessons());
+    }
+
+    @Test
+    public void saveLessonBook_newFile_lessonColumnsIndexed() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.db");
+        new DatabaseLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook());
+
+        Set<String> indexedColumns = new HashSet<>();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT info.name FROM sqlite_master AS master, "
+                        + "pragma_index_info(master.name) AS info WHERE master.type = 'index' "
+                        + "AND master.sql IS NOT NULL AND master.tbl_name = '"
+                        + DatabaseLessonBookStorage.TABLE_LESSONS + "'")) {
+            while (resultSet.next()) {
+                indexedColumns.add(resultSet.getString(1));
+            }
+        }
+        assertEquals(Set.of("weekday", "subject", "start"), indexedColumns);
+    }
+
+    @Test
+    public void readLessonBook_notDatabaseFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.db");
+        Files.writeString(filePath, "This is not a database file, but is long enough to be mistaken for one.");
+        assertThrows(DataConversionException.class, () -> new DatabaseLessonBookStorage(filePath).readLessonBook());
+    }
+
+    @Test
+    public void getKey_lessonsOfTypicalBook_distinct() {
+        assertEquals(3, getTypicalLessonBook().getLessonList().stream()
+                .map(DatabaseLessonBookStorage::getKey)
+                .distinct()
+                .count());
+    }
+}
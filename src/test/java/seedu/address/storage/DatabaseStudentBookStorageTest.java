@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.StudentBook;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class DatabaseStudentBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readStudentBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new DatabaseStudentBookStorage(testFolder.resolve("missing.db")).readStudentBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveStudentBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.db");
+        StudentBook original = getTypicalStudentBook();
+        DatabaseStudentBookStorage storage = new DatabaseStudentBookStorage(filePath);
+
+        storage.saveStudentBook(original);
+        assertEquals(original, new StudentBook(storage.readStudentBook().get()));
+
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveStudentBook(original);
+        assertEquals(original, new StudentBook(new DatabaseStudentBookStorage(filePath).readStudentBook().get()));
+    }
+
+    @Test
+    public void saveStudentBook_studentsAddedAndRemoved_otherPositionsKept() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.db");
+        StudentBook original = getTypicalStudentBook();
+        DatabaseStudentBookStorage storage = new DatabaseStudentBookStorage(filePath);
+        storage.saveStudentBook(original);
+        List<String> savedRows = readRows(filePath);
+
+        original.removeStudent(ALICE);
+        original.addStudent(HOON);
+        storage.saveStudentBook(original);
+        List<String> expectedRows = new ArrayList<>(savedRows.subList(1, savedRows.size()));
+        expectedRows.add(savedRows.size() + " " + HOON.getName().fullName);
+        assertEquals(expectedRows, readRows(filePath));
+    }
+
+    @Test
+    public void saveStudentBook_studentRenamed_rowUpdated() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.db");
+        StudentBook original = getTypicalStudentBook();
+        DatabaseStudentBookStorage storage = new DatabaseStudentBookStorage(filePath);
+        storage.saveStudentBook(original);
+
+        Student renamedAlice = new StudentBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        original.setStudent(ALICE, renamedAlice);
+        storage.saveStudentBook(original);
+        assertEquals(original, new StudentBook(new DatabaseStudentBookStorage(filePath).readStudentBook().get()));
+        assertEquals("0 " + renamedAlice.getName().fullName, readRows(filePath).get(0));
+    }
+
+    @Test
+    public void readStudentBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        new JsonStudentBookStorage(filePath).saveStudentBook(getTypicalStudentBook());
+        assertThrows(DataConversionException.class, () -> new DatabaseStudentBookStorage(filePath).readStudentBook());
+    }
+
+    /**
+     * Returns the position and name of each row of the students table in the file at {@code filePath}.
+     */
+    private static List<String> readRows(Path filePath) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT position, name FROM "
+                        + DatabaseStudentBookStorage.TABLE_STUDENTS + " ORDER BY position")) {
+            while (resultSet.next()) {
+                rows.add(resultSet.getLong("position") + " " + resultSet.getString("name"));
+            }
+        }
+        return rows;
+    }
+}
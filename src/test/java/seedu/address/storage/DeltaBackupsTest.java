@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.LessonBook;
+import seedu.address.model.StudentBook;
+
+public class DeltaBackupsTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2021, 10, 21, 18, 30);
+    private static final Clock CLOCK = Clock.fixed(TIME.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private DeltaBackups newBackups() {
+        return new DeltaBackups(testFolder.resolve(DeltaBackups.BACKUP_DIRECTORY_NAME), CLOCK);
+    }
+
+    @Test
+    public void backUp_unchangedBooks_nothingWritten() throws Exception {
+        DeltaBackups backups = newBackups();
+        DeltaBackups.Summary summary = backups.backUp(getTypicalStudentBook(), getTypicalLessonBook()).get();
+        assertTrue(summary.getEntry().isBase());
+        assertEquals(getTypicalStudentBook().getStudentList().size() + getTypicalLessonBook().getLessonList().size(),
+                summary.getRecordCount());
+
+        assertFalse(backups.backUp(getTypicalStudentBook(), getTypicalLessonBook()).isPresent());
+        assertEquals(1, backups.listBackups().size());
+    }
+
+    @Test
+    public void backUp_changedStudent_onlyChangedStudentWritten() throws Exception {
+        DeltaBackups backups = newBackups();
+        DeltaBackups.Summary base = backups.backUp(getTypicalStudentBook(), getTypicalLessonBook()).get();
+
+        StudentBook changedStudentBook = getTypicalStudentBook();
+        changedStudentBook.addStudent(AMY);
+        DeltaBackups.Summary delta = backups.backUp(changedStudentBook, getTypicalLessonBook()).get();
+
+        assertEquals(new DeltaBackups.Entry(2, TIME, false), delta.getEntry());
+        assertEquals(1, delta.getRecordCount());
+        assertTrue(delta.getByteCount() < base.getByteCount());
+    }
+
+    @Test
+    public void restore_eachBackup_booksAsBackedUp() throws Exception {
+        DeltaBackups backups = newBackups();
+        backups.backUp(getTypicalStudentBook(), getTypicalLessonBook());
+        StudentBook withAmy = getTypicalStudentBook();
+        withAmy.addStudent(AMY);
+        backups.backUp(withAmy, new LessonBook());
+        StudentBook withAmyAndBob = new StudentBook(withAmy);
+        withAmyAndBob.addStudent(BOB);
+        backups.backUp(withAmyAndBob, getTypicalLessonBook());
+
+        assertRestored(backups, 1, getTypicalStudentBook(), getTypicalLessonBook());
+        assertRestored(backups, 2, withAmy, new LessonBook());
+        assertRestored(backups, 3, withAmyAndBob, getTypicalLessonBook());
+        assertEquals(3, backups.findBackupAt(TIME).get().getId());
+        assertFalse(backups.findBackupAt(TIME.minusSeconds(1)).isPresent());
+    }
+
+    @Test
+    public void restore_missingBackup_throwsDataConversionException() throws Exception {
+        DeltaBackups backups = newBackups();
+        backups.backUp(getTypicalStudentBook(), getTypicalLessonBook());
+        StudentBook withAmy = getTypicalStudentBook();
+        withAmy.addStudent(AMY);
+        backups.backUp(withAmy, getTypicalLessonBook());
+        backups.backUp(getTypicalStudentBook(), getTypicalLessonBook());
+
+        assertThrows(DataConversionException.class, () -> backups.restore(4));
+
+        deleteBackupFile(2);
+        assertThrows(DataConversionException.class, () -> backups.restore(3));
+        assertRestored(backups, 1, getTypicalStudentBook(), getTypicalLessonBook());
+    }
+
+    @Test
+    public void backUp_manyChanges_compactedToNewBase() throws Exception {
+        DeltaBackups backups = newBackups();
+        StudentBook withAmy = getTypicalStudentBook();
+        withAmy.addStudent(AMY);
+        int backupCount = DeltaBackups.MAX_CHAIN_LENGTH + 2;
+        for (int i = 0; i < backupCount; i++) {
+            backups.backUp(i % 2 == 0 ? getTypicalStudentBook() : withAmy, getTypicalLessonBook());
+        }
+
+        List<Integer> baseIds = backups.listBackups().stream()
+                .filter(DeltaBackups.Entry::isBase)
+                .map(DeltaBackups.Entry::getId)
+                .collect(Collectors.toList());
+        assertTrue(baseIds.size() > 1);
+        for (int i = 1; i < baseIds.size(); i++) {
+            assertTrue(baseIds.get(i) - baseIds.get(i - 1) <= DeltaBackups.MAX_CHAIN_LENGTH + 1);
+        }
+        int lastBaseId = baseIds.get(baseIds.size() - 1);
+        assertRestored(backups, lastBaseId, lastBaseId % 2 == 1 ? getTypicalStudentBook() : withAmy,
+                getTypicalLessonBook());
+        assertRestored(backups, backupCount, withAmy, getTypicalLessonBook());
+    }
+
+    @Test
+    public void backUp_newBase_oldChainsDeleted() throws Exception {
+        DeltaBackups backups = newBackups();
+        StudentBook withAmy = getTypicalStudentBook();
+        withAmy.addStudent(AMY);
+        int baseCount = 0;
+        for (int i = 0; baseCount <= DeltaBackups.KEPT_CHAIN_COUNT; i++) {
+            if (backups.backUp(i % 2 == 0 ? getTypicalStudentBook() : withAmy, new LessonBook()).get()
+                    .getEntry().isBase()) {
+                baseCount++;
+            }
+        }
+
+        List<DeltaBackups.Entry> entries = backups.listBackups();
+        assertTrue(entries.get(0).isBase());
+        assertTrue(entries.get(0).getId() > 1);
+        assertEquals(DeltaBackups.KEPT_CHAIN_COUNT, entries.stream().filter(DeltaBackups.Entry::isBase).count());
+    }
+
+    @Test
+    public void backUp_newInstance_chainContinued() throws Exception {
+        newBackups().backUp(getTypicalStudentBook(), getTypicalLessonBook());
+
+        DeltaBackups backups = newBackups();
+        assertFalse(backups.backUp(getTypicalStudentBook(), getTypicalLessonBook()).isPresent());
+        StudentBook withAmy = getTypicalStudentBook();
+        withAmy.addStudent(AMY);
+        DeltaBackups.Summary delta = backups.backUp(withAmy, getTypicalLessonBook()).get();
+        assertEquals(new DeltaBackups.Entry(2, TIME, false), delta.getEntry());
+        assertEquals(1, delta.getRecordCount());
+    }
+
+    private void assertRestored(DeltaBackups backups, int id, StudentBook expectedStudentBook,
+                                LessonBook expectedLessonBook) throws Exception {
+        DeltaBackups.Books books = backups.restore(id);
+        assertEquals(id, books.getEntry().getId());
+        assertEquals(expectedStudentBook.getStudentList(), books.getStudentBook().getStudentList());
+        assertEquals(expectedLessonBook.getLessonList(), books.getLessonBook().getLessonList());
+    }
+
+    private void deleteBackupFile(int id) throws Exception {
+        try (Stream<Path> files = Files.list(testFolder.resolve(DeltaBackups.BACKUP_DIRECTORY_NAME))) {
+            for (Path file : files.collect(Collectors.toList())) {
+                if (file.getFileName().toString().startsWith(String.format("%06d-", id))) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.RECURRING_CHEMISTRY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessons;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.testutil.TemporaryLessonBuilder;
+
+public class IcsLessonExporterTest {
+
+    private static final Clock FIRST_EXPORT_CLOCK = Clock.fixed(Instant.parse("2022-12-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final Clock LATER_EXPORT_CLOCK = Clock.fixed(Instant.parse("2022-12-08T10:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_newFile_allEventsWritten() throws IOException {
+        Path file = testFolder.resolve("lessons.ics");
+        IcsLessonExporter.Summary summary = new IcsLessonExporter(file, FIRST_EXPORT_CLOCK)
+                .export(getTypicalLessons());
+
+        assertEquals(3, summary.getWrittenCount());
+        assertEquals(0, summary.getUnchangedCount());
+        assertEquals(0, summary.getRemovedCount());
+
+        String calendar = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        assertEquals(3, count(calendar, "BEGIN:VEVENT\r\n"));
+        // only the recurring lesson repeats, and it is not expanded into occurrences
+        assertEquals(1, count(calendar, "RRULE:FREQ=WEEKLY\r\n"));
+        assertTrue(calendar.contains("UID:" + IcsLessonExporter.getUid(RECURRING_CHEMISTRY_LESSON) + "\r\n"
+                + "DTSTART:20221220T150000\r\nDTEND:20221220T171500\r\nRRULE:FREQ=WEEKLY\r\n"
+                + "SUMMARY:Sec 2 Chemistry Group Tuition\r\n"
+                + "LOCATION:Blk 11 Ang Mo Kio Street 74\\, #11-04\r\n"
+                + "DESCRIPTION:Subject: Chemistry\r\n"));
+        assertTrue(calendar.contains("DTSTAMP:20221201T100000Z\r\n"));
+    }
+
+    @Test
+    public void export_earlierExport_onlyChangedEventsRewritten() throws IOException {
+        Path file = testFolder.resolve("lessons.ics");
+        new IcsLessonExporter(file, FIRST_EXPORT_CLOCK).export(getTypicalLessons());
+        String firstExport = Files.readString(file, StandardCharsets.UTF_8);
+
+        // exporting the same lessons again leaves the file as it was
+        IcsLessonExporter.Summary summary = new IcsLessonExporter(file, LATER_EXPORT_CLOCK)
+                .export(getTypicalLessons());
+        assertEquals(0, summary.getWrittenCount());
+        assertEquals(3, summary.getUnchangedCount());
+        assertEquals(firstExport, Files.readString(file, StandardCharsets.UTF_8));
+
+        Lesson renamedBiologyLesson = new TemporaryLessonBuilder(TEMPORARY_BIOLOGY_LESSON)
+                .withName("Sec 2 Biology Revision")
+                .build();
+        summary = new IcsLessonExporter(file, LATER_EXPORT_CLOCK)
+                .export(List.of(renamedBiologyLesson, RECURRING_CHEMISTRY_LESSON));
+        assertEquals(1, summary.getWrittenCount());
+        assertEquals(1, summary.getUnchangedCount());
+        assertEquals(1, summary.getRemovedCount());
+
+        String laterExport = Files.readString(file, StandardCharsets.UTF_8);
+        assertEquals(2, count(laterExport, "BEGIN:VEVENT\r\n"));
+        assertEquals(1, count(laterExport, "DTSTAMP:20221208T100000Z\r\n"));
+        assertTrue(laterExport.contains("SUMMARY:Sec 2 Biology Revision\r\n"));
+        assertFalse(laterExport.contains(IcsLessonExporter.getUid(TEMPORARY_HISTORY_LESSON)));
+    }
+
+    @Test
+    public void export_unrecognisedFile_replaced() throws IOException {
+        Path file = testFolder.resolve("lessons.ics");
+        Files.writeString(file, "not a calendar");
+
+        IcsLessonExporter.Summary summary = new IcsLessonExporter(file, FIRST_EXPORT_CLOCK)
+                .export(List.of(TEMPORARY_HISTORY_LESSON));
+
+        assertEquals(1, summary.getWrittenCount());
+        assertEquals(0, summary.getRemovedCount());
+        assertFalse(Files.readString(file, StandardCharsets.UTF_8).contains("not a calendar"));
+    }
+
+    private static int count(String text, String part) {
+        int count = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + part.length())) {
+            count++;
+        }
+        return count;
+    }
+}
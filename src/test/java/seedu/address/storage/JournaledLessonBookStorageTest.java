@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.Lesson;
+
+public class JournaledLessonBookStorageTest {
+    private static final Path LEGACY_ENROLMENTS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableLessonBookTest", "legacyEnrolmentsLessonBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readLessonBook_snapshotWithJournal_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        LessonBook lessonBook = getTypicalLessonBook();
+        lessonBook.deleteLesson(TEMPORARY_HISTORY_LESSON);
+        saveWithJournal(filePath, getTypicalLessonBook(), lessonBook);
+
+        assertEquals(lessonBook, new JournaledLessonBookStorage(filePath).readLessonBook().get());
+    }
+
+    @Test
+    public void readLessonBook_studentAssignedInJournal_enrolmentRead() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        LessonBook lessonBook = new LessonBook(getTypicalLessonBook());
+        Lesson lesson = lessonBook.getLessonList().get(0).copy();
+        lessonBook.setLesson(lessonBook.getLessonList().get(0), lesson);
+        lessonBook.assignStudent(ALICE, lesson);
+        saveWithJournal(filePath, getTypicalLessonBook(), lessonBook);
+
+        Lesson readLesson = new JournaledLessonBookStorage(filePath).readLessonBook().get().getLessonList().get(0);
+        assertEquals(lesson, readLesson);
+        assertEquals(List.of(ALICE), readLesson.getEnrolledStudents().getStudentsList());
+    }
+
+    @Test
+    public void readLessonBook_legacyLayout_readAsItIs() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        Files.copy(LEGACY_ENROLMENTS_FILE, filePath);
+
+        ReadOnlyLessonBook lessonBook = new JournaledLessonBookStorage(filePath).readLessonBook().get();
+        assertArrayEquals(Files.readAllBytes(LEGACY_ENROLMENTS_FILE), Files.readAllBytes(filePath));
+        assertEquals(List.of(ALICE), lessonBook.getLessonList().get(1).getEnrolledStudents().getStudentsList());
+    }
+
+    @Test
+    public void saveLessonBook_throwsUnsupportedOperationException() {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        assertThrows(UnsupportedOperationException.class, JournaledLessonBookStorage.MESSAGE_READ_ONLY, () ->
+                new JournaledLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook()));
+    }
+
+    /**
+     * Saves {@code snapshot} as a single file at {@code filePath}, followed by a journal of the change from it to
+     * {@code lessonBook}, as lesson books were saved before they were split into segments.
+     */
+    static void saveWithJournal(Path filePath, ReadOnlyLessonBook snapshot, ReadOnlyLessonBook lessonBook)
+            throws Exception {
+        new JsonLessonBookStorage(filePath).saveLessonBook(snapshot);
+        BookJournal<Lesson, JsonAdaptedLesson> journal = new BookJournal<>(BookJournal.getJournalPath(filePath),
+                JsonAdaptedLesson.class, JsonAdaptedLesson::new, Lesson::copy,
+                JournaledLessonBookStorage::isSavedSameAs);
+        journal.restart(filePath, snapshot.getLessonList());
+        journal.append(lessonBook.getLessonList());
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournaledStudentBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveStudentBook_afterSnapshot_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        JournaledStudentBookStorage storage = new JournaledStudentBookStorage(filePath);
+        StudentBook studentBook = getTypicalStudentBook();
+
+        // no snapshot yet, so the whole book is written
+        storage.saveStudentBook(studentBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        studentBook.addStudent(HOON);
+        storage.saveStudentBook(studentBook);
+        studentBook.removeStudent(ALICE);
+        storage.saveStudentBook(studentBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(BookJournal.getJournalPath(filePath)).size());
+        assertEquals(studentBook, new JournaledStudentBookStorage(filePath).readStudentBook().get());
+    }
+
+    @Test
+    public void saveStudentBook_unchanged_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        JournaledStudentBookStorage storage = new JournaledStudentBookStorage(filePath);
+        StudentBook studentBook = getTypicalStudentBook();
+
+        storage.saveStudentBook(studentBook);
+        storage.saveStudentBook(studentBook);
+
+        assertEquals(1, Files.readAllLines(BookJournal.getJournalPath(filePath)).size());
+    }
+
+    @Test
+    public void readStudentBook_afterRead_changesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        StudentBook original = getTypicalStudentBook();
+        new JournaledStudentBookStorage(filePath).saveStudentBook(original);
+
+        JournaledStudentBookStorage storage = new JournaledStudentBookStorage(filePath);
+        StudentBook studentBook = new StudentBook(storage.readStudentBook().get());
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("99999999").build();
+        studentBook.setStudent(ALICE, editedAlice);
+        storage.saveStudentBook(studentBook);
+
+        List<String> journal = Files.readAllLines(BookJournal.getJournalPath(filePath));
+        assertEquals(2, journal.size());
+        // only the edited student is journaled
+        assertFalse(journal.get(1).contains(BENSON.getName().fullName));
+        assertEquals(studentBook, new JournaledStudentBookStorage(filePath).readStudentBook().get());
+    }
+
+    @Test
+    public void readStudentBook_incompleteLastChange_earlierChangesReplayed() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        JournaledStudentBookStorage storage = new JournaledStudentBookStorage(filePath);
+        StudentBook studentBook = getTypicalStudentBook();
+        storage.saveStudentBook(studentBook);
+        studentBook.addStudent(HOON);
+        storage.saveStudentBook(studentBook);
+        StudentBook expected = new StudentBook(studentBook);
+
+        // simulate a crash while the next change was being appended
+        Files.write(BookJournal.getJournalPath(filePath), "{\"start\":7,\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        ReadOnlyStudentBook read = new JournaledStudentBookStorage(filePath).readStudentBook().get();
+        assertEquals(expected, read);
+    }
+
+    @Test
+    public void readStudentBook_journalOfEarlierSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        JournaledStudentBookStorage storage = new JournaledStudentBookStorage(filePath);
+        StudentBook studentBook = getTypicalStudentBook();
+        storage.saveStudentBook(studentBook);
+        studentBook.addStudent(HOON);
+        storage.saveStudentBook(studentBook);
+
+        // simulate a crash after a new snapshot was written but before its journal was started
+        studentBook.addStudent(IDA);
+        new JsonStudentBookStorage(filePath).saveStudentBook(studentBook);
+
+        assertEquals(studentBook, new JournaledStudentBookStorage(filePath).readStudentBook().get());
+    }
+
+    @Test
+    public void saveStudentBook_journalFull_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        JournaledStudentBookStorage storage = new JournaledStudentBookStorage(filePath);
+        StudentBook studentBook = new StudentBook();
+        storage.saveStudentBook(studentBook);
+
+        for (int i = 0; i <= BookJournal.JOURNAL_CHANGE_LIMIT; i++) {
+            studentBook.addStudent(new StudentBuilder().withName("Student " + i).build());
+            storage.saveStudentBook(studentBook);
+        }
+
+        assertEquals(1, Files.readAllLines(BookJournal.getJournalPath(filePath)).size());
+        assertEquals(studentBook, new JsonStudentBookStorage(filePath).readStudentBook().get());
+        assertEquals(studentBook, new JournaledStudentBookStorage(filePath).readStudentBook().get());
+    }
+
+    @Test
+    public void saveStudentBook_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("studentBook.json");
+        Path otherFilePath = testFolder.resolve("otherStudentBook.json");
+        StudentBook studentBook = getTypicalStudentBook();
+
+        new JournaledStudentBookStorage(filePath).saveStudentBook(studentBook, otherFilePath);
+
+        assertFalse(Files.exists(BookJournal.getJournalPath(otherFilePath)));
+        assertEquals(studentBook, new JsonStudentBookStorage(otherFilePath).readStudentBook().get());
+    }
+}
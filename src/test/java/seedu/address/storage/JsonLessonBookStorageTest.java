@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalLessons.TEMPORARY_PHYSICS_LESSON;
 import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -60,6 +61,17 @@ public class JsonLessonBookStorageTest {
         assertThrows(DataConversionException.class, () -> readLessonBook("invalidAndValidLessonsLessonBook.json"));
     }
 
+    @Test
+    public void recoverLessonBook_invalidAndValidLessons_validLessonsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempLessonBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidLessonsLessonBook.json"), filePath);
+
+        Quarantine quarantine = new Quarantine();
+        ReadOnlyLessonBook recovered = new JsonLessonBookStorage(filePath).recoverLessonBook(quarantine).get();
+        assertEquals(1, recovered.getLessonList().size());
+        assertEquals(1, quarantine.getRecordCount());
+    }
+
     @Test
     public void readAndSaveLessonBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempLessonBook.json");
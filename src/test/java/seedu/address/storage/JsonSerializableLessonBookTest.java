@@ -1,16 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.LessonBook;
+import seedu.address.model.lesson.EnrolledStudents;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.TypicalLessons;
 
 public class JsonSerializableLessonBookTest {
@@ -19,6 +30,9 @@ public class JsonSerializableLessonBookTest {
     private static final Path TYPICAL_LESSON_FILE = TEST_DATA_FOLDER.resolve("typicalLessonBook.json");
     private static final Path INVALID_LESSON_FILE = TEST_DATA_FOLDER.resolve("invalidLessonBook.json");
     private static final Path CONFLICTING_LESSON_FILE = TEST_DATA_FOLDER.resolve("conflictingLessonBook.json");
+    private static final Path LEGACY_ENROLMENTS_FILE = TEST_DATA_FOLDER.resolve("legacyEnrolmentsLessonBook.json");
+    private static final Path UNKNOWN_STUDENT_FILE = TEST_DATA_FOLDER.resolve("unknownStudentLessonBook.json");
+    private static final Path NEWER_VERSION_FILE = TEST_DATA_FOLDER.resolve("newerVersionLessonBook.json");
 
     @Test
     public void toModelType_typicalLessonFile_success() throws Exception {
@@ -44,4 +58,53 @@ public class JsonSerializableLessonBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyLayout_studentsCopied() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(LEGACY_ENROLMENTS_FILE,
+                JsonSerializableLessonBook.class).get();
+        assertTrue(dataFromFile.isLegacyFormat());
+
+        for (Lesson lesson : dataFromFile.toModelType().getLessonList()) {
+            assertEquals(List.of(ALICE), lesson.getEnrolledStudents().getStudentsList());
+        }
+    }
+
+    @Test
+    public void constructor_sharedStudent_studentWrittenOnce() throws Exception {
+        Lesson biology = withEnrolledStudents(TEMPORARY_BIOLOGY_LESSON, ALICE, BENSON);
+        Lesson history = withEnrolledStudents(TEMPORARY_HISTORY_LESSON, ALICE);
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.addLesson(biology);
+        lessonBook.addLesson(history);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableLessonBook(lessonBook));
+        assertEquals(json.indexOf(ALICE.getEmail().value), json.lastIndexOf(ALICE.getEmail().value));
+
+        JsonSerializableLessonBook readBack = JsonUtil.fromJsonString(json, JsonSerializableLessonBook.class);
+        assertFalse(readBack.isLegacyFormat());
+        List<Lesson> lessons = readBack.toModelType().getLessonList();
+        assertEquals(List.of(ALICE, BENSON), lessons.get(0).getEnrolledStudents().getStudentsList());
+        assertEquals(List.of(ALICE), lessons.get(1).getEnrolledStudents().getStudentsList());
+    }
+
+    @Test
+    public void toModelType_unknownStudent_throwsIllegalValueException() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_STUDENT_FILE,
+                JsonSerializableLessonBook.class).get();
+        assertThrows(IllegalValueException.class, JsonAdaptedLesson.MESSAGE_UNKNOWN_STUDENT,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_newerVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(NEWER_VERSION_FILE,
+                JsonSerializableLessonBook.class).get();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableLessonBook.MESSAGE_UNSUPPORTED_VERSION, 3), dataFromFile::toModelType);
+    }
+
+    private static Lesson withEnrolledStudents(Lesson lesson, Student... students) {
+        return Lesson.makeTemporaryLesson(lesson.getName(), lesson.getSubject(), lesson.getLessonAddress(),
+                lesson.getDateTimeSlot(), new EnrolledStudents(new ArrayList<>(List.of(students))));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.HOON;
@@ -9,8 +10,10 @@ import static seedu.address.testutil.TypicalStudents.IDA;
 import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +89,82 @@ public class JsonStudentBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        StudentBook original = getTypicalStudentBook();
+        JsonStudentBookStorage jsonStudentBookStorage = new JsonStudentBookStorage(filePath, true);
+
+        jsonStudentBookStorage.saveStudentBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new StudentBook(jsonStudentBookStorage.readStudentBook().get()));
+
+        // compact files are read back the same way as indented ones
+        new JsonStudentBookStorage(filePath).saveStudentBook(original);
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+        assertEquals(original, new StudentBook(jsonStudentBookStorage.readStudentBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        StudentBook original = getTypicalStudentBook();
+        new JsonStudentBookStorage(filePath).saveStudentBook(original);
+        long uncompressedSize = Files.size(filePath);
+
+        JsonStudentBookStorage jsonStudentBookStorage = new JsonStudentBookStorage(filePath, false, true);
+        jsonStudentBookStorage.saveStudentBook(original);
+        assertTrue(Files.size(filePath) < uncompressedSize);
+
+        // compressed files are read whether or not the storage compresses its own
+        assertEquals(original, new StudentBook(jsonStudentBookStorage.readStudentBook().get()));
+        assertEquals(original, new StudentBook(new JsonStudentBookStorage(filePath).readStudentBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_alteredStudent_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonStudentBookStorage(filePath).saveStudentBook(getTypicalStudentBook());
+        Files.writeString(filePath, Files.readString(filePath).replace("Alice Pauline", "Alice Paulina"));
+
+        // the altered name is still valid, but no longer matches the checksum saved with it
+        assertThrows(DataConversionException.class, () -> new JsonStudentBookStorage(filePath).readStudentBook());
+    }
+
+    @Test
+    public void recoverAddressBook_invalidAndValidStudents_validStudentsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidStudentBook.json"), filePath);
+
+        Quarantine quarantine = new Quarantine();
+        ReadOnlyStudentBook recovered = new JsonStudentBookStorage(filePath).recoverStudentBook(quarantine).get();
+        assertEquals(1, recovered.getStudentList().size());
+        assertEquals(1, quarantine.getRecordCount());
+        assertEquals(1, quarantine.getWrittenFiles().size());
+        assertTrue(Files.readString(quarantine.getWrittenFiles().get(0)).contains("948asdf2424"));
+    }
+
+    @Test
+    public void recoverAddressBook_truncatedFile_studentsBeforeDamageRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        StudentBook original = getTypicalStudentBook();
+        JsonStudentBookStorage jsonStudentBookStorage = new JsonStudentBookStorage(filePath);
+        jsonStudentBookStorage.saveStudentBook(original);
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length / 2));
+        assertThrows(DataConversionException.class, () -> jsonStudentBookStorage.readStudentBook());
+
+        Quarantine quarantine = new Quarantine();
+        ReadOnlyStudentBook recovered = jsonStudentBookStorage.recoverStudentBook(quarantine).get();
+        assertFalse(recovered.getStudentList().isEmpty());
+        assertEquals(original.getStudentList().subList(0, recovered.getStudentList().size()),
+                recovered.getStudentList());
+        assertFalse(quarantine.isEmpty());
+        assertEquals(0, quarantine.getRecordCount());
+        // the damaged file is kept along with the (empty) list of records left out
+        assertEquals(2, quarantine.getWrittenFiles().size());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class RecordConverterTest {
+    private static final String MESSAGE_NEGATIVE = "Record cannot be negative";
+
+    @Test
+    public void convertAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RecordConverter.convertAll(null, RecordConverterTest::convert));
+        assertThrows(NullPointerException.class, () -> RecordConverter.convertAll(List.of(), null));
+    }
+
+    @Test
+    public void convertAll_smallBook_convertedInOrder() throws Exception {
+        assertEquals(List.of("0", "1", "2"),
+                RecordConverter.convertAll(List.of(0, 1, 2), RecordConverterTest::convert));
+    }
+
+    @Test
+    public void convertAll_largeBook_convertedInOrder() throws Exception {
+        List<Integer> records = IntStream.range(0, RecordConverter.PARALLEL_THRESHOLD * 4).boxed()
+                .collect(Collectors.toList());
+        List<String> expected = records.stream().map(String::valueOf).collect(Collectors.toList());
+
+        assertEquals(expected, RecordConverter.convertAll(records, RecordConverterTest::convert));
+    }
+
+    @Test
+    public void convertAll_invalidRecordInLargeBook_throwsIllegalValueException() {
+        List<Integer> records = IntStream.range(-1, RecordConverter.PARALLEL_THRESHOLD * 4).boxed()
+                .collect(Collectors.toList());
+
+        assertThrows(IllegalValueException.class, MESSAGE_NEGATIVE, () ->
+                RecordConverter.convertAll(records, RecordConverterTest::convert));
+    }
+
+    private static String convert(Integer record) throws IllegalValueException {
+        if (record < 0) {
+            throw new IllegalValueException(MESSAGE_NEGATIVE);
+        }
+        return String.valueOf(record);
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.RECURRING_CHEMISTRY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_BIOLOGY_LESSON;
+import static seedu.address.testutil.TypicalLessons.TEMPORARY_HISTORY_LESSON;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.testutil.TemporaryLessonBuilder;
+
+public class SegmentedLessonBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSegmentKey() {
+        assertEquals("2022-12", SegmentedLessonBookStorage.getSegmentKey(TEMPORARY_BIOLOGY_LESSON));
+        assertEquals(SegmentedLessonBookStorage.RECURRING_SEGMENT_KEY,
+                SegmentedLessonBookStorage.getSegmentKey(RECURRING_CHEMISTRY_LESSON));
+    }
+
+    @Test
+    public void isPastMonthSegment() {
+        LocalDate today = LocalDate.of(2023, 1, 15);
+        assertTrue(SegmentedLessonBookStorage.isPastMonthSegment("2022-12", today));
+        assertFalse(SegmentedLessonBookStorage.isPastMonthSegment("2023-01", today));
+        assertFalse(SegmentedLessonBookStorage.isPastMonthSegment("2023-02", today));
+        assertFalse(SegmentedLessonBookStorage.isPastMonthSegment(SegmentedLessonBookStorage.RECURRING_SEGMENT_KEY,
+                today));
+    }
+
+    @Test
+    public void readLessonBook_savedBook_sameBookRead() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        LessonBook lessonBook = getTypicalLessonBook();
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(lessonBook);
+
+        assertEquals(2, listSegments(filePath).size());
+        assertEquals(lessonBook, new SegmentedLessonBookStorage(filePath).readLessonBook().get());
+    }
+
+    @Test
+    public void saveLessonBook_lessonAdded_onlyItsSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        LessonBook lessonBook = getTypicalLessonBook();
+        storage.saveLessonBook(lessonBook);
+        List<String> segments = listSegments(filePath);
+
+        Lesson januaryLesson = new TemporaryLessonBuilder()
+                .withDateTimeSlot(LocalDateTime.of(2023, 1, 5, 10, 0), 1, 0)
+                .build();
+        lessonBook.addLesson(januaryLesson);
+        storage.saveLessonBook(lessonBook);
+
+        List<String> newSegments = listSegments(filePath);
+        assertEquals(3, newSegments.size());
+        assertTrue(newSegments.containsAll(segments));
+        assertEquals(lessonBook, new SegmentedLessonBookStorage(filePath).readLessonBook().get());
+    }
+
+    @Test
+    public void saveLessonBook_unchangedBook_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        LessonBook lessonBook = getTypicalLessonBook();
+        storage.saveLessonBook(lessonBook);
+        storage.saveLessonBook(lessonBook);
+
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath, 1)));
+    }
+
+    @Test
+    public void readLessonBook_singleFileWithJournal_splitOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        LessonBook lessonBook = getTypicalLessonBook();
+        lessonBook.deleteLesson(TEMPORARY_HISTORY_LESSON);
+        JournaledLessonBookStorageTest.saveWithJournal(filePath, getTypicalLessonBook(), lessonBook);
+
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        ReadOnlyLessonBook readBook = storage.readLessonBook().get();
+        assertEquals(lessonBook, readBook);
+        assertTrue(Files.exists(BookJournal.getJournalPath(filePath)));
+
+        storage.saveLessonBook(readBook);
+        assertFalse(Files.exists(BookJournal.getJournalPath(filePath)));
+        assertEquals(2, listSegments(filePath).size());
+        assertEquals(lessonBook, new SegmentedLessonBookStorage(filePath).readLessonBook().get());
+    }
+
+    @Test
+    public void readLessonBook_missingSegment_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook());
+        Files.delete(SegmentedLessonBookStorage.getSegmentDirectory(filePath).resolve(listSegments(filePath).get(0)));
+
+        assertThrows(DataConversionException.class, () -> new SegmentedLessonBookStorage(filePath).readLessonBook());
+    }
+
+    @Test
+    public void recoverLessonBook_missingSegment_otherSegmentsRecovered() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook());
+        Path recurringSegment = SegmentedLessonBookStorage.getSegmentDirectory(filePath).resolve(
+                listSegments(filePath).stream()
+                        .filter(segment -> segment.startsWith(SegmentedLessonBookStorage.RECURRING_SEGMENT_KEY))
+                        .findFirst().get());
+        Files.delete(recurringSegment);
+
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        Quarantine quarantine = new Quarantine();
+        ReadOnlyLessonBook recovered = storage.recoverLessonBook(quarantine).get();
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON, TEMPORARY_HISTORY_LESSON), recovered.getLessonList());
+        assertFalse(quarantine.isEmpty());
+
+        // the next save writes an index of the recovered lessons only
+        storage.saveLessonBook(recovered);
+        assertEquals(recovered, new SegmentedLessonBookStorage(filePath).readLessonBook().get());
+    }
+
+    @Test
+    public void readLessonBook_archivedLessons_archiveReadWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        LessonBook lessonBook = getTypicalLessonBook();
+        assertEquals(2, lessonBook.archiveLessonsEndedBefore(LocalDateTime.of(2023, 1, 1, 0, 0)));
+        storage.saveLessonBook(lessonBook);
+
+        ReadOnlyLessonBook readBook = new SegmentedLessonBookStorage(filePath).readLessonBook().get();
+        assertEquals(List.of(RECURRING_CHEMISTRY_LESSON), readBook.getLessonList());
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON, TEMPORARY_HISTORY_LESSON),
+                readBook.getArchive().getLessons());
+    }
+
+    @Test
+    public void saveLessonBook_lessonsArchived_onlyTheirArchiveSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        LessonBook lessonBook = getTypicalLessonBook();
+        Lesson januaryLesson = new TemporaryLessonBuilder()
+                .withDateTimeSlot(LocalDateTime.of(2023, 1, 5, 10, 0), 1, 0)
+                .build();
+        lessonBook.addLesson(januaryLesson);
+        lessonBook.archiveLessonsEndedBefore(LocalDateTime.of(2023, 1, 1, 0, 0));
+        storage.saveLessonBook(lessonBook);
+        List<String> segments = listSegments(filePath);
+
+        lessonBook.archiveLessonsEndedBefore(LocalDateTime.of(2023, 2, 1, 0, 0));
+        storage.saveLessonBook(lessonBook);
+
+        List<String> newSegments = listSegments(filePath);
+        List<String> writtenSegments = newSegments.stream()
+                .filter(segment -> !segments.contains(segment))
+                .collect(Collectors.toList());
+        assertEquals(1, writtenSegments.size());
+        assertTrue(writtenSegments.get(0)
+                .startsWith(SegmentedLessonBookStorage.ARCHIVE_SEGMENT_KEY_PREFIX + "2023-01"));
+
+        ReadOnlyLessonBook readBook = new SegmentedLessonBookStorage(filePath).readLessonBook().get();
+        assertEquals(List.of(RECURRING_CHEMISTRY_LESSON), readBook.getLessonList());
+        assertEquals(3, readBook.getArchive().getLessons().size());
+    }
+
+    @Test
+    public void readLessonBookLazily_pastMonths_deferredUntilMerged() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        LessonBook lessonBook = getTypicalLessonBook();
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(lessonBook);
+
+        LessonBook readBook = new LessonBook(new SegmentedLessonBookStorage(filePath).readLessonBookLazily().get());
+        assertEquals(List.of(RECURRING_CHEMISTRY_LESSON), readBook.getLessonList());
+        assertEquals(List.of(TEMPORARY_BIOLOGY_LESSON, TEMPORARY_HISTORY_LESSON),
+                readBook.getDeferredLessons().getLessons());
+
+        assertEquals(2, readBook.mergeDeferredLessons());
+        assertEquals(lessonBook, readBook);
+        assertTrue(readBook.getDeferredLessons().isEmpty());
+    }
+
+    @Test
+    public void saveLessonBook_deferredLessons_savedAsTheyWere() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        LessonBook lessonBook = getTypicalLessonBook();
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(lessonBook);
+        List<String> segments = listSegments(filePath);
+
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        LessonBook readBook = new LessonBook(storage.readLessonBookLazily().get());
+        Lesson nextMonthLesson = new TemporaryLessonBuilder()
+                .withDateTimeSlot(LocalDate.now().plusMonths(1).withDayOfMonth(5).atTime(10, 0), 1, 0)
+                .build();
+        readBook.addLesson(nextMonthLesson);
+        storage.saveLessonBook(readBook);
+
+        List<String> newSegments = listSegments(filePath);
+        assertEquals(3, newSegments.size());
+        assertTrue(newSegments.containsAll(segments));
+        lessonBook.addLesson(nextMonthLesson);
+        assertEquals(lessonBook, new SegmentedLessonBookStorage(filePath).readLessonBook().get());
+    }
+
+    @Test
+    public void saveLessonBook_deferredLessonsMerged_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("lessonBook.json");
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook());
+
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        LessonBook readBook = new LessonBook(storage.readLessonBookLazily().get());
+        readBook.mergeDeferredLessons();
+        storage.saveLessonBook(readBook);
+
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath, 1)));
+    }
+
+    private static List<String> listSegments(Path filePath) throws Exception {
+        try (Stream<Path> segments = Files.list(SegmentedLessonBookStorage.getSegmentDirectory(filePath))) {
+            return segments.map(segment -> segment.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.ReadOnlyStudentBook;
 import seedu.address.model.StudentBook;
@@ -66,4 +67,19 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getStudentBookFilePath());
     }
 
+    @Test
+    public void setDataFiles_databaseFormat_booksSavedInDatabase() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFileFormat(DataFileFormat.DATABASE);
+        userPrefs.setStudentBookFilePath(getTempFilePath("studentBook.db"));
+        userPrefs.setLessonBookFilePath(getTempFilePath("lessonBook.db"));
+        storageManager.setDataFiles(userPrefs);
+
+        assertEquals(DataFileFormat.DATABASE, storageManager.getDataFileFormat());
+        assertEquals(getTempFilePath("studentBook.db"), storageManager.getStudentBookFilePath());
+        StudentBook original = getTypicalStudentBook();
+        storageManager.saveStudentBook(original);
+        assertEquals(original,
+                new DatabaseStudentBookStorage(getTempFilePath("studentBook.db")).readStudentBook().get());
+    }
 }
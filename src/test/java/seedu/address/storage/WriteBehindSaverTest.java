@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalLessonBook;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.LessonBook;
+import seedu.address.model.ReadOnlyLessonBook;
+import seedu.address.model.ReadOnlyStudentBook;
+import seedu.address.model.StudentBook;
+import seedu.address.model.lesson.Lesson;
+
+public class WriteBehindSaverTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null));
+    }
+
+    @Test
+    public void save_null_throwsNullPointerException() {
+        WriteBehindSaver saver = new WriteBehindSaver(new StorageSpy(testFolder));
+        assertThrows(NullPointerException.class, () -> saver.saveStudentBook(null));
+        assertThrows(NullPointerException.class, () -> saver.saveLessonBook(null));
+    }
+
+    @Test
+    public void save_thenAwait_writesSnapshot() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        StudentBook studentBook = getTypicalStudentBook();
+        LessonBook lessonBook = getTypicalLessonBook();
+
+        saver.saveStudentBook(studentBook);
+        saver.saveLessonBook(lessonBook);
+        // changes made after the save are not written
+        studentBook.removeStudent(ALICE);
+        saver.awaitPendingWrites();
+
+        assertEquals(1, storage.savedStudentBooks.size());
+        assertEquals(getTypicalStudentBook().getStudentList(), storage.savedStudentBooks.get(0).getStudentList());
+        assertEquals(lessonBook.getLessonList(), storage.savedLessonBooks.get(0).getLessonList());
+    }
+
+    @Test
+    public void saveLessonBook_studentEnrolled_onlyChangedLessonCopiedAgain() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.setLessons(getTypicalLessonBook().getLessonList().stream()
+                .map(Lesson::copy)
+                .collect(Collectors.toList()));
+        saver.saveLessonBook(lessonBook);
+        saver.awaitPendingWrites();
+
+        lessonBook.assignStudent(ALICE, lessonBook.getLessonList().get(0));
+        saver.saveLessonBook(lessonBook);
+        saver.awaitPendingWrites();
+
+        List<Lesson> firstSnapshot = storage.savedLessonBooks.get(0).getLessonList();
+        List<Lesson> secondSnapshot = storage.savedLessonBooks.get(1).getLessonList();
+        assertFalse(firstSnapshot.get(0).hasAlreadyAssigned(ALICE));
+        assertTrue(secondSnapshot.get(0).hasAlreadyAssigned(ALICE));
+        assertSame(firstSnapshot.get(1), secondSnapshot.get(1));
+    }
+
+    @Test
+    public void save_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        StorageSpy storage = new StorageSpy(testFolder);
+        storage.blockWrites();
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        StudentBook studentBook = new StudentBook();
+
+        saver.saveStudentBook(studentBook);
+        storage.awaitWriteStarted();
+        studentBook.addStudent(ALICE);
+        saver.saveStudentBook(studentBook);
+        studentBook.addStudent(BENSON);
+        saver.saveStudentBook(studentBook);
+        storage.unblockWrites();
+        saver.awaitPendingWrites();
+
+        assertEquals(2, storage.savedStudentBooks.size());
+        assertEquals(List.of(ALICE, BENSON), storage.savedStudentBooks.get(1).getStudentList());
+        assertEquals(studentBook.getVersion(), storage.savedStudentBooks.get(1).getVersion());
+    }
+
+    @Test
+    public void saveBooks_bothBooks_committedOnce() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveBooks(getTypicalStudentBook(), getTypicalLessonBook());
+        saver.awaitPendingWrites();
+
+        assertEquals(1, storage.savedStudentBooks.size());
+        assertEquals(1, storage.savedLessonBooks.size());
+        assertEquals(1, storage.commitCount);
+    }
+
+    @Test
+    public void saveBooks_failedWrite_notCommitted() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        storage.failWrites();
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveBooks(new StudentBook(), getTypicalLessonBook());
+        saver.awaitPendingWrites();
+
+        assertTrue(storage.savedLessonBooks.isEmpty());
+        assertEquals(0, storage.commitCount);
+    }
+
+    @Test
+    public void saveStudentBook_onlyStudentBookWritten() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveStudentBook(getTypicalStudentBook());
+        saver.awaitPendingWrites();
+
+        assertEquals(1, storage.savedStudentBooks.size());
+        assertTrue(storage.savedLessonBooks.isEmpty());
+    }
+
+    @Test
+    public void takeFailure_failedWrite_reportedOnce() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        storage.failWrites();
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveStudentBook(new StudentBook());
+        saver.awaitPendingWrites();
+
+        assertEquals(DUMMY_IO_EXCEPTION, saver.takeFailure().get());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void close_pendingWrites_flushed() throws Exception {
+        StorageSpy storage = new StorageSpy(testFolder);
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveStudentBook(getTypicalStudentBook());
+        saver.saveLessonBook(getTypicalLessonBook());
+        saver.close();
+
+        assertEquals(1, storage.savedStudentBooks.size());
+        assertEquals(1, storage.savedLessonBooks.size());
+    }
+
+    @Test
+    public void close_unreportedFailure_throwsIoException() {
+        StorageSpy storage = new StorageSpy(testFolder);
+        storage.failWrites();
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveStudentBook(new StudentBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::close);
+    }
+
+    @Test
+    public void close_failureAlreadyReported_success() throws Exception {
+        StorageSpy storage = new StorageSpy(testFolder);
+        storage.failWrites();
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.saveStudentBook(new StudentBook());
+        saver.awaitPendingWrites();
+        assertTrue(saver.takeFailure().isPresent());
+        saver.close();
+    }
+
+    @Test
+    public void save_backupScheduled_backedUpOncePerInterval() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(new StorageSpy(testFolder));
+        DeltaBackups backups = new DeltaBackups(testFolder.resolve(DeltaBackups.BACKUP_DIRECTORY_NAME),
+                Clock.systemDefaultZone());
+        saver.setBackupSchedule(backups, 60);
+        StudentBook studentBook = getTypicalStudentBook();
+
+        saver.saveBooks(studentBook, getTypicalLessonBook());
+        saver.awaitPendingWrites();
+        assertEquals(1, backups.listBackups().size());
+        assertEquals(getTypicalStudentBook().getStudentList(), backups.restore(1).getStudentBook().getStudentList());
+
+        // the next backup is not due for another hour
+        studentBook.removeStudent(ALICE);
+        saver.saveStudentBook(studentBook);
+        saver.awaitPendingWrites();
+        assertEquals(1, backups.listBackups().size());
+
+        // a new schedule backs up the next write
+        saver.setBackupSchedule(backups, 0);
+        saver.setBackupSchedule(new DeltaBackups(backups.getDirectory(), Clock.systemDefaultZone()), 60);
+        saver.saveStudentBook(studentBook);
+        saver.awaitPendingWrites();
+        assertEquals(2, backups.listBackups().size());
+    }
+
+    /**
+     * A {@code StorageManager} that records the books it is asked to save instead of writing them.
+     */
+    private static class StorageSpy extends StorageManager {
+        private final List<ReadOnlyStudentBook> savedStudentBooks = new ArrayList<>();
+        private final List<ReadOnlyLessonBook> savedLessonBooks = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private CountDownLatch writesUnblocked = new CountDownLatch(0);
+        private boolean isFailing;
+        private int commitCount;
+
+        private StorageSpy(Path folder) {
+            super(new JsonStudentBookStorage(folder.resolve("studentBook.json")),
+                    new JsonLessonBookStorage(folder.resolve("lessonBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")));
+        }
+
+        private void blockWrites() {
+            writesUnblocked = new CountDownLatch(1);
+        }
+
+        private void unblockWrites() {
+            writesUnblocked.countDown();
+        }
+
+        private void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await();
+        }
+
+        private void failWrites() {
+            isFailing = true;
+        }
+
+        @Override
+        public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+            writeStarted.countDown();
+            try {
+                writesUnblocked.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedStudentBooks.add(studentBook);
+        }
+
+        @Override
+        public void saveLessonBook(ReadOnlyLessonBook lessonBook) {
+            savedLessonBooks.add(lessonBook);
+        }
+
+        @Override
+        public void commitDataFiles() {
+            commitCount++;
+        }
+    }
+}